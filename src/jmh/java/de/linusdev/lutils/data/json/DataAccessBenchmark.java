@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2026 Linus Andera
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.linusdev.lutils.data.json;
+
+import de.linusdev.lutils.data.DataBuilder;
+import de.linusdev.lutils.data.json.parser.JsonParser;
+import de.linusdev.lutils.other.parser.ParseException;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+
+/**
+ * Benchmarks creating {@link DataBuilder}s and accessing values of parsed {@link Json}.
+ */
+@State(Scope.Benchmark)
+public class DataAccessBenchmark {
+
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    public JsonCorpus corpus;
+
+    private Json json;
+
+    @Setup
+    public void setup() throws ParseException {
+        json = JsonParser.DEFAULT_INSTANCE.parseBytes(corpus.bytes());
+    }
+
+    @Benchmark
+    public DataBuilder buildData() {
+        return corpus.data();
+    }
+
+    @Benchmark
+    public void getValues(Blackhole bh) {
+        List<Json> entries = json.grab("entries")
+                .requireNotNull()
+                .asList()
+                .<Json>cast()
+                .get();
+
+        for (Json entry : entries) {
+            bh.consume(entry.getAs("id"));
+            bh.consume(entry.getAs("name"));
+            bh.consume(entry.getAs("active"));
+            bh.consume(entry.getAs("balance"));
+            bh.consume(entry.getAs("deleted"));
+            bh.consume(entry.getAs("missing", "default"));
+            bh.consume(entry.<Json>getAs("address").getAs("city"));
+        }
+    }
+
+    @Benchmark
+    public void iterateValues(Blackhole bh) {
+        for (Object entry : json.<List<?>>getAs("entries"))
+            for (var e : (Json) entry)
+                bh.consume(e.getValue());
+    }
+}
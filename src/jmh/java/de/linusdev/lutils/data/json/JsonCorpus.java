@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2026 Linus Andera
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.linusdev.lutils.data.json;
+
+import de.linusdev.lutils.data.DataBuilder;
+import de.linusdev.lutils.data.json.parser.JsonParser;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Generated json documents used by the benchmarks. The documents resemble a typical api response: A json-object
+ * containing some metadata and a list of entries. Each entry contains strings (some of which need escaping or contain
+ * non-ASCII characters), integer and decimal numbers, booleans, {@code null} values, a nested json-object and arrays.
+ * <br><br>
+ * The documents are generated using a {@link Random} with a fixed seed, so each run of the benchmarks uses exactly
+ * the same input.
+ */
+public enum JsonCorpus {
+
+    /**
+     * About 1.3 KiB
+     */
+    SMALL(2),
+    /**
+     * About 64 KiB
+     */
+    MEDIUM(110),
+    /**
+     * About 4 MiB
+     */
+    LARGE(7_000),
+    ;
+
+    private static final long SEED = 0x4C55_7469_6C73L;
+
+    private static final String[] WORDS = {
+            "alpha", "beta", "gamma", "delta", "lorem", "ipsum", "dolor", "sit", "amet", "json", "parser", "data",
+            "Grüße", "naïve", "café", "日本", "€uro", "quote\"d", "back\\slash", "tab\tbed", "new\nline",
+    };
+
+    private final int entries;
+
+    JsonCorpus(int entries) {
+        this.entries = entries;
+    }
+
+    /**
+     * Creates the document as {@link DataBuilder}. Each call creates a new, but equal, document.
+     */
+    public @NotNull DataBuilder data() {
+        Random random = new Random(SEED);
+
+        List<DataBuilder> list = new ArrayList<>(entries);
+        for (int i = 0; i < entries; i++)
+            list.add(entry(random, i));
+
+        DataBuilder meta = DataBuilder.orderedKnownSize(4)
+                .add("version", 3)
+                .add("generator", "lutils-jmh")
+                .add("next", null)
+                .add("total", (long) entries);
+
+        return DataBuilder.orderedKnownSize(2)
+                .add("meta", meta)
+                .add("entries", list);
+    }
+
+    /**
+     * The document as pretty printed json-string.
+     */
+    public @NotNull String string() {
+        return JsonParser.DEFAULT_INSTANCE.writeDataToString(data());
+    }
+
+    /**
+     * The document as UTF-8 encoded json.
+     */
+    public byte @NotNull [] bytes() {
+        return string().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static @NotNull DataBuilder entry(@NotNull Random random, int index) {
+        List<String> tags = new ArrayList<>();
+        for (int i = random.nextInt(5); i > 0; i--)
+            tags.add(word(random));
+
+        List<Object> scores = new ArrayList<>();
+        for (int i = random.nextInt(8); i > 0; i--)
+            scores.add(random.nextInt(10_000));
+
+        DataBuilder address = DataBuilder.orderedKnownSize(4)
+                .add("street", word(random) + " " + word(random) + " " + random.nextInt(300))
+                .add("city", word(random))
+                .add("zip", String.format(Locale.ROOT, "%05d", random.nextInt(100_000)))
+                .add("geo", new double[]{random.nextDouble() * 180 - 90, random.nextDouble() * 360 - 180});
+
+        return DataBuilder.orderedKnownSize(12)
+                .add("id", 1_000_000_000_000L + index)
+                .add("name", word(random) + " " + word(random))
+                .add("email", word(random) + index + "@example.com")
+                .add("active", random.nextBoolean())
+                .add("balance", Math.round(random.nextDouble() * 1_000_000) / 100.0)
+                .add("age", 18 + random.nextInt(70))
+                .add("ratio", random.nextDouble())
+                .add("deleted", null)
+                .add("tags", tags)
+                .add("scores", scores)
+                .add("address", address)
+                .add("description", sentence(random, 5 + random.nextInt(15)));
+    }
+
+    private static @NotNull String word(@NotNull Random random) {
+        return WORDS[random.nextInt(WORDS.length)];
+    }
+
+    private static @NotNull String sentence(@NotNull Random random, int words) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if(i > 0) sb.append(' ');
+            sb.append(word(random));
+        }
+        return sb.append('.').toString();
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2026 Linus Andera
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.linusdev.lutils.data.json;
+
+import de.linusdev.lutils.data.json.parser.JsonParser;
+import de.linusdev.lutils.other.parser.ParseException;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+/**
+ * Benchmarks parsing json to {@link Json}.
+ */
+@State(Scope.Benchmark)
+public class JsonParserBenchmark {
+
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    public JsonCorpus corpus;
+
+    private final JsonParser parser = new JsonParser();
+
+    private String string;
+    private byte[] bytes;
+
+    @Setup
+    public void setup() {
+        string = corpus.string();
+        bytes = corpus.bytes();
+    }
+
+    @Benchmark
+    public Json parseString() throws IOException, ParseException {
+        return parser.parseString(string);
+    }
+
+    @Benchmark
+    public Json parseStream() throws IOException, ParseException {
+        return parser.parseStream(new ByteArrayInputStream(bytes));
+    }
+
+    @Benchmark
+    public Json parseBytes() throws ParseException {
+        return parser.parseBytes(bytes);
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2026 Linus Andera
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.linusdev.lutils.data.json;
+
+import de.linusdev.lutils.data.DataBuilder;
+import de.linusdev.lutils.data.json.parser.JsonParser;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmarks writing {@link de.linusdev.lutils.data.Data Data} to json and converting it to {@link Json}.
+ */
+@State(Scope.Benchmark)
+public class JsonWriterBenchmark {
+
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    public JsonCorpus corpus;
+
+    private final JsonParser parser = new JsonParser();
+    private final JsonParser compactParser = new JsonParser().setCompact(true);
+
+    private DataBuilder data;
+    private Json json;
+
+    @Setup
+    public void setup() {
+        data = corpus.data();
+        json = parser.convertDataToJson(data);
+    }
+
+    @Benchmark
+    public String writeDataToString() {
+        return parser.writeDataToString(data);
+    }
+
+    @Benchmark
+    public String writeDataToStringCompact() {
+        return compactParser.writeDataToString(data);
+    }
+
+    @Benchmark
+    public String writeJsonToString() {
+        return parser.writeDataToString(json);
+    }
+
+    @Benchmark
+    public byte[] writeDataToBytes() {
+        return parser.writeDataToBytes(data);
+    }
+
+    @Benchmark
+    public Json convertDataToJson() {
+        return parser.convertDataToJson(data);
+    }
+}
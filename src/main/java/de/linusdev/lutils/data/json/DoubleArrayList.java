@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026 Linus Andera
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.linusdev.lutils.data.json;
+
+import de.linusdev.lutils.data.json.parser.JsonParser;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * A {@link java.util.List List} of {@link Double}s backed by a {@code double[]}. The values are only boxed when accessed
+ * using the methods of {@link java.util.List List}. Use {@link #getDouble(int)} or {@link #toDoubleArray()} to access
+ * them without boxing.
+ * <br><br>
+ * Created by the {@link JsonParser} for json-arrays, which only contain decimal numbers, if
+ * {@link JsonParser#setPrimitiveArrays(boolean)} is enabled. Only {@link Double} elements can be added.
+ */
+public class DoubleArrayList extends PrimitiveArrayList<Double, double[]> {
+
+    public DoubleArrayList() {
+        this(10);
+    }
+
+    /**
+     * @param initialCapacity initial size of the backing array
+     */
+    public DoubleArrayList(int initialCapacity) {
+        super(new double[initialCapacity], 0);
+    }
+
+    /**
+     * Creates a list backed by given {@code values}. Changes to the array are visible in the list.
+     * @param values backing array
+     */
+    public DoubleArrayList(double @NotNull [] values) {
+        super(values, values.length);
+    }
+
+    /**
+     * Get the value at given {@code index} without boxing it.
+     */
+    public double getDouble(int index) {
+        checkIndex(index);
+        return values[index];
+    }
+
+    /**
+     * Adds given {@code value} without boxing it.
+     */
+    public void addDouble(double value) {
+        grow();
+        values[size++] = value;
+        modCount++;
+    }
+
+    /**
+     * Copy of the values of this list.
+     */
+    public double @NotNull [] toDoubleArray() {
+        return Arrays.copyOf(values, size);
+    }
+
+    @Override
+    public Double get(int index) {
+        return getDouble(index);
+    }
+
+    @Override
+    protected int capacity() {
+        return values.length;
+    }
+
+    @Override
+    protected double @NotNull [] copyOf(double @NotNull [] values, int length) {
+        return Arrays.copyOf(values, length);
+    }
+
+    @Override
+    protected void store(int index, @Nullable Object element) {
+        values[index] = (Double) element;
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2025 Linus Andera
+ * Copyright (c) 2025-2026 Linus Andera
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -23,15 +23,11 @@ import de.linusdev.lutils.interfaces.TConsumer;
 import de.linusdev.lutils.interfaces.TConverter;
 import de.linusdev.lutils.optional.Container;
 import de.linusdev.lutils.optional.ExceptionSupplier;
-import de.linusdev.lutils.other.NumberUtils;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.RecordComponent;
-import java.util.Arrays;
 import java.util.NoSuchElementException;
 
 /**
@@ -569,39 +565,9 @@ public interface Json extends Data {
      * @param recordClass the class to the record {@link T}.
      * @return record {@link T} filled by this {@link Json}.
      * @param <T> record class
+     * @see RecordBinder#fromJson(Json)
      */
     default <T extends Record> @NotNull T toRecord(Class<T> recordClass) {
-        if(!recordClass.isRecord())
-            throw new IllegalArgumentException("Given recordClass '" + recordClass.getCanonicalName() + "' is not a record.");
-
-        RecordComponent[] comps = recordClass.getRecordComponents();
-        Object[] params = new Object[comps.length];
-
-        loop: for (var entry : this) {
-            for (int i = 0; i < comps.length; i++) {
-                if (comps[i].getName().equals(entry.getKey())) {
-                    if(comps[i].getType().isRecord() && entry.getValue() != null) {
-                        //noinspection unchecked
-                        params[i] = ((Json) entry.getValue()).toRecord((Class<? extends Record>) comps[i].getType());
-                    } else if (entry.getValue() instanceof Number num) {
-                        params[i] = NumberUtils.convertTo(num, comps[i].getType());
-                    } else {
-                        params[i] = entry.getValue();
-                    }
-                    continue loop;
-                }
-            }
-
-        }
-
-        Class<?>[] componentTypes = Arrays.stream(comps).map(RecordComponent::getType).toArray(Class<?>[]::new);
-        try {
-            return recordClass.getDeclaredConstructor(componentTypes).newInstance(params);
-        } catch (NoSuchMethodException | InstantiationException e) {
-            // Should never happen
-            throw new RuntimeException(e);
-        } catch (InvocationTargetException | IllegalAccessException e) {
-            throw new RuntimeException(e);
-        }
+        return RecordBinder.of(recordClass).fromJson(this);
     }
 }
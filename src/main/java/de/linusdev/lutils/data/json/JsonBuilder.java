@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2025 Linus Andera
+ * Copyright (c) 2025-2026 Linus Andera
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -25,6 +25,15 @@ public interface JsonBuilder {
 
     @NotNull JsonBuilder add(@NotNull String key, @Nullable Object value);
 
+    /**
+     * Called before entries are added, if the amount of entries is known. Implementations may use this to avoid
+     * resizing while adding.
+     * @param expectedSize amount of entries, that will be added
+     */
+    default void sizeHint(int expectedSize) {
+
+    }
+
     @NotNull Json build();
 
 }
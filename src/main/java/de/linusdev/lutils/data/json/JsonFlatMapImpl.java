@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2026 Linus Andera
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.linusdev.lutils.data.json;
+
+import de.linusdev.lutils.collections.BiIterator;
+import de.linusdev.lutils.collections.Entry;
+import de.linusdev.lutils.collections.EntryImpl;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * A {@link Json} backed by a single flat array, which stores keys and values alternately in the order they were added.
+ * Unlike {@link JsonMapImpl} no entry objects are created, which makes this implementation much smaller in memory.
+ * <br><br>
+ * Small json-objects (up to {@value #LINEAR_SEARCH_MAX_SIZE} entries) are searched linearly. Larger json-objects
+ * additionally use an open addressing hash table, which stores the index of each entry.
+ * <br><br>
+ * If a key is added, that already exists, its value is replaced. The position of the entry does not change.
+ * {@link #build()} trims the arrays to the amount of entries.
+ */
+public class JsonFlatMapImpl implements Json, JsonBuilder {
+
+    /**
+     * json-objects with at most this amount of entries do not use a hash table.
+     */
+    private static final int LINEAR_SEARCH_MAX_SIZE = 8;
+    private static final int DEFAULT_CAPACITY = 4;
+
+    /**
+     * Keys and values: {@code [key0, value0, key1, value1, ...]}. {@code null} values are stored as {@link Json#NULL}.
+     */
+    private @Nullable Object @NotNull [] entries;
+    private int size = 0;
+
+    /**
+     * Open addressing hash table with linear probing. Each slot contains the index of an entry plus one or {@code 0}
+     * if the slot is empty. {@code null} as long as the size is at most {@link #LINEAR_SEARCH_MAX_SIZE}.
+     */
+    private int @Nullable [] table = null;
+
+    public JsonFlatMapImpl() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param expectedSize expected amount of entries
+     */
+    public JsonFlatMapImpl(int expectedSize) {
+        this.entries = new Object[Math.max(1, expectedSize) * 2];
+        if(expectedSize > LINEAR_SEARCH_MAX_SIZE)
+            table = new int[tableSize(expectedSize)];
+    }
+
+    @Override
+    public Object _get(@NotNull String key) {
+        int index = indexOf(key);
+        return index == -1 ? null : entries[index * 2 + 1];
+    }
+
+    @Override
+    public @NotNull JsonBuilder add(@NotNull String key, @Nullable Object value) {
+        if(value == null) value = NULL;
+
+        int index = indexOf(key);
+        if(index != -1) {
+            entries[index * 2 + 1] = value;
+            return this;
+        }
+
+        if(size * 2 == entries.length)
+            entries = Arrays.copyOf(entries, entries.length * 2);
+
+        entries[size * 2] = key;
+        entries[size * 2 + 1] = value;
+        size++;
+
+        if(table != null && size * 2 > table.length) {
+            // Keep the load factor at most 0.5
+            rehash(tableSize(size * 2));
+        } else if (table != null) {
+            insert(table, key, size - 1);
+        } else if (size > LINEAR_SEARCH_MAX_SIZE) {
+            rehash(tableSize(size * 2));
+        }
+
+        return this;
+    }
+
+    @Override
+    public void sizeHint(int expectedSize) {
+        if(expectedSize * 2 > entries.length)
+            entries = Arrays.copyOf(entries, expectedSize * 2);
+        if(expectedSize > LINEAR_SEARCH_MAX_SIZE && (table == null || expectedSize * 2 > table.length))
+            rehash(tableSize(expectedSize));
+    }
+
+    @Override
+    public @NotNull Json build() {
+        if(entries.length > size * 2)
+            entries = Arrays.copyOf(entries, Math.max(1, size) * 2);
+        if(table != null && table.length > tableSize(size))
+            rehash(tableSize(size));
+        return this;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public @NotNull BiIterator<String, Object> iterator() {
+        return new BiIterator<>() {
+            int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public @NotNull Entry<String, Object> next() {
+                if(!hasNext()) throw new NoSuchElementException();
+                Object value = entries[index * 2 + 1];
+                String key = (String) entries[index * 2];
+                index++;
+                return new EntryImpl<>(key, value == NULL ? null : value);
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        return Json.toString(this);
+    }
+
+    /**
+     * @return index of the entry with given {@code key} or {@code -1} if no such entry exists.
+     */
+    private int indexOf(@NotNull String key) {
+        int[] table = this.table;
+
+        if(table == null) {
+            for (int i = 0; i < size; i++) {
+                if(key.equals(entries[i * 2]))
+                    return i;
+            }
+            return -1;
+        }
+
+        int mask = table.length - 1;
+        for (int slot = hash(key) & mask; table[slot] != 0; slot = (slot + 1) & mask) {
+            int index = table[slot] - 1;
+            if(key.equals(entries[index * 2]))
+                return index;
+        }
+
+        return -1;
+    }
+
+    private void rehash(int tableSize) {
+        int[] table = new int[tableSize];
+        for (int i = 0; i < size; i++)
+            insert(table, (String) entries[i * 2], i);
+        this.table = table;
+    }
+
+    private static void insert(int @NotNull [] table, @NotNull String key, int index) {
+        int mask = table.length - 1;
+        int slot = hash(key) & mask;
+        while (table[slot] != 0) slot = (slot + 1) & mask;
+        table[slot] = index + 1;
+    }
+
+    private static int hash(@NotNull String key) {
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Size of the hash table for given amount of entries. Always a power of two with a load factor of at most 0.5.
+     */
+    private static int tableSize(int entries) {
+        return Integer.highestOneBit(Math.max(entries, 4) * 2 - 1) << 1;
+    }
+}
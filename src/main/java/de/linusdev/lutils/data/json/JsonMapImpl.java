@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2025 Linus Andera
+ * Copyright (c) 2025-2026 Linus Andera
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -81,7 +81,7 @@ public class JsonMapImpl implements Json, JsonBuilder {
             @Override
             public @NotNull Entry<String, Object> next() {
                 Map.Entry<String, Object> entry = it.next();
-                return new EntryImpl<>(entry.getKey(), entry.getValue());
+                return new EntryImpl<>(entry.getKey(), entry.getValue() == NULL ? null : entry.getValue());
             }
 
             @Override
@@ -0,0 +1,377 @@
+/*
+ * Copyright (c) 2026 Linus Andera
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.linusdev.lutils.data.json;
+
+import de.linusdev.lutils.collections.Entry;
+import de.linusdev.lutils.data.json.parser.JsonPullParser;
+import de.linusdev.lutils.interfaces.TConsumer;
+import de.linusdev.lutils.optional.Container;
+import de.linusdev.lutils.other.parser.ParseException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A compiled query selecting values inside a json document. Two syntaxes are supported:
+ * <ul>
+ *     <li>
+ *         <a href="https://www.rfc-editor.org/rfc/rfc6901">JSON Pointer</a>: {@code /entries/0/name}. The empty
+ *         string selects the whole document. {@code ~0} and {@code ~1} are unescaped to {@code ~} and {@code /}.
+ *         A numeric token selects an index of a json-array or a key of a json-object.
+ *     </li>
+ *     <li>
+ *         A simple subset of JSONPath: {@code $.entries[*].name}. Supported are child keys ({@code .key} or
+ *         {@code ['key']}), array indices ({@code [0]}) and wildcards ({@code .*} or {@code [*]}), which select
+ *         all values of a json-object or json-array.
+ *     </li>
+ * </ul>
+ * A query can be evaluated against a {@link Json} tree using {@link #find(Object)} and {@link #findAll(Object)} or
+ * against a {@link JsonPullParser} using {@link #find(JsonPullParser)}, {@link #findAll(JsonPullParser)} and
+ * {@link #forEach(JsonPullParser, TConsumer)}. When evaluated against a {@link JsonPullParser}, only the matching
+ * values are materialized. All other values are skipped without creating any objects.
+ * <br><br>
+ * Example:
+ * <pre>{@code
+ * JsonQuery names = JsonQuery.compile("$.entries[*].name");
+ *
+ * try (JsonPullParser pull = JsonParser.DEFAULT_INSTANCE.pullParser(stream)) {
+ *     names.forEach(pull, name -> System.out.println(name));
+ * }
+ * }</pre>
+ * Note: The {@link de.linusdev.lutils.data.json.parser.JsonParser JsonParser} wraps json-arrays at the top level of a
+ * document in a {@link Json}. A {@link JsonPullParser} does not. A query for the document {@code [1, 2]} is therefore
+ * {@code $[0]} when evaluated against a {@link JsonPullParser} and {@code $.array[0]} when evaluated against the
+ * parsed {@link Json}.
+ * <br><br>
+ * Instances are immutable and thread safe.
+ */
+public final class JsonQuery {
+
+    private final @NotNull String query;
+    private final @NotNull Segment @NotNull [] segments;
+
+    private JsonQuery(@NotNull String query, @NotNull Segment @NotNull [] segments) {
+        this.query = query;
+        this.segments = segments;
+    }
+
+    /**
+     * Compiles given {@code query}. If the query starts with {@code $}, it is compiled as JSONPath. Otherwise, it is
+     * compiled as JSON Pointer. See {@link JsonQuery class documentation}.
+     * @param query JSON Pointer or JSONPath
+     * @return compiled {@link JsonQuery}
+     * @throws IllegalArgumentException if given {@code query} is malformed
+     */
+    public static @NotNull JsonQuery compile(@NotNull String query) {
+        if(query.startsWith("$"))
+            return new JsonQuery(query, compilePath(query));
+        return new JsonQuery(query, compilePointer(query));
+    }
+
+    /* ================================================================================================= *\
+    |                                                                                                     |
+    |                                                 Tree                                                |
+    |                                                                                                     |
+    \* ================================================================================================= */
+
+    /**
+     * Finds the first value matching this query.
+     * @param root {@link Json} or {@link List} to search in
+     * @return {@link Container} with the first matching value or {@link Container#nonExistent(Object) non existent}
+     * if no value matches.
+     */
+    public @NotNull Container<Object> find(@Nullable Object root) {
+        Object[] result = new Object[1];
+        boolean found = !evaluateTree(root, 0, value -> {
+            result[0] = value;
+            return false;
+        });
+        return found ? Container.of(query, result[0]) : Container.nonExistent(query);
+    }
+
+    /**
+     * Finds all values matching this query.
+     * @param root {@link Json} or {@link List} to search in
+     * @return {@link List} of all matching values in document order
+     */
+    public @NotNull List<Object> findAll(@Nullable Object root) {
+        List<Object> result = new ArrayList<>();
+        evaluateTree(root, 0, value -> {
+            result.add(value);
+            return true;
+        });
+        return result;
+    }
+
+    /**
+     * @return {@code false} if the {@code sink} requested to stop.
+     */
+    private <T extends Throwable> boolean evaluateTree(@Nullable Object value, int index, @NotNull Sink<T> sink) throws T {
+        if(index == segments.length)
+            return sink.accept(value);
+
+        Segment segment = segments[index];
+        if(value instanceof Json json) {
+            if(segment.wildcard) {
+                for (Entry<String, Object> entry : json)
+                    if(!evaluateTree(entry.getValue(), index + 1, sink)) return false;
+            } else if (segment.key != null) {
+                Object child = json._get(segment.key);
+                if(child != null)
+                    return evaluateTree(child == Json.NULL ? null : child, index + 1, sink);
+            }
+
+        } else if (value instanceof List<?> list) {
+            if(segment.wildcard) {
+                for (Object child : list)
+                    if(!evaluateTree(child, index + 1, sink)) return false;
+            } else if (segment.index != -1 && segment.index < list.size()) {
+                return evaluateTree(list.get(segment.index), index + 1, sink);
+            }
+        }
+
+        return true;
+    }
+
+    /* ================================================================================================= *\
+    |                                                                                                     |
+    |                                                Stream                                               |
+    |                                                                                                     |
+    \* ================================================================================================= */
+
+    /**
+     * Reads the next value of given {@code pull} parser until a value matching this query is found. Only the matching
+     * value is materialized.<br>
+     * If a value is found, the parser is positioned directly after the found value. Otherwise, the next value has been
+     * read completely.
+     * @param pull the {@link JsonPullParser} to read from
+     * @return {@link Container} with the first matching value or {@link Container#nonExistent(Object) non existent}
+     * if no value matches.
+     * @throws IOException while reading
+     * @throws ParseException if the json is malformed
+     */
+    public @NotNull Container<Object> find(@NotNull JsonPullParser pull) throws IOException, ParseException {
+        Object[] result = new Object[1];
+        boolean found = !evaluateStream(pull, 0, value -> {
+            result[0] = value;
+            return false;
+        });
+        return found ? Container.of(query, result[0]) : Container.nonExistent(query);
+    }
+
+    /**
+     * Reads the next value of given {@code pull} parser completely and collects all values matching this query.
+     * @param pull the {@link JsonPullParser} to read from
+     * @return {@link List} of all matching values in document order
+     * @throws IOException while reading
+     * @throws ParseException if the json is malformed
+     */
+    public @NotNull List<Object> findAll(@NotNull JsonPullParser pull) throws IOException, ParseException {
+        List<Object> result = new ArrayList<>();
+        evaluateStream(pull, 0, value -> {
+            result.add(value);
+            return true;
+        });
+        return result;
+    }
+
+    /**
+     * Reads the next value of given {@code pull} parser completely and calls given {@code consumer} for each value
+     * matching this query. Matching values are not collected, so this can be used to process huge documents.
+     * @param pull the {@link JsonPullParser} to read from
+     * @param consumer called for each matching value in document order
+     * @throws IOException while reading
+     * @throws ParseException if the json is malformed
+     * @throws T if thrown by given {@code consumer}
+     */
+    public <T extends Throwable> void forEach(
+            @NotNull JsonPullParser pull,
+            @NotNull TConsumer<@Nullable Object, T> consumer
+    ) throws IOException, ParseException, T {
+        evaluateStream(pull, 0, value -> {
+            consumer.consume(value);
+            return true;
+        });
+    }
+
+    /**
+     * @return {@code false} if the {@code sink} requested to stop.
+     */
+    private <T extends Throwable> boolean evaluateStream(
+            @NotNull JsonPullParser pull,
+            int index,
+            @NotNull Sink<T> sink
+    ) throws IOException, ParseException, T {
+        if(index == segments.length)
+            return sink.accept(pull.readValue());
+
+        Segment segment = segments[index];
+        switch (pull.peek()) {
+            case BEGIN_OBJECT -> {
+                pull.beginObject();
+                while (pull.hasNext()) {
+                    String key = pull.readKey();
+                    if(segment.wildcard || key.equals(segment.key)) {
+                        if(!evaluateStream(pull, index + 1, sink)) return false;
+                    } else {
+                        pull.skipValue();
+                    }
+                }
+                pull.endObject();
+            }
+            case BEGIN_ARRAY -> {
+                pull.beginArray();
+                for (int i = 0; pull.hasNext(); i++) {
+                    if(segment.wildcard || i == segment.index) {
+                        if(!evaluateStream(pull, index + 1, sink)) return false;
+                    } else {
+                        pull.skipValue();
+                    }
+                }
+                pull.endArray();
+            }
+            default -> pull.skipValue();
+        }
+
+        return true;
+    }
+
+    /* ================================================================================================= *\
+    |                                                                                                     |
+    |                                               Compiling                                             |
+    |                                                                                                     |
+    \* ================================================================================================= */
+
+    private static @NotNull Segment @NotNull [] compilePointer(@NotNull String pointer) {
+        if(pointer.isEmpty()) return new Segment[0];
+        if(pointer.charAt(0) != '/')
+            throw new IllegalArgumentException("JSON Pointer must be empty or start with '/': " + pointer);
+
+        List<Segment> segments = new ArrayList<>();
+        StringBuilder token = new StringBuilder();
+        for (int i = 1; i <= pointer.length(); i++) {
+            char c = i == pointer.length() ? '/' : pointer.charAt(i);
+
+            if(c == '/') {
+                String key = token.toString();
+                segments.add(new Segment(key, parseIndex(key), false));
+                token.setLength(0);
+            } else if (c == '~') {
+                char next = i + 1 < pointer.length() ? pointer.charAt(++i) : ' ';
+                if(next == '0') token.append('~');
+                else if(next == '1') token.append('/');
+                else throw new IllegalArgumentException("Invalid escape sequence at index " + i + " of JSON Pointer: " + pointer);
+            } else {
+                token.append(c);
+            }
+        }
+
+        return segments.toArray(Segment[]::new);
+    }
+
+    private static @NotNull Segment @NotNull [] compilePath(@NotNull String path) {
+        List<Segment> segments = new ArrayList<>();
+
+        int i = 1;
+        while (i < path.length()) {
+            char c = path.charAt(i);
+
+            if(c == '.') {
+                int start = ++i;
+                while (i < path.length() && path.charAt(i) != '.' && path.charAt(i) != '[') i++;
+                String key = path.substring(start, i);
+
+                if(key.isEmpty()) throw invalidPath(path, start);
+                segments.add(key.equals("*") ? Segment.WILDCARD : new Segment(key, -1, false));
+
+            } else if (c == '[') {
+                int end = path.indexOf(']', i);
+                if(end == -1) throw invalidPath(path, i);
+                char first = i + 1 < end ? path.charAt(i + 1) : ']';
+
+                if(first == '\'' || first == '"') {
+                    // Quoted keys may contain ']', so the end must be searched after the closing quote
+                    StringBuilder key = new StringBuilder();
+                    int j = i + 2;
+                    while (j < path.length() && path.charAt(j) != first) {
+                        if(path.charAt(j) == '\\' && j + 1 < path.length()) j++;
+                        key.append(path.charAt(j++));
+                    }
+                    if(j + 1 >= path.length() || path.charAt(j + 1) != ']') throw invalidPath(path, j);
+                    segments.add(new Segment(key.toString(), -1, false));
+                    end = j + 1;
+
+                } else if (first == '*' && end == i + 2) {
+                    segments.add(Segment.WILDCARD);
+
+                } else {
+                    int index = parseIndex(path.substring(i + 1, end));
+                    if(index == -1) throw invalidPath(path, i + 1);
+                    segments.add(new Segment(null, index, false));
+                }
+
+                i = end + 1;
+
+            } else {
+                throw invalidPath(path, i);
+            }
+        }
+
+        return segments.toArray(Segment[]::new);
+    }
+
+    private static @NotNull IllegalArgumentException invalidPath(@NotNull String path, int index) {
+        return new IllegalArgumentException("Invalid JSONPath at index " + index + ": " + path);
+    }
+
+    /**
+     * @return the array index given {@code token} represents or {@code -1} if it is not a valid array index.
+     */
+    private static int parseIndex(@NotNull String token) {
+        if(token.isEmpty() || token.length() > 9 || (token.length() > 1 && token.charAt(0) == '0'))
+            return -1;
+        for (int i = 0; i < token.length(); i++)
+            if(token.charAt(i) < '0' || token.charAt(i) > '9') return -1;
+        return Integer.parseInt(token);
+    }
+
+    @Override
+    public String toString() {
+        return query;
+    }
+
+    /**
+     * A single step of a query.
+     * @param key key of a json-object to select or {@code null}
+     * @param index index of a json-array to select or {@code -1}
+     * @param wildcard {@code true} to select all values
+     */
+    private record Segment(@Nullable String key, int index, boolean wildcard) {
+        static final @NotNull Segment WILDCARD = new Segment(null, -1, true);
+    }
+
+    @FunctionalInterface
+    private interface Sink<T extends Throwable> {
+        /**
+         * @return {@code false} to stop the evaluation
+         */
+        boolean accept(@Nullable Object value) throws T;
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026 Linus Andera
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.linusdev.lutils.data.json;
+
+import de.linusdev.lutils.data.json.parser.JsonParser;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * A {@link java.util.List List} of {@link Long}s backed by a {@code long[]}. The values are only boxed when accessed
+ * using the methods of {@link java.util.List List}. Use {@link #getLong(int)} or {@link #toLongArray()} to access
+ * them without boxing.
+ * <br><br>
+ * Created by the {@link JsonParser} for json-arrays, which only contain integer numbers, if
+ * {@link JsonParser#setPrimitiveArrays(boolean)} is enabled. Only {@link Long} elements can be added.
+ */
+public class LongArrayList extends PrimitiveArrayList<Long, long[]> {
+
+    public LongArrayList() {
+        this(10);
+    }
+
+    /**
+     * @param initialCapacity initial size of the backing array
+     */
+    public LongArrayList(int initialCapacity) {
+        super(new long[initialCapacity], 0);
+    }
+
+    /**
+     * Creates a list backed by given {@code values}. Changes to the array are visible in the list.
+     * @param values backing array
+     */
+    public LongArrayList(long @NotNull [] values) {
+        super(values, values.length);
+    }
+
+    /**
+     * Get the value at given {@code index} without boxing it.
+     */
+    public long getLong(int index) {
+        checkIndex(index);
+        return values[index];
+    }
+
+    /**
+     * Adds given {@code value} without boxing it.
+     */
+    public void addLong(long value) {
+        grow();
+        values[size++] = value;
+        modCount++;
+    }
+
+    /**
+     * Copy of the values of this list.
+     */
+    public long @NotNull [] toLongArray() {
+        return Arrays.copyOf(values, size);
+    }
+
+    @Override
+    public Long get(int index) {
+        return getLong(index);
+    }
+
+    @Override
+    protected int capacity() {
+        return values.length;
+    }
+
+    @Override
+    protected long @NotNull [] copyOf(long @NotNull [] values, int length) {
+        return Arrays.copyOf(values, length);
+    }
+
+    @Override
+    protected void store(int index, @Nullable Object element) {
+        values[index] = (Long) element;
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2026 Linus Andera
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.linusdev.lutils.data.json;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * Base of the {@link java.util.List Lists} backed by a primitive array. Manages the size, the capacity and the
+ * shifting of the backing array. Subclasses only convert between the boxed elements and the primitive values.
+ * @param <E> boxed element type
+ * @param <A> type of the backing primitive array
+ * @see LongArrayList
+ * @see DoubleArrayList
+ */
+abstract class PrimitiveArrayList<E, A> extends AbstractList<Object> implements RandomAccess {
+
+    protected @NotNull A values;
+    protected int size;
+
+    protected PrimitiveArrayList(@NotNull A values, int size) {
+        this.values = values;
+        this.size = size;
+    }
+
+    /**
+     * Length of the backing array.
+     */
+    protected abstract int capacity();
+
+    /**
+     * Copy of given {@code values} with given {@code length}.
+     */
+    protected abstract @NotNull A copyOf(@NotNull A values, int length);
+
+    /**
+     * Stores given boxed {@code element} at given {@code index} of the backing array.
+     */
+    protected abstract void store(int index, @Nullable Object element);
+
+    @Override
+    public abstract E get(int index);
+
+    /**
+     * Makes sure, that the backing array can hold one more value.
+     */
+    protected void grow() {
+        if(size == capacity())
+            values = copyOf(values, Math.max(10, size + (size >> 1)));
+    }
+
+    /**
+     * Reduces the size of the backing array to the size of this list.
+     */
+    public void trimToSize() {
+        if(capacity() > size)
+            values = copyOf(values, size);
+    }
+
+    @Override
+    public E set(int index, @Nullable Object element) {
+        E old = get(index);
+        store(index, element);
+        return old;
+    }
+
+    @Override
+    public boolean add(@Nullable Object element) {
+        add(size, element);
+        return true;
+    }
+
+    @Override
+    public void add(int index, @Nullable Object element) {
+        if(index < 0 || index > size) throw new IndexOutOfBoundsException(index);
+
+        grow();
+        // Store into the unused slot first, so that an element of the wrong type fails before the list is changed
+        store(size, element);
+        System.arraycopy(values, index, values, index + 1, size - index);
+        store(index, element);
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public E remove(int index) {
+        E old = get(index);
+        System.arraycopy(values, index + 1, values, index, size - index - 1);
+        size--;
+        modCount++;
+        return old;
+    }
+
+    @Override
+    public void clear() {
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    protected void checkIndex(int index) {
+        if(index < 0 || index >= size) throw new IndexOutOfBoundsException(index);
+    }
+}
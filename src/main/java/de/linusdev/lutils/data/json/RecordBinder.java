@@ -0,0 +1,402 @@
+/*
+ * Copyright (c) 2026 Linus Andera
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.linusdev.lutils.data.json;
+
+import de.linusdev.lutils.collections.BiIterator;
+import de.linusdev.lutils.collections.Entry;
+import de.linusdev.lutils.collections.EntryImpl;
+import de.linusdev.lutils.data.Data;
+import de.linusdev.lutils.data.Datable;
+import de.linusdev.lutils.data.json.parser.JsonPullParser;
+import de.linusdev.lutils.data.json.parser.JsonToken;
+import de.linusdev.lutils.other.parser.ParseException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.RecordComponent;
+import java.lang.reflect.Type;
+import java.util.*;
+
+/**
+ * Binds a record class to json. A {@link RecordBinder} can
+ * <ul>
+ *     <li>read a record directly from a {@link JsonPullParser} ({@link #read(JsonPullParser)}),</li>
+ *     <li>convert a {@link Json} to a record ({@link #fromJson(Json)}) and</li>
+ *     <li>create a {@link Data} view of a record, which can be written by the {@link de.linusdev.lutils.data.json.parser.JsonParser JsonParser} ({@link #toData(Record)}).</li>
+ * </ul>
+ * The record components and the canonical constructor are looked up once, when the binder is created. Afterward,
+ * they are only accessed through {@link MethodHandle method handles}. No {@link Json} instance is created while
+ * reading from a {@link JsonPullParser} or writing a {@link Data} view.
+ * <br><br>
+ * Supported component types are all primitive types, their wrappers, {@link String}, records and {@link List lists}
+ * of records. Components of any other type are read using {@link JsonPullParser#readValue()} and written as they are.
+ * Missing primitive components are set to their default value ({@code 0} or {@code false}).
+ * <br><br>
+ * Binders are cached per class. Use {@link #of(Class)} to obtain one.
+ * @param <T> record class
+ */
+public final class RecordBinder<T extends Record> {
+
+    private static final @NotNull ClassValue<RecordBinder<?>> BINDERS = new ClassValue<>() {
+        @Override
+        protected RecordBinder<?> computeValue(@NotNull Class<?> type) {
+            return new RecordBinder<>(type.asSubclass(Record.class));
+        }
+    };
+
+    /**
+     * Get the {@link RecordBinder} for given {@code recordClass}.
+     * @param recordClass the record class
+     * @return cached {@link RecordBinder} for given {@code recordClass}
+     * @param <T> record class
+     * @throws IllegalArgumentException if given {@code recordClass} is not a record.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends Record> @NotNull RecordBinder<T> of(@NotNull Class<T> recordClass) {
+        if(!recordClass.isRecord())
+            throw new IllegalArgumentException("Given recordClass '" + recordClass.getCanonicalName() + "' is not a record.");
+        return (RecordBinder<T>) BINDERS.get(recordClass);
+    }
+
+    /**
+     * {@link #toData(Record) Data view} of given {@code record}.
+     * @param record the record
+     * @return {@link Data} view of given {@code record}
+     */
+    @SuppressWarnings("unchecked")
+    public static @NotNull Data dataOf(@NotNull Record record) {
+        return ((RecordBinder<Record>) of(record.getClass())).toData(record);
+    }
+
+    private final @NotNull Class<T> recordClass;
+    private final @NotNull Component @NotNull [] components;
+    private final @NotNull Map<String, Component> componentsByName;
+    /**
+     * Default values of all components. Copied for each record, that is read.
+     */
+    private final @Nullable Object @NotNull [] defaults;
+    /**
+     * The canonical constructor with type {@code (Object[])Object}.
+     */
+    private final @NotNull MethodHandle constructor;
+
+    private RecordBinder(@NotNull Class<T> recordClass) {
+        this.recordClass = recordClass;
+
+        MethodHandles.Lookup lookup = lookupFor(recordClass);
+        RecordComponent[] comps = recordClass.getRecordComponents();
+
+        this.components = new Component[comps.length];
+        this.componentsByName = new HashMap<>(comps.length * 2);
+        this.defaults = new Object[comps.length];
+        Class<?>[] types = new Class<?>[comps.length];
+
+        try {
+            for (int i = 0; i < comps.length; i++) {
+                MethodHandle accessor = lookup.unreflect(comps[i].getAccessor())
+                        .asType(MethodType.methodType(Object.class, Record.class));
+                components[i] = new Component(i, comps[i].getName(), comps[i].getType(), comps[i].getGenericType(), accessor);
+                componentsByName.put(components[i].name, components[i]);
+                defaults[i] = components[i].primitive ? components[i].kind.defaultValue : null;
+                types[i] = comps[i].getType();
+            }
+
+            this.constructor = lookup.findConstructor(recordClass, MethodType.methodType(void.class, types))
+                    .asType(MethodType.methodType(Object.class, types))
+                    .asSpreader(Object[].class, types.length);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalArgumentException("Cannot access record '" + recordClass.getCanonicalName() + "'.", e);
+        }
+    }
+
+    private static @NotNull MethodHandles.Lookup lookupFor(@NotNull Class<?> recordClass) {
+        try {
+            return MethodHandles.privateLookupIn(recordClass, MethodHandles.lookup());
+        } catch (IllegalAccessException e) {
+            // The package of the record is not opened to us. Only public records can be bound.
+            return MethodHandles.publicLookup();
+        }
+    }
+
+    /**
+     * The record class of this binder.
+     */
+    public @NotNull Class<T> getRecordClass() {
+        return recordClass;
+    }
+
+    /**
+     * Reads the next value of given {@code parser} as record {@link T}. The next token must be
+     * {@link JsonToken#BEGIN_OBJECT}. Keys, which do not match any record component, are skipped.
+     * @param parser the {@link JsonPullParser} to read from
+     * @return the read record
+     * @throws IOException while reading
+     * @throws ParseException while parsing
+     */
+    public @NotNull T read(@NotNull JsonPullParser parser) throws IOException, ParseException {
+        Object[] args = defaults.clone();
+
+        parser.beginObject();
+        while (parser.hasNext()) {
+            Component component = componentsByName.get(parser.readKey());
+            if(component == null) {
+                parser.skipValue();
+                continue;
+            }
+            args[component.index] = component.read(parser);
+        }
+        parser.endObject();
+
+        return construct(args);
+    }
+
+    /**
+     * Converts given {@code json} to record {@link T}. Entries, which do not match any record component, are ignored.
+     * @param json the {@link Json} to convert
+     * @return record {@link T} filled by given {@code json}
+     */
+    public @NotNull T fromJson(@NotNull Json json) {
+        Object[] args = defaults.clone();
+
+        for (Entry<String, Object> entry : json) {
+            Component component = componentsByName.get(entry.getKey());
+            if(component == null) continue;
+            args[component.index] = component.convert(entry.getValue());
+        }
+
+        return construct(args);
+    }
+
+    /**
+     * Creates a {@link Data} view of given {@code record}. The components are read, whenever the returned
+     * {@link Data} is iterated.
+     * @param record the record
+     * @return {@link Data} view of given {@code record}
+     */
+    public @NotNull Data toData(@NotNull T record) {
+        return new RecordData(record);
+    }
+
+    @SuppressWarnings("unchecked")
+    private @NotNull T construct(@Nullable Object @NotNull [] args) {
+        try {
+            return (T) (Object) constructor.invokeExact(args);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new RuntimeException(t);
+        }
+    }
+
+    /**
+     * How a component is read and converted.
+     */
+    private enum Kind {
+        BOOLEAN(false), BYTE((byte) 0), SHORT((short) 0), INT(0), LONG(0L), FLOAT(0f), DOUBLE(0d), CHAR('\0'),
+        STRING(null),
+        RECORD(null),
+        RECORD_LIST(null),
+        OTHER(null),
+        ;
+
+        /**
+         * Value of a component of this kind, if it is missing or {@code null}. Only set for primitive types.
+         */
+        final @Nullable Object defaultValue;
+
+        Kind(@Nullable Object defaultValue) {
+            this.defaultValue = defaultValue;
+        }
+    }
+
+    private static final class Component {
+        final int index;
+        final @NotNull String name;
+        final @NotNull Kind kind;
+        /**
+         * The record class of this component or the element type of a {@link Kind#RECORD_LIST}.
+         */
+        final @Nullable Class<? extends Record> recordType;
+        final @NotNull MethodHandle accessor;
+        /**
+         * Whether the component type is primitive. {@code null} values are replaced with the
+         * {@link Kind#defaultValue default value} of such components.
+         */
+        final boolean primitive;
+
+        Component(int index, @NotNull String name, @NotNull Class<?> type, @NotNull Type genericType, @NotNull MethodHandle accessor) {
+            this.index = index;
+            this.name = name;
+            this.accessor = accessor;
+
+            Class<? extends Record> recordType = null;
+            Kind kind;
+
+            if(type == boolean.class) kind = Kind.BOOLEAN;
+            else if(type == byte.class) kind = Kind.BYTE;
+            else if(type == short.class) kind = Kind.SHORT;
+            else if(type == int.class) kind = Kind.INT;
+            else if(type == long.class) kind = Kind.LONG;
+            else if(type == float.class) kind = Kind.FLOAT;
+            else if(type == double.class) kind = Kind.DOUBLE;
+            else if(type == char.class) kind = Kind.CHAR;
+            else if(type == String.class) kind = Kind.STRING;
+            else if(type.isRecord()) {
+                kind = Kind.RECORD;
+                recordType = type.asSubclass(Record.class);
+            } else if (type.isAssignableFrom(ArrayList.class) && genericType instanceof ParameterizedType param
+                    && param.getActualTypeArguments()[0] instanceof Class<?> element && element.isRecord()) {
+                kind = Kind.RECORD_LIST;
+                recordType = element.asSubclass(Record.class);
+            } else {
+                kind = Kind.OTHER;
+            }
+
+            // Wrapper types are handled like their primitive type, but without a default value
+            if(kind == Kind.OTHER) {
+                if(type == Boolean.class) kind = Kind.BOOLEAN;
+                else if(type == Byte.class) kind = Kind.BYTE;
+                else if(type == Short.class) kind = Kind.SHORT;
+                else if(type == Integer.class) kind = Kind.INT;
+                else if(type == Long.class) kind = Kind.LONG;
+                else if(type == Float.class) kind = Kind.FLOAT;
+                else if(type == Double.class) kind = Kind.DOUBLE;
+                else if(type == Character.class) kind = Kind.CHAR;
+            }
+
+            this.kind = kind;
+            this.recordType = recordType;
+            this.primitive = type.isPrimitive();
+        }
+
+        @Nullable Object read(@NotNull JsonPullParser parser) throws IOException, ParseException {
+            if(parser.peek() == JsonToken.NULL) {
+                parser.readNull();
+                return primitive ? kind.defaultValue : null;
+            }
+
+            return switch (kind) {
+                case BOOLEAN -> parser.readBoolean();
+                case BYTE, SHORT, INT, LONG, FLOAT, DOUBLE -> convertNumber(parser.readNumber());
+                case CHAR, STRING -> convert(parser.readString());
+                case RECORD -> of(Objects.requireNonNull(recordType)).read(parser);
+                case RECORD_LIST -> {
+                    RecordBinder<?> binder = of(Objects.requireNonNull(recordType));
+                    ArrayList<Object> list = new ArrayList<>();
+                    parser.beginArray();
+                    while (parser.hasNext())
+                        list.add(binder.read(parser));
+                    parser.endArray();
+                    yield list;
+                }
+                case OTHER -> parser.readValue();
+            };
+        }
+
+        @Nullable Object convert(@Nullable Object value) {
+            if(value == null)
+                return primitive ? kind.defaultValue : null;
+
+            return switch (kind) {
+                case BYTE, SHORT, INT, LONG, FLOAT, DOUBLE -> convertNumber((Number) value);
+                case CHAR -> value instanceof String str ? toChar(str) : value;
+                case RECORD -> value instanceof Json json ? of(Objects.requireNonNull(recordType)).fromJson(json) : value;
+                case RECORD_LIST -> {
+                    RecordBinder<?> binder = of(Objects.requireNonNull(recordType));
+                    List<?> values = (List<?>) value;
+                    ArrayList<Object> list = new ArrayList<>(values.size());
+                    for (Object element : values)
+                        list.add(element instanceof Json json ? binder.fromJson(json) : element);
+                    yield list;
+                }
+                case BOOLEAN, STRING, OTHER -> value;
+            };
+        }
+
+        private char toChar(@NotNull String str) {
+            if(str.length() != 1)
+                throw new ClassCastException("Cannot convert string \"" + str + "\" of component '" + name + "' to char.");
+            return str.charAt(0);
+        }
+
+        private @NotNull Object convertNumber(@NotNull Number number) {
+            return switch (kind) {
+                case BYTE -> number.byteValue();
+                case SHORT -> number.shortValue();
+                case INT -> number.intValue();
+                case LONG -> number.longValue();
+                case FLOAT -> number.floatValue();
+                case DOUBLE -> number.doubleValue();
+                default -> number;
+            };
+        }
+
+        @Nullable Object get(@NotNull Record record) {
+            try {
+                return (Object) accessor.invokeExact(record);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new RuntimeException(t);
+            }
+        }
+    }
+
+    /**
+     * {@link Data} view of a record. Nested records, which are not {@link Datable}, are returned as {@link Data} views as well.
+     */
+    private final class RecordData implements Data {
+
+        private final @NotNull T record;
+
+        private RecordData(@NotNull T record) {
+            this.record = record;
+        }
+
+        @Override
+        public int size() {
+            return components.length;
+        }
+
+        @Override
+        public @NotNull BiIterator<String, Object> iterator() {
+            return new BiIterator<>() {
+                int index = 0;
+
+                @Override
+                public boolean hasNext() {
+                    return index < components.length;
+                }
+
+                @Override
+                public @NotNull Entry<String, Object> next() {
+                    if(!hasNext()) throw new NoSuchElementException();
+                    Component component = components[index++];
+                    Object value = component.get(record);
+                    if(value instanceof Record nested && !(value instanceof Datable))
+                        value = dataOf(nested);
+                    return new EntryImpl<>(component.name, value);
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2026 Linus Andera
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.linusdev.lutils.data.json.parser;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * A bounded cache for keys of json-objects. If set using {@link JsonParser#setKeyCache(JsonKeyCache)}, keys are looked
+ * up in this cache before a new {@link String} is created. All {@link de.linusdev.lutils.data.json.Json Json} objects
+ * parsed using this cache will share the same key instances. This reduces the memory used, if many json-objects with
+ * the same keys are kept in memory.
+ * <br><br>
+ * The cache is a simple hash table with a fixed amount of slots. If two keys have the same slot, the newer key replaces
+ * the older one. Keys longer than {@link #MAX_KEY_LENGTH} are never cached.
+ * <br><br>
+ * This class is thread safe. A cache may be shared by multiple {@link JsonParser}s.
+ */
+public final class JsonKeyCache {
+
+    /**
+     * Keys longer than this are not cached.
+     */
+    public static final int MAX_KEY_LENGTH = 64;
+
+    /**
+     * Slots of this cache. Slots are read and written without synchronization. This is safe, because {@link String}s
+     * are immutable: A thread either sees a complete {@link String} or {@code null}.
+     */
+    private final @Nullable String @NotNull [] table;
+    private final int mask;
+
+    /**
+     * @param capacity amount of slots. Will be rounded up to the next power of two.
+     */
+    public JsonKeyCache(int capacity) {
+        if(capacity <= 0 || capacity > (1 << 30)) throw new IllegalArgumentException("Invalid capacity: " + capacity);
+        int size = Integer.highestOneBit(capacity);
+        if(size < capacity) size <<= 1;
+
+        this.table = new String[size];
+        this.mask = size - 1;
+    }
+
+    /**
+     * Returns a {@link String} equal to the given chars. If such a {@link String} is already cached, no new
+     * {@link String} is created.
+     * @param chars chars of the key
+     * @param offset index of the first char
+     * @param len amount of chars
+     * @return {@link String} equal to the given chars
+     */
+    public @NotNull String intern(char @NotNull [] chars, int offset, int len) {
+        if(len > MAX_KEY_LENGTH) return new String(chars, offset, len);
+
+        // Same hash as String.hashCode(), so the cached hash of the String can be used for comparison
+        int hash = 0;
+        for (int i = offset; i < offset + len; i++)
+            hash = 31 * hash + chars[i];
+
+        int index = index(hash);
+        String cached = table[index];
+        if(cached != null && cached.hashCode() == hash && cached.length() == len) {
+            int i = 0;
+            while (i < len && cached.charAt(i) == chars[offset + i]) i++;
+            if(i == len) return cached;
+        }
+
+        String key = new String(chars, offset, len);
+        table[index] = key;
+        return key;
+    }
+
+    /**
+     * Same as {@link #intern(char[], int, int)}, but for ASCII encoded keys.
+     * @param ascii bytes of the key. All bytes must be ASCII characters.
+     * @param offset index of the first byte
+     * @param len amount of bytes
+     * @return {@link String} equal to the given bytes
+     */
+    @NotNull String internAscii(byte @NotNull [] ascii, int offset, int len) {
+        // ASCII chars are the same in ISO-8859-1
+        if(len > MAX_KEY_LENGTH) return new String(ascii, offset, len, StandardCharsets.ISO_8859_1);
+
+        int hash = 0;
+        for (int i = offset; i < offset + len; i++)
+            hash = 31 * hash + ascii[i];
+
+        int index = index(hash);
+        String cached = table[index];
+        if(cached != null && cached.hashCode() == hash && cached.length() == len) {
+            int i = 0;
+            while (i < len && cached.charAt(i) == ascii[offset + i]) i++;
+            if(i == len) return cached;
+        }
+
+        String key = new String(ascii, offset, len, StandardCharsets.ISO_8859_1);
+        table[index] = key;
+        return key;
+    }
+
+    /**
+     * Removes all keys from this cache.
+     */
+    public void clear() {
+        Arrays.fill(table, null);
+    }
+
+    private int index(int hash) {
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+}
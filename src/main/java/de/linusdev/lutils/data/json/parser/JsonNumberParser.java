@@ -0,0 +1,359 @@
+/*
+ * Copyright (c) 2026 Linus Andera
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.linusdev.lutils.data.json.parser;
+
+import de.linusdev.lutils.data.json.parser.exceptions.ParseValueException;
+import de.linusdev.lutils.other.parser.ParseException;
+import de.linusdev.lutils.other.parser.ParseTracker;
+import org.jetbrains.annotations.NotNull;
+
+import static de.linusdev.lutils.data.json.parser.JsonParser.*;
+
+/**
+ * Parses json numbers directly from a {@code char[]}, without creating any intermediate objects.
+ * <br><br>
+ * Integer numbers are parsed to {@link Long}. If a number does not fit into a {@code long}, it is parsed
+ * to {@link Double}. Decimal numbers are parsed to {@link Double}, unless they represent an integral value,
+ * which fits into a {@code long} (for example {@code 5.0} or {@code 1E3}). In that case a {@link Long} is returned.
+ * <br><br>
+ * Decimal numbers with at most 15 significant digits and a small exponent are converted exactly using a single
+ * floating point multiplication or division (Clinger's fast path). All other decimal numbers are passed to
+ * {@link Double#parseDouble(String)}.
+ * <br><br>
+ * Instances of this class are not thread safe. Each {@link JsonReader} owns its own instance.
+ */
+final class JsonNumberParser {
+
+    /**
+     * Maximum amount of significant digits, that always fit into a {@code long}.
+     */
+    private static final int MAX_LONG_DIGITS = 18;
+
+    /**
+     * Maximum mantissa, which can be represented exactly as {@code double}: {@code 2^53}.
+     */
+    private static final long MAX_EXACT_DOUBLE_MANTISSA = 1L << 53;
+
+    /**
+     * Maximum mantissa, which can be represented exactly as {@code float}: {@code 2^24}.
+     */
+    private static final long MAX_EXACT_FLOAT_MANTISSA = 1L << 24;
+
+    /**
+     * Powers of ten, which can be represented exactly as {@code double}.
+     */
+    private static final double[] DOUBLE_POW_10 = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+            1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    /**
+     * Powers of ten, which can be represented exactly as {@code float}.
+     */
+    private static final float[] FLOAT_POW_10 = {
+            1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f
+    };
+
+    private static final long[] LONG_POW_10 = {
+            1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L, 1_000_000_000L,
+            10_000_000_000L, 100_000_000_000L, 1_000_000_000_000L, 10_000_000_000_000L, 100_000_000_000_000L,
+            1_000_000_000_000_000L, 10_000_000_000_000_000L, 100_000_000_000_000_000L, 1_000_000_000_000_000_000L
+    };
+
+    /* ============================================================================================================== *\
+    |                                                                                                                  |
+    |                                         State of the last scanned number                                         |
+    |                                                                                                                  |
+    \* ============================================================================================================== */
+
+    private boolean negative;
+    /**
+     * {@code true} if the number has no fraction and no exponent.
+     */
+    private boolean integral;
+    /**
+     * Start index of the integer part.
+     */
+    private int intStart;
+    /**
+     * End index (exclusive) of the integer part.
+     */
+    private int intEnd;
+
+    /**
+     * The significant digits of the number, without trailing zeros.
+     */
+    private long mantissa;
+    /**
+     * Decimal exponent: The value of the number is {@code mantissa * 10^exponent}.
+     */
+    private int exponent;
+    /**
+     * Amount of significant digits in the {@link #mantissa}.
+     */
+    private int digits;
+    /**
+     * Zeros, which have not yet been added to the {@link #mantissa}, because no non-zero digit followed them yet.
+     */
+    private int pendingZeros;
+    /**
+     * {@code true} if the number has more significant digits than fit into the {@link #mantissa}.
+     */
+    private boolean truncated;
+    /**
+     * Set by {@link #integralValue(char[])} if the integer part does not fit into a {@code long}.
+     */
+    private boolean overflow;
+
+    /**
+     * Parses the number in given {@code chars} from {@code 0} to {@code len} (exclusive).
+     * @param chars chars containing the number
+     * @param len length of the number. Must be at least {@code 1}.
+     * @param allowToken whether the number may end with a type token (see {@link JsonParser#setIdentifyNumberValues(boolean)})
+     * @param tracker {@link ParseTracker}
+     * @return {@link Number} as described in {@link JsonNumberParser}
+     * @throws ParseException if given chars do not contain a valid number
+     */
+    @NotNull Number parse(char @NotNull [] chars, int len, boolean allowToken, @NotNull ParseTracker tracker) throws ParseException {
+        if(allowToken) {
+            switch (chars[len - 1]) {
+                case BYTE_TOKEN -> {
+                    long value = parseLong(chars, len - 1, tracker);
+                    if(value < Byte.MIN_VALUE || value > Byte.MAX_VALUE) throw error(chars, len, tracker);
+                    return (byte) value;
+                }
+                case SHORT_TOKEN -> {
+                    long value = parseLong(chars, len - 1, tracker);
+                    if(value < Short.MIN_VALUE || value > Short.MAX_VALUE) throw error(chars, len, tracker);
+                    return (short) value;
+                }
+                case INTEGER_TOKEN -> {
+                    long value = parseLong(chars, len - 1, tracker);
+                    if(value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) throw error(chars, len, tracker);
+                    return (int) value;
+                }
+                case LONG_TOKEN -> {
+                    return parseLong(chars, len - 1, tracker);
+                }
+                case FLOAT_TOKEN -> {
+                    return parseFloat(chars, len - 1, tracker);
+                }
+                case DOUBLE_TOKEN -> {
+                    return parseDouble(chars, len - 1, tracker);
+                }
+            }
+        }
+
+        if(!scan(chars, len)) return parseSpecial(chars, len, tracker);
+
+        if(integral) {
+            long value = integralValue(chars);
+            if(overflow) return Double.parseDouble(new String(chars, 0, len));
+            return value;
+        }
+
+        if(fitsLong()) return negative ? -mantissa * LONG_POW_10[exponent] : mantissa * LONG_POW_10[exponent];
+        return doubleValue(chars, len);
+    }
+
+    /**
+     * Parses an integer number, which must fit into a {@code long}.
+     */
+    private long parseLong(char @NotNull [] chars, int len, @NotNull ParseTracker tracker) throws ParseException {
+        if(!scan(chars, len) || !integral) throw error(chars, len, tracker);
+
+        long value = integralValue(chars);
+        if(overflow) throw error(chars, len, tracker);
+        return value;
+    }
+
+    private double parseDouble(char @NotNull [] chars, int len, @NotNull ParseTracker tracker) throws ParseException {
+        if(!scan(chars, len)) return parseSpecial(chars, len, tracker);
+        return doubleValue(chars, len);
+    }
+
+    private float parseFloat(char @NotNull [] chars, int len, @NotNull ParseTracker tracker) throws ParseException {
+        if(!scan(chars, len)) return (float) parseSpecial(chars, len, tracker);
+
+        if(!truncated && mantissa <= MAX_EXACT_FLOAT_MANTISSA && Math.abs(exponent) < FLOAT_POW_10.length) {
+            float value = exponent < 0 ?
+                    mantissa / FLOAT_POW_10[-exponent] :
+                    mantissa * FLOAT_POW_10[exponent];
+            return negative ? -value : value;
+        }
+
+        return Float.parseFloat(new String(chars, 0, len));
+    }
+
+    /**
+     * Parses {@code NaN}, {@code Infinity} and {@code -Infinity}, which are written by
+     * {@link Double#toString(double)}.
+     */
+    private static double parseSpecial(char @NotNull [] chars, int len, @NotNull ParseTracker tracker) throws ParseException {
+        if(regionEquals(chars, 0, len, "NaN")) return Double.NaN;
+        if(regionEquals(chars, 0, len, "Infinity")) return Double.POSITIVE_INFINITY;
+        if(regionEquals(chars, 0, len, "-Infinity")) return Double.NEGATIVE_INFINITY;
+        throw error(chars, len, tracker);
+    }
+
+    /**
+     * Scans the number in given {@code chars} and stores the result in the fields of this parser.
+     * @return {@code true} if given chars contain a valid number, {@code false} otherwise.
+     */
+    private boolean scan(char @NotNull [] chars, int len) {
+        negative = false;
+        integral = true;
+        mantissa = 0;
+        exponent = 0;
+        digits = 0;
+        pendingZeros = 0;
+        truncated = false;
+
+        int i = 0;
+        if(i < len && chars[i] == '-') {
+            negative = true;
+            i++;
+        }
+
+        intStart = i;
+        for (; i < len && isDigit(chars[i]); i++)
+            addDigit(chars[i], false);
+        intEnd = i;
+
+        boolean anyDigits = intEnd > intStart;
+
+        if(i < len && chars[i] == '.') {
+            integral = false;
+            int fracStart = ++i;
+            for (; i < len && isDigit(chars[i]); i++)
+                addDigit(chars[i], true);
+            anyDigits |= i > fracStart;
+        }
+
+        if(!anyDigits) return false;
+
+        if(i < len && (chars[i] == 'e' || chars[i] == 'E')) {
+            integral = false;
+            i++;
+
+            boolean negativeExponent = false;
+            if(i < len && (chars[i] == '-' || chars[i] == '+'))
+                negativeExponent = chars[i++] == '-';
+
+            int expStart = i;
+            int exp = 0;
+            for (; i < len && isDigit(chars[i]); i++) {
+                // Cap the exponent. Such numbers are passed to Double.parseDouble anyway.
+                if(exp < 100_000) exp = exp * 10 + (chars[i] - '0');
+            }
+
+            if(i == expStart) return false;
+            exponent += negativeExponent ? -exp : exp;
+        }
+
+        return i == len;
+    }
+
+    /**
+     * Adds given digit to the {@link #mantissa}. Zeros are only added once a non-zero digit follows them,
+     * so the mantissa never contains trailing zeros.
+     * @param fraction whether the digit is part of the fraction
+     */
+    private void addDigit(char c, boolean fraction) {
+        if(fraction) exponent--;
+
+        if(c == '0') {
+            // leading zeros are not significant
+            if(digits == 0) return;
+            pendingZeros++;
+            exponent++;
+            return;
+        }
+
+        if(truncated || digits + pendingZeros + 1 > MAX_LONG_DIGITS) {
+            truncated = true;
+            return;
+        }
+
+        exponent -= pendingZeros;
+        mantissa = mantissa * LONG_POW_10[pendingZeros + 1] + (c - '0');
+        digits += pendingZeros + 1;
+        pendingZeros = 0;
+    }
+
+    /**
+     * Whether the scanned number represents an integral value, which fits into a {@code long}.
+     */
+    private boolean fitsLong() {
+        if(truncated) return false;
+        if(mantissa == 0) return !negative; // -0.0 must stay a double
+        if(exponent < 0 || exponent >= LONG_POW_10.length) return false;
+        return mantissa <= Long.MAX_VALUE / LONG_POW_10[exponent];
+    }
+
+    /**
+     * Parses the integer part of an {@link #integral} number. Does not use the {@link #mantissa},
+     * because it may be truncated. Sets {@link #overflow} if the value does not fit into a {@code long}.
+     */
+    private long integralValue(char @NotNull [] chars) {
+        overflow = false;
+
+        // accumulate negatively, so Long.MIN_VALUE can be represented
+        long value = 0;
+        for (int i = intStart; i < intEnd; i++) {
+            int digit = chars[i] - '0';
+            if(value < (Long.MIN_VALUE + digit) / 10) {
+                overflow = true;
+                return 0;
+            }
+            value = value * 10 - digit;
+        }
+
+        if(negative) return value;
+        if(value == Long.MIN_VALUE) {
+            overflow = true;
+            return 0;
+        }
+        return -value;
+    }
+
+    private double doubleValue(char @NotNull [] chars, int len) {
+        if(!truncated && mantissa <= MAX_EXACT_DOUBLE_MANTISSA && Math.abs(exponent) < DOUBLE_POW_10.length) {
+            double value = exponent < 0 ?
+                    mantissa / DOUBLE_POW_10[-exponent] :
+                    mantissa * DOUBLE_POW_10[exponent];
+            return negative ? -value : value;
+        }
+
+        return Double.parseDouble(new String(chars, 0, len));
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean regionEquals(char @NotNull [] chars, int start, int end, @NotNull String str) {
+        if(end - start != str.length()) return false;
+        for (int i = 0; i < str.length(); i++)
+            if(chars[start + i] != str.charAt(i)) return false;
+        return true;
+    }
+
+    private static @NotNull ParseValueException error(char @NotNull [] chars, int len, @NotNull ParseTracker tracker) {
+        return new ParseValueException(null, new String(chars, 0, len), tracker);
+    }
+}
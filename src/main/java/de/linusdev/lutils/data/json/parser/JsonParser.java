@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022-2025 Linus Andera
+ * Copyright (c) 2022-2026 Linus Andera
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -24,7 +24,10 @@ import de.linusdev.lutils.data.ParseType;
 import de.linusdev.lutils.data.impl.DataWrapper;
 import de.linusdev.lutils.data.json.Json;
 import de.linusdev.lutils.data.json.JsonBuilder;
-import de.linusdev.lutils.data.json.JsonMapImpl;
+import de.linusdev.lutils.data.json.DoubleArrayList;
+import de.linusdev.lutils.data.json.JsonFlatMapImpl;
+import de.linusdev.lutils.data.json.LongArrayList;
+import de.linusdev.lutils.data.json.RecordBinder;
 import de.linusdev.lutils.interfaces.Simplifiable;
 import de.linusdev.lutils.interfaces.TBiConsumer;
 import de.linusdev.lutils.other.parser.ParseException;
@@ -35,7 +38,10 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.*;
+import java.lang.reflect.Array;
+import java.nio.ByteBuffer;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -46,12 +52,39 @@ import java.util.function.Supplier;
  *
  * <p>
  *     Parse {@link Data} to json-string using {@link #writeData(Appendable, Data)}, {@link #writeDataToString(Data)}
- *     or {@link #writeDataToStringBuilder(Data)}.
+ *     or {@link #writeDataToStringBuilder(Data)}. UTF-8 encoded json can be written without creating an intermediate
+ *     {@link String} using {@link #writeData(OutputStream, Data)} or {@link #writeDataToBytes(Data)}. Whitespaces
+ *     can be omitted using {@link #setCompact(boolean)}.
  * </p>
  *
  * <p>
  *     Parse json-string to {@link Json} to using {@link #parseReader(Reader)}, {@link #parseStream(InputStream)}
- *     or {@link #parseString(String)}.
+ *     or {@link #parseString(String)}. UTF-8 encoded json, which is already present as bytes, can be parsed
+ *     without decoding it first using {@link #parseBytes(byte[])} or {@link #parseByteBuffer(ByteBuffer)}.
+ *     If only a few values of a large json are required, {@link #parseLazy(byte[])} only decodes values when they
+ *     are accessed.
+ * </p>
+ *
+ * <p>
+ *     A json can be validated against a {@link JsonSchema} while parsing it using
+ *     {@link #parseBytes(byte[], JsonSchema)}, {@link #parseStream(InputStream, JsonSchema)} or
+ *     {@link #parseString(String, JsonSchema)}.
+ * </p>
+ *
+ * <p>
+ *     Newline delimited json (JSON Lines) can be read using a {@link NdJsonReader} created by
+ *     {@link #ndJsonReader(InputStream)} and written using a {@link NdJsonWriter} created by
+ *     {@link #ndJsonWriter(OutputStream)}.
+ * </p>
+ *
+ * <p>
+ *     Read json-string token by token using a {@link JsonPullParser} created by {@link #pullParser(InputStream)},
+ *     {@link #pullParser(Reader)} or {@link #pullParser(String)}.
+ * </p>
+ *
+ * <p>
+ *     UTF-8 encoded json arriving in chunks (for example from a non-blocking channel) can be parsed without blocking
+ *     using a {@link JsonPushParser} created by {@link #pushParser()}.
  * </p>
  *
  * <h3>{@link DataBuilder} to json-string can parse:</h3>
@@ -60,7 +93,7 @@ import java.util.function.Supplier;
  *         {@link Boolean}, {@link Byte}, {@link Short}, {@link Integer}, {@link Long}, {@link Float}, {@link Double}, {@link String},
  *     </li>
  *     <li>
- *         {@link Datable}, {@link Simplifiable}
+ *         {@link Datable}, {@link Simplifiable}, {@link Record records} (see {@link RecordBinder})
  *     </li>
  *     <li>
  *          any primitive type array
@@ -143,15 +176,21 @@ public class JsonParser {
 
     //Configurable stuff
     private @NotNull String indent = "\t";
+    private @NotNull String @NotNull [] indentLevels = SpaceOffsetTracker.computeLevels(indent, 16);
+    private boolean compact = false;
 
-    private @NotNull Supplier<JsonBuilder> jsonBuilderSupplier = () -> new JsonMapImpl(new HashMap<>());
+    private @NotNull Supplier<JsonBuilder> jsonBuilderSupplier = JsonFlatMapImpl::new;
     private @NotNull Function<Integer, List<Object>> listSupplier = size -> size == null ? new LinkedList<>() : new ArrayList<>(size);
 
     private @NotNull String arrayWrapperKey = DEFAULT_ARRAY_WRAPPER_KEY;
     private boolean allowNewLineInStrings = true;
     private boolean identifyNumberValues = false;
+    private boolean primitiveArrays = false;
     private boolean allowComments = false;
     private @Nullable TBiConsumer<@NotNull JsonParser, @NotNull String, ?> commentConsumer;
+    private @Nullable JsonKeyCache keyCache = null;
+    private @Nullable ForkJoinPool parallelArrayPool = null;
+    private int parallelArrayMinSize = 0;
 
     /* ================================================================================================= *\
     |                                                                                                     |
@@ -167,12 +206,25 @@ public class JsonParser {
     @Contract("_ -> this")
     public @NotNull JsonParser setIndent(@NotNull String indent) {
         this.indent = indent;
+        this.indentLevels = SpaceOffsetTracker.computeLevels(indent, 16);
+        return this;
+    }
+
+    /**
+     * If enabled, json is written without any line breaks, indents or spaces. This is useful, if the written
+     * json is not intended to be read by humans (for example responses of an api).<br>
+     * Default: {@code false}
+     * @param compact {@code true} to write compact json
+     */
+    @Contract("_ -> this")
+    public @NotNull JsonParser setCompact(boolean compact) {
+        this.compact = compact;
         return this;
     }
 
     /**
      * When this parser reads a json-object, this {@link Supplier} is used to create a new {@link Json} object.<br>
-     * Default: {@code new JsonMapImpl(new HashMap<>())}
+     * Default: {@code new JsonFlatMapImpl()}, which keeps the order of the entries
      * @param jsonBuilderSupplier {@link Supplier} to supply with {@link Json}
      */
     @Contract("_ -> this")
@@ -233,6 +285,40 @@ public class JsonParser {
         return this;
     }
 
+    /**
+     * If enabled, json-arrays, which only contain integer numbers ({@link Long}) or only contain decimal numbers
+     * ({@link Double}), are read into a {@link LongArrayList} or a {@link DoubleArrayList}. These store the numbers
+     * in a primitive array instead of boxing each number. The {@link #setListSupplier(Function) listSupplier} is not
+     * used for such json-arrays.<br>
+     * Primitive arrays converted using {@link #convertObjectToJsonValidObject(Object)} are converted to these lists
+     * as well.<br>
+     * Default: {@code false}
+     * @param primitiveArrays {@code true} to enable the feature described above
+     */
+    @Contract("_ -> this")
+    public @NotNull JsonParser setPrimitiveArrays(boolean primitiveArrays) {
+        this.primitiveArrays = primitiveArrays;
+        return this;
+    }
+
+    /**
+     * If set, json-arrays at the top level of a document, which are parsed using {@link #parseBytes(byte[], int, int)}
+     * and are at least {@code minSize} bytes large, are parsed in parallel: The boundaries of all elements are found
+     * by a fast structural scan and the elements are then parsed on given {@code pool}. The resulting list is the same
+     * as if the json-array was parsed sequentially.<br>
+     * The {@link #setJsonBuilderSupplier(Supplier) json builder supplier} and {@link #setListSupplier(Function)
+     * list supplier} must be thread safe, if this is enabled.<br>
+     * Default: {@code null} (disabled)
+     * @param pool {@link ForkJoinPool} to parse the elements on or {@code null} to disable parallel parsing
+     * @param minSize minimum size in bytes of the json document
+     */
+    @Contract("_, _ -> this")
+    public @NotNull JsonParser setParallelArrayParsing(@Nullable ForkJoinPool pool, int minSize) {
+        this.parallelArrayPool = pool;
+        this.parallelArrayMinSize = minSize;
+        return this;
+    }
+
     /**
      * If enabled it will allow comments in the json. E.g.:
      * <pre>
@@ -254,6 +340,19 @@ public class JsonParser {
         return this;
     }
 
+    /**
+     * If set, keys of json-objects are looked up in given {@link JsonKeyCache} before a new {@link String} is created.
+     * All parsed {@link Json} objects will then share the same key instances. This is useful, if many json-objects
+     * with the same keys are kept in memory.<br>
+     * Default: {@code null}
+     * @param keyCache {@link JsonKeyCache} to use or {@code null} to disable caching of keys
+     */
+    @Contract("_ -> this")
+    public @NotNull JsonParser setKeyCache(@Nullable JsonKeyCache keyCache) {
+        this.keyCache = keyCache;
+        return this;
+    }
+
     /* ================================================================================================= *\
     |                                                                                                     |
     |                                             Stream to Data                                          |
@@ -279,6 +378,24 @@ public class JsonParser {
         }
     }
 
+    /**
+     * Same as {@link #parseStream(InputStream)}, but validates the json against given {@code schema} while parsing.
+     * @param stream the stream to read the json from
+     * @param schema {@link JsonSchema} the json must match
+     * @return parsed {@link Json}
+     * @throws IOException while parsing
+     * @throws ParseException while parsing or if the json does not match given {@code schema}
+     */
+    public @NotNull Json parseStream(@NotNull InputStream stream, @NotNull JsonSchema schema) throws IOException, ParseException {
+        JsonReader reader = new JsonReader(new BufferedReader(new InputStreamReader(stream)));
+
+        try {
+            return parse(reader, null, schema);
+        } finally {
+            reader.close();
+        }
+    }
+
     /**
      * parses the content of given reader to a {@link Json}.<br>
      * The reader should not be wrapped in a {@link BufferedReader}, as this method does this.<br>
@@ -316,6 +433,218 @@ public class JsonParser {
         }
     }
 
+    /**
+     * Same as {@link #parseString(String)}, but validates the json against given {@code schema} while parsing.
+     * @param json the json to parse
+     * @param schema {@link JsonSchema} the json must match
+     * @return parsed {@link Json}
+     * @throws IOException while parsing
+     * @throws ParseException while parsing or if the json does not match given {@code schema}
+     */
+    public @NotNull Json parseString(@NotNull String json, @NotNull JsonSchema schema) throws IOException, ParseException {
+        JsonReader jsonReader = new JsonReader(new StringReader(json));
+
+        try {
+            return parse(jsonReader, null, schema);
+        } finally {
+            jsonReader.close();
+        }
+    }
+
+    /**
+     * Parses given UTF-8 encoded {@code json} to a {@link Json}. The bytes are read directly by a {@link Utf8JsonReader}
+     * without decoding them to chars first. This is faster than {@link #parseStream(InputStream)}, if the json is
+     * already present as bytes.<br>
+     * If only an empty string is being read (for example "" or "   "), an empty {@link Json} will be returned.<br>
+     * @param json UTF-8 encoded json to parse
+     * @return parsed {@link Json}
+     * @throws ParseException while parsing
+     */
+    public @NotNull Json parseBytes(byte @NotNull [] json) throws ParseException {
+        return parseBytes(json, 0, json.length);
+    }
+
+    /**
+     * Parses {@code length} bytes starting at {@code offset} of given UTF-8 encoded {@code json} to a {@link Json}.
+     * @param json UTF-8 encoded json to parse
+     * @param offset index of the first byte to parse
+     * @param length amount of bytes to parse
+     * @return parsed {@link Json}
+     * @throws ParseException while parsing
+     * @see #parseBytes(byte[])
+     */
+    public @NotNull Json parseBytes(byte @NotNull [] json, int offset, int length) throws ParseException {
+        if(parallelArrayPool != null && length >= parallelArrayMinSize) {
+            Json array = ParallelArrayParser.parse(this, parallelArrayPool, json, offset, length);
+            if(array != null) return array;
+        }
+        return parseUtf8(new Utf8JsonReader(json, offset, length), null);
+    }
+
+    /**
+     * Same as {@link #parseBytes(byte[])}, but validates the json against given {@code schema} while parsing. The
+     * parsing stops at the first violation. Values of keys, which are {@link JsonSchema.UnknownKeys#SKIP skipped} by
+     * the schema, are not materialized.
+     * @param json UTF-8 encoded json to parse
+     * @param schema {@link JsonSchema} the json must match
+     * @return parsed {@link Json}
+     * @throws ParseException while parsing or if the json does not match given {@code schema}
+     */
+    public @NotNull Json parseBytes(byte @NotNull [] json, @NotNull JsonSchema schema) throws ParseException {
+        try {
+            return parse(new Utf8JsonReader(json, 0, json.length), null, schema);
+        } catch (IOException e) {
+            // Should never happen, since the Utf8JsonReader does not do any IO
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Same as {@link #parseBytes(byte[], int, int)}, but uses given {@code tracker}.
+     */
+    @NotNull Json parseBytes(byte @NotNull [] json, int offset, int length, @NotNull ParseTracker tracker) throws ParseException {
+        return parseUtf8(new Utf8JsonReader(json, offset, length), tracker);
+    }
+
+    /**
+     * Parses the {@link ByteBuffer#remaining() remaining} bytes of given UTF-8 encoded {@code json} to a {@link Json}.
+     * The position of given {@code json} buffer will not be changed.
+     * @param json buffer containing UTF-8 encoded json
+     * @return parsed {@link Json}
+     * @throws ParseException while parsing
+     * @see #parseBytes(byte[])
+     * @see Utf8JsonReader#of(ByteBuffer)
+     */
+    public @NotNull Json parseByteBuffer(@NotNull ByteBuffer json) throws ParseException {
+        return parseUtf8(Utf8JsonReader.of(json), null);
+    }
+
+    private @NotNull Json parseUtf8(@NotNull Utf8JsonReader reader, @Nullable ParseTracker tracker) throws ParseException {
+        try {
+            return parse(reader, tracker);
+        } catch (IOException e) {
+            // Should never happen, since the Utf8JsonReader does not do any IO
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Parses given UTF-8 encoded {@code json} lazily. The returned {@link Json} only stores the offsets of its keys and
+     * values. Values are decoded when they are accessed for the first time. This is much faster than
+     * {@link #parseBytes(byte[])}, if only a few values of a large json are accessed.<br>
+     * If given {@code json} starts with a json-array, it is wrapped the same way {@link #parseBytes(byte[])} would.
+     * json-objects inside the array are parsed lazily as well.
+     * <br><br>
+     * Only the structure of the top level json-object is validated by this method. Nested values are validated
+     * when they are accessed. If such a value is malformed, an {@link IllegalStateException} is thrown.<br>
+     * Given {@code json} must not be modified, while the returned {@link Json} is in use.
+     * @param json UTF-8 encoded json
+     * @return lazily parsed {@link Json}
+     * @throws ParseException if the structure of the json is malformed
+     */
+    public @NotNull Json parseLazy(byte @NotNull [] json) throws ParseException {
+        return parseLazy(json, 0, json.length);
+    }
+
+    /**
+     * Same as {@link #parseLazy(byte[])}, but only parses given range of {@code json}.
+     * @param json UTF-8 encoded json
+     * @param offset index of the first byte to read
+     * @param length amount of bytes to read
+     * @return lazily parsed {@link Json}
+     * @throws ParseException if the structure of the json is malformed
+     */
+    public @NotNull Json parseLazy(byte @NotNull [] json, int offset, int length) throws ParseException {
+        Objects.checkFromIndexSize(offset, length, json.length);
+        LazyJson.Source source = new LazyJson.Source(this, json, offset + length);
+
+        // Skip UTF-8 BOM
+        if(length >= 3 && json[offset] == (byte) 0xEF && json[offset + 1] == (byte) 0xBB && json[offset + 2] == (byte) 0xBF)
+            offset += 3;
+
+        int pos = source.skipWhitespace(offset);
+        if(pos >= source.limit()) return jsonBuilderSupplier.get().build();
+
+        if(json[pos] == CURLY_BRACKET_OPEN_CHAR)
+            return new LazyJson(source, pos);
+        if(json[pos] == SQUARE_BRACKET_OPEN_CHAR)
+            return wrapArray(source.decodeArray(pos));
+
+        throw source.unexpected(pos);
+    }
+
+    /**
+     * Creates a {@link NdJsonReader} reading newline delimited json from given {@code stream}. Each line is parsed
+     * using {@link #parseBytes(byte[], int, int)} with the configuration of this parser.
+     * @param stream stream to read from. Will be closed when the returned reader is closed.
+     * @return {@link NdJsonReader}
+     */
+    public @NotNull NdJsonReader ndJsonReader(@NotNull InputStream stream) {
+        return new NdJsonReader(this, stream);
+    }
+
+    /**
+     * Creates a {@link NdJsonWriter} writing newline delimited json to given {@code stream}. Each line is written
+     * compact, regardless of {@link #setCompact(boolean)}.
+     * @param stream stream to write to. Will be closed when the returned writer is closed.
+     * @return {@link NdJsonWriter}
+     */
+    public @NotNull NdJsonWriter ndJsonWriter(@NotNull OutputStream stream) {
+        return new NdJsonWriter(this, stream);
+    }
+
+    /**
+     * Creates a {@link JsonPushParser}, to which UTF-8 encoded json can be pushed in chunks. Each completed value is
+     * parsed with the configuration of this parser.
+     * @return {@link JsonPushParser}
+     */
+    public @NotNull JsonPushParser pushParser() {
+        return new JsonPushParser(this);
+    }
+
+    /**
+     * Creates a {@link JsonPullParser} reading given UTF-8 encoded {@code json} using a {@link Utf8JsonReader}.
+     * @param json UTF-8 encoded json to read
+     * @return {@link JsonPullParser} using the configuration of this {@link JsonParser}
+     * @see #pullParser(InputStream)
+     */
+    public @NotNull JsonPullParser pullParser(byte @NotNull [] json) {
+        return new JsonPullParser(this, new Utf8JsonReader(json));
+    }
+
+    /**
+     * Creates a {@link JsonPullParser} reading from given {@code stream}. Unlike {@link #parseStream(InputStream)}, the
+     * json is not materialized into a {@link Json}, but read token by token. This allows reading huge json documents
+     * with constant memory.<br>
+     * The returned {@link JsonPullParser} must be {@link JsonPullParser#close() closed} after it is no longer required.
+     * @param stream the stream to read the json from
+     * @return {@link JsonPullParser} using the configuration of this {@link JsonParser}
+     */
+    public @NotNull JsonPullParser pullParser(@NotNull InputStream stream) {
+        return new JsonPullParser(this, new JsonReader(new BufferedReader(new InputStreamReader(stream))));
+    }
+
+    /**
+     * Creates a {@link JsonPullParser} reading from given {@code reader}.
+     * The reader should not be wrapped in a {@link BufferedReader}, as this method does this.
+     * @param reader the reader to read the json from
+     * @return {@link JsonPullParser} using the configuration of this {@link JsonParser}
+     * @see #pullParser(InputStream)
+     */
+    public @NotNull JsonPullParser pullParser(@NotNull Reader reader) {
+        return new JsonPullParser(this, new JsonReader(new BufferedReader(reader)));
+    }
+
+    /**
+     * Creates a {@link JsonPullParser} reading given {@code json}.
+     * @param json the json to read
+     * @return {@link JsonPullParser} using the configuration of this {@link JsonParser}
+     * @see #pullParser(InputStream)
+     */
+    public @NotNull JsonPullParser pullParser(@NotNull String json) {
+        return new JsonPullParser(this, new JsonReader(new StringReader(json)));
+    }
+
     /**
      * <p>
      *     parses a json-object or a json-array (will be wrapped with {@link #arrayWrapperKey}) to a {@link Json}.
@@ -329,22 +658,41 @@ public class JsonParser {
      * @throws ParseException while parsing
      */
     private @NotNull Json parse(@NotNull JsonReader reader, @Nullable ParseTracker tracker) throws IOException, ParseException {
+        return parse(reader, tracker, null);
+    }
+
+    /**
+     * Same as {@link #parse(JsonReader, ParseTracker)}, but validates the json against given {@code schema}. An empty
+     * document is validated as empty json-object.
+     */
+    private @NotNull Json parse(
+            @NotNull JsonReader reader, @Nullable ParseTracker tracker, @Nullable JsonSchema schema
+    ) throws IOException, ParseException {
         if(tracker == null)
             tracker = new ParseTracker();
         int i = reader.read(tracker);
-        if(i == -1) return jsonBuilderSupplier.get().build();
+        if(schema != null && schema.isAny()) schema = null;
+
+        if(i == -1) {
+            if(schema != null) {
+                schema.checkStart(CURLY_BRACKET_OPEN_CHAR, tracker);
+                schema.checkMinSize(0, tracker);
+                schema.checkRequired(schema.newRequiredTracker(), tracker);
+            }
+            return jsonBuilderSupplier.get().build();
+        }
 
         if(i == CURLY_BRACKET_OPEN_CHAR) {
-            return parseJsonObject(reader, tracker);
+            if(schema != null) schema.checkStart(i, tracker);
+            return parseJsonObject(reader, tracker, schema);
 
         } else if (i == SQUARE_BRACKET_OPEN_CHAR) {
-            JsonBuilder builder = jsonBuilderSupplier.get();
-            builder.add(arrayWrapperKey, parseJsonArray(reader, tracker));
-            return builder.build();
+            if(schema != null) schema.checkStart(i, tracker);
+            return wrapArray(parseJsonArray(reader, tracker, schema));
 
         } else if (allowComments && i == SLASH_CHAR) {
             parseComment(reader, tracker);
-            return parse(reader, tracker);
+            return parse(reader, tracker, schema);
         } else {
             throw new ParseException(tracker, (char) i);
         }
@@ -358,7 +706,7 @@ public class JsonParser {
      * @param tracker {@link ParseTracker}
      * @throws IOException while reading
      */
-    private void parseComment(@NotNull JsonReader reader, @NotNull ParseTracker tracker) throws IOException, ParseException {
+    void parseComment(@NotNull JsonReader reader, @NotNull ParseTracker tracker) throws IOException, ParseException {
         assert allowComments;
         int i = reader.readNextChar(tracker);
 
@@ -398,7 +746,7 @@ public class JsonParser {
      * @throws IOException while reading
      * @throws ParseException if the comment is malformed
      */
-    private int parsePossibleComment(int i, @NotNull JsonReader reader, @NotNull ParseTracker tracker) throws IOException, ParseException {
+    int parsePossibleComment(int i, @NotNull JsonReader reader, @NotNull ParseTracker tracker) throws IOException, ParseException {
         if(!allowComments)
             return i;
         while (i == SLASH_CHAR) {
@@ -416,17 +764,33 @@ public class JsonParser {
      * @throws IOException while parsing
      * @throws ParseException while parsing
      */
-    private @NotNull Json parseJsonObject(@NotNull JsonReader reader, @NotNull ParseTracker tracker) throws IOException, ParseException {
+    @NotNull Json parseJsonObject(@NotNull JsonReader reader, @NotNull ParseTracker tracker) throws IOException, ParseException {
+        return parseJsonObject(reader, tracker, null);
+    }
+
+    /**
+     * Same as {@link #parseJsonObject(JsonReader, ParseTracker)}, but validates the json-object against given
+     * {@code schema} while reading it.
+     * @param schema {@link JsonSchema} of type {@link JsonSchema.Type#OBJECT OBJECT} or {@code null}
+     */
+    @NotNull Json parseJsonObject(
+            @NotNull JsonReader reader, @NotNull ParseTracker tracker, @Nullable JsonSchema schema
+    ) throws IOException, ParseException {
         int i = reader.read(tracker);
         JsonBuilder builder = jsonBuilderSupplier.get();
+        boolean[] required = schema == null ? null : schema.newRequiredTracker();
+        int size = 0;
 
-        if(i == CURLY_BRACKET_CLOSE_CHAR) return builder.build();
+        if(i == CURLY_BRACKET_CLOSE_CHAR) {
+            if(schema != null) finishJsonObject(schema, 0, required, tracker);
+            return builder.build();
+        }
 
         while(i != -1){
             //inside the json-object, we first expect a key...
             if((i = parsePossibleComment(i, reader, tracker)) != QUOTE_CHAR) throw new ParseException(tracker, (char) i);
 
-            String key = reader.readString(allowNewLineInStrings, tracker);
+            String key = parseKey(reader, tracker);
 
             //now we expect a colon (':')
             i = parsePossibleComment(reader.read(tracker), reader, tracker);
@@ -435,7 +799,26 @@ public class JsonParser {
             reader.pushBack(parsePossibleComment(reader.read(tracker), reader, tracker));
 
             //now read the value for the key
-            builder.add(key, parseJsonValue(reader, tracker));
+            if(schema == null) {
+                builder.add(key, parseJsonValue(reader, tracker));
+            } else {
+                schema.checkMaxSize(++size, tracker);
+                JsonSchema.Property property = schema.property(key);
+
+                if(property != null) {
+                    if(property.requiredIndex() != -1) {
+                        assert required != null;
+                        required[property.requiredIndex()] = true;
+                    }
+                    builder.add(key, parseJsonValue(reader, tracker, property.schema()));
+                } else {
+                    switch (schema.unknownKeys()) {
+                        case KEEP -> builder.add(key, parseJsonValue(reader, tracker));
+                        case SKIP -> skipJsonValue(reader, tracker);
+                        case REJECT -> throw JsonSchema.violation("Unknown key '" + key + "'", tracker);
+                    }
+                }
+            }
 
             i = parsePossibleComment(reader.read(tracker), reader, tracker);
             //now expect a comma, or a '}'
@@ -443,13 +826,23 @@ public class JsonParser {
                 i = reader.read(tracker);
                 continue;
             }
-            if(i == CURLY_BRACKET_CLOSE_CHAR) return builder.build();
+            if(i == CURLY_BRACKET_CLOSE_CHAR) {
+                if(schema != null) finishJsonObject(schema, size, required, tracker);
+                return builder.build();
+            }
             throw new ParseException(tracker, (char) i);
         }
 
         throw new UnexpectedEndException(tracker);
     }
 
+    private void finishJsonObject(
+            @NotNull JsonSchema schema, int size, boolean @Nullable [] required, @NotNull ParseTracker tracker
+    ) throws ParseException {
+        schema.checkMinSize(size, tracker);
+        schema.checkRequired(required, tracker);
+    }
+
     /**
      * Parses a json-value to {@link String}, {@link Json}, {@link List}, {@link Boolean}, {@link Number} or {@code null}
      * @param reader to read from
@@ -458,9 +851,47 @@ public class JsonParser {
      * @throws IOException while parsing
      * @throws ParseException while parsing
      */
-    private @Nullable Object parseJsonValue(@NotNull JsonReader reader, @NotNull ParseTracker tracker) throws IOException, ParseException {
+    @Nullable Object parseJsonValue(@NotNull JsonReader reader, @NotNull ParseTracker tracker) throws IOException, ParseException {
+        return parseJsonValue(reader, tracker, null);
+    }
+
+    /**
+     * Same as {@link #parseJsonValue(JsonReader, ParseTracker)}, but validates the value against given {@code schema}.
+     * The type of json-objects, json-arrays and strings is checked before they are read.
+     * @param schema {@link JsonSchema} or {@code null}
+     */
+    @Nullable Object parseJsonValue(
+            @NotNull JsonReader reader, @NotNull ParseTracker tracker, @Nullable JsonSchema schema
+    ) throws IOException, ParseException {
         int i = reader.read(tracker);
 
+        if(schema != null) {
+            if(schema.isAny()) return parseJsonValueStartingWith(i, reader, tracker);
+            schema.checkStart(i, tracker);
+
+            if(i == QUOTE_CHAR) {
+                String value = reader.readString(allowNewLineInStrings, tracker);
+                schema.checkString(value, tracker);
+                return value;
+            } else if(i == CURLY_BRACKET_OPEN_CHAR) {
+                return parseJsonObject(reader, tracker, schema);
+            } else if (i == SQUARE_BRACKET_OPEN_CHAR) {
+                return parseJsonArray(reader, tracker, schema);
+            }
+
+            reader.pushBack(i);
+            Object value = reader.readValue(tracker, identifyNumberValues);
+            schema.checkPrimitive(value, tracker);
+            return value;
+        }
+
+        return parseJsonValueStartingWith(i, reader, tracker);
+    }
+
+    /**
+     * Parses a json-value, whose first char {@code i} has already been read.
+     */
+    private @Nullable Object parseJsonValueStartingWith(int i, @NotNull JsonReader reader, @NotNull ParseTracker tracker) throws IOException, ParseException {
         if(i == QUOTE_CHAR) {
             //simple string
             return reader.readString(allowNewLineInStrings, tracker);
@@ -490,14 +921,30 @@ public class JsonParser {
      * @throws IOException while parsing
      * @throws ParseException while parsing
      */
-    private @NotNull List<Object> parseJsonArray(@NotNull JsonReader reader, @NotNull ParseTracker tracker) throws IOException, ParseException {
+    @NotNull List<Object> parseJsonArray(@NotNull JsonReader reader, @NotNull ParseTracker tracker) throws IOException, ParseException {
+        return parseJsonArray(reader, tracker, null);
+    }
+
+    /**
+     * Same as {@link #parseJsonArray(JsonReader, ParseTracker)}, but validates the json-array and its elements against
+     * given {@code schema} while reading it.
+     * @param schema {@link JsonSchema} of type {@link JsonSchema.Type#ARRAY ARRAY} or {@code null}
+     */
+    @NotNull List<Object> parseJsonArray(
+            @NotNull JsonReader reader, @NotNull ParseTracker tracker, @Nullable JsonSchema schema
+    ) throws IOException, ParseException {
         int i = 0;
         boolean valueParsed = false;
-        List<Object> list =listSupplier.apply(null);
+        List<Object> list = null;
+        JsonSchema items = schema == null ? null : schema.items();
+        int size = 0;
 
         while(i != -1){
             i = parsePossibleComment(reader.read(tracker), reader, tracker);
-            if(i == SQUARE_BRACKET_CLOSE_CHAR) return list;
+            if(i == SQUARE_BRACKET_CLOSE_CHAR) {
+                if(schema != null) schema.checkMinSize(size, tracker);
+                return finishArray(list);
+            }
             if(valueParsed) {
                 if(i == COMMA_CHAR) {
                     valueParsed = false;
@@ -510,13 +957,139 @@ public class JsonParser {
 
             reader.pushBack(i);
             // Read item
-            list.add(parseJsonValue(reader, tracker));
+            if(schema != null) schema.checkMaxSize(++size, tracker);
+            list = addToArray(list, parseJsonValue(reader, tracker, items));
             valueParsed = true;
         }
 
         throw new UnexpectedEndException(tracker);
     }
 
+    /**
+     * Reads a key or string-value. Assumes that the starting {@value QUOTE_CHAR} has already been read.
+     * @see JsonReader#readString(boolean, ParseTracker)
+     */
+    @NotNull String parseString(@NotNull JsonReader reader, @NotNull ParseTracker tracker) throws IOException, ParseException {
+        return reader.readString(allowNewLineInStrings, tracker);
+    }
+
+    /**
+     * Reads a key of a json-object. The key is looked up in the {@link #keyCache}, if set.
+     * @see JsonReader#readKey(boolean, ParseTracker, JsonKeyCache)
+     */
+    @NotNull String parseKey(@NotNull JsonReader reader, @NotNull ParseTracker tracker) throws IOException, ParseException {
+        return reader.readKey(allowNewLineInStrings, tracker, keyCache);
+    }
+
+    /**
+     * Skips a key or string-value. Assumes that the starting {@value QUOTE_CHAR} has already been read.
+     * @see JsonReader#skipString(boolean, ParseTracker)
+     */
+    void skipString(@NotNull JsonReader reader, @NotNull ParseTracker tracker) throws IOException, ParseException {
+        reader.skipString(allowNewLineInStrings, tracker);
+    }
+
+    /**
+     * Skips a json-value without materializing it. json-objects and json-arrays are skipped by counting brackets, their
+     * content is not validated.
+     */
+    void skipJsonValue(@NotNull JsonReader reader, @NotNull ParseTracker tracker) throws IOException, ParseException {
+        int i = reader.read(tracker);
+
+        if(i == QUOTE_CHAR) {
+            skipString(reader, tracker);
+        } else if(i == CURLY_BRACKET_OPEN_CHAR || i == SQUARE_BRACKET_OPEN_CHAR) {
+            int depth = 1;
+            while (depth > 0) {
+                i = parsePossibleComment(reader.read(tracker), reader, tracker);
+                if(i == -1) throw new UnexpectedEndException(tracker);
+                if(i == QUOTE_CHAR) skipString(reader, tracker);
+                else if(i == CURLY_BRACKET_OPEN_CHAR || i == SQUARE_BRACKET_OPEN_CHAR) depth++;
+                else if(i == CURLY_BRACKET_CLOSE_CHAR || i == SQUARE_BRACKET_CLOSE_CHAR) depth--;
+            }
+        } else {
+            reader.pushBack(i);
+            parsePrimitive(reader, tracker);
+        }
+    }
+
+    /**
+     * Reads a boolean, {@code null} or number value.
+     * @see JsonReader#readValue(ParseTracker, boolean)
+     */
+    @Nullable Object parsePrimitive(@NotNull JsonReader reader, @NotNull ParseTracker tracker) throws IOException, ParseException {
+        return reader.readValue(tracker, identifyNumberValues);
+    }
+
+    /**
+     * Creates a new list for a json-array of unknown size using the {@link #listSupplier}.
+     */
+    @NotNull List<Object> newList() {
+        return listSupplier.apply(null);
+    }
+
+    /**
+     * Adds given {@code value} to given {@code list} of a json-array, which is currently being read.
+     * If {@link #primitiveArrays} is enabled, the list is backed by a primitive array as long as all values
+     * have the same primitive type.
+     * @param list the list or {@code null} if given {@code value} is the first value of the json-array
+     * @param value value to add
+     * @return the list the value was added to. This may be a different list than given {@code list}.
+     */
+    @NotNull List<Object> addToArray(@Nullable List<Object> list, @Nullable Object value) {
+        if(list == null) {
+            if(primitiveArrays && value instanceof Long) list = new LongArrayList();
+            else if(primitiveArrays && value instanceof Double) list = new DoubleArrayList();
+            else list = newList();
+
+        } else if(list instanceof LongArrayList longs) {
+            if(value instanceof Long l) {
+                longs.addLong(l);
+                return longs;
+            }
+            // Not homogeneous anymore
+            list = newList();
+            list.addAll(longs);
+
+        } else if(list instanceof DoubleArrayList doubles) {
+            if(value instanceof Double d) {
+                doubles.addDouble(d);
+                return doubles;
+            }
+            // Not homogeneous anymore
+            list = newList();
+            list.addAll(doubles);
+        }
+
+        list.add(value);
+        return list;
+    }
+
+    /**
+     * Called after all values of a json-array have been {@link #addToArray(List, Object) added}.
+     * @param list the list or {@code null} if the json-array is empty
+     * @return the finished list
+     */
+    @NotNull List<Object> finishArray(@Nullable List<Object> list) {
+        if(list == null) return newList();
+        if(list instanceof LongArrayList longs) longs.trimToSize();
+        else if(list instanceof DoubleArrayList doubles) doubles.trimToSize();
+        return list;
+    }
+
+    boolean isAllowComments() {
+        return allowComments;
+    }
+
+    /**
+     * Wraps given {@code array} in a {@link Json} with the {@link #arrayWrapperKey} as key.
+     */
+    @NotNull Json wrapArray(@NotNull List<Object> array) {
+        JsonBuilder builder = jsonBuilderSupplier.get();
+        builder.add(arrayWrapperKey, array);
+        return builder.build();
+    }
+
     /* ================================================================================================= *\
     |                                                                                                     |
     |                                     Data to Json (Not String-Json)                                  |
@@ -547,9 +1120,15 @@ public class JsonParser {
         if (obj instanceof Simplifiable simple)
             return simple.simplify();
 
+        if (obj instanceof Record record)
+            return convertDataToJson(RecordBinder.dataOf(record));
+
         if (obj instanceof String || obj instanceof Boolean)
             return obj;
 
+        if(obj instanceof Long)
+            return obj;
+
         if(obj instanceof Integer || obj instanceof Byte || obj instanceof Short) {
             if(identifyNumberValues) {
                 return obj;
@@ -577,44 +1156,55 @@ public class JsonParser {
 
         if (obj instanceof Map<?,?> map) {
             JsonBuilder jsonBuilder = jsonBuilderSupplier.get();
+            jsonBuilder.sizeHint(map.size());
             for (Map.Entry<?, ?> entry : map.entrySet())
                 jsonBuilder.add(Objects.toString(entry.getKey()), convertObjectToJsonValidObject(entry.getValue()));
+            return jsonBuilder.build();
         }
 
         if (obj instanceof Object[])
             return obj;
 
         if (obj.getClass().isArray()) {
-            if (obj instanceof byte[] a) {
+            if (obj instanceof long[] a) {
+                if(primitiveArrays) return new LongArrayList(a.clone());
                 List<Object> list = listSupplier.apply(a.length);
-                for (int i = 0; i < a.length; i++) list.set(i, a[i]) ;
-                return list;
-
-            } else if (obj instanceof short[] a) {
-                List<Object> list = listSupplier.apply(a.length);
-                for (int i = 0; i < a.length; i++) list.set(i, a[i]) ;
-                return list;
-
-            } else if (obj instanceof int[] a) {
-                List<Object> list = listSupplier.apply(a.length);
-                for (int i = 0; i < a.length; i++) list.set(i, a[i]) ;
-                return list;
-
-            } else if (obj instanceof long[] a) {
-                List<Object> list = listSupplier.apply(a.length);
-                for (int i = 0; i < a.length; i++) list.set(i, a[i]) ;
-                return list;
-
-            } else if (obj instanceof float[] a) {
-                List<Object> list = listSupplier.apply(a.length);
-                for (int i = 0; i < a.length; i++) list.set(i, a[i]) ;
+                for (long v : a) list.add(v);
                 return list;
 
             } else if (obj instanceof double[] a) {
+                if(primitiveArrays) return new DoubleArrayList(a.clone());
                 List<Object> list = listSupplier.apply(a.length);
-                for (int i = 0; i < a.length; i++) list.set(i, a[i]) ;
+                for (double v : a) list.add(v);
                 return list;
+
+            } else if (!identifyNumberValues && primitiveArrays) {
+                // Without number tokens, all integer numbers are Longs and all decimal numbers are Doubles
+                if (obj instanceof float[] a) {
+                    double[] values = new double[a.length];
+                    for (int i = 0; i < a.length; i++) values[i] = a[i];
+                    return new DoubleArrayList(values);
+                } else if (obj instanceof byte[] a) {
+                    long[] values = new long[a.length];
+                    for (int i = 0; i < a.length; i++) values[i] = a[i];
+                    return new LongArrayList(values);
+                } else if (obj instanceof short[] a) {
+                    long[] values = new long[a.length];
+                    for (int i = 0; i < a.length; i++) values[i] = a[i];
+                    return new LongArrayList(values);
+                } else if (obj instanceof int[] a) {
+                    long[] values = new long[a.length];
+                    for (int i = 0; i < a.length; i++) values[i] = a[i];
+                    return new LongArrayList(values);
+                }
+                // Other arrays (boolean[], char[]) are converted element by element below
             }
+
+            int length = Array.getLength(obj);
+            List<Object> list = listSupplier.apply(length);
+            for (int i = 0; i < length; i++)
+                list.add(convertObjectToJsonValidObject(Array.get(obj, i)));
+            return list;
         }
 
         return obj.toString();
@@ -638,6 +1228,7 @@ public class JsonParser {
         JsonBuilder jsonBuilder = jsonBuilderSupplier.get();
 
         if(data.parseType() == ParseType.NORMAL) {
+            jsonBuilder.sizeHint(data.size());
             for (Entry<String, Object> entry : data) {
                 String key = entry.getKey();
                 Object value = entry.getValue();
@@ -691,10 +1282,48 @@ public class JsonParser {
      * @throws IOException {@link IOException} while writing
      */
     public void writeData(@NotNull Appendable writer, @Nullable Data data) throws IOException {
-        SpaceOffsetTracker offset = new SpaceOffsetTracker(indent);
+        SpaceOffsetTracker offset = new SpaceOffsetTracker(indent, compact, indentLevels);
         writeJson(writer, offset, data);
     }
 
+    /**
+     * Same as {@link #writeData(Appendable, Data)}, but always writes compact json.
+     */
+    void writeDataCompact(@NotNull Appendable writer, @Nullable Data data) throws IOException {
+        writeJson(writer, new SpaceOffsetTracker(indent, true, indentLevels), data);
+    }
+
+    /**
+     * Writes given {@code data} UTF-8 encoded directly to given {@code out}, without creating an intermediate
+     * {@link String}. The chars are encoded into an internal buffer, which is written to given {@code out} whenever
+     * it is full. Given {@code out} will neither be flushed nor closed.
+     * @param out {@link OutputStream} to write to
+     * @param data {@link Data} to write. {@code null} will write an empty Data: "{}"
+     * @throws IOException {@link IOException} while writing
+     */
+    public void writeData(@NotNull OutputStream out, @Nullable Data data) throws IOException {
+        Utf8Appendable writer = new Utf8Appendable(out, 8192);
+        writeData(writer, data);
+        writer.finish();
+    }
+
+    /**
+     * Writes given {@code data} UTF-8 encoded to a byte array, without creating an intermediate {@link String}.
+     * @param data {@link Data} to write. {@code null} will write an empty Data: "{}"
+     * @return UTF-8 encoded json
+     */
+    public byte @NotNull [] writeDataToBytes(@Nullable Data data) {
+        Utf8Appendable writer = new Utf8Appendable(null, data == null ? 16 : Math.max(16, data.size() * 16));
+        try {
+            writeData(writer, data);
+            writer.finish();
+        } catch (IOException e) {
+            // will never happen, because no OutputStream is used
+            throw new UncheckedIOException(e);
+        }
+        return writer.toByteArray();
+    }
+
     private void writeJson(
             @NotNull Appendable writer,
             @NotNull SpaceOffsetTracker offset,
@@ -710,24 +1339,28 @@ public class JsonParser {
                 if (!first) writer.append((char) COMMA_CHAR);
                 else first = false;
 
-                writer.append((char) NEW_LINE_CHAR).append(offset.toString());
-                writeKey(writer, entry.getKey());
+                offset.lineBreak(writer);
+                offset.indent(writer);
+                writeKey(writer, offset, entry.getKey());
                 writeJsonValue(writer, offset, entry.getValue());
 
             }
 
-            writer.append((char) NEW_LINE_CHAR);
+            offset.lineBreak(writer);
             offset.remove();
-            writer.append(offset.toString()).append((char) CURLY_BRACKET_CLOSE_CHAR);
+            offset.indent(writer);
+            writer.append((char) CURLY_BRACKET_CLOSE_CHAR);
 
         } else if (data.parseType() == ParseType.CONTENT_ONLY){
 
             boolean first = true;
             for (Entry<?, ?> entry : data) {
-                if (!first) writer.append((char) COMMA_CHAR).append((char) SPACE_CHAR);
-                else first = false;
+                if (!first) {
+                    writer.append((char) COMMA_CHAR);
+                    if(!offset.isCompact()) writer.append((char) SPACE_CHAR);
+                } else first = false;
 
-                writer.append(offset.toString());
+                offset.indent(writer);
                 writeJsonValue(writer, offset, entry.getValue());
 
             }
@@ -735,10 +1368,61 @@ public class JsonParser {
         }
     }
 
-    private void writeKey(@NotNull Appendable writer, @NotNull Object key) throws IOException {
+    private void writeKey(@NotNull Appendable writer, @NotNull SpaceOffsetTracker offset, @NotNull Object key) throws IOException {
         writer.append((char) QUOTE_CHAR);
         ParseHelper.escape2(Objects.toString(key), writer);
-        writer.append((char) QUOTE_CHAR).append((char) COLON_CHAR).append((char) SPACE_CHAR);
+        writer.append((char) QUOTE_CHAR).append((char) COLON_CHAR);
+        if(!offset.isCompact()) writer.append((char) SPACE_CHAR);
+    }
+
+    /**
+     * Writes the start of a json-array and adds one indent level.
+     */
+    private void writeArrayStart(@NotNull Appendable writer, @NotNull SpaceOffsetTracker offset) throws IOException {
+        writer.append((char) SQUARE_BRACKET_OPEN_CHAR);
+        offset.lineBreak(writer);
+        offset.add();
+    }
+
+    private void writeLongs(@NotNull Appendable writer, @NotNull SpaceOffsetTracker offset, @NotNull LongArrayList values) throws IOException {
+        writeArrayStart(writer, offset);
+        for (int i = 0; i < values.size(); i++) {
+            writeElementSeparator(writer, offset, i == 0);
+            writer.append(Long.toString(values.getLong(i)));
+            if (identifyNumberValues) writer.append(LONG_TOKEN);
+        }
+        writeEnd(writer, offset, SQUARE_BRACKET_CLOSE_CHAR);
+    }
+
+    private void writeDoubles(@NotNull Appendable writer, @NotNull SpaceOffsetTracker offset, @NotNull DoubleArrayList values) throws IOException {
+        writeArrayStart(writer, offset);
+        for (int i = 0; i < values.size(); i++) {
+            writeElementSeparator(writer, offset, i == 0);
+            writer.append(Double.toString(values.getDouble(i)));
+            if (identifyNumberValues) writer.append(DOUBLE_TOKEN);
+        }
+        writeEnd(writer, offset, SQUARE_BRACKET_CLOSE_CHAR);
+    }
+
+    /**
+     * Writes the separator before an element of a json-array or json-object.
+     */
+    private void writeElementSeparator(@NotNull Appendable writer, @NotNull SpaceOffsetTracker offset, boolean first) throws IOException {
+        if (!first) {
+            writer.append((char) COMMA_CHAR);
+            offset.lineBreak(writer);
+        }
+        offset.indent(writer);
+    }
+
+    /**
+     * Writes the end of a json-array or json-object and removes one indent level.
+     */
+    private void writeEnd(@NotNull Appendable writer, @NotNull SpaceOffsetTracker offset, int endChar) throws IOException {
+        offset.lineBreak(writer);
+        offset.remove();
+        offset.indent(writer);
+        writer.append((char) endChar);
     }
 
     private void writeJsonValue(@NotNull Appendable writer, @NotNull SpaceOffsetTracker offset, @Nullable Object value) throws IOException {
@@ -751,6 +1435,9 @@ public class JsonParser {
         } else if (value instanceof Simplifiable) {
             writeJsonValue(writer, offset, ((Simplifiable) value).simplify());
 
+        } else if (value instanceof Record record) {
+            writeJson(writer, offset, RecordBinder.dataOf(record));
+
         } else if (value instanceof String) {
             writer.append((char) QUOTE_CHAR);
             ParseHelper.escape2((String) value, writer);
@@ -783,73 +1470,92 @@ public class JsonParser {
             writer.append(value.toString());
             if (identifyNumberValues) writer.append(FLOAT_TOKEN);
 
+        } else if (value instanceof LongArrayList longs) {
+            writeLongs(writer, offset, longs);
+
+        } else if (value instanceof DoubleArrayList doubles) {
+            writeDoubles(writer, offset, doubles);
+
         } else if (value instanceof Collection) {
-            writer.append((char) SQUARE_BRACKET_OPEN_CHAR).append((char) NEW_LINE_CHAR);
+            writer.append((char) SQUARE_BRACKET_OPEN_CHAR);
+            offset.lineBreak(writer);
             offset.add();
 
             boolean first = true;
             for (Object o : (Collection<?>) value) {
-                if (!first) writer.append((char) COMMA_CHAR).append((char) NEW_LINE_CHAR);
-                else first = false;
-                writer.append(offset.toString());
+                writeElementSeparator(writer, offset, first);
+                first = false;
                 writeJsonValue(writer, offset, o);
             }
 
-            writer.append((char) NEW_LINE_CHAR);
-            offset.remove();
-            writer.append(offset.toString()).append((char) SQUARE_BRACKET_CLOSE_CHAR);
+            writeEnd(writer, offset, SQUARE_BRACKET_CLOSE_CHAR);
 
         } else if (value instanceof Map<?,?> map) {
-            writer.append((char) CURLY_BRACKET_OPEN_CHAR).append((char) NEW_LINE_CHAR);
+            writer.append((char) CURLY_BRACKET_OPEN_CHAR);
+            offset.lineBreak(writer);
             offset.add();
 
             boolean first = true;
             for (Map.Entry<?, ?> entry : map.entrySet()) {
-                if (!first) writer.append((char) COMMA_CHAR).append((char) NEW_LINE_CHAR);
-                else first = false;
-                writer.append(offset.toString());
-                writeKey(writer, entry.getKey());
+                writeElementSeparator(writer, offset, first);
+                first = false;
+                writeKey(writer, offset, entry.getKey());
                 writeJsonValue(writer, offset, entry.getValue());
             }
 
-            writer.append((char) NEW_LINE_CHAR);
-            offset.remove();
-            writer.append(offset.toString()).append((char) CURLY_BRACKET_CLOSE_CHAR);
+            writeEnd(writer, offset, CURLY_BRACKET_CLOSE_CHAR);
 
         } else if (value instanceof Object[]) {
             writeJsonValue(writer, offset, (Object[]) value);
 
         } else if (value.getClass().isArray()) {
             if (value instanceof byte[] a) {
-                Object[] o = new Object[a.length];
-                for (int i = 0; i < a.length; i++) o[i] = a[i];
-                writeJsonValue(writer, offset, o);
+                writeArrayStart(writer, offset);
+                for (int i = 0; i < a.length; i++) {
+                    writeElementSeparator(writer, offset, i == 0);
+                    writer.append(Byte.toString(a[i]));
+                    if (identifyNumberValues) writer.append(BYTE_TOKEN);
+                }
+                writeEnd(writer, offset, SQUARE_BRACKET_CLOSE_CHAR);
 
             } else if (value instanceof short[] a) {
-                Object[] o = new Object[a.length];
-                for (int i = 0; i < a.length; i++) o[i] = a[i];
-                writeJsonValue(writer, offset, o);
+                writeArrayStart(writer, offset);
+                for (int i = 0; i < a.length; i++) {
+                    writeElementSeparator(writer, offset, i == 0);
+                    writer.append(Short.toString(a[i]));
+                    if (identifyNumberValues) writer.append(SHORT_TOKEN);
+                }
+                writeEnd(writer, offset, SQUARE_BRACKET_CLOSE_CHAR);
 
             } else if (value instanceof int[] a) {
-                Object[] o = new Object[a.length];
-                for (int i = 0; i < a.length; i++) o[i] = a[i];
-                writeJsonValue(writer, offset, o);
+                writeArrayStart(writer, offset);
+                for (int i = 0; i < a.length; i++) {
+                    writeElementSeparator(writer, offset, i == 0);
+                    writer.append(Integer.toString(a[i]));
+                    if (identifyNumberValues) writer.append(INTEGER_TOKEN);
+                }
+                writeEnd(writer, offset, SQUARE_BRACKET_CLOSE_CHAR);
 
             } else if (value instanceof long[] a) {
-                Object[] o = new Object[a.length];
-                for (int i = 0; i < a.length; i++) o[i] = a[i];
-                writeJsonValue(writer, offset, o);
+                writeLongs(writer, offset, new LongArrayList(a));
 
             } else if (value instanceof float[] a) {
-                Object[] o = new Object[a.length];
-                for (int i = 0; i < a.length; i++) o[i] = a[i];
-                writeJsonValue(writer, offset, o);
+                writeArrayStart(writer, offset);
+                for (int i = 0; i < a.length; i++) {
+                    writeElementSeparator(writer, offset, i == 0);
+                    writer.append(Float.toString(a[i]));
+                    if (identifyNumberValues) writer.append(FLOAT_TOKEN);
+                }
+                writeEnd(writer, offset, SQUARE_BRACKET_CLOSE_CHAR);
 
             } else if (value instanceof double[] a) {
-                Object[] o = new Object[a.length];
-                for (int i = 0; i < a.length; i++) o[i] = a[i];
-                writeJsonValue(writer, offset, o);
+                writeDoubles(writer, offset, new DoubleArrayList(a));
 
+            } else {
+                // Other arrays (boolean[], char[]) are written element by element
+                Object[] o = new Object[Array.getLength(value)];
+                for (int i = 0; i < o.length; i++) o[i] = Array.get(value, i);
+                writeJsonValue(writer, offset, o);
             }
 
         } else {
@@ -865,20 +1571,18 @@ public class JsonParser {
             @NotNull SpaceOffsetTracker offset,
             @NotNull Object[] value
     ) throws IOException {
-        writer.append((char) SQUARE_BRACKET_OPEN_CHAR).append((char) NEW_LINE_CHAR);
+        writer.append((char) SQUARE_BRACKET_OPEN_CHAR);
+        offset.lineBreak(writer);
         offset.add();
 
         boolean first = true;
         for (Object o : value) {
-            if (!first) writer.append((char) COMMA_CHAR).append((char) NEW_LINE_CHAR);
-            else first = false;
-            writer.append(offset.toString());
+            writeElementSeparator(writer, offset, first);
+            first = false;
             writeJsonValue(writer, offset, o);
         }
 
-        writer.append((char) NEW_LINE_CHAR);
-        offset.remove();
-        writer.append(offset.toString()).append((char) SQUARE_BRACKET_CLOSE_CHAR);
+        writeEnd(writer, offset, SQUARE_BRACKET_CLOSE_CHAR);
     }
 
 }
@@ -0,0 +1,424 @@
+/*
+ * Copyright (c) 2026 Linus Andera
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.linusdev.lutils.data.json.parser;
+
+import de.linusdev.lutils.data.json.Json;
+import de.linusdev.lutils.data.json.RecordBinder;
+import de.linusdev.lutils.other.parser.ParseException;
+import de.linusdev.lutils.other.parser.ParseTracker;
+import de.linusdev.lutils.other.parser.UnexpectedEndException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+import static de.linusdev.lutils.data.json.parser.JsonParser.*;
+
+/**
+ * Reads a json-string token by token. Only the current nesting of json-objects and json-arrays is stored,
+ * so even huge json documents can be read with constant memory. Sub-trees, which are of interest can be
+ * materialized using {@link #readValue()} or {@link #readJson()}. All other values can be skipped
+ * using {@link #skipValue()}.
+ * <br><br>
+ * Example:
+ * <pre>{@code
+ * try (JsonPullParser pull = JsonParser.DEFAULT_INSTANCE.pullParser(stream)) {
+ *     pull.beginObject();
+ *     while (pull.hasNext()) {
+ *         String key = pull.readKey();
+ *         if(key.equals("entries")) {
+ *             pull.beginArray();
+ *             while (pull.hasNext())
+ *                 handle(pull.readJson());
+ *             pull.endArray();
+ *         } else {
+ *             pull.skipValue();
+ *         }
+ *     }
+ *     pull.endObject();
+ * }
+ * }</pre>
+ * Instances are created using {@link JsonParser#pullParser(java.io.InputStream)} and use the configuration of the
+ * {@link JsonParser} they were created by.
+ */
+public class JsonPullParser implements AutoCloseable {
+
+    private static final int EMPTY_DOCUMENT = 0;
+    private static final int NONEMPTY_DOCUMENT = 1;
+    private static final int EMPTY_OBJECT = 2;
+    /**
+     * A key has been read, but not its value.
+     */
+    private static final int DANGLING_KEY = 3;
+    private static final int NONEMPTY_OBJECT = 4;
+    private static final int EMPTY_ARRAY = 5;
+    private static final int NONEMPTY_ARRAY = 6;
+
+    private final @NotNull JsonParser parser;
+    private final @NotNull JsonReader reader;
+    private final @NotNull ParseTracker tracker;
+
+    /**
+     * Stack of scopes. The last element is the current scope.
+     */
+    private int @NotNull [] stack = new int[32];
+    private int stackSize = 0;
+
+    /**
+     * The token returned by {@link #peek()}. {@code null} if the next token has not been peeked yet.
+     */
+    private @Nullable JsonToken peeked = null;
+    /**
+     * The value if {@link #peeked} is {@link JsonToken#NUMBER}, {@link JsonToken#BOOLEAN} or {@link JsonToken#NULL}.
+     */
+    private @Nullable Object peekedValue = null;
+
+    JsonPullParser(@NotNull JsonParser parser, @NotNull JsonReader reader) {
+        this.parser = parser;
+        this.reader = reader;
+        this.tracker = new ParseTracker();
+        push(EMPTY_DOCUMENT);
+    }
+
+    /**
+     * Returns the type of the next token without consuming it. Calling this method multiple times without
+     * consuming the token will always return the same token.
+     * @return next {@link JsonToken}
+     * @throws IOException while reading
+     * @throws ParseException if the json is malformed
+     */
+    public @NotNull JsonToken peek() throws IOException, ParseException {
+        if(peeked != null)
+            return peeked;
+
+        int i = nextChar();
+
+        switch (stack[stackSize - 1]) {
+            case EMPTY_OBJECT -> {
+                if(i == CURLY_BRACKET_CLOSE_CHAR) return peeked = JsonToken.END_OBJECT;
+                if(i == QUOTE_CHAR) return peeked = JsonToken.KEY;
+                throw unexpected(i);
+            }
+            case NONEMPTY_OBJECT -> {
+                if(i == CURLY_BRACKET_CLOSE_CHAR) return peeked = JsonToken.END_OBJECT;
+                if(i != COMMA_CHAR) throw unexpected(i);
+                i = nextChar();
+                if(i == QUOTE_CHAR) return peeked = JsonToken.KEY;
+                throw unexpected(i);
+            }
+            case DANGLING_KEY -> {
+                if(i != COLON_CHAR) throw unexpected(i);
+                return peekValue(nextChar());
+            }
+            case EMPTY_ARRAY -> {
+                if(i == SQUARE_BRACKET_CLOSE_CHAR) return peeked = JsonToken.END_ARRAY;
+                return peekValue(i);
+            }
+            case NONEMPTY_ARRAY -> {
+                if(i == SQUARE_BRACKET_CLOSE_CHAR) return peeked = JsonToken.END_ARRAY;
+                if(i != COMMA_CHAR) throw unexpected(i);
+                i = nextChar();
+                // Same as the JsonParser: a trailing comma is allowed in arrays
+                if(i == SQUARE_BRACKET_CLOSE_CHAR) return peeked = JsonToken.END_ARRAY;
+                return peekValue(i);
+            }
+            default -> {
+                if(i == -1) return peeked = JsonToken.END_DOCUMENT;
+                return peekValue(i);
+            }
+        }
+    }
+
+    /**
+     * Whether the current json-object or json-array has another element. If the parser is not inside
+     * a json-object or json-array, this returns whether the end of the document has not been reached yet.
+     */
+    public boolean hasNext() throws IOException, ParseException {
+        JsonToken token = peek();
+        return token != JsonToken.END_OBJECT && token != JsonToken.END_ARRAY && token != JsonToken.END_DOCUMENT;
+    }
+
+    /**
+     * Consumes the next token, which must be a {@link JsonToken#BEGIN_OBJECT}.
+     * @throws IllegalStateException if the next token is not a {@link JsonToken#BEGIN_OBJECT}.
+     */
+    public void beginObject() throws IOException, ParseException {
+        consume(JsonToken.BEGIN_OBJECT);
+        valueConsumed();
+        push(EMPTY_OBJECT);
+    }
+
+    /**
+     * Consumes the next token, which must be a {@link JsonToken#END_OBJECT}.
+     * @throws IllegalStateException if the next token is not a {@link JsonToken#END_OBJECT}.
+     */
+    public void endObject() throws IOException, ParseException {
+        consume(JsonToken.END_OBJECT);
+        stackSize--;
+    }
+
+    /**
+     * Consumes the next token, which must be a {@link JsonToken#BEGIN_ARRAY}.
+     * @throws IllegalStateException if the next token is not a {@link JsonToken#BEGIN_ARRAY}.
+     */
+    public void beginArray() throws IOException, ParseException {
+        consume(JsonToken.BEGIN_ARRAY);
+        valueConsumed();
+        push(EMPTY_ARRAY);
+    }
+
+    /**
+     * Consumes the next token, which must be a {@link JsonToken#END_ARRAY}.
+     * @throws IllegalStateException if the next token is not a {@link JsonToken#END_ARRAY}.
+     */
+    public void endArray() throws IOException, ParseException {
+        consume(JsonToken.END_ARRAY);
+        stackSize--;
+    }
+
+    /**
+     * Reads the next key.
+     * @return the key
+     * @throws IllegalStateException if the next token is not a {@link JsonToken#KEY}.
+     */
+    public @NotNull String readKey() throws IOException, ParseException {
+        consume(JsonToken.KEY);
+        String key = parser.parseKey(reader, tracker);
+        stack[stackSize - 1] = DANGLING_KEY;
+        return key;
+    }
+
+    /**
+     * Reads the next string value.
+     * @return the string
+     * @throws IllegalStateException if the next token is not a {@link JsonToken#STRING}.
+     */
+    public @NotNull String readString() throws IOException, ParseException {
+        consume(JsonToken.STRING);
+        String value = parser.parseString(reader, tracker);
+        valueConsumed();
+        return value;
+    }
+
+    /**
+     * Reads the next number value. The type of the returned {@link Number} depends on
+     * {@link JsonParser#setIdentifyNumberValues(boolean)}.
+     * @return the number
+     * @throws IllegalStateException if the next token is not a {@link JsonToken#NUMBER}.
+     */
+    public @NotNull Number readNumber() throws IOException, ParseException {
+        consume(JsonToken.NUMBER);
+        valueConsumed();
+        return (Number) takePeekedValue();
+    }
+
+    /**
+     * Reads the next boolean value.
+     * @return the boolean
+     * @throws IllegalStateException if the next token is not a {@link JsonToken#BOOLEAN}.
+     */
+    public boolean readBoolean() throws IOException, ParseException {
+        consume(JsonToken.BOOLEAN);
+        valueConsumed();
+        return (Boolean) takePeekedValue();
+    }
+
+    /**
+     * Reads the next {@code null} value.
+     * @throws IllegalStateException if the next token is not a {@link JsonToken#NULL}.
+     */
+    public void readNull() throws IOException, ParseException {
+        consume(JsonToken.NULL);
+        valueConsumed();
+    }
+
+    /**
+     * Reads the next value. json-objects and json-arrays are fully materialized the same way
+     * the {@link JsonParser} would.
+     * @return {@link String}, {@link Json}, {@link List}, {@link Boolean}, {@link Number} or {@code null}
+     * @throws IllegalStateException if the next token is not a value.
+     */
+    public @Nullable Object readValue() throws IOException, ParseException {
+        return switch (peek()) {
+            case BEGIN_OBJECT -> {
+                consume(JsonToken.BEGIN_OBJECT);
+                valueConsumed();
+                yield parser.parseJsonObject(reader, tracker);
+            }
+            case BEGIN_ARRAY -> {
+                consume(JsonToken.BEGIN_ARRAY);
+                valueConsumed();
+                yield parser.parseJsonArray(reader, tracker);
+            }
+            case STRING -> readString();
+            case NUMBER, BOOLEAN, NULL -> {
+                peeked = null;
+                valueConsumed();
+                yield takePeekedValue();
+            }
+            default -> throw new IllegalStateException("Expected a value but was " + peeked + " in line " + tracker.getLine() + ".");
+        };
+    }
+
+    /**
+     * Reads the next json-object or json-array and materializes it into a {@link Json}. A json-array will be
+     * wrapped the same way {@link JsonParser#parseStream(java.io.InputStream)} would wrap it.
+     * @return {@link Json}
+     * @throws IllegalStateException if the next token is not a {@link JsonToken#BEGIN_OBJECT} or {@link JsonToken#BEGIN_ARRAY}.
+     */
+    public @NotNull Json readJson() throws IOException, ParseException {
+        JsonToken token = peek();
+        if(token == JsonToken.BEGIN_OBJECT)
+            return (Json) readValue();
+
+        if(token == JsonToken.BEGIN_ARRAY) {
+            //noinspection unchecked
+            return parser.wrapArray((List<Object>) readValue());
+        }
+
+        throw new IllegalStateException("Expected " + JsonToken.BEGIN_OBJECT + " but was " + token + " in line " + tracker.getLine() + ".");
+    }
+
+    /**
+     * Reads the next json-object as record {@link T} using the {@link RecordBinder} of given {@code recordClass}.
+     * @param recordClass the record class
+     * @return the read record
+     * @param <T> record class
+     * @see RecordBinder#read(JsonPullParser)
+     */
+    public <T extends Record> @NotNull T readRecord(@NotNull Class<T> recordClass) throws IOException, ParseException {
+        return RecordBinder.of(recordClass).read(this);
+    }
+
+    /**
+     * Skips the next value without materializing it. If the next token is a {@link JsonToken#KEY}, the key and
+     * its value are skipped.
+     * @throws IllegalStateException if the next token is not a value or a key.
+     */
+    public void skipValue() throws IOException, ParseException {
+        switch (peek()) {
+            case KEY -> {
+                consume(JsonToken.KEY);
+                parser.skipString(reader, tracker);
+                stack[stackSize - 1] = DANGLING_KEY;
+                skipValue();
+            }
+            case STRING -> {
+                consume(JsonToken.STRING);
+                parser.skipString(reader, tracker);
+                valueConsumed();
+            }
+            case NUMBER, BOOLEAN, NULL -> {
+                peeked = null;
+                peekedValue = null;
+                valueConsumed();
+            }
+            case BEGIN_OBJECT, BEGIN_ARRAY -> {
+                peeked = null;
+                valueConsumed();
+                skipNested();
+            }
+            default -> throw new IllegalStateException("Expected a value but was " + peeked + " in line " + tracker.getLine() + ".");
+        }
+    }
+
+    /**
+     * Current line of the json-string.
+     */
+    public int getLine() {
+        return tracker.getLine();
+    }
+
+    @Override
+    public void close() {
+        reader.close();
+    }
+
+    /**
+     * Skips until the end of the current json-object or json-array. Assumes that the opening bracket
+     * has already been read.
+     */
+    private void skipNested() throws IOException, ParseException {
+        int depth = 1;
+
+        while (depth > 0) {
+            int i = nextChar();
+
+            if(i == -1) throw new UnexpectedEndException(tracker);
+            else if(i == QUOTE_CHAR) parser.skipString(reader, tracker);
+            else if(i == CURLY_BRACKET_OPEN_CHAR || i == SQUARE_BRACKET_OPEN_CHAR) depth++;
+            else if(i == CURLY_BRACKET_CLOSE_CHAR || i == SQUARE_BRACKET_CLOSE_CHAR) depth--;
+        }
+    }
+
+    private @NotNull JsonToken peekValue(int i) throws IOException, ParseException {
+        if(i == -1) throw new UnexpectedEndException(tracker);
+        if(i == QUOTE_CHAR) return peeked = JsonToken.STRING;
+        if(i == CURLY_BRACKET_OPEN_CHAR) return peeked = JsonToken.BEGIN_OBJECT;
+        if(i == SQUARE_BRACKET_OPEN_CHAR) return peeked = JsonToken.BEGIN_ARRAY;
+
+        reader.pushBack(i);
+        peekedValue = parser.parsePrimitive(reader, tracker);
+
+        if(peekedValue == null) return peeked = JsonToken.NULL;
+        if(peekedValue instanceof Boolean) return peeked = JsonToken.BOOLEAN;
+        return peeked = JsonToken.NUMBER;
+    }
+
+    /**
+     * Reads the next char, skipping any comments if {@link JsonParser#setAllowComments(boolean, de.linusdev.lutils.interfaces.TBiConsumer) allowed}.
+     */
+    private int nextChar() throws IOException, ParseException {
+        return parser.parsePossibleComment(reader.read(tracker), reader, tracker);
+    }
+
+    private void consume(@NotNull JsonToken expected) throws IOException, ParseException {
+        JsonToken token = peek();
+        if(token != expected)
+            throw new IllegalStateException("Expected " + expected + " but was " + token + " in line " + tracker.getLine() + ".");
+        peeked = null;
+    }
+
+    private @Nullable Object takePeekedValue() {
+        Object value = peekedValue;
+        peekedValue = null;
+        return value;
+    }
+
+    /**
+     * Must be called after a value has been consumed, to update the current scope.
+     */
+    private void valueConsumed() {
+        int scope = stack[stackSize - 1];
+        if(scope == EMPTY_DOCUMENT) stack[stackSize - 1] = NONEMPTY_DOCUMENT;
+        else if(scope == DANGLING_KEY) stack[stackSize - 1] = NONEMPTY_OBJECT;
+        else if(scope == EMPTY_ARRAY) stack[stackSize - 1] = NONEMPTY_ARRAY;
+    }
+
+    private void push(int scope) {
+        if(stackSize == stack.length)
+            stack = Arrays.copyOf(stack, stack.length * 2);
+        stack[stackSize++] = scope;
+    }
+
+    private @NotNull ParseException unexpected(int i) {
+        if(i == -1) return new UnexpectedEndException(tracker);
+        return new ParseException(tracker, (char) i);
+    }
+}
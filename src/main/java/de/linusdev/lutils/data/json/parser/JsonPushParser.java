@@ -0,0 +1,327 @@
+/*
+ * Copyright (c) 2026 Linus Andera
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.linusdev.lutils.data.json.parser;
+
+import de.linusdev.lutils.data.json.Json;
+import de.linusdev.lutils.other.parser.ParseException;
+import de.linusdev.lutils.other.parser.ParseTracker;
+import de.linusdev.lutils.other.parser.UnexpectedEndException;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+
+import static de.linusdev.lutils.data.json.parser.JsonParser.*;
+
+/**
+ * A non-blocking json parser, to which UTF-8 encoded json is pushed in chunks of any size. Unlike the
+ * {@link JsonReader}, this parser never waits for input: {@link #push(ByteBuffer)} consumes all bytes of the given
+ * chunk and returns immediately. A chunk may end anywhere, even in the middle of a string or an escape sequence.
+ * The parser suspends and continues with the next chunk.
+ * <br><br>
+ * The input may contain any amount of json-objects or json-arrays, optionally separated by whitespaces. Each completed
+ * value is parsed using {@link JsonParser#parseBytes(byte[], int, int)} with the configuration of the
+ * {@link JsonParser}. json-arrays are wrapped the same way. Completed values can be retrieved using {@link #poll()}.
+ * <br><br>
+ * Usage with a non-blocking channel:
+ * <pre>{@code
+ * int read = channel.read(buffer);
+ * buffer.flip();
+ * pushParser.push(buffer);
+ * buffer.clear();
+ *
+ * Json json;
+ * while ((json = pushParser.poll()) != null) {
+ *     // ...
+ * }
+ *
+ * if(read == -1) pushParser.endOfInput();
+ * }</pre>
+ * If comments are {@link JsonParser#setAllowComments(boolean, de.linusdev.lutils.interfaces.TBiConsumer) allowed}, comments between two values are skipped and not
+ * passed to the comment consumer.
+ * <br><br>
+ * Instances can be created using {@link JsonParser#pushParser()}. This class is not thread safe.
+ */
+public class JsonPushParser {
+
+    private static final int SCRATCH_SIZE = 8192;
+    private static final byte @NotNull [] BOM = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+
+    /* States of the state machine */
+    private static final int BETWEEN_VALUES         = 0;
+    private static final int IN_VALUE               = 1;
+    private static final int IN_STRING              = 2;
+    private static final int IN_STRING_ESCAPE       = 3;
+    private static final int COMMENT_START          = 4;
+    private static final int IN_LINE_COMMENT        = 5;
+    private static final int IN_BLOCK_COMMENT       = 6;
+    private static final int IN_BLOCK_COMMENT_STAR  = 7;
+
+    private final @NotNull JsonParser parser;
+    private int maxValueSize = Integer.MAX_VALUE - 8;
+
+    private final @NotNull ArrayDeque<Json> completed = new ArrayDeque<>();
+
+    private int state = BETWEEN_VALUES;
+    /**
+     * Nesting depth of the current value. {@code 0} if {@link #state} is {@link #BETWEEN_VALUES}.
+     */
+    private int depth = 0;
+    /**
+     * Bytes of the current value.
+     */
+    private byte @NotNull [] value = new byte[256];
+    private int valueLength = 0;
+    /**
+     * Line of the next byte.
+     */
+    private int line = 1;
+    /**
+     * Line the current value starts in.
+     */
+    private int valueLine = 1;
+    /**
+     * Amount of bytes of the UTF-8 BOM skipped at the start of the input.
+     */
+    private int bomSkipped = 0;
+    private @Nullable ParseException error = null;
+
+    private byte @Nullable [] scratch = null;
+
+    JsonPushParser(@NotNull JsonParser parser) {
+        this.parser = parser;
+    }
+
+    /**
+     * Maximum size of a single json-object or json-array in bytes. If a value exceeds this size, a
+     * {@link ParseException} is thrown. This limits the memory used for unfinished values.<br>
+     * Default: {@code Integer.MAX_VALUE - 8} (no limit)
+     * @param maxValueSize maximum size of a single value
+     */
+    @Contract("_ -> this")
+    public @NotNull JsonPushParser setMaxValueSize(int maxValueSize) {
+        if(maxValueSize <= 0) throw new IllegalArgumentException("maxValueSize must be positive.");
+        this.maxValueSize = maxValueSize;
+        return this;
+    }
+
+    /**
+     * Consumes all {@link ByteBuffer#remaining() remaining} bytes of given {@code chunk}. The position of the
+     * {@code chunk} will be set to its limit.
+     * @param chunk next chunk of UTF-8 encoded json
+     * @return amount of values available using {@link #poll()}
+     * @throws ParseException if the json is malformed. Values completed before the malformed value are still available
+     * using {@link #poll()}. Once thrown, every following call will throw the same exception until {@link #reset()}
+     * is called.
+     */
+    public int push(@NotNull ByteBuffer chunk) throws ParseException {
+        if(error != null) throw error;
+
+        try {
+            if(chunk.hasArray()) {
+                int start = chunk.arrayOffset() + chunk.position();
+                scan(chunk.array(), start, start + chunk.remaining());
+                chunk.position(chunk.limit());
+            } else {
+                if(scratch == null) scratch = new byte[SCRATCH_SIZE];
+                while (chunk.hasRemaining()) {
+                    int len = Math.min(scratch.length, chunk.remaining());
+                    chunk.get(scratch, 0, len);
+                    scan(scratch, 0, len);
+                }
+            }
+        } catch (ParseException e) {
+            error = e;
+            chunk.position(chunk.limit());
+            throw e;
+        }
+
+        return completed.size();
+    }
+
+    /**
+     * Same as {@link #push(ByteBuffer)}.
+     * @param chunk next chunk of UTF-8 encoded json
+     * @param offset index of the first byte in {@code chunk}
+     * @param length amount of bytes
+     * @return amount of values available using {@link #poll()}
+     * @throws ParseException if the json is malformed
+     */
+    public int push(byte @NotNull [] chunk, int offset, int length) throws ParseException {
+        return push(ByteBuffer.wrap(chunk, offset, length));
+    }
+
+    /**
+     * Signals that no more bytes will be pushed.
+     * @throws ParseException if a value is unfinished
+     */
+    public void endOfInput() throws ParseException {
+        if(error != null) throw error;
+        try {
+            replayPartialBom();
+        } catch (ParseException e) {
+            error = e;
+            throw e;
+        }
+        if(state == BETWEEN_VALUES || state == IN_LINE_COMMENT && depth == 0) return;
+
+        error = new UnexpectedEndException(new ParseTracker(line));
+        throw error;
+    }
+
+    /**
+     * Retrieves the next completed value.
+     * @return the oldest completed {@link Json}, which has not been polled yet or {@code null} if there is none.
+     */
+    public @Nullable Json poll() {
+        return completed.poll();
+    }
+
+    /**
+     * @return {@code true} if no bytes of an unfinished value are buffered.
+     */
+    public boolean isIdle() {
+        return state == BETWEEN_VALUES;
+    }
+
+    /**
+     * Discards all completed values, unfinished values and errors. The parser can then be used for a new input.
+     */
+    public void reset() {
+        completed.clear();
+        state = BETWEEN_VALUES;
+        depth = 0;
+        valueLength = 0;
+        line = 1;
+        valueLine = 1;
+        bomSkipped = 0;
+        error = null;
+    }
+
+    /**
+     * If only a prefix of the {@link #BOM} has been consumed, it was not a BOM. In that case the consumed bytes
+     * are passed through the state machine, so that they are reported like any other unexpected byte.
+     */
+    private void replayPartialBom() throws ParseException {
+        int consumed = bomSkipped;
+        bomSkipped = BOM.length;
+        if(consumed > 0 && consumed < BOM.length)
+            scan(BOM, 0, consumed);
+    }
+
+    /**
+     * Runs the state machine over given bytes. Bytes belonging to a value are appended to {@link #value}.
+     */
+    private void scan(byte @NotNull [] bytes, int start, int end) throws ParseException {
+        // Skip UTF-8 BOM
+        while (bomSkipped < BOM.length && start < end) {
+            if(bytes[start] != BOM[bomSkipped]) {
+                replayPartialBom();
+                break;
+            }
+            start++;
+            bomSkipped++;
+        }
+
+        // Index of the first byte belonging to the current value, -1 if not in a value
+        int valueStart = depth > 0 ? start : -1;
+
+        for (int i = start; i < end; i++) {
+            int b = bytes[i];
+            if(b == NEW_LINE_CHAR) line++;
+
+            switch (state) {
+                case BETWEEN_VALUES -> {
+                    if(b == CURLY_BRACKET_OPEN_CHAR || b == SQUARE_BRACKET_OPEN_CHAR) {
+                        state = IN_VALUE;
+                        depth = 1;
+                        valueStart = i;
+                        valueLine = line;
+                    } else if (b == SLASH_CHAR && parser.isAllowComments()) {
+                        state = COMMENT_START;
+                    } else if (b < 0 || b > SPACE_CHAR) {
+                        throw new ParseException(new ParseTracker(line), (char) (b & 0xFF));
+                    }
+                }
+                case IN_VALUE -> {
+                    if(b == QUOTE_CHAR) {
+                        state = IN_STRING;
+                    } else if (b == CURLY_BRACKET_OPEN_CHAR || b == SQUARE_BRACKET_OPEN_CHAR) {
+                        depth++;
+                    } else if (b == CURLY_BRACKET_CLOSE_CHAR || b == SQUARE_BRACKET_CLOSE_CHAR) {
+                        if(--depth == 0) {
+                            append(bytes, valueStart, i + 1);
+                            valueStart = -1;
+                            completeValue();
+                            state = BETWEEN_VALUES;
+                        }
+                    } else if (b == SLASH_CHAR && parser.isAllowComments()) {
+                        state = COMMENT_START;
+                    }
+                }
+                case IN_STRING -> {
+                    if(b == '\\') state = IN_STRING_ESCAPE;
+                    else if(b == QUOTE_CHAR) state = IN_VALUE;
+                }
+                case IN_STRING_ESCAPE -> state = IN_STRING;
+                case COMMENT_START -> {
+                    if(b == SLASH_CHAR) state = IN_LINE_COMMENT;
+                    else if(b == ASTERISK_CHAR) state = IN_BLOCK_COMMENT;
+                    else throw new ParseException(new ParseTracker(line), (char) (b & 0xFF));
+                }
+                case IN_LINE_COMMENT -> {
+                    if(b == NEW_LINE_CHAR) state = depth > 0 ? IN_VALUE : BETWEEN_VALUES;
+                }
+                case IN_BLOCK_COMMENT -> {
+                    if(b == ASTERISK_CHAR) state = IN_BLOCK_COMMENT_STAR;
+                }
+                case IN_BLOCK_COMMENT_STAR -> {
+                    if(b == SLASH_CHAR) state = depth > 0 ? IN_VALUE : BETWEEN_VALUES;
+                    else if(b != ASTERISK_CHAR) state = IN_BLOCK_COMMENT;
+                }
+            }
+        }
+
+        if(valueStart != -1)
+            append(bytes, valueStart, end);
+    }
+
+    private void append(byte @NotNull [] bytes, int from, int to) throws ParseException {
+        int len = to - from;
+        if(len > maxValueSize - valueLength)
+            throw new ParseException(new ParseTracker(valueLine), "json value exceeds the maximum size of " + maxValueSize + " bytes.");
+
+        if(valueLength + len > value.length)
+            value = Arrays.copyOf(value, (int) Math.min(Integer.MAX_VALUE - 8, Math.max(valueLength + len, value.length * 2L)));
+
+        System.arraycopy(bytes, from, value, valueLength, len);
+        valueLength += len;
+    }
+
+    private void completeValue() throws ParseException {
+        int length = valueLength;
+        valueLength = 0;
+        completed.add(parser.parseBytes(value, 0, length, new ParseTracker(valueLine)));
+
+        // Do not keep huge buffers of single large values
+        if(value.length > 64 * 1024)
+            value = new byte[256];
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023-2025 Linus Andera
+ * Copyright (c) 2023-2026 Linus Andera
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,7 +16,6 @@
 
 package de.linusdev.lutils.data.json.parser;
 
-import de.linusdev.lutils.data.json.parser.exceptions.ParseValueException;
 import de.linusdev.lutils.other.parser.ParseException;
 import de.linusdev.lutils.other.parser.ParseTracker;
 import de.linusdev.lutils.other.parser.UnexpectedEndException;
@@ -25,8 +24,7 @@ import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
 import java.io.Reader;
-import java.text.NumberFormat;
-import java.util.Locale;
+import java.util.Arrays;
 
 import static de.linusdev.lutils.data.json.parser.JsonParser.*;
 
@@ -36,12 +34,30 @@ import static de.linusdev.lutils.data.json.parser.JsonParser.*;
 public class JsonReader {
 
     private final Reader reader;
-    private int pushBack = -1;
+    protected int pushBack = -1;
+
+    private final @NotNull JsonNumberParser numberParser = new JsonNumberParser();
+    /**
+     * Buffer used by {@link #readValue(ParseTracker, boolean)}.
+     */
+    private char @NotNull [] valueChars = new char[32];
+    /**
+     * Buffer used by {@link #readString(boolean, ParseTracker)}.
+     */
+    private char @NotNull [] stringChars = new char[64];
 
     public JsonReader(Reader reader) {
         this.reader = reader;
     }
 
+    /**
+     * Constructor for subclasses, which do not read from a {@link Reader}. Such subclasses must override
+     * all read methods.
+     */
+    protected JsonReader() {
+        this.reader = Reader.nullReader();
+    }
+
     /**
      * Pushes given character back, so the next {@link #read(ParseTracker)} call will read it.<br>
      * <b>The push back buffer supports only a single character, if the buffer is not empty, it will be overwritten,
@@ -162,46 +178,17 @@ public class JsonReader {
      * @throws ParseException while reading or parsing
      */
     public @Nullable Object readValue(@NotNull ParseTracker tracker, boolean allowToken) throws IOException, ParseException {
-        StringBuilder str = new StringBuilder(50);
-
+        int len = 0;
         int i = read(tracker);
 
         while (i != -1) {
             if (i == COMMA_CHAR || i == CURLY_BRACKET_CLOSE_CHAR || i == SQUARE_BRACKET_CLOSE_CHAR || i == SLASH_CHAR) {
                 pushBack(i);
-                String valueString = str.toString();
-
-                if(valueString.isEmpty()) throw new ParseException(tracker, (char) i);
-
-                if (valueString.equalsIgnoreCase(JsonParser.TRUE)) return true;
-                else if (valueString.equalsIgnoreCase(JsonParser.FALSE)) return false;
-                else if (valueString.equalsIgnoreCase(JsonParser.NULL)) return null;
-
-                //it should be a number
-                if(allowToken){
-                    try {
-                        return switch (valueString.charAt(valueString.length() - 1)) {
-                            case BYTE_TOKEN     ->  Byte.parseByte(valueString.substring(0, valueString.length() - 1));
-                            case SHORT_TOKEN    ->  Short.parseShort(valueString.substring(0, valueString.length() - 1));
-                            case INTEGER_TOKEN  ->  Integer.parseInt(valueString.substring(0, valueString.length() - 1));
-                            case LONG_TOKEN     ->  Long.parseLong(valueString.substring(0, valueString.length() - 1));
-                            case FLOAT_TOKEN    ->  Float.parseFloat(valueString.substring(0, valueString.length() - 1));
-                            case DOUBLE_TOKEN   ->  Double.parseDouble(valueString.substring(0, valueString.length() - 1));
-                            default             ->  NumberFormat.getNumberInstance(Locale.ENGLISH).parse(valueString);
-                        };
-                    } catch (NumberFormatException | java.text.ParseException e) {
-                        throw new ParseValueException(e, valueString, tracker);
-                    }
-                } else {
-                    try {
-                        return NumberFormat.getNumberInstance(Locale.ENGLISH).parse(valueString);
-                    } catch (java.text.ParseException e) {
-                        throw new ParseValueException(e, valueString, tracker);
-                    }
-                }
+                return parseValue(valueChars, len, i, tracker, allowToken);
             }
 
-            str.append((char) i);
+            if(len == valueChars.length) valueChars = Arrays.copyOf(valueChars, len * 2);
+            valueChars[len++] = (char) i;
 
             i = read(tracker);
         }
@@ -209,6 +196,40 @@ public class JsonReader {
         throw new UnexpectedEndException(tracker);
     }
 
+    /**
+     * Parses the value read by {@link #readValue(ParseTracker, boolean)}.
+     * @param chars chars containing the value
+     * @param len length of the value in given {@code chars}
+     * @param terminator the char, which terminated the value
+     * @param tracker {@link ParseTracker}
+     * @param allowToken whether {@link JsonParser#setIdentifyNumberValues(boolean)} is set to {@code true}.
+     * @return parsed value, may be {@link Boolean}, {@code null} or {@link Number}
+     * @throws ParseException if the value cannot be parsed
+     */
+    protected @Nullable Object parseValue(
+            char @NotNull [] chars,
+            int len,
+            int terminator,
+            @NotNull ParseTracker tracker,
+            boolean allowToken
+    ) throws ParseException {
+        if(len == 0) throw new ParseException(tracker, (char) terminator);
+
+        if (equalsIgnoreCase(chars, len, JsonParser.TRUE)) return true;
+        else if (equalsIgnoreCase(chars, len, JsonParser.FALSE)) return false;
+        else if (equalsIgnoreCase(chars, len, JsonParser.NULL)) return null;
+
+        //it should be a number
+        return numberParser.parse(chars, len, allowToken, tracker);
+    }
+
+    private static boolean equalsIgnoreCase(char @NotNull [] chars, int len, @NotNull String str) {
+        if(len != str.length()) return false;
+        for (int i = 0; i < len; i++)
+            if(Character.toLowerCase(chars[i]) != str.charAt(i)) return false;
+        return true;
+    }
+
     /**
      * reads until a '"' is read.
      * @param allowNewLine whether to allow a line break while reading
@@ -218,47 +239,78 @@ public class JsonReader {
      * @throws ParseException while reading or parsing
      */
     public String readString(boolean allowNewLine, @NotNull ParseTracker tracker) throws IOException, ParseException {
-        StringBuilder str = new StringBuilder(1024);
+        int len = readStringChars(allowNewLine, tracker);
+        return new String(stringChars, 0, len);
+    }
+
+    /**
+     * Same as {@link #readString(boolean, ParseTracker)}, but the read key is looked up in given {@code keyCache}
+     * first.
+     * @param allowNewLine whether to allow a line break while reading
+     * @param tracker {@link ParseTracker}
+     * @param keyCache {@link JsonKeyCache} to use or {@code null} to always create a new {@link String}
+     * @return read key
+     * @throws IOException while reading or parsing
+     * @throws ParseException while reading or parsing
+     */
+    public String readKey(
+            boolean allowNewLine,
+            @NotNull ParseTracker tracker,
+            @Nullable JsonKeyCache keyCache
+    ) throws IOException, ParseException {
+        int len = readStringChars(allowNewLine, tracker);
+        return keyCache == null ? new String(stringChars, 0, len) : keyCache.intern(stringChars, 0, len);
+    }
+
+    /**
+     * Reads until a '"' is read and stores the read chars in {@link #stringChars}.
+     * @return amount of chars read
+     */
+    private int readStringChars(boolean allowNewLine, @NotNull ParseTracker tracker) throws IOException, ParseException {
+        char[] str = stringChars;
+        int len = 0;
 
         int i;
         char c;
         boolean escaped = false;
-        char[] chars = new char[4];
 
         while ((i = reader.read()) != -1) {
             c = (char) i;
 
+            if(len == str.length) stringChars = str = Arrays.copyOf(str, len * 2);
+
             if (escaped) {
                 escaped = false;
 
                 if (c == 'n') {
-                    str.append('\n');
+                    str[len++] = '\n';
 
                 } else if (c == 'f') {
-                    str.append('\f');
+                    str[len++] = '\f';
 
                 } else if (c == 'r') {
-                    str.append('\r');
+                    str[len++] = '\r';
 
                 } else if (c == 't') {
-                    str.append('\t');
+                    str[len++] = '\t';
 
                 } else if (c == 'b') {
-                    str.append('\b');
+                    str[len++] = '\b';
 
                 } else if (c == '\\') {
-                    str.append('\\');
+                    str[len++] = '\\';
 
                 } else if (c == '\"') {
-                    str.append('\"');
+                    str[len++] = '\"';
 
                 } else if (c == 'u') {
+                    char[] chars = new char[4];
                     if (reader.read(chars) != 4) throw new UnexpectedEndException(tracker);
-                    str.append((char) Integer.parseInt(new String(chars), 16));
+                    str[len++] = (char) Integer.parseInt(new String(chars), 16);
 
                 } else {
                     // sometimes '/' is escaped, as defined by the json language
-                    str.append(c);
+                    str[len++] = c;
 
                 }
 
@@ -268,15 +320,15 @@ public class JsonReader {
                     escaped = true;
 
                 } else if (c == '"') {
-                    return str.toString();
+                    return len;
 
                 } else if (c == '\n') {
                     if (!allowNewLine) throw new ParseException(tracker, c);
-                    str.append(c);
+                    str[len++] = c;
                     tracker.nextLine();
 
                 } else {
-                    str.append(c);
+                    str[len++] = c;
 
                 }
             }
@@ -286,6 +338,44 @@ public class JsonReader {
         throw new UnexpectedEndException(tracker);
     }
 
+    /**
+     * Same as {@link #readString(boolean, ParseTracker)}, but the string is not stored. Used to skip strings
+     * without creating any objects.
+     * @param allowNewLine whether to allow a line break while reading
+     * @param tracker {@link ParseTracker}
+     * @throws IOException while reading or parsing
+     * @throws ParseException while reading or parsing
+     */
+    public void skipString(boolean allowNewLine, @NotNull ParseTracker tracker) throws IOException, ParseException {
+        int i;
+        boolean escaped = false;
+
+        while ((i = reader.read()) != -1) {
+            if (escaped) {
+                escaped = false;
+
+                if (i == 'u') {
+                    for (int j = 0; j < 4; j++) {
+                        if (reader.read() == -1) throw new UnexpectedEndException(tracker);
+                    }
+                }
+
+            } else if (i == '\\') {
+                escaped = true;
+
+            } else if (i == '"') {
+                return;
+
+            } else if (i == '\n') {
+                if (!allowNewLine) throw new ParseException(tracker, (char) i);
+                tracker.nextLine();
+
+            }
+        }
+
+        throw new UnexpectedEndException(tracker);
+    }
+
     public void close() {
         try {
             reader.close();
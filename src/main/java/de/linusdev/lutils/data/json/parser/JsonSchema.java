@@ -0,0 +1,402 @@
+/*
+ * Copyright (c) 2026 Linus Andera
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.linusdev.lutils.data.json.parser;
+
+import de.linusdev.lutils.other.parser.ParseException;
+import de.linusdev.lutils.other.parser.ParseTracker;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Describes the expected structure of a json document. A {@link JsonParser} checks the schema while parsing (see
+ * {@link JsonParser#parseBytes(byte[], JsonSchema)}), so an invalid document is rejected as soon as the first
+ * violation is read and the parsed {@link de.linusdev.lutils.data.json.Json Json} does not have to be traversed again.
+ * <br><br>
+ * Example:
+ * <pre>{@code
+ * JsonSchema schema = JsonSchema.object()
+ *         .required("id", JsonSchema.integer().range(1, Long.MAX_VALUE))
+ *         .required("name", JsonSchema.string().size(1, 64))
+ *         .optional("tags", JsonSchema.array(JsonSchema.string()).size(0, 16))
+ *         .optional("parent", JsonSchema.integer().nullable())
+ *         .unknownKeys(JsonSchema.UnknownKeys.SKIP);
+ *
+ * Json json = parser.parseBytes(bytes, schema);
+ * }</pre>
+ * A schema violation is reported as {@link ParseException} with the line of the violation.
+ * <br><br>
+ * Schemas are modified using the methods of this class and must not be modified while they are in use. A schema may
+ * be used by multiple threads at the same time.
+ */
+public final class JsonSchema {
+
+    /**
+     * Type of a json value.
+     */
+    public enum Type {
+        /**
+         * Any value including {@code null}. Size limits and ranges are ignored.
+         */
+        ANY,
+        OBJECT,
+        ARRAY,
+        STRING,
+        /**
+         * A number with an integral value, which fits into a {@code long}. Numbers without a type token are checked
+         * after the {@link JsonParser} parsed them, so {@code 5.0} is accepted as integer. If
+         * {@link JsonParser#setIdentifyNumberValues(boolean) identifyNumberValues} is enabled, numbers with a
+         * floating point type token (for example {@code 5.0D} or {@code 5F}) are not accepted, even if their value is
+         * integral.
+         */
+        INTEGER,
+        /**
+         * Any number.
+         */
+        NUMBER,
+        BOOLEAN,
+    }
+
+    /**
+     * What to do with keys of a json-object, that are not described by its schema.
+     */
+    public enum UnknownKeys {
+        /**
+         * Unknown keys are parsed without checking their values.
+         */
+        KEEP,
+        /**
+         * Unknown keys are skipped. Their values are not materialized and will not be present in the parsed json-object.
+         */
+        SKIP,
+        /**
+         * Unknown keys are a schema violation.
+         */
+        REJECT,
+    }
+
+    /**
+     * A key of a json-object.
+     * @param schema schema of the value
+     * @param requiredIndex index of the key in the required keys or {@code -1} if the key is optional
+     */
+    record Property(@NotNull String key, @NotNull JsonSchema schema, int requiredIndex) { }
+
+    private static final @NotNull JsonSchema ANY = new JsonSchema(Type.ANY);
+
+    private final @NotNull Type type;
+    private boolean nullable = false;
+
+    private long minInteger = Long.MIN_VALUE;
+    private long maxInteger = Long.MAX_VALUE;
+    private double minNumber = Double.NEGATIVE_INFINITY;
+    private double maxNumber = Double.POSITIVE_INFINITY;
+    private int minSize = 0;
+    private int maxSize = Integer.MAX_VALUE;
+
+    private @Nullable JsonSchema items = null;
+    private final @NotNull Map<String, Property> properties = new HashMap<>();
+    private @NotNull Property @NotNull [] required = new Property[0];
+    private @NotNull UnknownKeys unknownKeys = UnknownKeys.KEEP;
+
+    private JsonSchema(@NotNull Type type) {
+        this.type = type;
+    }
+
+    /* ================================================================================================= *\
+    |                                                                                                     |
+    |                                               Factories                                             |
+    |                                                                                                     |
+    \* ================================================================================================= */
+
+    /**
+     * Schema accepting any value.
+     */
+    public static @NotNull JsonSchema any() {
+        return ANY;
+    }
+
+    /**
+     * Schema for a json-object. Keys are added using {@link #required(String, JsonSchema)} and
+     * {@link #optional(String, JsonSchema)}.
+     */
+    public static @NotNull JsonSchema object() {
+        return new JsonSchema(Type.OBJECT);
+    }
+
+    /**
+     * Schema for a json-array.
+     * @param items schema of the elements of the json-array or {@code null} to accept any elements
+     */
+    public static @NotNull JsonSchema array(@Nullable JsonSchema items) {
+        JsonSchema schema = new JsonSchema(Type.ARRAY);
+        schema.items = items == ANY ? null : items;
+        return schema;
+    }
+
+    public static @NotNull JsonSchema string() {
+        return new JsonSchema(Type.STRING);
+    }
+
+    public static @NotNull JsonSchema integer() {
+        return new JsonSchema(Type.INTEGER);
+    }
+
+    public static @NotNull JsonSchema number() {
+        return new JsonSchema(Type.NUMBER);
+    }
+
+    public static @NotNull JsonSchema bool() {
+        return new JsonSchema(Type.BOOLEAN);
+    }
+
+    /* ================================================================================================= *\
+    |                                                                                                     |
+    |                                              Constraints                                            |
+    |                                                                                                     |
+    \* ================================================================================================= */
+
+    /**
+     * Allows the value to be {@code null}.
+     */
+    @Contract(" -> this")
+    public @NotNull JsonSchema nullable() {
+        checkNotAny();
+        this.nullable = true;
+        return this;
+    }
+
+    /**
+     * Range of an {@link Type#INTEGER INTEGER} or {@link Type#NUMBER NUMBER}.
+     * @param min minimum value (inclusive)
+     * @param max maximum value (inclusive)
+     */
+    @Contract("_, _ -> this")
+    public @NotNull JsonSchema range(long min, long max) {
+        if(type == Type.NUMBER) return range((double) min, (double) max);
+        checkType(Type.INTEGER);
+        this.minInteger = min;
+        this.maxInteger = max;
+        return this;
+    }
+
+    /**
+     * Range of a {@link Type#NUMBER NUMBER}.
+     * @param min minimum value (inclusive)
+     * @param max maximum value (inclusive)
+     */
+    @Contract("_, _ -> this")
+    public @NotNull JsonSchema range(double min, double max) {
+        checkType(Type.NUMBER);
+        this.minNumber = min;
+        this.maxNumber = max;
+        return this;
+    }
+
+    /**
+     * Size of a value: The length of a {@link Type#STRING STRING}, the amount of elements of an
+     * {@link Type#ARRAY ARRAY} or the amount of keys of an {@link Type#OBJECT OBJECT}. json-arrays and json-objects
+     * are rejected as soon as they exceed the maximum size.
+     * @param min minimum size (inclusive)
+     * @param max maximum size (inclusive)
+     */
+    @Contract("_, _ -> this")
+    public @NotNull JsonSchema size(int min, int max) {
+        if(type != Type.STRING && type != Type.ARRAY && type != Type.OBJECT)
+            throw new IllegalStateException("size is not supported for " + type + ".");
+        this.minSize = min;
+        this.maxSize = max;
+        return this;
+    }
+
+    /**
+     * Adds a key, which must be present in the json-object.
+     * @param key the key
+     * @param schema schema of the value
+     */
+    @Contract("_, _ -> this")
+    public @NotNull JsonSchema required(@NotNull String key, @NotNull JsonSchema schema) {
+        checkType(Type.OBJECT);
+        Property old = properties.get(key);
+        int index = old != null && old.requiredIndex() != -1 ? old.requiredIndex() : required.length;
+
+        Property property = new Property(key, schema, index);
+        properties.put(key, property);
+        if(index == required.length) required = Arrays.copyOf(required, required.length + 1);
+        required[index] = property;
+        return this;
+    }
+
+    /**
+     * Adds a key, which may be present in the json-object.
+     * @param key the key
+     * @param schema schema of the value
+     */
+    @Contract("_, _ -> this")
+    public @NotNull JsonSchema optional(@NotNull String key, @NotNull JsonSchema schema) {
+        checkType(Type.OBJECT);
+        if(properties.containsKey(key) && properties.get(key).requiredIndex() != -1)
+            throw new IllegalStateException("Key '" + key + "' is already required.");
+        properties.put(key, new Property(key, schema, -1));
+        return this;
+    }
+
+    /**
+     * What to do with keys of the json-object, that were not added using {@link #required(String, JsonSchema)} or
+     * {@link #optional(String, JsonSchema)}.<br>
+     * Default: {@link UnknownKeys#KEEP}
+     * @param unknownKeys {@link UnknownKeys}
+     */
+    @Contract("_ -> this")
+    public @NotNull JsonSchema unknownKeys(@NotNull UnknownKeys unknownKeys) {
+        checkType(Type.OBJECT);
+        this.unknownKeys = unknownKeys;
+        return this;
+    }
+
+    public @NotNull Type getType() {
+        return type;
+    }
+
+    private void checkType(@NotNull Type expected) {
+        if(type != expected)
+            throw new IllegalStateException("Only supported for " + expected + ", but this schema is " + type + ".");
+    }
+
+    private void checkNotAny() {
+        if(type == Type.ANY)
+            throw new IllegalStateException("Not supported for " + Type.ANY + ".");
+    }
+
+    /* ================================================================================================= *\
+    |                                                                                                     |
+    |                                              Validation                                             |
+    |                                                                                                     |
+    \* ================================================================================================= */
+
+    boolean isAny() {
+        return type == Type.ANY;
+    }
+
+    @Nullable JsonSchema items() {
+        return items;
+    }
+
+    @Nullable Property property(@NotNull String key) {
+        return properties.get(key);
+    }
+
+    @NotNull UnknownKeys unknownKeys() {
+        return unknownKeys;
+    }
+
+    /**
+     * Checks, whether a value starting with given char is allowed. Primitive values are checked after they have been
+     * read using {@link #checkPrimitive(Object, ParseTracker)}.
+     * @param i first char of the value
+     */
+    void checkStart(int i, @NotNull ParseTracker tracker) throws ParseException {
+        Type found;
+        if(i == JsonParser.QUOTE_CHAR) found = Type.STRING;
+        else if(i == JsonParser.CURLY_BRACKET_OPEN_CHAR) found = Type.OBJECT;
+        else if(i == JsonParser.SQUARE_BRACKET_OPEN_CHAR) found = Type.ARRAY;
+        else return;
+
+        if(found != type) throw mismatch(found.toString(), tracker);
+    }
+
+    void checkString(@NotNull String value, @NotNull ParseTracker tracker) throws ParseException {
+        if(value.length() < minSize || value.length() > maxSize)
+            throw violation("String length " + value.length() + " is not in range [" + minSize + ", " + maxSize + "]", tracker);
+    }
+
+    void checkPrimitive(@Nullable Object value, @NotNull ParseTracker tracker) throws ParseException {
+        if(value == null) {
+            if(!nullable) throw mismatch("null", tracker);
+
+        } else if (value instanceof Boolean) {
+            if(type != Type.BOOLEAN) throw mismatch(Type.BOOLEAN.toString(), tracker);
+
+        } else if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            long l = ((Number) value).longValue();
+            if(type == Type.INTEGER) {
+                if(l < minInteger || l > maxInteger)
+                    throw violation("Value " + l + " is not in range [" + minInteger + ", " + maxInteger + "]", tracker);
+            } else if (type == Type.NUMBER) {
+                checkNumber(l, tracker);
+            } else {
+                throw mismatch(Type.INTEGER.toString(), tracker);
+            }
+
+        } else if (value instanceof Number number) {
+            if(type != Type.NUMBER) throw mismatch(Type.NUMBER.toString(), tracker);
+            checkNumber(number.doubleValue(), tracker);
+
+        } else {
+            throw mismatch(value.getClass().getSimpleName(), tracker);
+        }
+    }
+
+    private void checkNumber(double value, @NotNull ParseTracker tracker) throws ParseException {
+        if(value < minNumber || value > maxNumber)
+            throw violation("Value " + value + " is not in range [" + minNumber + ", " + maxNumber + "]", tracker);
+    }
+
+    /**
+     * Checks the amount of keys of a json-object or elements of a json-array, while it is being read.
+     */
+    void checkMaxSize(int size, @NotNull ParseTracker tracker) throws ParseException {
+        if(size > maxSize)
+            throw violation("Size exceeds the maximum of " + maxSize, tracker);
+    }
+
+    /**
+     * Checks the amount of keys of a json-object or elements of a json-array, after it has been read.
+     */
+    void checkMinSize(int size, @NotNull ParseTracker tracker) throws ParseException {
+        if(size < minSize)
+            throw violation("Size " + size + " is less than the minimum of " + minSize, tracker);
+    }
+
+    /**
+     * @return array to mark the required keys, which have been read or {@code null} if there are no required keys.
+     */
+    boolean @Nullable [] newRequiredTracker() {
+        return required.length == 0 ? null : new boolean[required.length];
+    }
+
+    /**
+     * Checks whether all required keys have been read.
+     */
+    void checkRequired(boolean @Nullable [] read, @NotNull ParseTracker tracker) throws ParseException {
+        if(read == null) return;
+        for (int i = 0; i < read.length; i++)
+            if(!read[i]) throw violation("Missing required key '" + required[i].key() + "'", tracker);
+    }
+
+    @NotNull ParseException mismatch(@NotNull String found, @NotNull ParseTracker tracker) {
+        return violation("Expected " + type + (nullable ? " or null" : "") + " but found " + found, tracker);
+    }
+
+    static @NotNull ParseException violation(@NotNull String message, @NotNull ParseTracker tracker) {
+        return new ParseException(tracker, "Schema violation: " + message);
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2026 Linus Andera
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.linusdev.lutils.data.json.parser;
+
+/**
+ * Tokens returned by {@link JsonPullParser#peek()}.
+ */
+public enum JsonToken {
+    /**
+     * The start of a json-object: {@code {}
+     */
+    BEGIN_OBJECT,
+    /**
+     * The end of a json-object: {@code }}
+     */
+    END_OBJECT,
+    /**
+     * The start of a json-array: {@code [}
+     */
+    BEGIN_ARRAY,
+    /**
+     * The end of a json-array: {@code ]}
+     */
+    END_ARRAY,
+    /**
+     * A key inside a json-object.
+     */
+    KEY,
+    /**
+     * A string value.
+     */
+    STRING,
+    /**
+     * A number value.
+     */
+    NUMBER,
+    /**
+     * A boolean value.
+     */
+    BOOLEAN,
+    /**
+     * A {@code null} value.
+     */
+    NULL,
+    /**
+     * The end of the json document has been reached.
+     */
+    END_DOCUMENT,
+}
@@ -0,0 +1,549 @@
+/*
+ * Copyright (c) 2026 Linus Andera
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.linusdev.lutils.data.json.parser;
+
+import de.linusdev.lutils.collections.BiIterator;
+import de.linusdev.lutils.collections.Entry;
+import de.linusdev.lutils.collections.EntryImpl;
+import de.linusdev.lutils.data.json.Json;
+import de.linusdev.lutils.other.parser.ParseException;
+import de.linusdev.lutils.other.parser.ParseTracker;
+import de.linusdev.lutils.other.parser.UnexpectedEndException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static de.linusdev.lutils.data.json.parser.JsonParser.*;
+
+/**
+ * A {@link Json}, which keeps the UTF-8 encoded json-object and only decodes values, when they are accessed.
+ * <br><br>
+ * When created, the json-object is scanned once and the offsets of all keys and values are stored in
+ * a flat {@code int[]} (the tape). Nested json-objects and json-arrays are skipped during this scan. A value is
+ * only decoded when it is accessed for the first time (for example using {@link #get(String)} or {@link #grab(String)}).
+ * Nested json-objects are returned as {@link LazyJson} again. Decoded values are cached.
+ * <br><br>
+ * Since values are only fully parsed when they are accessed, malformed values are detected at that point.
+ * In that case an {@link IllegalStateException} is thrown. Comments are skipped, but not passed to the
+ * comment consumer of the {@link JsonParser}.
+ * <br><br>
+ * Instances are created using {@link JsonParser#parseLazy(byte[])}. The given byte array must not be modified
+ * afterward.
+ * <br><br>
+ * If a key exists multiple times, only its last entry is visible. This applies to {@link #get(String)},
+ * {@link #size()} and {@link #iterator()}, the same way {@link JsonParser#parseBytes(byte[])} would overwrite earlier
+ * values.
+ * <br><br>
+ * Instances may be read by multiple threads. The lazily computed caches are published safely. If a value is accessed
+ * by multiple threads at the same time, it may be decoded more than once.
+ */
+class LazyJson implements Json {
+
+    /**
+     * Ints per entry on the {@link #tape}.
+     */
+    private static final int ENTRY_SIZE = 4;
+    private static final int KEY_START = 0;
+    private static final int KEY_END = 1;
+    private static final int VALUE_START = 2;
+    private static final int VALUE_END = 3;
+
+    private static final @NotNull Object NOT_DECODED = new Object();
+    private static final @NotNull VarHandle VALUES = MethodHandles.arrayElementVarHandle(Object[].class);
+
+    private final @NotNull Source source;
+
+    /**
+     * Tape of this json-object. For each entry it stores: key start, key end (both exclusive the quotes), value start
+     * and value end.
+     */
+    private final int @NotNull [] tape;
+    private final int size;
+    /**
+     * Index of the closing curly bracket.
+     */
+    private final int end;
+
+    /**
+     * Hashes of the keys. Computed on the first lookup.
+     */
+    private volatile int @Nullable [] keyHashes;
+    /**
+     * Indices of the entries, which are not overwritten by a later entry with the same key. Computed when first
+     * needed. {@link #ALL_VISIBLE} if no key exists multiple times.
+     */
+    private volatile int @Nullable [] visible;
+    private static final int @NotNull [] ALL_VISIBLE = new int[0];
+    /**
+     * Decoded values. {@link #NOT_DECODED} if the value has not been decoded yet. Accessed using {@link #VALUES}.
+     */
+    private final @Nullable Object @NotNull [] values;
+
+    /**
+     * Scans the json-object starting at given {@code start}.
+     * @param source the json
+     * @param start index of the opening curly bracket
+     * @throws ParseException if the json-object is malformed
+     */
+    LazyJson(@NotNull Source source, int start) throws ParseException {
+        this.source = source;
+
+        int[] tape = new int[ENTRY_SIZE * 8];
+        int size = 0;
+
+        int pos = source.skipWhitespace(start + 1);
+        if(pos < source.limit && source.bytes[pos] == CURLY_BRACKET_CLOSE_CHAR) {
+            this.end = pos;
+        } else {
+            while (true) {
+                if(pos >= source.limit) throw new UnexpectedEndException(source.tracker(pos));
+                if(source.bytes[pos] != QUOTE_CHAR) throw source.unexpected(pos);
+
+                if((size + 1) * ENTRY_SIZE > tape.length) tape = Arrays.copyOf(tape, tape.length * 2);
+                int index = size++ * ENTRY_SIZE;
+
+                tape[index + KEY_START] = pos + 1;
+                pos = source.skipString(pos + 1);
+                tape[index + KEY_END] = pos - 1;
+
+                pos = source.skipWhitespace(pos);
+                if(pos >= source.limit) throw new UnexpectedEndException(source.tracker(pos));
+                if(source.bytes[pos] != COLON_CHAR) throw source.unexpected(pos);
+
+                pos = source.skipWhitespace(pos + 1);
+                tape[index + VALUE_START] = pos;
+                pos = source.skipValue(pos);
+                tape[index + VALUE_END] = pos;
+
+                pos = source.skipWhitespace(pos);
+                if(pos >= source.limit) throw new UnexpectedEndException(source.tracker(pos));
+                if(source.bytes[pos] == COMMA_CHAR) {
+                    pos = source.skipWhitespace(pos + 1);
+                    continue;
+                }
+                if(source.bytes[pos] == CURLY_BRACKET_CLOSE_CHAR) {
+                    this.end = pos;
+                    break;
+                }
+                throw source.unexpected(pos);
+            }
+        }
+
+        this.tape = tape;
+        this.size = size;
+        this.values = new Object[size];
+        Arrays.fill(values, NOT_DECODED);
+    }
+
+    /**
+     * Index after the closing curly bracket of this json-object.
+     */
+    int end() {
+        return end + 1;
+    }
+
+    @Override
+    public Object _get(@NotNull String key) {
+        int index = indexOf(key);
+        if(index == -1) return null;
+        Object value = valueAt(index);
+        return value == null ? NULL : value;
+    }
+
+    @Override
+    public boolean exists(@NotNull String key) {
+        return indexOf(key) != -1;
+    }
+
+    @Override
+    public int size() {
+        int[] visible = visible();
+        return visible == ALL_VISIBLE ? size : visible.length;
+    }
+
+    @Override
+    public @NotNull BiIterator<String, Object> iterator() {
+        int[] visible = visible();
+        int count = visible == ALL_VISIBLE ? size : visible.length;
+
+        return new BiIterator<>() {
+            int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < count;
+            }
+
+            @Override
+            public @NotNull Entry<String, Object> next() {
+                if(!hasNext()) throw new NoSuchElementException();
+                int i = visible == ALL_VISIBLE ? index : visible[index];
+                index++;
+                return new EntryImpl<>(keyAt(i), valueAt(i));
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        return Json.toString(this);
+    }
+
+    /**
+     * Finds the entry with given {@code key}. If a key exists multiple times, the last entry is returned,
+     * the same way {@link JsonParser#parseBytes(byte[])} would overwrite earlier values.
+     * @return index of the entry or {@code -1} if no entry with given {@code key} exists.
+     */
+    private int indexOf(@NotNull String key) {
+        int[] hashes = keyHashes();
+
+        byte[] keyBytes = isAscii(key) ? null : key.getBytes(StandardCharsets.UTF_8);
+        int hash = keyBytes == null ? asciiHash(key) : hash(keyBytes, 0, keyBytes.length);
+
+        for (int i = size - 1; i >= 0; i--) {
+            if(hashes[i] != hash) continue;
+
+            int start = tape[i * ENTRY_SIZE + KEY_START];
+            int end = tape[i * ENTRY_SIZE + KEY_END];
+
+            if(hasEscapes(start, end)) {
+                if(keyAt(i).equals(key)) return i;
+            } else if(keyBytes == null) {
+                if(asciiEquals(start, end, key)) return i;
+            } else if(Arrays.equals(source.bytes, start, end, keyBytes, 0, keyBytes.length)) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    private int @NotNull [] keyHashes() {
+        int[] hashes = keyHashes;
+        if(hashes == null) {
+            hashes = new int[size];
+            for (int i = 0; i < size; i++) hashes[i] = rawKeyHash(i);
+            keyHashes = hashes;
+        }
+        return hashes;
+    }
+
+    /**
+     * @return indices of all entries, which are not overwritten by a later entry with the same key, or
+     * {@link #ALL_VISIBLE}.
+     */
+    private int @NotNull [] visible() {
+        int[] visible = this.visible;
+        if(visible != null) return visible;
+
+        int[] hashes = keyHashes();
+        int[] sorted = hashes.clone();
+        Arrays.sort(sorted);
+
+        boolean duplicates = false;
+        for (int i = 1; i < sorted.length && !duplicates; i++)
+            duplicates = sorted[i - 1] == sorted[i];
+
+        if(!duplicates) {
+            visible = ALL_VISIBLE;
+        } else {
+            // Only happens if a hash exists multiple times. Compare the keys of entries with equal hashes.
+            int[] indices = new int[size];
+            int count = 0;
+            outer:
+            for (int i = 0; i < size; i++) {
+                for (int j = i + 1; j < size; j++) {
+                    if(hashes[i] == hashes[j] && keyAt(i).equals(keyAt(j))) continue outer;
+                }
+                indices[count++] = i;
+            }
+            visible = count == size ? ALL_VISIBLE : Arrays.copyOf(indices, count);
+        }
+
+        this.visible = visible;
+        return visible;
+    }
+
+    /**
+     * Hash of the UTF-8 encoded (unescaped) key at given {@code index}.
+     */
+    private int rawKeyHash(int index) {
+        int start = tape[index * ENTRY_SIZE + KEY_START];
+        int end = tape[index * ENTRY_SIZE + KEY_END];
+
+        if(hasEscapes(start, end)) {
+            byte[] key = keyAt(index).getBytes(StandardCharsets.UTF_8);
+            return hash(key, 0, key.length);
+        }
+
+        return hash(source.bytes, start, end);
+    }
+
+    private @NotNull String keyAt(int index) {
+        int start = tape[index * ENTRY_SIZE + KEY_START];
+        try {
+            return source.parser.parseKey(source.reader(start), new ParseTracker());
+        } catch (IOException e) {
+            // Should never happen, since the Utf8JsonReader does not do any IO
+            throw new UncheckedIOException(e);
+        } catch (ParseException e) {
+            throw source.decodeFailed(start, e);
+        }
+    }
+
+    private @Nullable Object valueAt(int index) {
+        Object value = VALUES.getAcquire(values, index);
+        if(value == NOT_DECODED) {
+            int start = tape[index * ENTRY_SIZE + VALUE_START];
+            try {
+                value = source.decodeValue(start);
+            } catch (ParseException e) {
+                throw source.decodeFailed(start, e);
+            }
+            VALUES.setRelease(values, index, value);
+        }
+        return value;
+    }
+
+    private boolean hasEscapes(int start, int end) {
+        for (int i = start; i < end; i++)
+            if(source.bytes[i] == '\\') return true;
+        return false;
+    }
+
+    private boolean asciiEquals(int start, int end, @NotNull String key) {
+        if(end - start != key.length()) return false;
+        for (int i = 0; i < key.length(); i++)
+            if(source.bytes[start + i] != key.charAt(i)) return false;
+        return true;
+    }
+
+    private static boolean isAscii(@NotNull String str) {
+        for (int i = 0; i < str.length(); i++)
+            if(str.charAt(i) >= 0x80) return false;
+        return true;
+    }
+
+    private static int asciiHash(@NotNull String str) {
+        int hash = 1;
+        for (int i = 0; i < str.length(); i++)
+            hash = 31 * hash + str.charAt(i);
+        return hash;
+    }
+
+    private static int hash(byte @NotNull [] bytes, int start, int end) {
+        int hash = 1;
+        for (int i = start; i < end; i++)
+            hash = 31 * hash + bytes[i];
+        return hash;
+    }
+
+    /**
+     * The UTF-8 encoded json shared by a {@link LazyJson} and all its nested {@link LazyJson}s.
+     * @param parser the parser whose configuration is used to decode values
+     * @param bytes UTF-8 encoded json
+     * @param limit exclusive limit of {@code bytes}
+     */
+    record Source(@NotNull JsonParser parser, byte @NotNull [] bytes, int limit) {
+
+        /**
+         * Parses the value starting at given {@code pos}.
+         * @return decoded value. json-objects are returned as {@link LazyJson}.
+         */
+        @Nullable Object decodeValue(int pos) throws ParseException {
+            byte b = bytes[pos];
+
+            if(b == CURLY_BRACKET_OPEN_CHAR) {
+                return new LazyJson(this, pos);
+            } else if (b == SQUARE_BRACKET_OPEN_CHAR) {
+                return decodeArray(pos);
+            }
+
+            // The value is followed by at least a closing bracket, which terminates primitive values.
+            // Lines are only counted, if decoding fails (see decodeFailed)
+            try {
+                return parser.parseJsonValue(reader(pos), new ParseTracker());
+            } catch (IOException e) {
+                // Should never happen, since the Utf8JsonReader does not do any IO
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        /**
+         * Parses the json-array starting at given {@code pos}. Its elements are decoded using {@link #decodeValue(int)}.
+         */
+        @NotNull List<Object> decodeArray(int pos) throws ParseException {
+            List<Object> list = null;
+
+            pos = skipWhitespace(pos + 1);
+            while (pos < limit) {
+                if(bytes[pos] == SQUARE_BRACKET_CLOSE_CHAR) return parser.finishArray(list);
+
+                list = parser.addToArray(list, decodeValue(pos));
+                pos = skipWhitespace(skipValue(pos));
+
+                if(pos >= limit) break;
+                if(bytes[pos] == COMMA_CHAR) pos = skipWhitespace(pos + 1);
+                else if(bytes[pos] != SQUARE_BRACKET_CLOSE_CHAR) throw unexpected(pos);
+            }
+
+            throw new UnexpectedEndException(tracker(pos));
+        }
+
+        /**
+         * Skips whitespaces and, if allowed, comments.
+         * @return index of the next byte, which is not a whitespace
+         */
+        int skipWhitespace(int pos) throws ParseException {
+            while (pos < limit) {
+                byte b = bytes[pos];
+
+                if(b >= 0 && b <= SPACE_CHAR) {
+                    pos++;
+                } else if(b == SLASH_CHAR && parser.isAllowComments()) {
+                    pos = skipComment(pos);
+                } else {
+                    return pos;
+                }
+            }
+
+            return pos;
+        }
+
+        /**
+         * Skips the comment starting at given {@code pos}.
+         * @return index after the comment
+         */
+        int skipComment(int pos) throws ParseException {
+            if(pos + 1 >= limit) throw new UnexpectedEndException(tracker(pos));
+
+            if(bytes[pos + 1] == SLASH_CHAR) {
+                pos += 2;
+                while (pos < limit && bytes[pos] != NEW_LINE_CHAR) pos++;
+                return pos;
+            }
+
+            if(bytes[pos + 1] == ASTERISK_CHAR) {
+                for (pos += 2; pos + 1 < limit; pos++) {
+                    if(bytes[pos] == ASTERISK_CHAR && bytes[pos + 1] == SLASH_CHAR)
+                        return pos + 2;
+                }
+                throw new UnexpectedEndException(tracker(pos));
+            }
+
+            throw unexpected(pos + 1);
+        }
+
+        /**
+         * Skips the string, whose content starts at given {@code pos}.
+         * @return index after the closing quote
+         */
+        int skipString(int pos) throws ParseException {
+            while (pos < limit) {
+                byte b = bytes[pos++];
+                if(b == QUOTE_CHAR) return pos;
+                if(b == '\\') pos++;
+            }
+
+            throw new UnexpectedEndException(tracker(pos));
+        }
+
+        /**
+         * Skips the value starting at given {@code pos}. json-objects and json-arrays are skipped by counting
+         * brackets, their content is not validated.
+         * @return index after the value
+         */
+        int skipValue(int pos) throws ParseException {
+            if(pos >= limit) throw new UnexpectedEndException(tracker(pos));
+            byte b = bytes[pos];
+
+            if(b == QUOTE_CHAR)
+                return skipString(pos + 1);
+
+            if(b == CURLY_BRACKET_OPEN_CHAR || b == SQUARE_BRACKET_OPEN_CHAR) {
+                int depth = 0;
+                while (pos < limit) {
+                    b = bytes[pos];
+
+                    if(b == QUOTE_CHAR) {
+                        pos = skipString(pos + 1);
+                        continue;
+                    } else if(b == SLASH_CHAR && parser.isAllowComments()) {
+                        pos = skipComment(pos);
+                        continue;
+                    } else if(b == CURLY_BRACKET_OPEN_CHAR || b == SQUARE_BRACKET_OPEN_CHAR) {
+                        depth++;
+                    } else if(b == CURLY_BRACKET_CLOSE_CHAR || b == SQUARE_BRACKET_CLOSE_CHAR) {
+                        if(--depth == 0) return pos + 1;
+                    }
+
+                    pos++;
+                }
+
+                throw new UnexpectedEndException(tracker(pos));
+            }
+
+            int start = pos;
+            while (pos < limit) {
+                b = bytes[pos];
+                if(b == COMMA_CHAR || b == CURLY_BRACKET_CLOSE_CHAR || b == SQUARE_BRACKET_CLOSE_CHAR
+                        || b == SLASH_CHAR || (b >= 0 && b <= SPACE_CHAR))
+                    break;
+                pos++;
+            }
+
+            if(pos == start) throw unexpected(pos);
+            return pos;
+        }
+
+        @NotNull Utf8JsonReader reader(int pos) {
+            return new Utf8JsonReader(bytes, pos, limit - pos);
+        }
+
+        /**
+         * Creates a {@link ParseTracker} for given {@code pos}. Lines are only counted when needed.
+         */
+        @NotNull ParseTracker tracker(int pos) {
+            ParseTracker tracker = new ParseTracker();
+            for (int i = 0; i < pos && i < limit; i++)
+                if(bytes[i] == NEW_LINE_CHAR) tracker.nextLine();
+            return tracker;
+        }
+
+        /**
+         * Creates the exception thrown, if decoding a value starting at given {@code pos} failed.
+         * @param e the exception, whose line is relative to given {@code pos}
+         */
+        @NotNull IllegalStateException decodeFailed(int pos, @NotNull ParseException e) {
+            int line = tracker(pos).getLine() - 1 + (e.getParseTracker() == null ? 1 : e.getParseTracker().getLine());
+            return new IllegalStateException("Could not decode value starting in line " + line + ".", e);
+        }
+
+        @NotNull ParseException unexpected(int pos) {
+            if(pos >= limit) return new UnexpectedEndException(tracker(pos));
+            return new ParseException(tracker(pos), (char) (bytes[pos] & 0xFF));
+        }
+    }
+}
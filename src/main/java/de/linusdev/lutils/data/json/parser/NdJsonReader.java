@@ -0,0 +1,387 @@
+/*
+ * Copyright (c) 2026 Linus Andera
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.linusdev.lutils.data.json.parser;
+
+import de.linusdev.lutils.data.json.Json;
+import de.linusdev.lutils.interfaces.TConsumer;
+import de.linusdev.lutils.other.parser.ParseException;
+import de.linusdev.lutils.other.parser.ParseTracker;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static de.linusdev.lutils.data.json.parser.JsonParser.NEW_LINE_CHAR;
+import static de.linusdev.lutils.data.json.parser.JsonParser.SPACE_CHAR;
+
+/**
+ * Reads <a href="https://github.com/ndjson/ndjson-spec">newline delimited json</a> (also known as JSON Lines): Each
+ * line contains a single json-object. Blank lines are skipped.
+ * <br><br>
+ * The lines are split on the byte level and collected in batches. Each batch is decoded using
+ * {@link JsonParser#parseBytes(byte[], int, int)}. If an {@link Executor} is {@link #setExecutor(Executor) set},
+ * multiple batches are decoded in parallel. The {@link Json} objects are always returned in the order of the lines.
+ * <br><br>
+ * Usage:
+ * <pre>{@code
+ * try (NdJsonReader reader = parser.ndJsonReader(stream).setExecutor(executor)) {
+ *     reader.forEach(json -> {
+ *         // ...
+ *     });
+ * }
+ * }</pre>
+ * Instances can be created using {@link JsonParser#ndJsonReader(InputStream)}. This class is not thread safe.
+ * @see NdJsonWriter
+ */
+public class NdJsonReader implements Closeable {
+
+    private static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    private final @NotNull JsonParser parser;
+    private final @NotNull InputStream in;
+
+    private @Nullable Executor executor = null;
+    private int batchSize = 256;
+    private int maxPendingBatches = 2 * Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Bytes read from {@link #in}. The bytes between {@link #position} and {@link #limit} have not been split yet.
+     */
+    private byte @NotNull [] buffer = new byte[DEFAULT_BUFFER_SIZE];
+    private int position = 0;
+    private int limit = 0;
+    private boolean endOfStream = false;
+    /**
+     * Line number of the line starting at {@link #position}.
+     */
+    private int line = 1;
+    /**
+     * Amount of bytes of the incomplete line starting at {@link #position}, which have already been searched for a
+     * line break. Allows {@link #readBatch()} to continue the search after {@link #fill()}.
+     */
+    private int scanned = 0;
+    /**
+     * Whether the {@link #scanned} bytes only contain whitespaces.
+     */
+    private boolean scannedBlank = true;
+
+    private final @NotNull ArrayDeque<CompletableFuture<Decoded>> pending = new ArrayDeque<>();
+    private @Nullable Decoded current = null;
+    private int currentIndex = 0;
+
+    NdJsonReader(@NotNull JsonParser parser, @NotNull InputStream in) {
+        this.parser = parser;
+        this.in = in;
+    }
+
+    /* ================================================================================================= *\
+    |                                                                                                     |
+    |                                             Config setter                                           |
+    |                                                                                                     |
+    \* ================================================================================================= */
+
+    /**
+     * If set, batches of lines are decoded using given {@code executor}. Up to {@link #setMaxPendingBatches(int)}
+     * batches are decoded in parallel.<br>
+     * Default: {@code null} (decode on the calling thread)
+     * @param executor {@link Executor} to decode batches on or {@code null} to decode on the calling thread.
+     */
+    @Contract("_ -> this")
+    public @NotNull NdJsonReader setExecutor(@Nullable Executor executor) {
+        this.executor = executor;
+        return this;
+    }
+
+    /**
+     * Maximum amount of lines decoded in a single batch. A batch may contain fewer lines, if the read buffer does not
+     * contain enough complete lines.<br>
+     * Default: {@code 256}
+     * @param batchSize maximum amount of lines per batch
+     */
+    @Contract("_ -> this")
+    public @NotNull NdJsonReader setBatchSize(int batchSize) {
+        if(batchSize <= 0) throw new IllegalArgumentException("batchSize must be positive.");
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    /**
+     * Maximum amount of batches decoded in parallel, if an {@link #setExecutor(Executor) executor} is set.<br>
+     * Default: twice the amount of available processors
+     * @param maxPendingBatches maximum amount of batches decoded in parallel
+     */
+    @Contract("_ -> this")
+    public @NotNull NdJsonReader setMaxPendingBatches(int maxPendingBatches) {
+        if(maxPendingBatches <= 0) throw new IllegalArgumentException("maxPendingBatches must be positive.");
+        this.maxPendingBatches = maxPendingBatches;
+        return this;
+    }
+
+    /* ================================================================================================= *\
+    |                                                                                                     |
+    |                                                Reading                                              |
+    |                                                                                                     |
+    \* ================================================================================================= */
+
+    /**
+     * Reads the next json-object.
+     * @return the next {@link Json} or {@code null} if the end of the stream has been reached.
+     * @throws IOException while reading
+     * @throws ParseException if a line does not contain valid json. The line of the exception is the line in the stream.
+     * Once thrown, every following call will throw the same exception.
+     */
+    public @Nullable Json next() throws IOException, ParseException {
+        while (true) {
+            if(current != null) {
+                if(currentIndex < current.count) return current.jsons[currentIndex++];
+                if(current.error != null) throw current.error;
+            }
+
+            if(!nextBatch()) return null;
+        }
+    }
+
+    /**
+     * Reads all remaining json-objects and calls given {@code consumer} for each of them in order.
+     * @param consumer consumer to call for each json-object
+     * @throws IOException while reading
+     * @throws ParseException if a line does not contain valid json
+     * @throws T if thrown by given {@code consumer}
+     */
+    public <T extends Throwable> void forEach(@NotNull TConsumer<@NotNull Json, T> consumer) throws IOException, ParseException, T {
+        Json json;
+        while ((json = next()) != null)
+            consumer.consume(json);
+    }
+
+    /**
+     * {@link Stream} of all remaining json-objects. Closing the stream closes this reader.<br>
+     * {@link IOException}s are wrapped in an {@link UncheckedIOException}, {@link ParseException}s are wrapped
+     * in an {@link IllegalStateException}.
+     * @return sequential, ordered {@link Stream} of the remaining json-objects
+     */
+    public @NotNull Stream<Json> stream() {
+        Iterator<Json> it = new Iterator<>() {
+            @Nullable Json next;
+
+            @Override
+            public boolean hasNext() {
+                if(next != null) return true;
+                try {
+                    next = NdJsonReader.this.next();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                } catch (ParseException e) {
+                    throw new IllegalStateException(e);
+                }
+                return next != null;
+            }
+
+            @Override
+            public Json next() {
+                if(!hasNext()) throw new NoSuchElementException();
+                Json json = next;
+                next = null;
+                return json;
+            }
+        };
+
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(it, Spliterator.ORDERED | Spliterator.NONNULL),
+                false
+        ).onClose(() -> {
+            try {
+                close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /**
+     * Cancels all pending batches and closes the underlying {@link InputStream}.
+     */
+    @Override
+    public void close() throws IOException {
+        for (CompletableFuture<Decoded> future : pending)
+            future.cancel(false);
+        pending.clear();
+        current = null;
+        in.close();
+    }
+
+    /**
+     * Sets {@link #current} to the next decoded batch. Waits for the oldest pending batch, if an
+     * {@link #executor} is set.
+     * @return {@code false} if there are no more batches.
+     */
+    private boolean nextBatch() throws IOException {
+        if(executor == null) {
+            Batch batch = readBatch();
+            if(batch == null) return false;
+            current = batch.decode(parser);
+            currentIndex = 0;
+            return true;
+        }
+
+        Batch batch;
+        while (pending.size() < maxPendingBatches && (batch = readBatch()) != null) {
+            Batch b = batch;
+            pending.add(CompletableFuture.supplyAsync(() -> b.decode(parser), executor));
+        }
+
+        CompletableFuture<Decoded> future = pending.poll();
+        if(future == null) return false;
+
+        try {
+            current = future.join();
+        } catch (CompletionException e) {
+            if(e.getCause() instanceof RuntimeException re) throw re;
+            if(e.getCause() instanceof Error err) throw err;
+            throw e;
+        }
+        currentIndex = 0;
+        return true;
+    }
+
+    /**
+     * Splits the next lines into a {@link Batch}.
+     * @return the next batch or {@code null} if the end of the stream has been reached.
+     */
+    private @Nullable Batch readBatch() throws IOException {
+        while (true) {
+            int start = position;
+            int count = 0;
+            int[] offsets = new int[Math.min(batchSize, 64) * 2];
+            int[] lines = new int[Math.min(batchSize, 64)];
+
+            int i = position + scanned;
+            int lineStart = position;
+            boolean blank = scannedBlank;
+
+            while (count < batchSize) {
+                int lineEnd;
+
+                if(i == limit) {
+                    // Incomplete line. Only the last line of the stream does not need to end with a line break
+                    if(!endOfStream || lineStart == limit) break;
+                    lineEnd = limit;
+                } else if (buffer[i] != NEW_LINE_CHAR) {
+                    if(buffer[i] < 0 || buffer[i] > SPACE_CHAR) blank = false;
+                    i++;
+                    continue;
+                } else {
+                    lineEnd = i++;
+                }
+
+                if(!blank) {
+                    if(count == lines.length) {
+                        lines = Arrays.copyOf(lines, count * 2);
+                        offsets = Arrays.copyOf(offsets, count * 4);
+                    }
+                    offsets[count * 2] = lineStart - start;
+                    offsets[count * 2 + 1] = lineEnd - lineStart;
+                    lines[count] = line;
+                    count++;
+                }
+
+                line++;
+                blank = true;
+                lineStart = i;
+            }
+
+            position = lineStart;
+            scanned = i - lineStart;
+            scannedBlank = blank;
+
+            if(count > 0)
+                return new Batch(Arrays.copyOfRange(buffer, start, lineStart), offsets, lines, count);
+            if(endOfStream && position == limit)
+                return null;
+
+            fill();
+        }
+    }
+
+    /**
+     * Moves the remaining bytes to the start of the {@link #buffer} and reads more bytes.
+     * The buffer is enlarged, if it is full.
+     */
+    private void fill() throws IOException {
+        int remaining = limit - position;
+        if(remaining == buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        } else if(position > 0) {
+            System.arraycopy(buffer, position, buffer, 0, remaining);
+        }
+
+        position = 0;
+        limit = remaining;
+
+        int read = in.read(buffer, limit, buffer.length - limit);
+        if(read == -1) endOfStream = true;
+        else limit += read;
+    }
+
+    /**
+     * Lines to decode.
+     * @param bytes bytes of the lines
+     * @param offsets start and length of each line in {@code bytes}
+     * @param lines line number of each line
+     * @param count amount of lines
+     */
+    private record Batch(byte @NotNull [] bytes, int @NotNull [] offsets, int @NotNull [] lines, int count) {
+
+        /**
+         * Decodes the lines until the first malformed line.
+         */
+        @NotNull Decoded decode(@NotNull JsonParser parser) {
+            Json[] result = new Json[count];
+            for (int i = 0; i < count; i++) {
+                try {
+                    result[i] = parser.parseBytes(bytes, offsets[i * 2], offsets[i * 2 + 1], new ParseTracker(lines[i]));
+                } catch (ParseException e) {
+                    return new Decoded(result, i, e);
+                }
+            }
+            return new Decoded(result, count, null);
+        }
+    }
+
+    /**
+     * Decoded {@link Batch}.
+     * @param jsons decoded json-objects
+     * @param count amount of successfully decoded json-objects
+     * @param error exception of the line after the last successfully decoded line or {@code null}
+     */
+    private record Decoded(@Nullable Json @NotNull [] jsons, int count, @Nullable ParseException error) { }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026 Linus Andera
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.linusdev.lutils.data.json.parser;
+
+import de.linusdev.lutils.data.Data;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import static de.linusdev.lutils.data.json.parser.JsonParser.NEW_LINE_CHAR;
+
+/**
+ * Writes <a href="https://github.com/ndjson/ndjson-spec">newline delimited json</a> (also known as JSON Lines):
+ * Each {@link #write(Data) written} {@link Data} is written compact (without any line breaks) followed by a single
+ * line break.
+ * <br><br>
+ * The json is encoded directly to UTF-8 into an internal buffer, which is written to the underlying
+ * {@link OutputStream} whenever it is full and when {@link #flush()} is called.
+ * <br><br>
+ * Instances can be created using {@link JsonParser#ndJsonWriter(OutputStream)}. This class is not thread safe.
+ * @see NdJsonReader
+ */
+public class NdJsonWriter implements Closeable, Flushable {
+
+    private final @NotNull JsonParser parser;
+    private final @NotNull OutputStream out;
+    private final @NotNull Utf8Appendable writer;
+
+    NdJsonWriter(@NotNull JsonParser parser, @NotNull OutputStream out) {
+        this.parser = parser;
+        this.out = out;
+        this.writer = new Utf8Appendable(out, 8192);
+    }
+
+    /**
+     * Appends given {@code data} as a single line.
+     * @param data {@link Data} to write. {@code null} will write an empty Data: "{}"
+     * @throws IOException while writing
+     */
+    @Contract("_ -> this")
+    public @NotNull NdJsonWriter write(@Nullable Data data) throws IOException {
+        parser.writeDataCompact(writer, data);
+        writer.append((char) NEW_LINE_CHAR);
+        return this;
+    }
+
+    /**
+     * Writes the buffer to the underlying {@link OutputStream} and flushes it.
+     */
+    @Override
+    public void flush() throws IOException {
+        writer.finish();
+        out.flush();
+    }
+
+    /**
+     * {@link #flush() Flushes} and closes the underlying {@link OutputStream}.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            out.close();
+        }
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2026 Linus Andera
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.linusdev.lutils.data.json.parser;
+
+import de.linusdev.lutils.data.json.Json;
+import de.linusdev.lutils.other.parser.ParseException;
+import de.linusdev.lutils.other.parser.ParseTracker;
+import de.linusdev.lutils.other.parser.UnexpectedEndException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import static de.linusdev.lutils.data.json.parser.JsonParser.*;
+
+/**
+ * Parses a json-array at the top level of a document in parallel. First, the boundaries of all elements are found
+ * by a structural scan, which only counts brackets and skips strings (see {@link LazyJson.Source#skipValue(int)}).
+ * Then the elements are parsed on a {@link ForkJoinPool} and collected in order.
+ * @see JsonParser#setParallelArrayParsing(ForkJoinPool, int)
+ */
+class ParallelArrayParser {
+
+    /**
+     * Marks an element, which could not be parsed.
+     */
+    private static final @NotNull Object FAILED = new Object();
+
+    private final @NotNull JsonParser parser;
+    private final @NotNull LazyJson.Source source;
+
+    /**
+     * Start of each element.
+     */
+    private int @NotNull [] starts = new int[1024];
+    private int count = 0;
+    private @Nullable Object @Nullable [] values;
+
+    private ParallelArrayParser(@NotNull JsonParser parser, byte @NotNull [] json, int limit) {
+        this.parser = parser;
+        this.source = new LazyJson.Source(parser, json, limit);
+    }
+
+    /**
+     * Parses given {@code json} in parallel, if it is a json-array.
+     * @return parsed and wrapped json-array or {@code null} if given {@code json} is not a json-array.
+     */
+    static @Nullable Json parse(
+            @NotNull JsonParser parser, @NotNull ForkJoinPool pool,
+            byte @NotNull [] json, int offset, int length
+    ) throws ParseException {
+        ParallelArrayParser p = new ParallelArrayParser(parser, json, offset + length);
+
+        // Skip UTF-8 BOM
+        if(length >= 3 && json[offset] == (byte) 0xEF && json[offset + 1] == (byte) 0xBB && json[offset + 2] == (byte) 0xBF)
+            offset += 3;
+
+        int pos = p.source.skipWhitespace(offset);
+        if(pos >= p.source.limit() || json[pos] != SQUARE_BRACKET_OPEN_CHAR)
+            return null;
+
+        p.scan(pos);
+        p.values = new Object[p.count];
+        pool.invoke(p.new ParseTask(0, p.count, Math.max(1, p.count / (pool.getParallelism() * 8))));
+
+        return parser.wrapArray(p.collect());
+    }
+
+    /**
+     * Finds the start of each element of the json-array starting at given {@code pos}. Same as
+     * {@link JsonParser#parseJsonArray(JsonReader, ParseTracker)}, a trailing comma is allowed.
+     */
+    private void scan(int pos) throws ParseException {
+        byte[] bytes = source.bytes();
+        int limit = source.limit();
+
+        pos = source.skipWhitespace(pos + 1);
+        while (pos < limit) {
+            if(bytes[pos] == SQUARE_BRACKET_CLOSE_CHAR) return;
+
+            if(count == starts.length) starts = Arrays.copyOf(starts, count * 2);
+            starts[count++] = pos;
+
+            pos = source.skipWhitespace(source.skipValue(pos));
+            if(pos >= limit) break;
+            if(bytes[pos] == COMMA_CHAR) pos = source.skipWhitespace(pos + 1);
+            else if(bytes[pos] != SQUARE_BRACKET_CLOSE_CHAR) throw source.unexpected(pos);
+        }
+
+        throw new UnexpectedEndException(source.tracker(pos));
+    }
+
+    /**
+     * Collects the parsed elements in order. If an element could not be parsed, it is parsed again on the calling
+     * thread with the correct line, so that the same exception as during sequential parsing is thrown.
+     */
+    private @NotNull List<Object> collect() throws ParseException {
+        assert values != null;
+        List<Object> list = null;
+
+        for (int i = 0; i < count; i++) {
+            Object value = values[i];
+            if(value == FAILED) value = parseElement(i, source.tracker(starts[i]));
+            list = parser.addToArray(list, value);
+        }
+
+        return parser.finishArray(list);
+    }
+
+    private @Nullable Object parseElement(int index, @NotNull ParseTracker tracker) throws ParseException {
+        try {
+            return parser.parseJsonValue(source.reader(starts[index]), tracker);
+        } catch (IOException e) {
+            // Should never happen, since the Utf8JsonReader does not do any IO
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Parses the elements {@code from} (inclusive) to {@code to} (exclusive).
+     */
+    private class ParseTask extends RecursiveAction {
+
+        private final int from;
+        private final int to;
+        private final int grain;
+
+        ParseTask(int from, int to, int grain) {
+            this.from = from;
+            this.to = to;
+            this.grain = grain;
+        }
+
+        @Override
+        protected void compute() {
+            if(to - from > grain) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new ParseTask(from, mid, grain), new ParseTask(mid, to, grain));
+                return;
+            }
+
+            assert values != null;
+            for (int i = from; i < to; i++) {
+                try {
+                    // Lines are only counted, if parsing fails (see collect)
+                    values[i] = parseElement(i, new ParseTracker());
+                } catch (ParseException e) {
+                    values[i] = FAILED;
+                }
+            }
+        }
+    }
+}
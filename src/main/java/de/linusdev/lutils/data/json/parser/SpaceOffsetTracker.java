@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023-2025 Linus Andera
+ * Copyright (c) 2023-2026 Linus Andera
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,30 +16,92 @@
 
 package de.linusdev.lutils.data.json.parser;
 
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Tracks the current indent while writing json. The indent strings of all levels are precomputed, so
+ * changing the level does not create any strings. In compact mode, no line breaks and no indents are written.
+ */
 class SpaceOffsetTracker {
 
-    private String offset;
-    private final String offsetValue;
+    private final @NotNull String offsetValue;
+    private final boolean compact;
+
+    /**
+     * Indent strings. The index is the level.
+     */
+    private @NotNull String @NotNull [] levels;
+    private int level = 0;
+
+    public SpaceOffsetTracker(@NotNull String offsetValue){
+        this(offsetValue, false);
+    }
+
+    public SpaceOffsetTracker(@NotNull String offsetValue, boolean compact){
+        this(offsetValue, compact, computeLevels(offsetValue, 8));
+    }
 
-    public SpaceOffsetTracker(String offsetValue){
-        offset = "";
+    /**
+     * @param levels precomputed indent strings as returned by {@link #computeLevels(String, int)}.
+     */
+    SpaceOffsetTracker(@NotNull String offsetValue, boolean compact, @NotNull String @NotNull [] levels){
         this.offsetValue = offsetValue;
+        this.compact = compact;
+        this.levels = levels;
+    }
+
+    /**
+     * Computes the indent strings for the first {@code count} levels.
+     */
+    static @NotNull String @NotNull [] computeLevels(@NotNull String offsetValue, int count) {
+        String[] levels = new String[count];
+        for (int i = 0; i < count; i++)
+            levels[i] = offsetValue.repeat(i);
+        return levels;
     }
 
     public void add(){
-        offset += offsetValue;
+        level++;
+        if(level == levels.length) {
+            // Do not modify the array, it may be shared
+            String[] old = levels;
+            levels = Arrays.copyOf(old, old.length * 2);
+            for (int i = old.length; i < levels.length; i++)
+                levels[i] = offsetValue.repeat(i);
+        }
     }
 
     public void remove(){
-        offset = offset.substring(0, offset.length()-offsetValue.length());
+        level--;
+    }
+
+    public boolean isCompact() {
+        return compact;
+    }
+
+    /**
+     * Writes a line break, if not in compact mode.
+     */
+    public void lineBreak(@NotNull Appendable writer) throws IOException {
+        if(!compact) writer.append('\n');
+    }
+
+    /**
+     * Writes the indent of the current level, if not in compact mode.
+     */
+    public void indent(@NotNull Appendable writer) throws IOException {
+        if(!compact) writer.append(levels[level]);
     }
 
     public String get(){
-        return offset;
+        return compact ? "" : levels[level];
     }
 
     @Override
     public String toString() {
-        return offset;
+        return get();
     }
 }
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2026 Linus Andera
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.linusdev.lutils.data.json.parser;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * An {@link Appendable}, that encodes all appended chars directly as UTF-8 into a byte buffer. If an
+ * {@link OutputStream} is given, the buffer is written to it whenever it is full. Otherwise, the buffer grows
+ * as needed and its content can be retrieved using {@link #toByteArray()}.
+ * <br><br>
+ * Unpaired surrogates are encoded as {@code '?'}, the same way {@link String#getBytes(java.nio.charset.Charset)} does.
+ */
+final class Utf8Appendable implements Appendable {
+
+    private final @Nullable OutputStream out;
+    private byte @NotNull [] buffer;
+    private int position = 0;
+
+    /**
+     * The last appended char, if it was a high surrogate. {@code 0} otherwise.
+     */
+    private char highSurrogate = 0;
+
+    /**
+     * @param out stream to write to or {@code null} to only write into the buffer
+     * @param bufferSize initial size of the buffer. Must be at least {@code 4}.
+     */
+    Utf8Appendable(@Nullable OutputStream out, int bufferSize) {
+        this.out = out;
+        this.buffer = new byte[bufferSize];
+    }
+
+    @Override
+    public @NotNull Utf8Appendable append(@Nullable CharSequence csq) throws IOException {
+        if(csq == null) csq = "null";
+        return append(csq, 0, csq.length());
+    }
+
+    @Override
+    public @NotNull Utf8Appendable append(@Nullable CharSequence csq, int start, int end) throws IOException {
+        if(csq == null) csq = "null";
+
+        for (int i = start; i < end; i++) {
+            char c = csq.charAt(i);
+
+            if(c < 0x80 && highSurrogate == 0) {
+                if(position == buffer.length) makeRoom();
+                buffer[position++] = (byte) c;
+            } else {
+                append(c);
+            }
+        }
+
+        return this;
+    }
+
+    @Override
+    public @NotNull Utf8Appendable append(char c) throws IOException {
+        if(buffer.length - position < 4) makeRoom();
+
+        if(highSurrogate != 0) {
+            char high = highSurrogate;
+            highSurrogate = 0;
+
+            if(Character.isLowSurrogate(c)) {
+                int codePoint = Character.toCodePoint(high, c);
+                buffer[position++] = (byte) (0xF0 | (codePoint >> 18));
+                buffer[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                buffer[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                buffer[position++] = (byte) (0x80 | (codePoint & 0x3F));
+                return this;
+            }
+
+            buffer[position++] = '?';
+            if(buffer.length - position < 4) makeRoom();
+        }
+
+        if(c < 0x80) {
+            buffer[position++] = (byte) c;
+        } else if (c < 0x800) {
+            buffer[position++] = (byte) (0xC0 | (c >> 6));
+            buffer[position++] = (byte) (0x80 | (c & 0x3F));
+        } else if (Character.isHighSurrogate(c)) {
+            highSurrogate = c;
+        } else if (Character.isLowSurrogate(c)) {
+            buffer[position++] = '?';
+        } else {
+            buffer[position++] = (byte) (0xE0 | (c >> 12));
+            buffer[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+            buffer[position++] = (byte) (0x80 | (c & 0x3F));
+        }
+
+        return this;
+    }
+
+    /**
+     * Writes a pending unpaired high surrogate and writes the buffer to the {@link OutputStream}, if present.
+     */
+    void finish() throws IOException {
+        if(highSurrogate != 0) {
+            highSurrogate = 0;
+            if(position == buffer.length) makeRoom();
+            buffer[position++] = '?';
+        }
+
+        if(out != null) {
+            out.write(buffer, 0, position);
+            position = 0;
+        }
+    }
+
+    /**
+     * Content of the buffer. Only useful, if no {@link OutputStream} is present.
+     */
+    byte @NotNull [] toByteArray() {
+        return Arrays.copyOf(buffer, position);
+    }
+
+    private void makeRoom() throws IOException {
+        if(out != null) {
+            out.write(buffer, 0, position);
+            position = 0;
+        } else {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+    }
+}
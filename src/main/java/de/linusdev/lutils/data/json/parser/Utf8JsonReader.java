@@ -0,0 +1,396 @@
+/*
+ * Copyright (c) 2026 Linus Andera
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.linusdev.lutils.data.json.parser;
+
+import de.linusdev.lutils.other.parser.ParseException;
+import de.linusdev.lutils.other.parser.ParseTracker;
+import de.linusdev.lutils.other.parser.UnexpectedEndException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+
+import static de.linusdev.lutils.data.json.parser.JsonParser.*;
+
+/**
+ * A {@link JsonReader} that reads directly from UTF-8 encoded bytes. Unlike a {@link JsonReader} reading from
+ * an {@link java.io.InputStreamReader}, the bytes are not decoded to chars before parsing. Only the contents
+ * of strings (and comments) are decoded. Strings only containing ASCII characters are created directly from the
+ * underlying bytes.
+ * <br><br>
+ * Malformed UTF-8 sequences are replaced with {@code U+FFFD}. A leading byte order mark is skipped.
+ */
+public class Utf8JsonReader extends JsonReader {
+
+    private final byte @NotNull [] bytes;
+    /**
+     * <b>exclusive</b> limit of {@link #bytes}.
+     */
+    private final int limit;
+    private int position;
+
+    /**
+     * If the last char read was a high surrogate, this is the corresponding low surrogate. {@code -1} otherwise.
+     */
+    private int pendingLowSurrogate = -1;
+
+    /**
+     * Buffer used to decode strings, which contain escape sequences or non ASCII characters.
+     */
+    private char @NotNull [] chars = new char[64];
+
+    /**
+     * @param bytes UTF-8 encoded json
+     * @param offset index of the first byte to read
+     * @param length amount of bytes to read
+     */
+    public Utf8JsonReader(byte @NotNull [] bytes, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        this.bytes = bytes;
+        this.position = offset;
+        this.limit = offset + length;
+
+        // Skip UTF-8 BOM
+        if(length >= 3 && bytes[offset] == (byte) 0xEF && bytes[offset + 1] == (byte) 0xBB && bytes[offset + 2] == (byte) 0xBF)
+            position += 3;
+    }
+
+    /**
+     * @param bytes UTF-8 encoded json
+     */
+    public Utf8JsonReader(byte @NotNull [] bytes) {
+        this(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Creates a {@link Utf8JsonReader}, which reads the {@link ByteBuffer#remaining() remaining} bytes of
+     * given {@code buffer}. The position of given {@code buffer} will not be changed.
+     * If given {@code buffer} is not backed by an accessible array (for example a direct buffer),
+     * its content will be copied once.
+     * @param buffer buffer containing UTF-8 encoded json
+     * @return {@link Utf8JsonReader}
+     */
+    public static @NotNull Utf8JsonReader of(@NotNull ByteBuffer buffer) {
+        if(buffer.hasArray())
+            return new Utf8JsonReader(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+
+        byte[] copy = new byte[buffer.remaining()];
+        buffer.get(buffer.position(), copy);
+        return new Utf8JsonReader(copy);
+    }
+
+    @Override
+    public int read(@NotNull ParseTracker tracker) {
+        if (pushBack != -1) {
+            int i = pushBack;
+            pushBack = -1;
+            return i;
+        }
+
+        if(pendingLowSurrogate != -1)
+            return takePendingLowSurrogate();
+
+        while (position < limit) {
+            int b = bytes[position++];
+
+            if(b == NEW_LINE_CHAR) {
+                tracker.nextLine();
+                continue;
+            }
+
+            //takes care of all control characters and \n, \t, space, ...
+            if(b >= 0 && b <= 32) continue;
+            if(b >= 0) return b;
+            return toChar(decodeCodePoint(b));
+        }
+
+        return -1;
+    }
+
+    @Override
+    public int readNextChar(@NotNull ParseTracker tracker) {
+        if (pushBack != -1) {
+            int i = pushBack;
+            pushBack = -1;
+            return i;
+        }
+
+        if(pendingLowSurrogate != -1)
+            return takePendingLowSurrogate();
+
+        if(position >= limit)
+            return -1;
+
+        int b = bytes[position++];
+
+        if(b == NEW_LINE_CHAR)
+            tracker.nextLine();
+
+        if(b >= 0) return b;
+        return toChar(decodeCodePoint(b));
+    }
+
+    @Override
+    public @NotNull String readToEOL(@NotNull ParseTracker tracker) {
+        int start = position;
+
+        while (position < limit) {
+            if(bytes[position] == NEW_LINE_CHAR) {
+                tracker.nextLine();
+                return new String(bytes, start, position++ - start, StandardCharsets.UTF_8);
+            }
+            position++;
+        }
+
+        int end = position;
+        if(end > start && bytes[end - 1] == '\r')
+            end--;
+
+        return new String(bytes, start, end - start, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public @NotNull String readMultiLineComment(@NotNull ParseTracker tracker) throws UnexpectedEndException {
+        int start = position;
+        boolean asterisk = false;
+
+        while (position < limit) {
+            int b = bytes[position++];
+
+            if(asterisk && b == SLASH_CHAR)
+                return new String(bytes, start, position - start - 2, StandardCharsets.UTF_8);
+
+            asterisk = b == ASTERISK_CHAR;
+
+            if(b == NEW_LINE_CHAR)
+                tracker.nextLine();
+        }
+
+        throw new UnexpectedEndException(tracker);
+    }
+
+    @Override
+    public @Nullable Object readValue(@NotNull ParseTracker tracker, boolean allowToken) throws ParseException {
+        int len = 0;
+        int i = read(tracker);
+
+        while (i != -1) {
+            if (i == COMMA_CHAR || i == CURLY_BRACKET_CLOSE_CHAR || i == SQUARE_BRACKET_CLOSE_CHAR || i == SLASH_CHAR) {
+                pushBack(i);
+                return parseValue(chars, len, i, tracker, allowToken);
+            }
+
+            if(len == chars.length) chars = Arrays.copyOf(chars, len * 2);
+            chars[len++] = (char) i;
+
+            i = read(tracker);
+        }
+
+        throw new UnexpectedEndException(tracker);
+    }
+
+    @Override
+    public String readString(boolean allowNewLine, @NotNull ParseTracker tracker) throws ParseException {
+        return readKey(allowNewLine, tracker, null);
+    }
+
+    @Override
+    public String readKey(
+            boolean allowNewLine,
+            @NotNull ParseTracker tracker,
+            @Nullable JsonKeyCache keyCache
+    ) throws ParseException {
+        int start = position;
+
+        // Fast path: ASCII only string without escape sequences
+        while (position < limit) {
+            byte b = bytes[position];
+
+            if(b == QUOTE_CHAR) {
+                // The string only contains ASCII characters, which are the same in ISO-8859-1.
+                String str = keyCache == null
+                        ? new String(bytes, start, position - start, StandardCharsets.ISO_8859_1)
+                        : keyCache.internAscii(bytes, start, position - start);
+                position++;
+                return str;
+            }
+
+            if(b == '\\' || b == NEW_LINE_CHAR || b < 0)
+                break;
+
+            position++;
+        }
+
+        // Slow path: copy the already read ASCII chars and decode the rest
+        int len = position - start;
+        if(len > chars.length) chars = new char[Math.max(len * 2, chars.length * 2)];
+        for (int j = 0; j < len; j++)
+            chars[j] = (char) bytes[start + j];
+
+        while (position < limit) {
+            int b = bytes[position++];
+
+            if(len + 2 > chars.length) chars = Arrays.copyOf(chars, chars.length * 2);
+
+            if (b == QUOTE_CHAR) {
+                return keyCache == null ? new String(chars, 0, len) : keyCache.intern(chars, 0, len);
+
+            } else if (b == '\\') {
+                if(position >= limit) throw new UnexpectedEndException(tracker);
+                b = bytes[position++];
+
+                switch (b) {
+                    case 'n' -> chars[len++] = '\n';
+                    case 'f' -> chars[len++] = '\f';
+                    case 'r' -> chars[len++] = '\r';
+                    case 't' -> chars[len++] = '\t';
+                    case 'b' -> chars[len++] = '\b';
+                    case 'u' -> chars[len++] = readUnicodeEscape(tracker);
+                    default -> {
+                        // sometimes '/' is escaped, as defined by the json language
+                        if(b >= 0) chars[len++] = (char) b;
+                        else len = appendCodePoint(len, decodeCodePoint(b));
+                    }
+                }
+
+            } else if (b == NEW_LINE_CHAR) {
+                if (!allowNewLine) throw new ParseException(tracker, (char) b);
+                chars[len++] = (char) b;
+                tracker.nextLine();
+
+            } else if (b >= 0) {
+                chars[len++] = (char) b;
+
+            } else {
+                len = appendCodePoint(len, decodeCodePoint(b));
+
+            }
+        }
+
+        throw new UnexpectedEndException(tracker);
+    }
+
+    @Override
+    public void skipString(boolean allowNewLine, @NotNull ParseTracker tracker) throws ParseException {
+        while (position < limit) {
+            int b = bytes[position++];
+
+            if (b == QUOTE_CHAR) {
+                return;
+
+            } else if (b == '\\') {
+                // skip the escaped char. \\u escapes only contain ASCII characters, so they need no special handling
+                position++;
+
+            } else if (b == NEW_LINE_CHAR) {
+                if (!allowNewLine) throw new ParseException(tracker, (char) b);
+                tracker.nextLine();
+
+            }
+        }
+
+        throw new UnexpectedEndException(tracker);
+    }
+
+    @Override
+    public void close() {
+        // Nothing to close
+    }
+
+    /**
+     * Reads the four hex digits of a {@code \\u} escape sequence.
+     */
+    private char readUnicodeEscape(@NotNull ParseTracker tracker) throws ParseException {
+        if(position + 4 > limit) throw new UnexpectedEndException(tracker);
+
+        int value = 0;
+        for (int j = 0; j < 4; j++) {
+            int b = bytes[position++];
+            int digit = Character.digit(b, 16);
+            if(b < 0 || digit == -1) throw new ParseException(tracker, (char) (b & 0xFF));
+            value = (value << 4) | digit;
+        }
+
+        return (char) value;
+    }
+
+    /**
+     * Decodes a UTF-8 multibyte sequence, which starts with given {@code lead} byte. {@link #position} must
+     * point to the byte after the lead byte.
+     * @return the decoded code point or {@code U+FFFD} if the sequence is malformed.
+     */
+    private int decodeCodePoint(int lead) {
+        int codePoint;
+        int count;
+
+        if((lead & 0xE0) == 0xC0) {
+            codePoint = lead & 0x1F;
+            count = 1;
+        } else if((lead & 0xF0) == 0xE0) {
+            codePoint = lead & 0x0F;
+            count = 2;
+        } else if((lead & 0xF8) == 0xF0) {
+            codePoint = lead & 0x07;
+            count = 3;
+        } else {
+            // continuation byte or invalid lead byte
+            return 0xFFFD;
+        }
+
+        for (int j = 0; j < count; j++) {
+            if(position >= limit || (bytes[position] & 0xC0) != 0x80)
+                return 0xFFFD;
+            codePoint = (codePoint << 6) | (bytes[position++] & 0x3F);
+        }
+
+        return codePoint;
+    }
+
+    /**
+     * Appends given {@code codePoint} to {@link #chars}. {@link #chars} must have space for at least two chars.
+     * @return new length
+     */
+    private int appendCodePoint(int len, int codePoint) {
+        if(Character.isBmpCodePoint(codePoint)) {
+            chars[len++] = (char) codePoint;
+        } else {
+            chars[len++] = Character.highSurrogate(codePoint);
+            chars[len++] = Character.lowSurrogate(codePoint);
+        }
+        return len;
+    }
+
+    /**
+     * Converts given {@code codePoint} to a char. If the code point is not in the BMP, the high surrogate is
+     * returned and the low surrogate will be returned by the next read.
+     */
+    private int toChar(int codePoint) {
+        if(Character.isBmpCodePoint(codePoint))
+            return codePoint;
+        pendingLowSurrogate = Character.lowSurrogate(codePoint);
+        return Character.highSurrogate(codePoint);
+    }
+
+    private int takePendingLowSurrogate() {
+        int i = pendingLowSurrogate;
+        pendingLowSurrogate = -1;
+        return i;
+    }
+}
@@ -0,0 +1,281 @@
+/*
+ * Copyright (c) 2026 Linus Andera
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.linusdev.lutils.data.msgpack;
+
+import de.linusdev.lutils.data.Data;
+import de.linusdev.lutils.data.Datable;
+import de.linusdev.lutils.data.json.Json;
+import de.linusdev.lutils.data.json.JsonBuilder;
+import de.linusdev.lutils.data.json.JsonFlatMapImpl;
+import de.linusdev.lutils.data.json.parser.JsonParser;
+import de.linusdev.lutils.other.parser.ParseException;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Reads and writes {@link Data} in the binary <a href="https://msgpack.org/">MessagePack</a> format. Compared to json,
+ * no text has to be formatted, escaped or parsed, numbers are stored in binary and the encoded data is usually
+ * much smaller.
+ * <br><br>
+ * The same model as for json is used: Any {@link Data} (or {@link Datable}) can be written and read data is returned
+ * as {@link Json}. The supported values are the same as for the {@link JsonParser}. Additionally, {@code byte[]}
+ * are stored as binary and read as {@code byte[]}.
+ *
+ * <h3>Numbers</h3>
+ * <p>
+ *     Like json, all integer numbers are read as {@link Long} and all decimal numbers are read as {@link Double}.
+ *     Integer numbers are written using the smallest possible encoding.<br>
+ *     If {@link #setIdentifyNumberValues(boolean)} is enabled, numbers are written with a fixed size depending on
+ *     their type and read as {@link Byte}, {@link Short}, {@link Integer}, {@link Long}, {@link Float} or
+ *     {@link Double} again. This is similar to the number tokens of the {@link JsonParser}.
+ * </p>
+ *
+ * <h3>Streaming</h3>
+ * <p>
+ *     A {@link MessagePackWriter} created by {@link #writer(OutputStream)} can write multiple {@link Data} objects
+ *     to the same stream. These can be read one by one using a {@link MessagePackReader} created by
+ *     {@link #reader(InputStream)}.
+ * </p>
+ */
+public class MessagePackParser {
+
+    public static final @NotNull MessagePackParser DEFAULT_INSTANCE = new MessagePackParser();
+
+    /* ================================================================================================= *\
+    |                                                                                                     |
+    |                                           Format constants                                          |
+    |                                                                                                     |
+    \* ================================================================================================= */
+
+    public static final int POSITIVE_FIXINT_MAX = 0x7f;
+    public static final int FIXMAP              = 0x80;
+    public static final int FIXARRAY            = 0x90;
+    public static final int FIXSTR              = 0xa0;
+    public static final int NIL                 = 0xc0;
+    public static final int FALSE               = 0xc2;
+    public static final int TRUE                = 0xc3;
+    public static final int BIN8                = 0xc4;
+    public static final int BIN16               = 0xc5;
+    public static final int BIN32               = 0xc6;
+    public static final int FLOAT32             = 0xca;
+    public static final int FLOAT64             = 0xcb;
+    public static final int UINT8               = 0xcc;
+    public static final int UINT16              = 0xcd;
+    public static final int UINT32              = 0xce;
+    public static final int UINT64              = 0xcf;
+    public static final int INT8                = 0xd0;
+    public static final int INT16               = 0xd1;
+    public static final int INT32               = 0xd2;
+    public static final int INT64               = 0xd3;
+    public static final int STR8                = 0xd9;
+    public static final int STR16               = 0xda;
+    public static final int STR32               = 0xdb;
+    public static final int ARRAY16             = 0xdc;
+    public static final int ARRAY32             = 0xdd;
+    public static final int MAP16               = 0xde;
+    public static final int MAP32               = 0xdf;
+    public static final int NEGATIVE_FIXINT_MIN = 0xe0;
+
+    //Configurable stuff
+    private @NotNull Supplier<JsonBuilder> jsonBuilderSupplier = JsonFlatMapImpl::new;
+    private @NotNull Function<Integer, List<Object>> listSupplier = ArrayList::new;
+    private @NotNull String arrayWrapperKey = JsonParser.DEFAULT_ARRAY_WRAPPER_KEY;
+    private boolean identifyNumberValues = false;
+
+    /* ================================================================================================= *\
+    |                                                                                                     |
+    |                                             Config setter                                           |
+    |                                                                                                     |
+    \* ================================================================================================= */
+
+    /**
+     * When this parser reads a map, this {@link Supplier} is used to create a new {@link Json} object.<br>
+     * Default: {@code new JsonFlatMapImpl()}
+     * @param jsonBuilderSupplier {@link Supplier} to supply with {@link Json}
+     */
+    @SuppressWarnings("unused")
+    @Contract("_ -> this")
+    public @NotNull MessagePackParser setJsonBuilderSupplier(@NotNull Supplier<JsonBuilder> jsonBuilderSupplier) {
+        this.jsonBuilderSupplier = jsonBuilderSupplier;
+        return this;
+    }
+
+    /**
+     * When this parser reads an array, this {@link Function} is used to create a new {@link List} object. The
+     * function is called with the expected size of the array.<br>
+     * Default: {@code size -> new ArrayList<>(size)}
+     * @param listSupplier {@link Function} to supply with {@link List}
+     */
+    @SuppressWarnings("unused")
+    @Contract("_ -> this")
+    public @NotNull MessagePackParser setListSupplier(@NotNull Function<Integer, List<Object>> listSupplier) {
+        this.listSupplier = listSupplier;
+        return this;
+    }
+
+    /**
+     * If the data to read is not a map, the value will be available with this key in the returned {@link Json}.<br>
+     * Default: {@value JsonParser#DEFAULT_ARRAY_WRAPPER_KEY}
+     * @param arrayWrapperKey key to use when wrapping the value in a {@link Json}
+     */
+    @SuppressWarnings("unused")
+    @Contract("_ -> this")
+    public @NotNull MessagePackParser setArrayWrapperKey(@NotNull String arrayWrapperKey) {
+        this.arrayWrapperKey = arrayWrapperKey;
+        return this;
+    }
+
+    /**
+     * If enabled, numbers are written with a fixed size depending on their type and read as the same type again.
+     * See {@link MessagePackParser class documentation}.<br>
+     * Default: {@code false}
+     * @param identifyNumberValues {@code true} to preserve the types of numbers
+     */
+    @Contract("_ -> this")
+    public @NotNull MessagePackParser setIdentifyNumberValues(boolean identifyNumberValues) {
+        this.identifyNumberValues = identifyNumberValues;
+        return this;
+    }
+
+    /* ================================================================================================= *\
+    |                                                                                                     |
+    |                                                Reading                                              |
+    |                                                                                                     |
+    \* ================================================================================================= */
+
+    /**
+     * Reads a single value from given {@code stream}.<br>
+     * The stream will be {@link InputStream#close() closed} after parsing finished.<br>
+     * If the stream is empty, an empty {@link Json} will be returned.
+     * @param stream the stream to read from
+     * @return read {@link Json}
+     * @throws IOException while reading
+     * @throws ParseException if the data is malformed
+     * @see #reader(InputStream)
+     */
+    public @NotNull Json parseStream(@NotNull InputStream stream) throws IOException, ParseException {
+        try (MessagePackReader reader = reader(stream)) {
+            Json json = reader.read();
+            return json == null ? jsonBuilderSupplier.get().build() : json;
+        }
+    }
+
+    /**
+     * Reads a single value from given {@code bytes}.<br>
+     * If given {@code bytes} are empty, an empty {@link Json} will be returned.
+     * @param bytes MessagePack encoded data
+     * @return read {@link Json}
+     * @throws ParseException if the data is malformed
+     */
+    public @NotNull Json parseBytes(byte @NotNull [] bytes) throws ParseException {
+        try {
+            Json json = new MessagePackReader(this, bytes, 0, bytes.length).read();
+            return json == null ? jsonBuilderSupplier.get().build() : json;
+        } catch (IOException e) {
+            // Should never happen, since no InputStream is used
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Creates a {@link MessagePackReader}, which can read multiple values from given {@code stream}.
+     * @param stream stream to read from. Will be closed when the returned reader is closed.
+     * @return {@link MessagePackReader}
+     */
+    public @NotNull MessagePackReader reader(@NotNull InputStream stream) {
+        return new MessagePackReader(this, stream);
+    }
+
+    /* ================================================================================================= *\
+    |                                                                                                     |
+    |                                                Writing                                              |
+    |                                                                                                     |
+    \* ================================================================================================= */
+
+    /**
+     * Writes given {@code data} to given {@code out}. Given {@code out} will neither be flushed nor closed.
+     * @param out {@link OutputStream} to write to
+     * @param data {@link Data} to write. {@code null} will write an empty map.
+     * @throws IOException while writing
+     */
+    public void writeData(@NotNull OutputStream out, @Nullable Data data) throws IOException {
+        MessagePackWriter writer = new MessagePackWriter(this, out, 8192);
+        writer.write(data);
+        writer.drain();
+    }
+
+    /**
+     * Writes given {@code data} to a byte array.
+     * @param data {@link Data} to write. {@code null} will write an empty map.
+     * @return MessagePack encoded data
+     */
+    public byte @NotNull [] writeDataToBytes(@Nullable Data data) {
+        MessagePackWriter writer = new MessagePackWriter(this, null, data == null ? 16 : Math.max(16, data.size() * 16));
+        try {
+            writer.write(data);
+        } catch (IOException e) {
+            // will never happen, because no OutputStream is used
+            throw new UncheckedIOException(e);
+        }
+        return writer.toByteArray();
+    }
+
+    /**
+     * Creates a {@link MessagePackWriter}, which can write multiple {@link Data} objects to given {@code stream}.
+     * @param stream stream to write to. Will be closed when the returned writer is closed.
+     * @return {@link MessagePackWriter}
+     */
+    public @NotNull MessagePackWriter writer(@NotNull OutputStream stream) {
+        return new MessagePackWriter(this, stream, 8192);
+    }
+
+    /* ================================================================================================= *\
+    |                                                                                                     |
+    |                                                Internal                                             |
+    |                                                                                                     |
+    \* ================================================================================================= */
+
+    boolean isIdentifyNumberValues() {
+        return identifyNumberValues;
+    }
+
+    @NotNull JsonBuilder newJsonBuilder(int size) {
+        JsonBuilder builder = jsonBuilderSupplier.get();
+        builder.sizeHint(size);
+        return builder;
+    }
+
+    @NotNull List<Object> newList(int size) {
+        return listSupplier.apply(size);
+    }
+
+    /**
+     * Wraps given {@code value} in a {@link Json} with the {@link #arrayWrapperKey} as key.
+     */
+    @NotNull Json wrap(@Nullable Object value) {
+        JsonBuilder builder = jsonBuilderSupplier.get();
+        builder.add(arrayWrapperKey, value);
+        return builder.build();
+    }
+}
@@ -0,0 +1,289 @@
+/*
+ * Copyright (c) 2026 Linus Andera
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.linusdev.lutils.data.msgpack;
+
+import de.linusdev.lutils.data.json.Json;
+import de.linusdev.lutils.data.json.JsonBuilder;
+import de.linusdev.lutils.other.parser.ParseException;
+import de.linusdev.lutils.other.parser.UnexpectedEndException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static de.linusdev.lutils.data.msgpack.MessagePackParser.*;
+
+/**
+ * Reads {@link Json} objects from MessagePack encoded data. Each call of {@link #read()} reads a single value. If the
+ * value is a map, it is returned as {@link Json}. Otherwise, it is wrapped in a {@link Json} using the
+ * {@link MessagePackParser#setArrayWrapperKey(String) array wrapper key}.
+ * <br><br>
+ * Instances can be created using {@link MessagePackParser#reader(InputStream)}. This class is not thread safe.
+ * @see MessagePackWriter
+ */
+public class MessagePackReader implements Closeable {
+
+    private static final int DEFAULT_BUFFER_SIZE = 8192;
+    /**
+     * Maximum size passed to {@link MessagePackParser#newList(int)} and {@link MessagePackParser#newJsonBuilder(int)}.
+     * Sizes are read from the data and must not be trusted.
+     */
+    private static final int MAX_SIZE_HINT = 1024;
+
+    private final @NotNull MessagePackParser parser;
+    private final @Nullable InputStream in;
+
+    private byte @NotNull [] buffer;
+    private int position;
+    private int limit;
+    /**
+     * Amount of bytes read before {@link #buffer}. Used for error messages.
+     */
+    private long consumed = 0;
+
+    MessagePackReader(@NotNull MessagePackParser parser, @NotNull InputStream in) {
+        this.parser = parser;
+        this.in = in;
+        this.buffer = new byte[DEFAULT_BUFFER_SIZE];
+        this.position = 0;
+        this.limit = 0;
+    }
+
+    MessagePackReader(@NotNull MessagePackParser parser, byte @NotNull [] bytes, int offset, int length) {
+        this.parser = parser;
+        this.in = null;
+        this.buffer = bytes;
+        this.position = offset;
+        this.limit = offset + length;
+        this.consumed = -offset;
+    }
+
+    /**
+     * Reads the next value.
+     * @return read {@link Json} or {@code null} if the end of the data has been reached.
+     * @throws IOException while reading
+     * @throws ParseException if the data is malformed
+     */
+    public @Nullable Json read() throws IOException, ParseException {
+        if(!available(1)) return null;
+
+        if((buffer[position] & 0xf0) == FIXMAP || (buffer[position] & 0xff) == MAP16 || (buffer[position] & 0xff) == MAP32)
+            return (Json) readValue();
+
+        return parser.wrap(readValue());
+    }
+
+    /**
+     * Closes the underlying {@link InputStream}.
+     */
+    @Override
+    public void close() throws IOException {
+        if(in != null) in.close();
+    }
+
+    /* ================================================================================================= *\
+    |                                                                                                     |
+    |                                                Values                                               |
+    |                                                                                                     |
+    \* ================================================================================================= */
+
+    private @Nullable Object readValue() throws IOException, ParseException {
+        long offset = offset();
+        int type = readByte();
+
+        if(type <= POSITIVE_FIXINT_MAX) return (long) type;
+        if(type >= NEGATIVE_FIXINT_MIN) return (long) (byte) type;
+        if((type & 0xf0) == FIXMAP) return readMap(type & 0x0f);
+        if((type & 0xf0) == FIXARRAY) return readArray(type & 0x0f);
+        if((type & 0xe0) == FIXSTR) return readString(type & 0x1f);
+
+        boolean identify = parser.isIdentifyNumberValues();
+
+        return switch (type) {
+            case NIL -> null;
+            case FALSE -> Boolean.FALSE;
+            case TRUE -> Boolean.TRUE;
+            case BIN8 -> readBytes(readSize(1));
+            case BIN16 -> readBytes(readSize(2));
+            case BIN32 -> readBytes(readSize(4));
+            case FLOAT32 -> {
+                float f = Float.intBitsToFloat((int) readFixed(4));
+                // Widened using its shortest decimal representation like in MessagePackWriter#writeFloat
+                yield identify ? (Object) f : (Object) Double.parseDouble(Float.toString(f));
+            }
+            case FLOAT64 -> Double.longBitsToDouble(readFixed(8));
+            case UINT8 -> (long) readByte();
+            case UINT16 -> readFixed(2) & 0xffffL;
+            case UINT32 -> readFixed(4) & 0xffffffffL;
+            case UINT64 -> {
+                long l = readFixed(8);
+                if(l < 0) throw new ParseException("Unsigned 64 bit integer at offset " + offset + " is too large.");
+                yield l;
+            }
+            case INT8 -> number((byte) readByte(), INT8);
+            case INT16 -> number((short) readFixed(2), INT16);
+            case INT32 -> number((int) readFixed(4), INT32);
+            case INT64 -> readFixed(8);
+            case STR8 -> readString(readSize(1));
+            case STR16 -> readString(readSize(2));
+            case STR32 -> readString(readSize(4));
+            case ARRAY16 -> readArray(readSize(2));
+            case ARRAY32 -> readArray(readSize(4));
+            case MAP16 -> readMap(readSize(2));
+            case MAP32 -> readMap(readSize(4));
+            default -> throw new ParseException("Unsupported type 0x" + Integer.toHexString(type) + " at offset " + offset + ".");
+        };
+    }
+
+    /**
+     * The number as the type it was written with, if {@link MessagePackParser#isIdentifyNumberValues()} is enabled.
+     * Otherwise, as {@link Long}.
+     */
+    private @NotNull Object number(long value, int type) {
+        if(!parser.isIdentifyNumberValues()) return value;
+        return switch (type) {
+            case INT8 -> (byte) value;
+            case INT16 -> (short) value;
+            case INT32 -> (int) value;
+            default -> value;
+        };
+    }
+
+    private @NotNull Json readMap(int size) throws IOException, ParseException {
+        JsonBuilder builder = parser.newJsonBuilder(Math.min(size, MAX_SIZE_HINT));
+        for (int i = 0; i < size; i++) {
+            long offset = offset();
+            if(!(readValue() instanceof String key))
+                throw new ParseException("Key at offset " + offset + " is not a string.");
+            builder.add(key, readValue());
+        }
+        return builder.build();
+    }
+
+    private @NotNull List<Object> readArray(int size) throws IOException, ParseException {
+        List<Object> list = parser.newList(Math.min(size, MAX_SIZE_HINT));
+        for (int i = 0; i < size; i++)
+            list.add(readValue());
+        return list;
+    }
+
+    private @NotNull String readString(int length) throws IOException, ParseException {
+        if(length <= buffer.length && available(length)) {
+            String string = new String(buffer, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return string;
+        }
+        return new String(readBytes(length), StandardCharsets.UTF_8);
+    }
+
+    /* ================================================================================================= *\
+    |                                                                                                     |
+    |                                               Decoding                                              |
+    |                                                                                                     |
+    \* ================================================================================================= */
+
+    /**
+     * Reads an unsigned size of given amount of bytes.
+     */
+    private int readSize(int bytes) throws IOException, ParseException {
+        long offset = offset();
+        long size = readFixed(bytes);
+        if(bytes == 4) size &= 0xffffffffL;
+        else if(bytes == 2) size &= 0xffffL;
+        else size &= 0xffL;
+
+        if(size > Integer.MAX_VALUE - 8)
+            throw new ParseException("Size at offset " + offset + " is too large: " + size);
+        return (int) size;
+    }
+
+    /**
+     * Reads a big endian number of given amount of bytes. The result is sign extended.
+     */
+    private long readFixed(int bytes) throws IOException, ParseException {
+        if(!available(bytes)) throw new UnexpectedEndException();
+
+        long value = buffer[position++];
+        for (int i = 1; i < bytes; i++)
+            value = (value << 8) | (buffer[position++] & 0xff);
+        return value;
+    }
+
+    private int readByte() throws IOException, ParseException {
+        if(!available(1)) throw new UnexpectedEndException();
+        return buffer[position++] & 0xff;
+    }
+
+    private byte @NotNull [] readBytes(int length) throws IOException, ParseException {
+        int inBuffer = Math.min(length, limit - position);
+        byte[] bytes = Arrays.copyOfRange(buffer, position, position + inBuffer);
+        position += inBuffer;
+
+        if(inBuffer == length) return bytes;
+        if(in == null) throw new UnexpectedEndException();
+
+        // Read the remaining bytes directly from the stream. Grow the array step by step, because the length has not
+        // been validated yet
+        int read = inBuffer;
+        while (read < length) {
+            bytes = Arrays.copyOf(bytes, (int) Math.min(length, Math.max(DEFAULT_BUFFER_SIZE, read * 2L)));
+            int n = in.readNBytes(bytes, read, bytes.length - read);
+            read += n;
+            consumed += n;
+            if(read < bytes.length) throw new UnexpectedEndException();
+        }
+
+        return bytes;
+    }
+
+    /**
+     * Makes sure at least given amount of bytes is in the buffer.
+     * @return {@code false} if the end of the data has been reached before.
+     */
+    private boolean available(int bytes) throws IOException {
+        if(limit - position >= bytes) return true;
+        if(in == null) return false;
+
+        int remaining = limit - position;
+        if(bytes > buffer.length)
+            buffer = Arrays.copyOf(buffer, Math.max(bytes, buffer.length * 2));
+        System.arraycopy(buffer, position, buffer, 0, remaining);
+        consumed += position;
+        position = 0;
+        limit = remaining;
+
+        while (limit < bytes) {
+            int read = in.read(buffer, limit, buffer.length - limit);
+            if(read == -1) return false;
+            limit += read;
+        }
+
+        return true;
+    }
+
+    /**
+     * Offset of the next byte in the data. Used for error messages.
+     */
+    private long offset() {
+        return consumed + position;
+    }
+}
@@ -0,0 +1,419 @@
+/*
+ * Copyright (c) 2026 Linus Andera
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.linusdev.lutils.data.msgpack;
+
+import de.linusdev.lutils.collections.Entry;
+import de.linusdev.lutils.data.Data;
+import de.linusdev.lutils.data.DataBuilder;
+import de.linusdev.lutils.data.Datable;
+import de.linusdev.lutils.data.ParseType;
+import de.linusdev.lutils.data.json.DoubleArrayList;
+import de.linusdev.lutils.data.json.LongArrayList;
+import de.linusdev.lutils.data.json.RecordBinder;
+import de.linusdev.lutils.interfaces.Simplifiable;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Array;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+
+import static de.linusdev.lutils.data.msgpack.MessagePackParser.*;
+
+/**
+ * Writes {@link Data} in the MessagePack format. Values are encoded into an internal buffer, which is written to the
+ * underlying {@link OutputStream} whenever it is full and when {@link #flush()} is called.
+ * <br><br>
+ * Instances can be created using {@link MessagePackParser#writer(OutputStream)}. This class is not thread safe.
+ * @see MessagePackReader
+ */
+public class MessagePackWriter implements Closeable, Flushable {
+
+    private final @NotNull MessagePackParser parser;
+    private final @Nullable OutputStream out;
+
+    private byte @NotNull [] buffer;
+    private int position = 0;
+
+    /**
+     * @param out stream to write to or {@code null} to only write into the buffer
+     * @param bufferSize initial size of the buffer. Must be at least {@code 9}.
+     */
+    MessagePackWriter(@NotNull MessagePackParser parser, @Nullable OutputStream out, int bufferSize) {
+        this.parser = parser;
+        this.out = out;
+        this.buffer = new byte[bufferSize];
+    }
+
+    /**
+     * Writes given {@code data}.
+     * @param data {@link Data} to write. {@code null} will write an empty map.
+     * @throws IOException while writing
+     */
+    @Contract("_ -> this")
+    public @NotNull MessagePackWriter write(@Nullable Data data) throws IOException {
+        writeData(data);
+        return this;
+    }
+
+    /**
+     * Writes the buffer to the underlying {@link OutputStream} and flushes it.
+     */
+    @Override
+    public void flush() throws IOException {
+        drain();
+        if(out != null) out.flush();
+    }
+
+    /**
+     * {@link #flush() Flushes} and closes the underlying {@link OutputStream}.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            if(out != null) out.close();
+        }
+    }
+
+    /**
+     * Writes the buffer to the underlying {@link OutputStream} without flushing it.
+     */
+    void drain() throws IOException {
+        if(out != null && position > 0) {
+            out.write(buffer, 0, position);
+            position = 0;
+        }
+    }
+
+    /**
+     * Content of the buffer. Only useful, if no {@link OutputStream} is present.
+     */
+    byte @NotNull [] toByteArray() {
+        return Arrays.copyOf(buffer, position);
+    }
+
+    /* ================================================================================================= *\
+    |                                                                                                     |
+    |                                                Values                                               |
+    |                                                                                                     |
+    \* ================================================================================================= */
+
+    private void writeData(@Nullable Data data) throws IOException {
+        if(data == null) data = DataBuilder.empty();
+
+        if(data.parseType() == ParseType.NORMAL) {
+            int size = data.size();
+            writeHeader(size, FIXMAP, 15, MAP16, MAP32);
+
+            int written = 0;
+            for (Entry<String, Object> entry : data) {
+                if(++written > size) break;
+                writeString(Objects.toString(entry.getKey()));
+                writeValue(entry.getValue());
+            }
+
+            if(written != size)
+                throw new IllegalStateException("Size of data (" + size + ") does not match its amount of entries.");
+
+        } else if (data.parseType() == ParseType.CONTENT_ONLY) {
+            if(data.size() == 1) {
+                writeValue(data.iterator().next().getValue());
+                return;
+            }
+
+            int size = data.size();
+            writeHeader(size, FIXARRAY, 15, ARRAY16, ARRAY32);
+
+            int written = 0;
+            for (Entry<String, Object> entry : data) {
+                if(++written > size) break;
+                writeValue(entry.getValue());
+            }
+
+            if(written != size)
+                throw new IllegalStateException("Size of data (" + size + ") does not match its amount of entries.");
+        }
+    }
+
+    private void writeValue(@Nullable Object value) throws IOException {
+        boolean identify = parser.isIdentifyNumberValues();
+
+        if (value == null) {
+            writeByte(NIL);
+
+        } else if (value instanceof Data data) {
+            writeData(data);
+
+        } else if (value instanceof Datable datable) {
+            writeData(datable.getData());
+
+        } else if (value instanceof Simplifiable simple) {
+            writeValue(simple.simplify());
+
+        } else if (value instanceof Record record) {
+            writeData(RecordBinder.dataOf(record));
+
+        } else if (value instanceof String string) {
+            writeString(string);
+
+        } else if (value instanceof Boolean bool) {
+            writeByte(bool ? TRUE : FALSE);
+
+        } else if (value instanceof Long l) {
+            writeInteger(l, identify ? INT64 : 0);
+
+        } else if (value instanceof Integer i) {
+            writeInteger(i, identify ? INT32 : 0);
+
+        } else if (value instanceof Short s) {
+            writeInteger(s, identify ? INT16 : 0);
+
+        } else if (value instanceof Byte b) {
+            writeInteger(b, identify ? INT8 : 0);
+
+        } else if (value instanceof Double d) {
+            writeDouble(d);
+
+        } else if (value instanceof Float f) {
+            writeFloat(f);
+
+        } else if (value instanceof LongArrayList longs) {
+            writeHeader(longs.size(), FIXARRAY, 15, ARRAY16, ARRAY32);
+            for (int i = 0; i < longs.size(); i++)
+                writeInteger(longs.getLong(i), identify ? INT64 : 0);
+
+        } else if (value instanceof DoubleArrayList doubles) {
+            writeHeader(doubles.size(), FIXARRAY, 15, ARRAY16, ARRAY32);
+            for (int i = 0; i < doubles.size(); i++)
+                writeDouble(doubles.getDouble(i));
+
+        } else if (value instanceof Collection<?> collection) {
+            int size = collection.size();
+            writeHeader(size, FIXARRAY, 15, ARRAY16, ARRAY32);
+
+            int written = 0;
+            for (Object o : collection) {
+                if(++written > size) break;
+                writeValue(o);
+            }
+
+            if(written != size)
+                throw new IllegalStateException("Size of collection (" + size + ") does not match its amount of elements.");
+
+        } else if (value instanceof Map<?, ?> map) {
+            writeHeader(map.size(), FIXMAP, 15, MAP16, MAP32);
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                writeString(Objects.toString(entry.getKey()));
+                writeValue(entry.getValue());
+            }
+
+        } else if (value instanceof Object[] array) {
+            writeHeader(array.length, FIXARRAY, 15, ARRAY16, ARRAY32);
+            for (Object o : array)
+                writeValue(o);
+
+        } else if (value instanceof byte[] a) {
+            writeHeader(a.length, -1, -1, BIN8 , BIN16, BIN32);
+            writeBytes(a, 0, a.length);
+
+        } else if (value instanceof short[] a) {
+            writeHeader(a.length, FIXARRAY, 15, ARRAY16, ARRAY32);
+            for (short s : a) writeInteger(s, identify ? INT16 : 0);
+
+        } else if (value instanceof int[] a) {
+            writeHeader(a.length, FIXARRAY, 15, ARRAY16, ARRAY32);
+            for (int i : a) writeInteger(i, identify ? INT32 : 0);
+
+        } else if (value instanceof long[] a) {
+            writeHeader(a.length, FIXARRAY, 15, ARRAY16, ARRAY32);
+            for (long l : a) writeInteger(l, identify ? INT64 : 0);
+
+        } else if (value instanceof float[] a) {
+            writeHeader(a.length, FIXARRAY, 15, ARRAY16, ARRAY32);
+            for (float f : a) writeFloat(f);
+
+        } else if (value instanceof double[] a) {
+            writeHeader(a.length, FIXARRAY, 15, ARRAY16, ARRAY32);
+            for (double d : a) writeDouble(d);
+
+        } else if (value.getClass().isArray()) {
+            // Other arrays (boolean[], char[]) are written element by element
+            int length = Array.getLength(value);
+            writeHeader(length, FIXARRAY, 15, ARRAY16, ARRAY32);
+            for (int i = 0; i < length; i++)
+                writeValue(Array.get(value, i));
+
+        } else {
+            //If the Object is none of the above, a simple string is added instead
+            writeString(value.toString());
+        }
+    }
+
+    /* ================================================================================================= *\
+    |                                                                                                     |
+    |                                               Encoding                                              |
+    |                                                                                                     |
+    \* ================================================================================================= */
+
+    /**
+     * Writes given integer number.
+     * @param value the number
+     * @param type {@link MessagePackParser#INT8}, {@link MessagePackParser#INT16}, {@link MessagePackParser#INT32} or
+     * {@link MessagePackParser#INT64} to use that type or {@code 0} to use the smallest possible encoding.
+     */
+    private void writeInteger(long value, int type) throws IOException {
+        if(type == 0) {
+            if(value >= 0 && value <= POSITIVE_FIXINT_MAX) {
+                writeByte((int) value);
+                return;
+            }
+            if(value < 0 && value >= -32) {
+                writeByte((int) value);
+                return;
+            }
+
+            if(value == (byte) value) type = INT8;
+            else if(value == (short) value) type = INT16;
+            else if(value == (int) value) type = INT32;
+            else type = INT64;
+        }
+
+        ensure(9);
+        buffer[position++] = (byte) type;
+        switch (type) {
+            case INT8 -> buffer[position++] = (byte) value;
+            case INT16 -> putShort((int) value);
+            case INT32 -> putInt((int) value);
+            default -> putLong(value);
+        }
+    }
+
+    private void writeFloat(float value) throws IOException {
+        if(parser.isIdentifyNumberValues()) {
+            ensure(5);
+            buffer[position++] = (byte) FLOAT32;
+            putInt(Float.floatToIntBits(value));
+        } else {
+            // Intentionally not (double) value: json writes a float with its shortest decimal representation
+            // (0.1f as "0.1") and reads it as that double (0.1). Widening it the same way, a float is read as the
+            // same double as in json, instead of 0.10000000149011612.
+            writeDouble(Double.parseDouble(Float.toString(value)));
+        }
+    }
+
+    private void writeDouble(double value) throws IOException {
+        ensure(9);
+        buffer[position++] = (byte) FLOAT64;
+        putLong(Double.doubleToRawLongBits(value));
+    }
+
+    private void writeString(@NotNull String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeHeader(bytes.length, FIXSTR, 31, STR8, STR16, STR32);
+        writeBytes(bytes, 0, bytes.length);
+    }
+
+    private void writeHeader(int size, int fix, int fixMax, int type16, int type32) throws IOException {
+        writeHeader(size, fix, fixMax, -1, type16, type32);
+    }
+
+    /**
+     * Writes the header of a string, binary, array or map.
+     * @param size the size
+     * @param fix type if the size is encoded in the type byte or {@code -1}
+     * @param fixMax maximum size for {@code fix}
+     * @param type8 type if the size is encoded in one byte or {@code -1}
+     * @param type16 type if the size is encoded in two bytes
+     * @param type32 type if the size is encoded in four bytes
+     */
+    private void writeHeader(int size, int fix, int fixMax, int type8, int type16, int type32) throws IOException {
+        ensure(5);
+        if(fix != -1 && size <= fixMax) {
+            buffer[position++] = (byte) (fix | size);
+        } else if(type8 != -1 && size <= 0xff) {
+            buffer[position++] = (byte) type8;
+            buffer[position++] = (byte) size;
+        } else if(size <= 0xffff) {
+            buffer[position++] = (byte) type16;
+            putShort(size);
+        } else {
+            buffer[position++] = (byte) type32;
+            putInt(size);
+        }
+    }
+
+    private void writeByte(int b) throws IOException {
+        ensure(1);
+        buffer[position++] = (byte) b;
+    }
+
+    private void writeBytes(byte @NotNull [] bytes, int offset, int length) throws IOException {
+        if(out != null && length > buffer.length - position) {
+            // Do not copy large arrays into the buffer
+            drain();
+            if(length > buffer.length) {
+                out.write(bytes, offset, length);
+                return;
+            }
+        }
+
+        ensure(length);
+        System.arraycopy(bytes, offset, buffer, position, length);
+        position += length;
+    }
+
+    private void putShort(int value) {
+        buffer[position++] = (byte) (value >> 8);
+        buffer[position++] = (byte) value;
+    }
+
+    private void putInt(int value) {
+        buffer[position++] = (byte) (value >> 24);
+        buffer[position++] = (byte) (value >> 16);
+        buffer[position++] = (byte) (value >> 8);
+        buffer[position++] = (byte) value;
+    }
+
+    private void putLong(long value) {
+        putInt((int) (value >> 32));
+        putInt((int) value);
+    }
+
+    /**
+     * Makes sure at least given amount of bytes can be written to the buffer.
+     */
+    private void ensure(int bytes) throws IOException {
+        if(buffer.length - position >= bytes) return;
+
+        if(out != null) {
+            drain();
+            if(buffer.length >= bytes) return;
+        }
+
+        buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + bytes));
+    }
+}
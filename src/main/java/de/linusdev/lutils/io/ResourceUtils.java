@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024-2025 Linus Andera
+ * Copyright (c) 2024-2026 Linus Andera
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -121,7 +121,7 @@ public class ResourceUtils {
         }
     }
 
-    public static class StreamURLConnection {
+    public static class StreamURLConnection implements AutoCloseable {
         private final @NotNull String path;
         private final @NotNull URL resource;
 
@@ -155,6 +155,14 @@ public class ResourceUtils {
             return getURLConnection(true).getContentLengthLong();
         }
 
+        /**
+         * @return the time the resource was last modified in milliseconds since epoch or {@code 0} if unknown.
+         * @see URLConnection#getLastModified()
+         */
+        public long getLastModified() {
+            return getURLConnection(true).getLastModified();
+        }
+
         public @NotNull InputStream openInputStream() throws IOException {
             return getURLConnection(false).getInputStream();
         }
@@ -165,6 +173,19 @@ public class ResourceUtils {
         public @NotNull String getPath() {
             return path;
         }
+
+        /**
+         * Releases the connection opened by {@link #getContentLength()} or {@link #getLastModified()}. Some
+         * connections, like the ones of {@code file:} URLs, already open the resource's stream when connecting.
+         * Streams returned by {@link #openInputStream()} are not closed.
+         */
+        @Override
+        public void close() throws IOException {
+            URLConnection connection = currentOpenConnection;
+            currentOpenConnection = null;
+            if(connection != null)
+                connection.getInputStream().close();
+        }
     }
 
 }
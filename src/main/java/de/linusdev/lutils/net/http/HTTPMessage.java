@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024-2025 Linus Andera
+ * Copyright (c) 2024-2026 Linus Andera
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,39 +17,81 @@
 package de.linusdev.lutils.net.http;
 
 import de.linusdev.lutils.net.http.body.BodyParser;
+import de.linusdev.lutils.net.http.body.ChunkedInputStream;
 import de.linusdev.lutils.net.http.header.Header;
 import de.linusdev.lutils.net.http.header.HeaderMap;
+import de.linusdev.lutils.net.http.header.HeaderNames;
 import de.linusdev.lutils.net.http.version.HTTPVersion;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.io.EOFException;
 import java.io.IOException;
+import java.io.InputStream;
 
 public abstract class HTTPMessage<B> {
 
+    /**
+     * Reads the start line of a message.
+     * @throws EOFException if the end of the stream has been reached before the start line
+     */
+    protected static void readStartLine(@NotNull HTTPMessageReader.HeadReader headReader) throws IOException {
+        if(!headReader.readLine())
+            throw new EOFException("Malformed HTTP message. Unexpected end of stream.");
+    }
+
+    /**
+     * Parses the headers until the empty line, which ends the head. The keys of {@link HeaderNames well-known headers}
+     * are replaced by their {@link HeaderNames#getName() name}, so that no string has to be created for them.
+     */
     protected static HeaderMap parseHeaders(@NotNull HTTPMessageReader reader) throws IOException {
         HeaderMap headers = new HeaderMap();
-        HTTPMessageReader.LineReader lineReader = reader.getLineReader();
+        HTTPMessageReader.HeadReader headReader = reader.getHeadReader();
 
-        String key;
-        String value;
-        while(!lineReader.eof) {
-            key = lineReader.readUntil(':');
+        while(headReader.readLine() && headReader.length() != 0) {
+            int colon = headReader.indexOf(':', 0);
+            if(colon == -1)
+                throw new IllegalArgumentException(
+                        "Malformed HTTP request. Header line: " + headReader.getString(0, headReader.length())
+                );
 
-            if(key.isEmpty()) //end of headers
-                break;
-            if(lineReader.eol)
-                throw new IllegalArgumentException("Malformed HTTP request. Header line: " + key);
+            HeaderNames name = headReader.getHeaderName(0, colon);
+            String value = headReader.getTrimmedString(colon + 1, headReader.length());
 
-            value = lineReader.readUntilLineFeed().stripLeading();
-
-            Header header = Header.of(key, value);
-            headers.put(key, header);
+            if(name == null) headers.put(Header.of(headReader.getString(0, colon), value));
+            else headers.put(name, name.with(value));
         }
 
         return headers;
     }
 
+    /**
+     * Stream for the body of a message with given {@code headers}, which is delimited by its {@code Content-Length}.
+     * Messages without {@code Content-Length} have an empty body. Bodies using the {@code chunked} transfer coding are
+     * decoded by a {@link ChunkedInputStream}. If the message has another {@code Transfer-Encoding}, the body contains
+     * the {@link HTTPMessageReader#getInputStreamForRemaining() remaining stream}.
+     */
+    protected static @NotNull InputStream getBodyStream(
+            @NotNull HTTPMessageReader reader, @NotNull HeaderMap headers
+    ) {
+        if(headers.isChunked())
+            return new ChunkedInputStream(reader.getInputStreamForBody(Long.MAX_VALUE));
+        if(headers.containsKey(HeaderNames.TRANSFER_ENCODING.getName()))
+            return reader.getInputStreamForRemaining();
+
+        Header contentLength = headers.get(HeaderNames.CONTENT_LENGTH);
+        if(contentLength == null)
+            return reader.getInputStreamForBody(0);
+
+        try {
+            long length = Long.parseLong(contentLength.getValue().trim());
+            if(length < 0) throw new NumberFormatException();
+            return reader.getInputStreamForBody(length);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Malformed HTTP message. " + contentLength.asString());
+        }
+    }
+
     protected final @NotNull HTTPVersion version;
     protected final @NotNull HeaderMap headers;
     protected final @Nullable B body;
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023-2025 Linus Andera
+ * Copyright (c) 2023-2026 Linus Andera
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,6 +17,8 @@
 package de.linusdev.lutils.net.http;
 
 import de.linusdev.lutils.net.http.body.Body;
+import de.linusdev.lutils.net.http.body.ChunkedOutputStream;
+import de.linusdev.lutils.net.http.body.FileBody;
 import de.linusdev.lutils.net.http.header.Header;
 import de.linusdev.lutils.net.http.header.HeaderMap;
 import de.linusdev.lutils.net.http.header.HeaderName;
@@ -34,6 +36,8 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.Objects;
@@ -109,18 +113,18 @@ public class HTTPMessageBuilder {
 
     public HTTPMessageBuilder setHeader(@NotNull HeaderName name, @Nullable String value) {
         if(value == null)
-            headers.remove(name.getName());
+            headers.remove(name);
         else
-            headers.put(name.with(value));
+            headers.put(name, name.with(value));
 
         return this;
     }
 
     public HTTPMessageBuilder setHeader(@NotNull HeaderName name, @Nullable HeaderValue value) {
         if(value == null)
-            headers.remove(name.getName());
+            headers.remove(name);
         else
-            headers.put(name.with(value));
+            headers.put(name, name.with(value));
 
         return this;
     }
@@ -130,6 +134,18 @@ public class HTTPMessageBuilder {
         return this;
     }
 
+    public @NotNull ResponseStatusCode getStatusCode() {
+        return statusCode;
+    }
+
+    public @NotNull HeaderMap getHeaders() {
+        return headers;
+    }
+
+    public @Nullable Body getBody() {
+        return body;
+    }
+
     public HTTPMessageBuilder GET(@Nullable String path) {
         setMethod(Methods.GET);
         setPath(path);
@@ -194,6 +210,35 @@ public class HTTPMessageBuilder {
     }
 
     public void buildResponse(@NotNull OutputStream stream, int maxBufferSize) throws IOException {
+        buildResponseHead(stream);
+        appendBody(stream, maxBufferSize);
+    }
+
+    /**
+     * Builds the response and writes it to given blocking {@code channel}. The body is
+     * {@link Body#writeTo(WritableByteChannel) written to the channel directly}, so that a {@link FileBody} can be
+     * transferred to a socket channel without copying it into the heap.
+     * @param channel blocking channel to write the response to
+     * @param maxBufferSize maximum size of a chunk, if the body is sent using the {@code chunked} transfer coding
+     */
+    public void buildResponse(@NotNull WritableByteChannel channel, int maxBufferSize) throws IOException {
+        ByteArrayOutputStream head = new ByteArrayOutputStream();
+        buildResponseHead(head);
+
+        OutputStream stream = Channels.newOutputStream(channel);
+        head.writeTo(stream);
+
+        if(body != null && headers.isChunked())
+            appendBody(stream, maxBufferSize);
+        else if(body != null)
+            body.writeTo(channel);
+    }
+
+    /**
+     * Builds the status line and the headers of the response, but not the body.
+     * @param stream stream to write to
+     */
+    public void buildResponseHead(@NotNull OutputStream stream) throws IOException {
         stream.write(version.asString().getBytes(CHARSET));
         stream.write(SPACE);
         stream.write(Objects.toString(statusCode.getStatusCode()).getBytes(CHARSET));
@@ -201,18 +246,29 @@ public class HTTPMessageBuilder {
         stream.write(statusCode.getName().getBytes(CHARSET));
         stream.write(LINE_SEPARATOR);
 
-        appendHeaderAndBody(stream, maxBufferSize);
+        appendHeader(stream);
     }
 
     private void appendHeaderAndBody(@NotNull OutputStream stream, int maxBufferSize) throws IOException {
+        appendHeader(stream);
+        appendBody(stream, maxBufferSize);
+    }
+
+    private void appendHeader(@NotNull OutputStream stream) throws IOException {
         for(Header header : headers.values()) {
             stream.write(header.asString().getBytes(CHARSET));
             stream.write(LINE_SEPARATOR);
         }
 
         stream.write(LINE_SEPARATOR);
+    }
 
-        if(body != null) {
+    private void appendBody(@NotNull OutputStream stream, int maxBufferSize) throws IOException {
+        if(body != null && headers.isChunked()) {
+            ChunkedOutputStream chunked = new ChunkedOutputStream(stream, maxBufferSize);
+            body.writeTo(chunked);
+            chunked.finish();
+        } else if(body != null) {
             byte[] buffer = body.length() == -1 ? new byte[maxBufferSize] : new byte[(int) Math.min(body.length(), maxBufferSize)];
             try (InputStream bodyStream = body.stream()) {
 
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024-2025 Linus Andera
+ * Copyright (c) 2024-2026 Linus Andera
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,16 +16,18 @@
 
 package de.linusdev.lutils.net.http;
 
+import de.linusdev.lutils.net.http.header.HeaderNames;
+import de.linusdev.lutils.net.http.method.Methods;
+import de.linusdev.lutils.net.http.method.RequestMethod;
+import de.linusdev.lutils.net.http.version.HTTPVersion;
+import de.linusdev.lutils.net.http.version.HTTPVersions;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.nio.ByteBuffer;
-import java.nio.CharBuffer;
-import java.nio.charset.CharsetDecoder;
-import java.nio.charset.CoderResult;
-import java.nio.charset.CodingErrorAction;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 
 public class HTTPMessageReader implements AutoCloseable {
 
@@ -39,36 +41,12 @@ public class HTTPMessageReader implements AutoCloseable {
      */
     private int limit;
     private final byte[] buffer;
-    private final ByteBuffer bufferObject;
 
-    private final CharsetDecoder decoder;
-    @SuppressWarnings("FieldCanBeLocal")
-    private final char[] charBuffer;
-    private final CharBuffer charBufferObject;
-    /**
-     * This is a view on {@link #charBufferObject} but with the capacity being 1 smaller.
-     * That is so, we can safely flush the {@link #decoder} into {@link #charBufferObject} after decoding into {@link #decodeCharBufferObject}
-     */
-    @SuppressWarnings("JavadocDeclaration")
-    private final CharBuffer decodeCharBufferObject;
-
-    private final @NotNull CharRet charRet = new CharRet();
-    private final @NotNull LineReader lineReader = new LineReader();
+    private final @NotNull HeadReader headReader = new HeadReader();
 
     public HTTPMessageReader(@NotNull InputStream in) {
         this.in = in;
         this.buffer = new byte[BUFFER_SIZE];
-        this.bufferObject = ByteBuffer.wrap(buffer);
-
-        this.decoder = StandardCharsets.UTF_8
-                .newDecoder()
-                .onMalformedInput(CodingErrorAction.REPORT)
-                .onUnmappableCharacter(CodingErrorAction.REPORT);
-        this.charBuffer = new char[512];
-        this.charBufferObject = CharBuffer.wrap(charBuffer);
-        this.decodeCharBufferObject = charBufferObject.subSequence(0, charBufferObject.capacity() - 1);
-
-        this.charBufferObject.limit(0);
     }
 
     private void readToBuffer() throws IOException {
@@ -90,167 +68,210 @@ public class HTTPMessageReader implements AutoCloseable {
     }
 
     /**
-     *
-     * @return {@code false} if nothing was read.
+     * Reader for the head (start line and headers) of a message. Lines are scanned as ASCII bytes directly in the
+     * {@link #buffer} without decoding them to chars first. Well-known tokens like
+     * {@link HeaderNames}, {@link Methods} and {@link HTTPVersions} are recognized without creating a string.
+     * Strings are only created for the tokens requested.
+     * <br><br>
+     * Positions passed to and returned by the methods of this class are relative to the start of the current line.
+     * The current line is only valid until the next line is read.
      */
-    private boolean readToCharBuffer() throws IOException {
-        if(position >= limit) readToBuffer();
-        if(limit < 0) return false;
-
-        // set input buffer limitations
-        bufferObject.position(position);
-        bufferObject.limit(limit);
-
-        // clear char buffer and decode char buffer
-        charBufferObject.clear();
-        decodeCharBufferObject.clear();
-
-        CoderResult result;
-        do {
-            // decode
-            result = decoder.decode(bufferObject, decodeCharBufferObject, limit != buffer.length);
-
-            // Check result
-
-            // In case of a malformed input or an unmappable character, move the buffer as far as required.
-            // add correction char(s) to the charBufferObject
-            if(result.isMalformed() || result.isUnmappable()) {
-                bufferObject.position(bufferObject.position() + result.length());
-                if(result.length() == 1) charBufferObject.append((char) 0x003F);
-                else if(result.length() == 2) charBufferObject.append((char) 0x003F).append((char) 0x003F);
-                else if(result.length() == 3) charBufferObject.append((char) 0xFFFD);
-                else /* result.length() == 4 */ charBufferObject.append((char) 0xFFFD).append((char) 0x003F);
-            }
-
+    public class HeadReader {
 
-        } while (result.isError()); //if there was an error, decode the remaining input
-
-        // Copy position and limit from the decode-char-buffer to the read-char-buffer
-        charBufferObject.position(decodeCharBufferObject.position());
-        charBufferObject.limit(decodeCharBufferObject.limit());
+        /**
+         * Contains the current line, if it did not fit into {@link #buffer}.
+         */
+        private byte @Nullable [] overflow = null;
 
-        // if end of input has been reached, make sure we read everything
-        if(limit != buffer.length) {
-            // Read the last char, in case the previous one was a high surrogate.
-            charBufferObject.limit(charBufferObject.capacity());
-            if(decoder.flush(charBufferObject).isOverflow())
-                throw new InternalError("Decoder.flush() is trying to write more than 1 char!");
+        /**
+         * The current line is {@code line[start, end)} without the line break.
+         */
+        private byte @NotNull [] line = new byte[0];
+        private int start = 0;
+        private int end = 0;
 
-            // Reset the decoder, so it is not in the FLUSHED state anymore.
-            decoder.reset();
-        }
+        /**
+         * Reads the next line. Empty lines, which mark the end of the head, have a {@link #length()} of 0.
+         * @return {@code false} if the end of the stream has been reached and the line is empty.
+         * @throws IOException while reading
+         */
+        public boolean readLine() throws IOException {
+            int overflowLength = 0;
+            while (true) {
+                if(position >= limit) readToBuffer();
+                if(limit < 0) {
+                    // End of stream
+                    if(overflowLength == 0) {
+                        line = buffer;
+                        start = end = 0;
+                        return false;
+                    }
+                    break;
+                }
 
-        // flip to be able to read the buffer
-        charBufferObject.flip();
+                int lf = HTTPMessageReader.indexOf(buffer, position, limit, (byte) '\n');
+                if(lf == -1) {
+                    // The line continues in the next buffer
+                    overflowLength = appendToOverflow(overflowLength, position, limit);
+                    position = limit;
+                    continue;
+                }
 
-        return true;
-    }
+                if(overflowLength == 0) {
+                    line = buffer;
+                    start = position;
+                    end = lf;
+                } else {
+                    overflowLength = appendToOverflow(overflowLength, position, lf);
+                }
+                position = lf + 1;
+                break;
+            }
 
-    public static class CharRet {
-        public boolean eof = false;
-        public char character = 0;
-        public boolean highSurrogate = false;
+            if(overflowLength != 0) {
+                assert overflow != null;
+                line = overflow;
+                start = 0;
+                end = overflowLength;
+            }
 
-        public CharRet eof() {
-            eof = true;
-            return this;
+            if(end > start && line[end - 1] == '\r') end--;
+            return true;
         }
-    }
-
-    @SuppressWarnings("UnusedReturnValue")
-    public @NotNull CharRet readChar() throws IOException {
-        if(charBufferObject.remaining() == 0) {
-            var a = readToCharBuffer();
 
-            if(!a) {
-                return charRet.eof();
-            }
+        private int appendToOverflow(int overflowLength, int from, int to) {
+            int length = to - from;
+            if(overflow == null || overflow.length < overflowLength + length)
+                overflow = Arrays.copyOf(
+                        overflow == null ? new byte[BUFFER_SIZE] : overflow,
+                        Math.max(overflowLength + length, overflow == null ? BUFFER_SIZE : overflow.length * 2)
+                );
+            System.arraycopy(buffer, from, overflow, overflowLength, length);
+            return overflowLength + length;
         }
 
-        charRet.character = charBufferObject.get();
-
-        // Move position of byte buffer according to the amount of bytes this utf-16 char would represent in utf-8
-        // Set charRet.highSurrogate if the char is a high Surrogate (char requires 2 16-bit chars)
-        if(charRet.highSurrogate) charRet.highSurrogate = false;
-        else if(charRet.character < 0x0080) position += 1;
-        else if(charRet.character < 0x0800) position += 2;
-        else if(Character.isHighSurrogate(charRet.character)) {
-            charRet.highSurrogate = true;
-            position += 4;
+        /**
+         * Length of the current line in bytes.
+         */
+        public int length() {
+            return end - start;
         }
-        else position += 3;
-
-        return charRet;
-    }
 
-    /**
-     * Reader that can read lines.
-     * <br><br>
-     *
-     * If the line end is reached, the flag {@link #eol} will be {@code true}.<br>
-     * If the file end is reached, the flag {@link #eof} will be {@code true}.
-     */
-    public class LineReader {
         /**
-         * Indicates that no more can be read. Further read operations will return empty strings.
+         * Index of the first occurrence of given ASCII {@code c} in the current line, starting at {@code from}.
+         * @return the index or -1 if the line does not contain {@code c}.
          */
-        public boolean eof = false;
+        public int indexOf(char c, int from) {
+            int index = HTTPMessageReader.indexOf(line, start + from, end, (byte) c);
+            return index == -1 ? -1 : index - start;
+        }
 
         /**
-         * Indicates that the end of the line has been reached. Further read operations will read the next line.
+         * Bytes {@code [from, to)} of the current line decoded as UTF-8.
          */
-        public boolean eol = false;
-
-        private void updateState(@NotNull StringBuilder sb) {
-            // Update Class State
-            this.eof = charRet.eof;
-            this.eol = charRet.character == '\n';
-
-            // Remove last char(s)
-            sb.setLength(
-                    sb.length() -
-                            (eol && sb.length() >= 2 && sb.charAt(sb.length() - 2) == '\r' ? 2 : 1)
-            );
+        public @NotNull String getString(int from, int to) {
+            return new String(line, start + from, to - from, StandardCharsets.UTF_8);
         }
 
         /**
-         * Reads until the first occurrence of the character {@code c}, the end of the line or the end of the file.
-         * This method will set the {@link #eol} and {@link #eof} flags accordingly.
-         * @param c the character to which to read to
-         * @return the String read, not containing {@code c} or {@code \r\n}.
+         * Same as {@link #getString(int, int)}, but leading and trailing spaces and tabs are removed.
          */
-        public @NotNull String readUntil(char c) throws IOException {
-            StringBuilder sb = new StringBuilder();
+        public @NotNull String getTrimmedString(int from, int to) {
+            while (from < to && isWhitespace(line[start + from])) from++;
+            while (to > from && isWhitespace(line[start + to - 1])) to--;
+            return getString(from, to);
+        }
 
-            do {
-                readChar();
-                sb.append(charRet.character);
-            } while (charRet.character != c && charRet.character != '\n' && !charRet.eof);
+        /**
+         * {@link RequestMethod} in bytes {@code [from, to)} of the current line.
+         */
+        public @NotNull RequestMethod getMethod(int from, int to) {
+            Methods method = Methods.of(line, start + from, to - from);
+            return method == null ? RequestMethod.of(getString(from, to)) : method;
+        }
 
-            updateState(sb);
-            return sb.toString();
+        /**
+         * {@link HTTPVersion} in bytes {@code [from, to)} of the current line.
+         * @return {@link HTTPVersion} or {@code null} if it is unknown.
+         */
+        public @Nullable HTTPVersion getVersion(int from, int to) {
+            return HTTPVersions.of(line, start + from, to - from);
         }
 
         /**
-         * Reads until the first occurrence of the character the end of the line or the end of the file.
-         * This method will set the {@link #eol} and {@link #eof} flags accordingly.
-         * @return the String read, not containing {@code \r\n}.
+         * {@link HeaderNames Header name} in bytes {@code [from, to)} of the current line.
+         * @return {@link HeaderNames} or {@code null} if it is not a well-known header name.
          */
-        public @NotNull String readUntilLineFeed() throws IOException {
-            StringBuilder sb = new StringBuilder();
+        public @Nullable HeaderNames getHeaderName(int from, int to) {
+            return HeaderNames.of(line, start + from, to - from);
+        }
+    }
 
-            do {
-                readChar();
-                sb.append(charRet.character);
-            } while (charRet.character != '\n' && !charRet.eof);
+    public @NotNull HeadReader getHeadReader() {
+        return headReader;
+    }
 
-            updateState(sb);
-            return sb.toString();
+    private static int indexOf(byte @NotNull [] bytes, int from, int to, byte b) {
+        for (int i = from; i < to; i++) {
+            if(bytes[i] == b) return i;
         }
+        return -1;
     }
 
-    public @NotNull LineReader getLineReader() {
-        return lineReader;
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\t';
+    }
+
+    /**
+     * Waits until more input is available. This is used to wait for the next request on a persistent connection.
+     * @return {@code false} if the end of the stream has been reached.
+     * @throws IOException if occurred while reading
+     */
+    public boolean awaitInput() throws IOException {
+        if(position < limit) return true;
+        readToBuffer();
+        return limit > 0;
+    }
+
+    /**
+     * Stream for a body of given {@code length}. Other than {@link #getInputStreamForRemaining()}, the stream ends
+     * after {@code length} bytes, so that this reader can be used to read the next message after the body.
+     * Closing the returned stream does not close this reader.
+     * @param length length of the body in bytes
+     * @return {@link InputStream} containing the body
+     */
+    public @NotNull InputStream getInputStreamForBody(long length) {
+        return new InputStream() {
+            private long remaining = length;
+
+            @Override
+            public int read() throws IOException {
+                if(remaining <= 0) return -1;
+                int b = HTTPMessageReader.this.read();
+                if(b != -1) remaining--;
+                return b;
+            }
+
+            @Override
+            public int read(byte @NotNull [] dst, int off, int len) throws IOException {
+                if(remaining <= 0) return -1;
+                if(len == 0) return 0;
+
+                if(position >= limit) readToBuffer();
+                if(limit < 0) return -1;
+
+                int copyLen = (int) Math.min(Math.min(len, limit - position), remaining);
+                System.arraycopy(buffer, position, dst, off, copyLen);
+                position += copyLen;
+                remaining -= copyLen;
+                return copyLen;
+            }
+
+            @Override
+            public int available() {
+                return (int) Math.min(remaining, Math.max(0, limit - position));
+            }
+        };
     }
 
     public @NotNull InputStream getInputStreamForRemaining() {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023-2025 Linus Andera
+ * Copyright (c) 2023-2026 Linus Andera
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,7 +21,6 @@ import de.linusdev.lutils.net.http.header.HeaderMap;
 import de.linusdev.lutils.net.http.method.RequestMethod;
 import de.linusdev.lutils.net.http.path.PathAndQuery;
 import de.linusdev.lutils.net.http.version.HTTPVersion;
-import de.linusdev.lutils.net.http.version.HTTPVersions;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -43,8 +42,26 @@ public class HTTPRequest<B> extends HTTPMessage<B> {
     }
 
     public static <B> @NotNull HTTPRequest<B> parse(@NotNull InputStream in, @NotNull BodyParser<B> parser) throws IOException {
-        HTTPMessageReader reader = new HTTPMessageReader(in);
-        HTTPMessageReader.LineReader lineReader = reader.getLineReader();
+        return parse(new HTTPMessageReader(in), parser, false);
+    }
+
+    /**
+     * Parses the next request from given {@code reader}. Other than {@link #parse(InputStream, BodyParser)}, the body
+     * is delimited by the {@code Content-Length} header (see {@link #getBodyStream(HTTPMessageReader, HeaderMap)}),
+     * so that further requests of a persistent connection can be read from the same {@code reader}.
+     * @param reader reader to read the request from
+     * @param parser {@link BodyParser} to parse the body with
+     * @return parsed {@link HTTPRequest}
+     * @throws IOException while reading
+     */
+    public static <B> @NotNull HTTPRequest<B> parse(@NotNull HTTPMessageReader reader, @NotNull BodyParser<B> parser) throws IOException {
+        return parse(reader, parser, true);
+    }
+
+    private static <B> @NotNull HTTPRequest<B> parse(
+            @NotNull HTTPMessageReader reader, @NotNull BodyParser<B> parser, boolean delimitedBody
+    ) throws IOException {
+        HTTPMessageReader.HeadReader headReader = reader.getHeadReader();
 
         final RequestMethod method;
         final String path;
@@ -53,23 +70,25 @@ public class HTTPRequest<B> extends HTTPMessage<B> {
         final B body;
 
         // Read request method
-        method = RequestMethod.of(lineReader.readUntil(' '));
+        readStartLine(headReader);
+        int methodEnd = headReader.indexOf(' ', 0);
 
-        if(lineReader.eol)
+        if(methodEnd == -1)
             throw new IllegalArgumentException("Malformed HTTP request. Missing HTTP version.");
+        method = headReader.getMethod(0, methodEnd);
 
         // Read path and version
-        String pathOrVersion = lineReader.readUntil(' ');
-        if(lineReader.eol) {
+        int pathEnd = headReader.indexOf(' ', methodEnd + 1);
+        if(pathEnd == -1) {
             path = null;
-            version = HTTPVersions.of(pathOrVersion);
+            version = headReader.getVersion(methodEnd + 1, headReader.length());
         } else {
-            path = pathOrVersion;
-            version = HTTPVersions.of(lineReader.readUntilLineFeed());
+            path = headReader.getString(methodEnd + 1, pathEnd);
+            version = headReader.getVersion(pathEnd + 1, headReader.length());
         }
 
         headers = parseHeaders(reader);
-        body = parser.parse(headers, reader.getInputStreamForRemaining());
+        body = parser.parse(headers, delimitedBody ? getBodyStream(reader, headers) : reader.getInputStreamForRemaining());
 
         return new HTTPRequest<>(method, path, version, headers, body);
     }
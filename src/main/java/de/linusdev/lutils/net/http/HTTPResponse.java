@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024-2025 Linus Andera
+ * Copyright (c) 2024-2026 Linus Andera
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -23,7 +23,6 @@ import de.linusdev.lutils.net.http.header.HeaderMap;
 import de.linusdev.lutils.net.http.status.ResponseStatusCode;
 import de.linusdev.lutils.net.http.status.StatusCodes;
 import de.linusdev.lutils.net.http.version.HTTPVersion;
-import de.linusdev.lutils.net.http.version.HTTPVersions;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -34,23 +33,31 @@ public class HTTPResponse<B> extends HTTPMessage<B> {
 
     public static <B> @NotNull HTTPResponse<B> parse(@NotNull InputStream in, @NotNull BodyParser<B> parser) throws IOException {
         HTTPMessageReader reader = new HTTPMessageReader(in);
-        HTTPMessageReader.LineReader lineReader = reader.getLineReader();
+        HTTPMessageReader.HeadReader headReader = reader.getHeadReader();
 
         final HTTPVersion version;
         final ResponseStatusCode statusCode;
         final HeaderMap headers;
         final B body;
 
-        // Read request method
-        version = HTTPVersions.of(lineReader.readUntil(' '));
+        // Read version
+        readStartLine(headReader);
+        int versionEnd = headReader.indexOf(' ', 0);
 
-        if(lineReader.eol)
+        if(versionEnd == -1)
             throw new IllegalArgumentException("Malformed HTTP request. Missing status code.");
+        version = headReader.getVersion(0, versionEnd);
 
-        String code = lineReader.readUntil(' ');
+        int codeEnd = headReader.indexOf(' ', versionEnd + 1);
+        String code;
         String reasonPhrase;
-        if(lineReader.eol) reasonPhrase = "";
-        else reasonPhrase = lineReader.readUntilLineFeed();
+        if(codeEnd == -1) {
+            code = headReader.getString(versionEnd + 1, headReader.length());
+            reasonPhrase = "";
+        } else {
+            code = headReader.getString(versionEnd + 1, codeEnd);
+            reasonPhrase = headReader.getString(codeEnd + 1, headReader.length());
+        }
 
         statusCode = ResponseStatusCode.of(code, reasonPhrase);
 
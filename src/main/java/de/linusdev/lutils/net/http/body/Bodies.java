@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024-2025 Linus Andera
+ * Copyright (c) 2024-2026 Linus Andera
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,9 +16,12 @@
 
 package de.linusdev.lutils.net.http.body;
 
-import de.linusdev.lutils.interfaces.TSupplier;
+import de.linusdev.lutils.data.Data;
+import de.linusdev.lutils.data.json.parser.JsonParser;
 import de.linusdev.lutils.interfaces.Writable;
 import de.linusdev.lutils.io.ResourceUtils;
+import de.linusdev.lutils.net.http.header.HeaderMap;
+import de.linusdev.lutils.net.http.header.HeaderNames;
 import de.linusdev.lutils.net.http.header.contenttype.ContentType;
 import de.linusdev.lutils.net.http.header.contenttype.ContentTypes;
 import org.jetbrains.annotations.NotNull;
@@ -28,14 +31,16 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.LinkOption;
 import java.nio.file.Path;
-import java.nio.file.StandardOpenOption;
 
 public class Bodies {
 
+    private static final @NotNull JsonParser COMPACT_JSON_PARSER = new JsonParser().setCompact(true);
+
     /**
      * Create a html body
      * @see Creator
@@ -68,6 +73,14 @@ public class Bodies {
         return new Creator(ContentTypes.Text.plain().setCharset(StandardCharsets.UTF_8.name()));
     }
 
+    /**
+     * Create a json body
+     * @see Creator#ofData(Data)
+     */
+    public static @NotNull Creator json() {
+        return new Creator(ContentTypes.Application.json());
+    }
+
     /**
      * Create a png body
      * @see Creator
@@ -77,6 +90,29 @@ public class Bodies {
         return new Creator(ContentTypes.Image.png());
     }
 
+    /**
+     * Compresses given {@code body} while it is written. As the length of the compressed body is unknown, it is sent
+     * using the {@code chunked} transfer coding.
+     * @param body {@link Body} to compress
+     * @param encoding {@link ContentEncoding} to compress with
+     * @return compressed {@link Body} with the {@code Content-Encoding} header
+     * @see #precompressed(Body)
+     */
+    public static @NotNull Body compressed(@NotNull Body body, @NotNull ContentEncoding encoding) {
+        return new CompressedBody(body, encoding);
+    }
+
+    /**
+     * Compressed variants of the returned body are only created once. Should be used for bodies, which are sent
+     * multiple times (for example a static html page).
+     * @param body {@link Body} to compress
+     * @return {@link PrecompressedBody}
+     * @see Compression
+     */
+    public static @NotNull PrecompressedBody precompressed(@NotNull Body body) {
+        return new PrecompressedBody(body);
+    }
+
     /**
      * Created body of different entities.
      * <ul>
@@ -108,29 +144,51 @@ public class Bodies {
         }
 
         /**
-         *
+         * The returned body is a {@link FileBody}, which can be transferred to socket channels without copying it
+         * into the heap.
          * @param pathToFile path to a {@link Files#isRegularFile(Path, LinkOption...) regular file}.
          * @return {@link Body} representing the contents of the file at given {@code pathToFile}
          */
-        public @NotNull Body ofRegularFile(@NotNull Path pathToFile) {
+        public @NotNull FileBody ofRegularFile(@NotNull Path pathToFile) {
             if(!Files.isRegularFile(pathToFile))
                 throw new IllegalArgumentException("'" + pathToFile + "' is not a regular file.");
 
             try {
-                return new InputStreamSupplierBody(
-                        () -> Files.newInputStream(pathToFile, StandardOpenOption.READ),
-                        contentType,
-                        Files.size(pathToFile)
-                );
+                return new RegularFileBody(pathToFile, contentType, Files.size(pathToFile));
             } catch (IOException e) {
                throw new IllegalStateException("Cannot read file size of file'" + pathToFile + "'", e);
             }
         }
 
+        public @NotNull Body ofBytes(byte @NotNull [] bytes) {
+            return new ByteArrayBody(bytes, contentType);
+        }
+
         public @NotNull Body ofStringUtf8(@NotNull String string) {
             return new ByteArrayBody(string.getBytes(StandardCharsets.UTF_8), contentType);
         }
 
+        /**
+         * Writes given {@code data} UTF-8 encoded using a compact {@link JsonParser}. No intermediate
+         * {@link String} is created.
+         * @param data {@link Data} to write
+         * @return {@link Body} containing given {@code data} as json
+         */
+        public @NotNull Body ofData(@Nullable Data data) {
+            return ofData(data, COMPACT_JSON_PARSER);
+        }
+
+        /**
+         * Writes given {@code data} UTF-8 encoded using given {@code parser}. No intermediate
+         * {@link String} is created.
+         * @param data {@link Data} to write
+         * @param parser {@link JsonParser} to write the json with
+         * @return {@link Body} containing given {@code data} as json
+         */
+        public @NotNull Body ofData(@Nullable Data data, @NotNull JsonParser parser) {
+            return new ByteArrayBody(parser.writeDataToBytes(data), contentType);
+        }
+
         @SuppressWarnings("unused")
         public @NotNull Body ofWritable(@NotNull Writable writable){
             ByteArrayOutputStream out = new ByteArrayOutputStream();
@@ -139,13 +197,24 @@ public class Bodies {
             } catch (IOException ignored) {}
             return new ByteArrayBody(out.toByteArray(), contentType);
         }
+
+        /**
+         * Other than {@link #ofWritable(Writable)}, given {@code writable} is not buffered, but written directly
+         * while the message is built. As the length of the body is unknown, it is sent using the {@code chunked}
+         * transfer coding.
+         * @param writable {@link Writable} to write the body with. It may be called multiple times.
+         * @return {@link Body} streaming given {@code writable}
+         */
+        public @NotNull Body ofStreamingWritable(@NotNull Writable writable) {
+            return new WritableBody(writable, contentType);
+        }
     }
 
-    private record InputStreamSupplierBody(
-            @NotNull TSupplier<InputStream, IOException> supplier,
+    private record RegularFileBody(
+            @NotNull Path file,
             @NotNull ContentType contentType,
             long contentLength
-    ) implements Body {
+    ) implements FileBody {
 
         @Override
         public @NotNull ContentType contentType() {
@@ -156,11 +225,6 @@ public class Bodies {
         public long length() {
             return contentLength;
         }
-
-        @Override
-        public @NotNull InputStream stream() throws IOException {
-            return supplier.supply();
-        }
     }
 
     private record StreamURLConnectionBody(
@@ -204,6 +268,115 @@ public class Bodies {
         }
     }
 
+    private record CompressedBody(
+            @NotNull Body body,
+            @NotNull ContentEncoding encoding
+    ) implements Body {
+        @Override
+        public @Nullable ContentType contentType() {
+            return body.contentType();
+        }
+
+        @Override
+        public long length() {
+            return -1;
+        }
+
+        @Override
+        public boolean isStreaming() {
+            return true;
+        }
+
+        @Override
+        public void adjustHeaders(@NotNull HeaderMap headers) {
+            Body.super.adjustHeaders(headers);
+            headers.put(HeaderNames.CONTENT_ENCODING.with(encoding.getName()));
+        }
+
+        @Override
+        public void removeHeaders(@NotNull HeaderMap headers) {
+            Body.super.removeHeaders(headers);
+            headers.remove(HeaderNames.CONTENT_ENCODING);
+        }
+
+        @Override
+        public void writeTo(@NotNull OutputStream out) throws IOException {
+            try (OutputStream compressed = encoding.compress(out)) {
+                body.writeTo(compressed);
+            }
+        }
+
+        @Override
+        public @NotNull InputStream stream() throws IOException {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            writeTo(out);
+            return new ByteArrayInputStream(out.toByteArray());
+        }
+    }
+
+    /**
+     * Already compressed body with a known length.
+     */
+    record EncodedBody(
+            byte @NotNull [] bytes,
+            @Nullable ContentType contentType,
+            @NotNull ContentEncoding encoding
+    ) implements Body {
+        @Override
+        public long length() {
+            return bytes.length;
+        }
+
+        @Override
+        public void adjustHeaders(@NotNull HeaderMap headers) {
+            Body.super.adjustHeaders(headers);
+            headers.put(HeaderNames.CONTENT_ENCODING.with(encoding.getName()));
+        }
+
+        @Override
+        public void removeHeaders(@NotNull HeaderMap headers) {
+            Body.super.removeHeaders(headers);
+            headers.remove(HeaderNames.CONTENT_ENCODING);
+        }
+
+        @Override
+        public @NotNull InputStream stream() {
+            return new ByteArrayInputStream(bytes);
+        }
+    }
+
+    private record WritableBody(
+            @NotNull Writable writable,
+            @NotNull ContentType contentType
+    ) implements Body {
+        @Override
+        public @NotNull ContentType contentType() {
+            return contentType;
+        }
+
+        @Override
+        public long length() {
+            return -1;
+        }
+
+        @Override
+        public boolean isStreaming() {
+            return true;
+        }
+
+        @Override
+        public void writeTo(@NotNull OutputStream out) throws IOException {
+            writable.write(out);
+        }
+
+        @Override
+        public @NotNull InputStream stream() throws IOException {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            writable.write(out);
+            return new ByteArrayInputStream(out.toByteArray());
+        }
+    }
+
 
 
 }
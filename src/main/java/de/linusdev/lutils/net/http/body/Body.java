@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023-2025 Linus Andera
+ * Copyright (c) 2023-2026 Linus Andera
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -24,6 +24,9 @@ import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 
 public interface Body {
 
@@ -57,6 +60,15 @@ public interface Body {
         }
     }
 
+    /**
+     * Whether this body should be sent using the {@code chunked} transfer coding instead of calculating its
+     * {@link #definitiveLength()} beforehand. Should only be {@code true} if the {@link #length()} is unknown.
+     * Default: {@code false}
+     */
+    default boolean isStreaming() {
+        return false;
+    }
+
     /**
      * Adds the for this body required headers to given {@link HeaderMap}.
      * @param headers map to add the headers to
@@ -66,7 +78,10 @@ public interface Body {
         if(contentType != null)
             headers.put(contentType.asHeader());
 
-        headers.put(HeaderNames.CONTENT_LENGTH.with("" + definitiveLength()));
+        if(isStreaming())
+            headers.put(HeaderNames.TRANSFER_ENCODING, HeaderNames.TRANSFER_ENCODING.with("chunked"));
+        else
+            headers.put(HeaderNames.CONTENT_LENGTH, HeaderNames.CONTENT_LENGTH.with("" + definitiveLength()));
     }
 
     /**
@@ -80,6 +95,9 @@ public interface Body {
 
         if(headers.containsValue(HeaderNames.CONTENT_LENGTH.with("" + length())))
             headers.remove(HeaderNames.CONTENT_LENGTH);
+
+        if(isStreaming() && headers.containsValue(HeaderNames.TRANSFER_ENCODING.with("chunked")))
+            headers.remove(HeaderNames.TRANSFER_ENCODING);
     }
 
     /**
@@ -89,4 +107,25 @@ public interface Body {
      */
     @NotNull InputStream stream() throws IOException;
 
+    /**
+     * Writes this body to given {@code out}. Bodies, which are generated while being written, should override this
+     * method, so that they do not have to be buffered.
+     * @param out stream to write the body to. Must not be closed by this method.
+     */
+    default void writeTo(@NotNull OutputStream out) throws IOException {
+        try (InputStream stream = stream()) {
+            stream.transferTo(out);
+        }
+    }
+
+    /**
+     * Writes this body to given blocking {@code channel}. By default, the body is {@link #writeTo(OutputStream)
+     * written} to a stream wrapping the channel.
+     * @param channel channel to write the body to. Must not be closed by this method.
+     * @see FileBody
+     */
+    default void writeTo(@NotNull WritableByteChannel channel) throws IOException {
+        writeTo(Channels.newOutputStream(channel));
+    }
+
 }
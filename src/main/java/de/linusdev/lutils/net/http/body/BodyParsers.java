@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024-2025 Linus Andera
+ * Copyright (c) 2024-2026 Linus Andera
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -64,4 +64,20 @@ public class BodyParsers {
             }
         };
     }
+
+    /**
+     * Wraps given {@code parser}, so that bodies using the {@code chunked} transfer coding are decoded before they
+     * are passed to it. Bodies, which have already been decoded (for example by
+     * {@link de.linusdev.lutils.net.http.HTTPRequest#parse(de.linusdev.lutils.net.http.HTTPMessageReader, BodyParser)}),
+     * are passed unchanged.
+     * @param parser {@link BodyParser} to parse the decoded body with
+     * @return {@link BodyParser} decoding chunked bodies
+     */
+    @Contract(value = "_ -> new", pure = true)
+    public static <B> @NotNull BodyParser<B> dechunking(@NotNull BodyParser<B> parser) {
+        return (headers, in) -> parser.parse(
+                headers,
+                headers.isChunked() && !(in instanceof ChunkedInputStream) ? new ChunkedInputStream(in) : in
+        );
+    }
 }
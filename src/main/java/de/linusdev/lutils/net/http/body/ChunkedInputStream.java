@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026 Linus Andera
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.linusdev.lutils.net.http.body;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Reads a body, which uses the {@code chunked} transfer coding. Chunk extensions and trailers are ignored.
+ * <br><br>
+ * This stream never reads further than the end of the body from the underlying stream, so that the next message
+ * can be read from the underlying stream afterwards. Closing this stream does not close the underlying stream.
+ */
+public class ChunkedInputStream extends InputStream {
+
+    /**
+     * Maximum length of a chunk-size or trailer line.
+     */
+    private static final int MAX_LINE_LENGTH = 4096;
+
+    private final @NotNull InputStream in;
+
+    /**
+     * Remaining bytes of the current chunk.
+     */
+    private long remaining = 0;
+    private boolean eof = false;
+
+    public ChunkedInputStream(@NotNull InputStream in) {
+        this.in = in;
+    }
+
+    @Override
+    public int read() throws IOException {
+        byte[] b = new byte[1];
+        return read(b, 0, 1) == -1 ? -1 : Byte.toUnsignedInt(b[0]);
+    }
+
+    @Override
+    public int read(byte @NotNull [] b, int off, int len) throws IOException {
+        if(eof) return -1;
+        if(len == 0) return 0;
+
+        if(remaining == 0) {
+            nextChunk();
+            if(eof) return -1;
+        }
+
+        int read = in.read(b, off, (int) Math.min(len, remaining));
+        if(read == -1) throw new EOFException("Unexpected end of chunked body.");
+
+        remaining -= read;
+        if(remaining == 0) readChunkEnd();
+        return read;
+    }
+
+    @Override
+    public int available() throws IOException {
+        return eof ? 0 : (int) Math.min(remaining, in.available());
+    }
+
+    @Override
+    public void close() {
+        // The underlying stream may contain further messages
+    }
+
+    /**
+     * Reads the size of the next chunk. If it is the last chunk, the trailers are skipped.
+     */
+    private void nextChunk() throws IOException {
+        String line = readLine();
+        int end = line.indexOf(';');
+        String size = (end == -1 ? line : line.substring(0, end)).trim();
+
+        try {
+            remaining = Long.parseLong(size, 16);
+        } catch (NumberFormatException e) {
+            throw new IOException("Malformed chunk size: '" + line + "'.");
+        }
+        if(remaining < 0) throw new IOException("Malformed chunk size: '" + line + "'.");
+
+        if(remaining == 0) {
+            // Skip trailers
+            //noinspection StatementWithEmptyBody
+            while (!readLine().isEmpty());
+            eof = true;
+        }
+    }
+
+    private void readChunkEnd() throws IOException {
+        if(!readLine().isEmpty()) throw new IOException("Malformed chunked body. Missing line break after chunk.");
+    }
+
+    /**
+     * Reads a line byte by byte, so that nothing after the line is read from the underlying stream.
+     * @return the line without line break
+     */
+    private @NotNull String readLine() throws IOException {
+        StringBuilder sb = new StringBuilder();
+        int b;
+        while ((b = in.read()) != '\n') {
+            if(b == -1) throw new EOFException("Unexpected end of chunked body.");
+            if(sb.length() == MAX_LINE_LENGTH) throw new IOException("Line in chunked body is too long.");
+            sb.append((char) b);
+        }
+
+        if(!sb.isEmpty() && sb.charAt(sb.length() - 1) == '\r')
+            sb.setLength(sb.length() - 1);
+        return sb.toString();
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026 Linus Andera
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.linusdev.lutils.net.http.body;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes a body using the {@code chunked} transfer coding. Written bytes are buffered and sent as a chunk as soon as
+ * the buffer is full or the stream is {@link #flush() flushed}. {@link #finish()} writes the last chunk.
+ * <br><br>
+ * {@link #close() Closing} this stream finishes the body, but does not close the underlying stream, so that further
+ * messages can be written to it.
+ */
+public class ChunkedOutputStream extends OutputStream {
+
+    private static final byte[] CRLF = "\r\n".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] LAST_CHUNK = "0\r\n\r\n".getBytes(StandardCharsets.US_ASCII);
+
+    private final @NotNull OutputStream out;
+    private final byte @NotNull [] buffer;
+    private int count = 0;
+    private boolean finished = false;
+
+    /**
+     * @param out stream to write the chunks to
+     * @param chunkSize maximum size of a chunk
+     */
+    public ChunkedOutputStream(@NotNull OutputStream out, int chunkSize) {
+        this.out = out;
+        this.buffer = new byte[chunkSize];
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        ensureNotFinished();
+        if(count == buffer.length) writeBuffer();
+        buffer[count++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte @NotNull [] b, int off, int len) throws IOException {
+        ensureNotFinished();
+        if(len >= buffer.length) {
+            // Large writes are sent as a single chunk without copying them into the buffer
+            writeBuffer();
+            writeChunk(b, off, len);
+            return;
+        }
+
+        if(len > buffer.length - count) writeBuffer();
+        System.arraycopy(b, off, buffer, count, len);
+        count += len;
+    }
+
+    /**
+     * Sends the buffered bytes as chunk and flushes the underlying stream.
+     */
+    @Override
+    public void flush() throws IOException {
+        if(!finished) writeBuffer();
+        out.flush();
+    }
+
+    /**
+     * Sends the buffered bytes and the last chunk. Nothing can be written after this method has been called.
+     */
+    public void finish() throws IOException {
+        if(finished) return;
+        writeBuffer();
+        out.write(LAST_CHUNK);
+        finished = true;
+    }
+
+    /**
+     * {@link #finish() Finishes} the body and flushes the underlying stream, which is not closed.
+     */
+    @Override
+    public void close() throws IOException {
+        finish();
+        out.flush();
+    }
+
+    private void writeBuffer() throws IOException {
+        if(count == 0) return;
+        writeChunk(buffer, 0, count);
+        count = 0;
+    }
+
+    private void writeChunk(byte @NotNull [] b, int off, int len) throws IOException {
+        out.write(Integer.toHexString(len).getBytes(StandardCharsets.US_ASCII));
+        out.write(CRLF);
+        out.write(b, off, len);
+        out.write(CRLF);
+    }
+
+    private void ensureNotFinished() throws IOException {
+        if(finished) throw new IOException("Chunked body is already finished.");
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026 Linus Andera
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.linusdev.lutils.net.http.body;
+
+import de.linusdev.lutils.net.http.HTTPMessageBuilder;
+import de.linusdev.lutils.net.http.HTTPRequest;
+import de.linusdev.lutils.net.http.header.Header;
+import de.linusdev.lutils.net.http.header.HeaderNames;
+import de.linusdev.lutils.net.http.header.contenttype.ContentType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.util.Locale;
+
+/**
+ * Compresses response bodies using the {@link ContentEncoding} negotiated with the {@code Accept-Encoding} header of
+ * the request. {@link PrecompressedBody PrecompressedBodies} are replaced by their cached variant, all other bodies
+ * are {@link Bodies#compressed(Body, ContentEncoding) compressed while they are written}.
+ * @see de.linusdev.lutils.net.routing.builder.RoutingBuilder#setCompression(boolean)
+ */
+public class Compression {
+
+    /**
+     * Bodies with a known length smaller than this are not compressed.
+     */
+    public static final int MIN_LENGTH = 256;
+
+    private Compression() {
+
+    }
+
+    /**
+     * Compresses the body of given {@code response}, if the client accepts a supported {@link ContentEncoding} and
+     * the body is {@link #isCompressible(ContentType) compressible}. The {@code ETag} of a compressed response is
+     * weakened, as the compressed representation differs from the uncompressed one.
+     * @param request the request given {@code response} answers
+     * @param response the response to compress
+     */
+    public static void apply(@NotNull HTTPRequest<?> request, @NotNull HTTPMessageBuilder response) throws IOException {
+        Body body = response.getBody();
+        if(body == null || response.getHeaders().containsKey(HeaderNames.CONTENT_ENCODING.getName()))
+            return;
+
+        int status = response.getStatusCode().getStatusCode();
+        if(status < 200 || status == 204 || status == 304)
+            return;
+        if(!isCompressible(body.contentType()) || (body.length() != -1 && body.length() < MIN_LENGTH))
+            return;
+
+        // The response depends on the Accept-Encoding header, even if it is not compressed
+        Header vary = response.getHeaders().get(HeaderNames.VARY);
+        if(vary == null)
+            response.setHeader(HeaderNames.VARY, HeaderNames.ACCEPT_ENCODING.getName());
+        else if(!vary.getValue().toLowerCase(Locale.ROOT).contains("accept-encoding"))
+            response.setHeader(HeaderNames.VARY, vary.getValue() + ", " + HeaderNames.ACCEPT_ENCODING.getName());
+
+        ContentEncoding encoding = ContentEncoding.negotiate(request.getHeaders().get(HeaderNames.ACCEPT_ENCODING));
+        if(encoding == null)
+            return;
+
+        Body compressed;
+        if(body instanceof PrecompressedBody precompressed) {
+            compressed = precompressed.getVariant(encoding);
+            // Compression does not reduce the size
+            if(compressed == precompressed.getBody()) return;
+        } else {
+            compressed = Bodies.compressed(body, encoding);
+        }
+
+        response.setBody(compressed);
+
+        Header eTag = response.getHeaders().get(HeaderNames.ETAG);
+        if(eTag != null && !eTag.getValue().startsWith("W/"))
+            response.setHeader(HeaderNames.ETAG, "W/" + eTag.getValue());
+    }
+
+    /**
+     * Whether bodies of given {@code contentType} are worth compressing. Text, json, javascript and xml are
+     * compressible. Images (except svg), videos and archives are usually compressed already.
+     */
+    public static boolean isCompressible(@Nullable ContentType contentType) {
+        if(contentType == null) return false;
+
+        String type = contentType.type().toLowerCase(Locale.ROOT);
+        String subtype = contentType.subtype().toLowerCase(Locale.ROOT);
+
+        if(type.equals("text")) return true;
+        if(subtype.endsWith("+json") || subtype.endsWith("+xml")) return true;
+        if(type.equals("application"))
+            return subtype.equals("json") || subtype.equals("javascript") || subtype.equals("xml")
+                    || subtype.equals("x-ndjson") || subtype.equals("wasm");
+
+        return false;
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2026 Linus Andera
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.linusdev.lutils.net.http.body;
+
+import de.linusdev.lutils.net.http.header.Header;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Content codings supported for compressing bodies.
+ * @see Compression
+ */
+public enum ContentEncoding {
+    GZIP("gzip") {
+        @Override
+        protected @NotNull DeflaterOutputStream createStream(@NotNull OutputStream out) throws IOException {
+            return new GZIPOutputStream(out, BUFFER_SIZE, true);
+        }
+    },
+    DEFLATE("deflate") {
+        @Override
+        protected @NotNull DeflaterOutputStream createStream(@NotNull OutputStream out) {
+            return new DeflaterOutputStream(out, true);
+        }
+    },
+    ;
+
+    private static final int BUFFER_SIZE = 2048;
+
+    private final @NotNull String name;
+
+    ContentEncoding(@NotNull String name) {
+        this.name = name;
+    }
+
+    /**
+     * Name of this coding as used in the {@code Content-Encoding} and {@code Accept-Encoding} headers.
+     */
+    public @NotNull String getName() {
+        return name;
+    }
+
+    /**
+     * Creates a stream, which compresses everything written to it and writes it to given {@code out}.
+     * {@link OutputStream#flush() Flushing} the returned stream flushes all data compressed so far. Closing it
+     * finishes the compressed data, but does not close {@code out}.
+     * @param out stream to write the compressed data to
+     * @return compressing {@link OutputStream}
+     */
+    public @NotNull OutputStream compress(@NotNull OutputStream out) throws IOException {
+        return createStream(new FilterOutputStream(out) {
+            @Override
+            public void write(byte @NotNull [] b, int off, int len) throws IOException {
+                out.write(b, off, len);
+            }
+
+            @Override
+            public void close() throws IOException {
+                flush();
+            }
+        });
+    }
+
+    protected abstract @NotNull DeflaterOutputStream createStream(@NotNull OutputStream out) throws IOException;
+
+    /**
+     * Selects the coding preferred by the client. Codings with a higher quality value are preferred. If the quality
+     * values are equal, {@link #GZIP} is preferred.
+     * @param acceptEncoding the {@code Accept-Encoding} header of the request or {@code null}
+     * @return the selected {@link ContentEncoding} or {@code null} if the client does not accept any of them
+     */
+    public static @Nullable ContentEncoding negotiate(@Nullable Header acceptEncoding) {
+        if(acceptEncoding == null) return null;
+
+        // -1: not listed
+        double[] qualities = new double[values().length];
+        Arrays.fill(qualities, -1);
+        double wildcard = -1;
+
+        for (String coding : acceptEncoding.getValue().split(",")) {
+            String[] params = coding.split(";");
+            String name = params[0].trim();
+            double quality = 1;
+
+            for (int i = 1; i < params.length; i++) {
+                String param = params[i].trim();
+                if(!param.startsWith("q=") && !param.startsWith("Q=")) continue;
+                try {
+                    quality = Double.parseDouble(param.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    quality = 0;
+                }
+            }
+
+            if(name.equals("*")) {
+                wildcard = quality;
+                continue;
+            }
+
+            for (ContentEncoding encoding : values()) {
+                if(encoding.name.equalsIgnoreCase(name)) qualities[encoding.ordinal()] = quality;
+            }
+        }
+
+        ContentEncoding selected = null;
+        double selectedQuality = 0;
+        for (ContentEncoding encoding : values()) {
+            // Codings not listed explicitly are covered by the wildcard
+            double quality = qualities[encoding.ordinal()] == -1 ? wildcard : qualities[encoding.ordinal()];
+            if(quality > selectedQuality) {
+                selected = encoding;
+                selectedQuality = quality;
+            }
+        }
+
+        return selected;
+    }
+}
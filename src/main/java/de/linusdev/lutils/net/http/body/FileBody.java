@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2026 Linus Andera
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.linusdev.lutils.net.http.body;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * {@link Body} containing the first {@link #length()} bytes of a regular file. If written to a channel, the file is
+ * transferred using {@link FileChannel#transferTo(long, long, WritableByteChannel)}. If the channel is a socket
+ * channel, the operating system can send the file without copying it into the heap (for example using
+ * {@code sendfile}).
+ * @see Bodies.Creator#ofRegularFile(Path)
+ */
+public interface FileBody extends Body {
+
+    /**
+     * @return path to the file containing this body
+     */
+    @NotNull Path file();
+
+    /**
+     * Opens a new {@link FileChannel} to read the file. The channel must be closed by the method caller.
+     */
+    default @NotNull FileChannel openChannel() throws IOException {
+        return FileChannel.open(file(), StandardOpenOption.READ);
+    }
+
+    @Override
+    default @NotNull InputStream stream() throws IOException {
+        return Files.newInputStream(file(), StandardOpenOption.READ);
+    }
+
+    @Override
+    default void writeTo(@NotNull WritableByteChannel channel) throws IOException {
+        try (FileChannel fileChannel = openChannel()) {
+            long position = 0;
+            long length = length();
+            while (position < length) {
+                long transferred = fileChannel.transferTo(position, length - position, channel);
+                if(transferred == 0 && position >= fileChannel.size())
+                    throw new IOException("File '" + file() + "' has been truncated while sending it.");
+                position += transferred;
+            }
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2026 Linus Andera
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.linusdev.lutils.net.http.body;
+
+import de.linusdev.lutils.net.http.header.HeaderMap;
+import de.linusdev.lutils.net.http.header.contenttype.ContentType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.WritableByteChannel;
+import java.util.EnumMap;
+
+/**
+ * {@link Body}, which caches its compressed variants. Each variant is created the first time it is
+ * {@link #getVariant(ContentEncoding) requested}, so that the compression cost is only paid once. The wrapped body
+ * must supply the same content every time.
+ * <br><br>
+ * Uncompressed, this body behaves exactly like the wrapped body.
+ * @see Bodies#precompressed(Body)
+ * @see Compression
+ */
+public class PrecompressedBody implements Body {
+
+    private final @NotNull Body body;
+    /**
+     * Created variants. Guarded by {@code this}.
+     */
+    private final @NotNull EnumMap<ContentEncoding, Body> variants = new EnumMap<>(ContentEncoding.class);
+
+    public PrecompressedBody(@NotNull Body body) {
+        this.body = body;
+    }
+
+    /**
+     * Variant of this body compressed with given {@code encoding}. If the compressed variant is not smaller than the
+     * uncompressed body, the uncompressed body is returned instead.
+     * @param encoding {@link ContentEncoding} of the variant
+     * @return the compressed variant with the {@code Content-Encoding} header or the uncompressed {@link Body}
+     */
+    public synchronized @NotNull Body getVariant(@NotNull ContentEncoding encoding) throws IOException {
+        Body variant = variants.get(encoding);
+        if(variant != null) return variant;
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (OutputStream compressed = encoding.compress(out)) {
+            body.writeTo(compressed);
+        }
+
+        variant = out.size() < body.definitiveLength()
+                ? new Bodies.EncodedBody(out.toByteArray(), body.contentType(), encoding)
+                : body;
+        variants.put(encoding, variant);
+        return variant;
+    }
+
+    /**
+     * The uncompressed body.
+     */
+    public @NotNull Body getBody() {
+        return body;
+    }
+
+    @Override
+    public @Nullable ContentType contentType() {
+        return body.contentType();
+    }
+
+    @Override
+    public long length() {
+        return body.length();
+    }
+
+    @Override
+    public boolean isStreaming() {
+        return body.isStreaming();
+    }
+
+    @Override
+    public void adjustHeaders(@NotNull HeaderMap headers) {
+        body.adjustHeaders(headers);
+    }
+
+    @Override
+    public void removeHeaders(@NotNull HeaderMap headers) {
+        body.removeHeaders(headers);
+    }
+
+    @Override
+    public @NotNull InputStream stream() throws IOException {
+        return body.stream();
+    }
+
+    @Override
+    public void writeTo(@NotNull OutputStream out) throws IOException {
+        body.writeTo(out);
+    }
+
+    @Override
+    public void writeTo(@NotNull WritableByteChannel channel) throws IOException {
+        body.writeTo(channel);
+    }
+}
@@ -0,0 +1,332 @@
+/*
+ * Copyright (c) 2026 Linus Andera
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.linusdev.lutils.net.http.body;
+
+import de.linusdev.lutils.io.ResourceUtils;
+import de.linusdev.lutils.net.http.HTTPMessageBuilder;
+import de.linusdev.lutils.net.http.HTTPRequest;
+import de.linusdev.lutils.net.http.HTTPResponse;
+import de.linusdev.lutils.net.http.header.Header;
+import de.linusdev.lutils.net.http.header.HeaderMap;
+import de.linusdev.lutils.net.http.header.HeaderNames;
+import de.linusdev.lutils.net.http.header.contenttype.ContentType;
+import de.linusdev.lutils.net.http.method.Methods;
+import de.linusdev.lutils.net.http.method.RequestMethod;
+import de.linusdev.lutils.net.http.status.StatusCodes;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Cache for static assets (regular files and resources). The content of cached assets is kept in memory, so that
+ * they do not have to be read again for each request. The cache is bounded by {@code maxBytes}. If it is full, the
+ * least recently used assets are evicted. Assets larger than {@code maxBytes} are not cached.
+ * <br><br>
+ * Responses contain the headers {@code ETag} and {@code Last-Modified}. Conditional {@code GET} and {@code HEAD}
+ * requests ({@code If-None-Match} or {@code If-Modified-Since}) are answered with
+ * {@link StatusCodes#NOT_MODIFIED 304 Not Modified}, if the asset has not changed.
+ * <br><br>
+ * A cached asset is revalidated (by comparing the modification time and size of the file), if it has not been
+ * revalidated for {@code revalidationInterval} milliseconds. In between, requests for the asset are answered without
+ * touching the disk.
+ * <br><br>
+ * The bodies of cached assets are {@link PrecompressedBody PrecompressedBodies}, so that {@link Compression} only
+ * compresses each asset once. Compressed variants are not counted towards {@code maxBytes}.
+ */
+public class StaticAssetCache {
+
+    public static final long DEFAULT_REVALIDATION_INTERVAL = 1000;
+
+    /**
+     * Format of dates sent in headers (IMF-fixdate). Received dates are parsed using
+     * {@link DateTimeFormatter#RFC_1123_DATE_TIME}.
+     */
+    private static final @NotNull DateTimeFormatter HTTP_DATE = DateTimeFormatter
+            .ofPattern("EEE, dd MMM yyyy HH:mm:ss 'GMT'", Locale.US)
+            .withZone(ZoneOffset.UTC);
+
+    private final long maxBytes;
+    private final long revalidationInterval;
+
+    /**
+     * Cached assets in access order. Guarded by {@code this}.
+     */
+    private final @NotNull LinkedHashMap<String, Asset> assets = new LinkedHashMap<>(16, 0.75f, true);
+    /**
+     * Sum of the sizes of all cached {@link #assets}. Guarded by {@code this}.
+     */
+    private long size = 0;
+
+    /**
+     * Creates a cache with a revalidation interval of {@value DEFAULT_REVALIDATION_INTERVAL} milliseconds.
+     * @param maxBytes maximum amount of bytes cached
+     */
+    public StaticAssetCache(long maxBytes) {
+        this(maxBytes, DEFAULT_REVALIDATION_INTERVAL);
+    }
+
+    /**
+     * @param maxBytes maximum amount of bytes cached
+     * @param revalidationInterval time in milliseconds after which a cached asset is checked for modifications.
+     *                             {@code 0} checks on every request.
+     */
+    public StaticAssetCache(long maxBytes, long revalidationInterval) {
+        this.maxBytes = maxBytes;
+        this.revalidationInterval = revalidationInterval;
+    }
+
+    /**
+     * Creates the response for given {@code request} of given {@code file}.
+     * @param request request for the file
+     * @param file path to a regular file
+     * @param contentType content type of the file
+     * @return {@link HTTPMessageBuilder} containing the file or {@link StatusCodes#NOT_MODIFIED}
+     * @throws IOException if the file cannot be read
+     */
+    public @NotNull HTTPMessageBuilder respond(
+            @NotNull HTTPRequest<?> request,
+            @NotNull Path file,
+            @NotNull ContentType contentType
+    ) throws IOException {
+        return respond(request, getFile(file, contentType));
+    }
+
+    /**
+     * Creates the response for given {@code request} of a resource.
+     * See {@link ResourceUtils#getURLConnectionOfResource(Class, String, boolean)}
+     * @param request request for the resource
+     * @param contentType content type of the resource
+     * @return {@link HTTPMessageBuilder} containing the resource or {@link StatusCodes#NOT_MODIFIED}
+     * @throws IOException if the resource cannot be read
+     */
+    public @NotNull HTTPMessageBuilder respond(
+            @NotNull HTTPRequest<?> request,
+            @Nullable Class<?> relClazz,
+            @NotNull String path,
+            @NotNull ContentType contentType
+    ) throws IOException {
+        return respond(request, getResource(relClazz, path, contentType));
+    }
+
+    /**
+     * Removes all assets from this cache.
+     */
+    public synchronized void clear() {
+        assets.clear();
+        size = 0;
+    }
+
+    /**
+     * @return the amount of bytes currently cached.
+     */
+    public synchronized long size() {
+        return size;
+    }
+
+    private @NotNull HTTPMessageBuilder respond(@NotNull HTTPRequest<?> request, @NotNull Asset asset) {
+        HTTPMessageBuilder response = HTTPResponse.builder().setHeader(HeaderNames.ETAG, asset.eTag);
+        if(asset.lastModified != 0)
+            response.setHeader(HeaderNames.LAST_MODIFIED, HTTP_DATE.format(Instant.ofEpochMilli(asset.lastModified)));
+
+        if(isNotModified(request, asset))
+            return response.setStatusCode(StatusCodes.NOT_MODIFIED);
+
+        return response.setBody(asset.body);
+    }
+
+    private @NotNull Asset getFile(@NotNull Path file, @NotNull ContentType contentType) throws IOException {
+        String key = "file:" + file.toAbsolutePath().normalize();
+        Asset asset = get(key);
+        if(asset != null && asset.isFresh(revalidationInterval))
+            return asset;
+
+        long lastModified = Files.getLastModifiedTime(file).toMillis();
+        long length = Files.size(file);
+        if(asset != null && asset.lastModified == lastModified && asset.length == length) {
+            asset.validated();
+            return asset;
+        }
+
+        Bodies.Creator creator = new Bodies.Creator(contentType);
+        if(length > maxBytes)
+            return put(key, new Asset(creator.ofRegularFile(file), lastModified, length, null));
+
+        byte[] bytes = Files.readAllBytes(file);
+        return put(key, new Asset(Bodies.precompressed(creator.ofBytes(bytes)), lastModified, bytes.length, bytes));
+    }
+
+    private @NotNull Asset getResource(
+            @Nullable Class<?> relClazz,
+            @NotNull String path,
+            @NotNull ContentType contentType
+    ) throws IOException {
+        String key = "resource:" + (relClazz == null ? "" : relClazz.getName()) + ":" + path;
+        Asset asset = get(key);
+        if(asset != null && asset.isFresh(revalidationInterval))
+            return asset;
+
+        // Reading the metadata connects, which may already open the resource
+        try (ResourceUtils.StreamURLConnection connection = ResourceUtils.getURLConnectionOfResource(relClazz, path, false)) {
+            assert connection != null;
+            long lastModified = connection.getLastModified();
+            long length = connection.getContentLength();
+            if(asset != null && asset.lastModified == lastModified && asset.length == length) {
+                asset.validated();
+                return asset;
+            }
+
+            Bodies.Creator creator = new Bodies.Creator(contentType);
+            if(length > maxBytes)
+                return put(key, new Asset(creator.ofResource(relClazz, path), lastModified, length, null));
+
+            // The length may be unknown: Read at most one byte more than the cache can hold
+            byte[] bytes;
+            try (InputStream in = connection.openInputStream()) {
+                bytes = in.readNBytes((int) Math.min(maxBytes + 1, Integer.MAX_VALUE - 8));
+            }
+            if(bytes.length > maxBytes)
+                return put(key, new Asset(creator.ofResource(relClazz, path), lastModified, length, null));
+
+            return put(key, new Asset(Bodies.precompressed(creator.ofBytes(bytes)), lastModified, length, bytes));
+        }
+    }
+
+    private synchronized @Nullable Asset get(@NotNull String key) {
+        return assets.get(key);
+    }
+
+    /**
+     * Caches given {@code asset} and evicts the least recently used assets, until this cache is not larger than
+     * {@link #maxBytes}. Assets without content or larger than {@link #maxBytes} are not cached, but replace an
+     * outdated version of the asset.
+     */
+    private synchronized @NotNull Asset put(@NotNull String key, @NotNull Asset asset) {
+        if(asset.bytes == null || asset.size() > maxBytes) {
+            Asset old = assets.remove(key);
+            if(old != null) size -= old.size();
+            return asset;
+        }
+
+        Asset old = assets.put(key, asset);
+        if(old != null) size -= old.size();
+        size += asset.size();
+
+        Iterator<Map.Entry<String, Asset>> it = assets.entrySet().iterator();
+        while (size > maxBytes && it.hasNext()) {
+            Asset eldest = it.next().getValue();
+            if(eldest == asset) continue;
+            size -= eldest.size();
+            it.remove();
+        }
+
+        return asset;
+    }
+
+    /**
+     * Whether given {@code request} is a conditional request and the client's version of given {@code asset} is
+     * still up to date. {@code If-Modified-Since} is ignored, if the request contains {@code If-None-Match}.
+     */
+    private static boolean isNotModified(@NotNull HTTPRequest<?> request, @NotNull Asset asset) {
+        RequestMethod method = request.getMethod();
+        if(!RequestMethod.equals(Methods.GET, method) && !RequestMethod.equals(Methods.HEAD, method))
+            return false;
+
+        HeaderMap headers = request.getHeaders();
+        Header ifNoneMatch = headers.get(HeaderNames.IF_NONE_MATCH);
+        if(ifNoneMatch != null) {
+            for (String tag : ifNoneMatch.getValue().split(",")) {
+                tag = tag.trim();
+                if(tag.startsWith("W/")) tag = tag.substring(2);
+                if(tag.equals("*") || tag.equals(asset.eTag)) return true;
+            }
+            return false;
+        }
+
+        Header ifModifiedSince = headers.get(HeaderNames.IF_MODIFIED_SINCE);
+        if(ifModifiedSince == null || asset.lastModified == 0)
+            return false;
+
+        try {
+            long since = Instant.from(DateTimeFormatter.RFC_1123_DATE_TIME.parse(ifModifiedSince.getValue().trim())).getEpochSecond();
+            return asset.lastModified / 1000 <= since;
+        } catch (DateTimeParseException e) {
+            // Invalid dates must be ignored
+            return false;
+        }
+    }
+
+    private static final class Asset {
+        private final @NotNull Body body;
+        /**
+         * Modification time in milliseconds since epoch or {@code 0} if unknown.
+         */
+        private final long lastModified;
+        private final long length;
+        private final @NotNull String eTag;
+        /**
+         * Cached content or {@code null} if this asset is too large to be cached.
+         */
+        private final byte @Nullable [] bytes;
+
+        /**
+         * Time in milliseconds since epoch this asset was last checked for modifications.
+         */
+        private volatile long validatedAt;
+
+        Asset(@NotNull Body body, long lastModified, long length, byte @Nullable [] bytes) {
+            this.body = body;
+            this.lastModified = lastModified;
+            this.length = length;
+            this.bytes = bytes;
+            this.validatedAt = System.currentTimeMillis();
+
+            // Without a modification time, the tag is derived from the content
+            long version = lastModified;
+            if(lastModified == 0 && bytes != null) {
+                CRC32 crc = new CRC32();
+                crc.update(bytes);
+                version = crc.getValue();
+            }
+            this.eTag = "\"" + Long.toHexString(length) + "-" + Long.toHexString(version) + "\"";
+        }
+
+        boolean isFresh(long revalidationInterval) {
+            return System.currentTimeMillis() - validatedAt < revalidationInterval;
+        }
+
+        void validated() {
+            validatedAt = System.currentTimeMillis();
+        }
+
+        long size() {
+            return bytes == null ? 0 : bytes.length;
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024-2025 Linus Andera
+ * Copyright (c) 2024-2026 Linus Andera
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,14 +22,25 @@ import org.jetbrains.annotations.Nullable;
 import java.util.*;
 
 /**
- * {@link HeaderMap}&lt;String, Header&gt;, but the keys ignore case.
+ * {@link Map}&lt;String, Header&gt;, but the keys ignore case.
+ * <br><br>
+ * Headers with a {@link HeaderNames well-known name} are stored in an array indexed by the id of their name, so that
+ * accessing them does not require a lowercase copy of the key. All other headers are stored in a {@link HashMap}
+ * with lowercase keys, which is only created when needed. Well-known headers are iterated first, in the order of
+ * {@link HeaderNames}.
  */
-public class HeaderMap implements Map<String, Header> {
+public class HeaderMap extends AbstractMap<String, Header> {
 
-    private final Map<String, Header> map;
+    private static final HeaderNames[] NAMES = HeaderNames.values();
+
+    private final Header @NotNull [] known;
+    private int knownSize;
+    private @Nullable Map<String, Header> others;
 
     public HeaderMap() {
-        this.map = new HashMap<>();
+        this.known = new Header[HeaderNames.COUNT];
+        this.knownSize = 0;
+        this.others = null;
     }
 
     private String asKey(Object key) {
@@ -38,83 +49,179 @@ public class HeaderMap implements Map<String, Header> {
 
     @Override
     public int size() {
-        return map.size();
+        return knownSize + (others == null ? 0 : others.size());
     }
 
     @Override
     public boolean isEmpty() {
-        return map.isEmpty();
+        return size() == 0;
     }
 
     @Override
     public boolean containsKey(Object key) {
-        return map.containsKey(asKey(key));
-    }
-
-    @Override
-    public boolean containsValue(Object value) {
-        return map.containsValue(value);
+        return get(key) != null;
     }
 
     @Override
     public Header get(Object key) {
-        return map.get(asKey(key));
+        HeaderNames name = HeaderNames.of((String) key);
+        if(name != null) return known[name.ordinal()];
+        return others == null ? null : others.get(asKey(key));
     }
 
     public Header get(@NotNull HeaderName name) {
-        return map.get(asKey(name.getName()));
+        if(name instanceof HeaderNames known) return this.known[known.ordinal()];
+        return get(name.getName());
     }
 
     @Nullable
     @Override
     public Header put(String key, @NotNull Header value) {
-        return map.put(asKey(key), value);
+        HeaderNames name = HeaderNames.of(key);
+        if(name != null) return put(name, value);
+
+        if(others == null) others = new HashMap<>();
+        return others.put(asKey(key), value);
     }
 
     @Nullable
     public Header put(String key, String value) {
-        return map.put(asKey(key), new HeaderImpl(key, value));
+        return put(key, new HeaderImpl(key, value));
     }
 
     @Nullable
     public Header put(@NotNull Header header) {
-        return map.put(asKey(header.getKey()), header);
+        return put(header.getKey(), header);
     }
 
-    @Override
-    public Header remove(Object key) {
-        return map.remove(asKey(key));
+    /**
+     * Same as {@link #put(String, Header)}, but {@link HeaderNames} are stored without looking up their key.
+     */
+    @Nullable
+    public Header put(@NotNull HeaderName name, @NotNull Header header) {
+        if(!(name instanceof HeaderNames known))
+            return put(name.getName(), header);
+
+        Header previous = this.known[known.ordinal()];
+        this.known[known.ordinal()] = Objects.requireNonNull(header);
+        if(previous == null) knownSize++;
+        return previous;
     }
 
-    public Header remove(@NotNull HeaderName name) {
-        return map.remove(asKey(name.getName()));
+    /**
+     * Whether the last transfer coding in the {@code Transfer-Encoding} header is {@code chunked}.
+     */
+    public boolean isChunked() {
+        Header transferEncoding = get(HeaderNames.TRANSFER_ENCODING);
+        if(transferEncoding == null) return false;
+
+        String value = transferEncoding.getValue();
+        return value.substring(value.lastIndexOf(',') + 1).trim().equalsIgnoreCase("chunked");
     }
 
     @Override
-    public void putAll(@NotNull Map<? extends String, ? extends Header> m) {
-        m.forEach((key, value) -> map.put(asKey(key), value));
+    public Header remove(Object key) {
+        HeaderNames name = HeaderNames.of((String) key);
+        if(name != null) return remove(name);
+        return others == null ? null : others.remove(asKey(key));
     }
 
-    @Override
-    public void clear() {
-        map.clear();
+    public Header remove(@NotNull HeaderName name) {
+        if(!(name instanceof HeaderNames known))
+            return remove(name.getName());
+
+        Header previous = this.known[known.ordinal()];
+        this.known[known.ordinal()] = null;
+        if(previous != null) knownSize--;
+        return previous;
     }
 
-    @NotNull
     @Override
-    public Set<String> keySet() {
-        return map.keySet();
+    public void putAll(@NotNull Map<? extends String, ? extends Header> m) {
+        m.forEach(this::put);
     }
 
-    @NotNull
     @Override
-    public Collection<Header> values() {
-        return map.values();
+    public void clear() {
+        Arrays.fill(known, null);
+        knownSize = 0;
+        if(others != null) others.clear();
     }
 
     @NotNull
     @Override
     public Set<Entry<String, Header>> entrySet() {
-        return map.entrySet();
+        return new AbstractSet<>() {
+            @Override
+            public @NotNull Iterator<Entry<String, Header>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return HeaderMap.this.size();
+            }
+        };
+    }
+
+    /**
+     * Iterates the well-known headers, then all other headers. The keys are lowercase.
+     */
+    private class EntryIterator implements Iterator<Entry<String, Header>> {
+
+        /**
+         * Id of the next well-known header to check.
+         */
+        private int next = 0;
+        /**
+         * Id of the well-known header returned last or -1.
+         */
+        private int last = -1;
+        private @Nullable Iterator<Entry<String, Header>> othersIterator = null;
+
+        @Override
+        public boolean hasNext() {
+            while (next < known.length && known[next] == null) next++;
+            if(next < known.length) return true;
+
+            if(others == null) return false;
+            if(othersIterator == null) othersIterator = others.entrySet().iterator();
+            return othersIterator.hasNext();
+        }
+
+        @Override
+        public Entry<String, Header> next() {
+            if(!hasNext()) throw new NoSuchElementException();
+
+            if(next < known.length) {
+                int id = last = next++;
+                return new SimpleEntry<>(NAMES[id].getLowerCaseName(), known[id]) {
+                    @Override
+                    public Header setValue(Header value) {
+                        if(known[id] == null) knownSize++;
+                        known[id] = Objects.requireNonNull(value);
+                        return super.setValue(value);
+                    }
+                };
+            }
+
+            last = -1;
+            assert othersIterator != null;
+            return othersIterator.next();
+        }
+
+        @Override
+        public void remove() {
+            if(last != -1) {
+                if(known[last] == null) throw new IllegalStateException();
+                known[last] = null;
+                knownSize--;
+                last = -1;
+                return;
+            }
+
+            if(othersIterator == null) throw new IllegalStateException();
+            othersIterator.remove();
+        }
     }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024-2025 Linus Andera
+ * Copyright (c) 2024-2026 Linus Andera
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,26 +16,147 @@
 
 package de.linusdev.lutils.net.http.header;
 
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Well-known header names. Each name has an {@link #ordinal() id}, which {@link HeaderMap} uses to store the headers
+ * in an array. Names are resolved case-insensitively through a perfect-hash table using {@link #of(String)} or
+ * {@link #of(byte[], int, int)}, without creating a lowercase copy of the name.
+ */
 public enum HeaderNames implements HeaderName {
     CONNECTION("Connection"),
+    KEEP_ALIVE("Keep-Alive"),
     UPGRADE("Upgrade"),
 
-    CONTENT_TYPE("Content-Type"),
     CONTENT_LENGTH("Content-Length"),
+    CONTENT_TYPE("Content-Type"),
+    TRANSFER_ENCODING("Transfer-Encoding"),
+    CONTENT_ENCODING("Content-Encoding"),
+    ACCEPT_ENCODING("Accept-Encoding"),
+    VARY("Vary"),
+
+    ETAG("ETag"),
+    LAST_MODIFIED("Last-Modified"),
+    IF_NONE_MATCH("If-None-Match"),
+    IF_MODIFIED_SINCE("If-Modified-Since"),
 
     SEC_WEBSOCKET_KEY("Sec-WebSocket-Key"),
     SEC_WEBSOCKET_VERSION("Sec-WebSocket-Version"),
     SEC_WEBSOCKET_ACCEPT("Sec-WebSocket-Accept"),
     ;
 
-    private final String name;
+    /**
+     * Amount of {@link HeaderNames}. All ids are smaller than this.
+     */
+    public static final int COUNT = values().length;
+
+    /**
+     * Perfect-hash table: Every name has its own slot at {@link #slot(int)}.
+     */
+    private static final HeaderNames[] table;
+    private static final int tableBits;
+    private static final int seed;
 
-    HeaderNames(String name) {
+    static {
+        HeaderNames[] values = values();
+        HeaderNames[] candidate = null;
+        int candidateBits = Math.max(1, 32 - Integer.numberOfLeadingZeros(COUNT - 1));
+        int candidateSeed = 0;
+
+        // Search the smallest table and a seed, for which no two names share a slot
+        search:
+        for (; ; candidateBits++) {
+            candidate = new HeaderNames[1 << candidateBits];
+            seeds:
+            for (candidateSeed = 1; candidateSeed < (1 << 16); candidateSeed += 2) {
+                Arrays.fill(candidate, null);
+                for (HeaderNames name : values) {
+                    int slot = slot(name.hash, candidateSeed, candidateBits);
+                    if(candidate[slot] != null) continue seeds;
+                    candidate[slot] = name;
+                }
+                break search;
+            }
+        }
+
+        table = candidate;
+        tableBits = candidateBits;
+        seed = candidateSeed;
+    }
+
+    /**
+     * The {@link HeaderNames} with given {@code name}. Header names are case-insensitive.
+     * @return {@link HeaderNames} or {@code null} if it is not a well-known header name
+     */
+    public static @Nullable HeaderNames of(@NotNull String name) {
+        int hash = 0;
+        for (int i = 0; i < name.length(); i++)
+            hash = 31 * hash + toLowerCase(name.charAt(i));
+
+        HeaderNames candidate = table[slot(hash, seed, tableBits)];
+        if(candidate == null || candidate.lowerCaseName.length() != name.length()) return null;
+
+        for (int i = 0; i < name.length(); i++) {
+            if(toLowerCase(name.charAt(i)) != candidate.lowerCaseName.charAt(i)) return null;
+        }
+        return candidate;
+    }
+
+    /**
+     * Same as {@link #of(String)}, but the name is given as ASCII bytes {@code bytes[offset, offset + length)}.
+     */
+    public static @Nullable HeaderNames of(byte @NotNull [] bytes, int offset, int length) {
+        int hash = 0;
+        for (int i = 0; i < length; i++)
+            hash = 31 * hash + toLowerCase(bytes[offset + i]);
+
+        HeaderNames candidate = table[slot(hash, seed, tableBits)];
+        if(candidate == null || candidate.lowerCaseName.length() != length) return null;
+
+        for (int i = 0; i < length; i++) {
+            if(toLowerCase(bytes[offset + i]) != candidate.lowerCaseName.charAt(i)) return null;
+        }
+        return candidate;
+    }
+
+    private static int slot(int hash, int seed, int bits) {
+        return (hash * seed) >>> (32 - bits);
+    }
+
+    /**
+     * Lowercases ASCII letters only, so that the hash of a name does not depend on the {@link Locale}.
+     */
+    private static int toLowerCase(int c) {
+        return c >= 'A' && c <= 'Z' ? c + ('a' - 'A') : c;
+    }
+
+    private final @NotNull String name;
+    private final @NotNull String lowerCaseName;
+    private final int hash;
+
+    HeaderNames(@NotNull String name) {
         this.name = name;
+        this.lowerCaseName = name.toLowerCase(Locale.ROOT);
+
+        int hash = 0;
+        for (int i = 0; i < lowerCaseName.length(); i++)
+            hash = 31 * hash + lowerCaseName.charAt(i);
+        this.hash = hash;
     }
 
     @Override
     public String getName() {
         return name;
     }
+
+    /**
+     * Lowercase {@link #getName() name}, which {@link HeaderMap} uses as key.
+     */
+    public @NotNull String getLowerCaseName() {
+        return lowerCaseName;
+    }
 }
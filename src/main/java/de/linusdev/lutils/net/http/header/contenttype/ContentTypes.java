@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024-2025 Linus Andera
+ * Copyright (c) 2024-2026 Linus Andera
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -93,4 +93,16 @@ public class ContentTypes extends BasicHeaderValueImpl implements ContentType {
             super("image", name);
         }
     }
+
+    public static class Application extends ContentTypes implements BasicHeaderValue {
+
+        @Contract(" -> new")
+        public static @NotNull Application json() {
+            return new Application("json");
+        }
+
+        protected Application(@NotNull String name) {
+            super("application", name);
+        }
+    }
 }
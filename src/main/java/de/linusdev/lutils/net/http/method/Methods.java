@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023-2025 Linus Andera
+ * Copyright (c) 2023-2026 Linus Andera
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,6 +17,10 @@
 package de.linusdev.lutils.net.http.method;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 
 public enum Methods implements RequestMethod {
     GET("GET"),
@@ -29,10 +33,26 @@ public enum Methods implements RequestMethod {
     TRACE("TRACE"),
     ;
 
+    private static final Methods[] VALUES = values();
+
+    /**
+     * The {@link Methods} with given name in {@code bytes[offset, offset + length)}. Method names are case-sensitive.
+     * @return {@link Methods} or {@code null} if there is no such method
+     */
+    public static @Nullable Methods of(byte @NotNull [] bytes, int offset, int length) {
+        for (Methods method : VALUES) {
+            if(Arrays.equals(method.bytes, 0, method.bytes.length, bytes, offset, offset + length))
+                return method;
+        }
+        return null;
+    }
+
     private final String name;
+    private final byte[] bytes;
 
     Methods(String name) {
         this.name = name;
+        this.bytes = name.getBytes(StandardCharsets.US_ASCII);
     }
 
     @Override
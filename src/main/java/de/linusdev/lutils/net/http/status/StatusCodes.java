@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024-2025 Linus Andera
+ * Copyright (c) 2024-2026 Linus Andera
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -31,6 +31,7 @@ public enum StatusCodes implements ResponseStatusCode {
     NO_CONTENT(204, "No Content", SUCCESSFUL),
 
     MOVED_PERMANENTLY(301, "Moved Permanently", REDIRECT),
+    NOT_MODIFIED(304, "Not Modified", REDIRECT),
     TEMPORARY_REDIRECT(307, "Temporary Redirect", REDIRECT),
     PERMANENT_REDIRECT(208, "Permanent Redirect", REDIRECT),
 
@@ -39,6 +40,7 @@ public enum StatusCodes implements ResponseStatusCode {
     FORBIDDEN(403, "Forbidden", CLIENT_ERROR),
     NOT_FOUND(404, "Not Found", CLIENT_ERROR),
     METHOD_NOT_ALLOWED(405, "Method Not Allowed", CLIENT_ERROR),
+    CONTENT_TOO_LARGE(413, "Content Too Large", CLIENT_ERROR),
 
     INTERNAL_SERVER_ERROR(500, "Internal Server Error", SERVER_ERROR),
     NOT_IMPLEMENTED(501, "Not Implemented", SERVER_ERROR),
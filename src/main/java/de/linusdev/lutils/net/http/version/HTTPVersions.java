@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023-2025 Linus Andera
+ * Copyright (c) 2023-2026 Linus Andera
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,7 +17,10 @@
 package de.linusdev.lutils.net.http.version;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -32,6 +35,8 @@ public enum HTTPVersions implements HTTPVersion {
     ;
 
     private final static Map<String, HTTPVersions> versions = new HashMap<>(HTTPVersions.values().length);
+    private final static byte[][] versionBytes;
+    private final static HTTPVersions[] versionValues;
 
     static {
         for(HTTPVersions v : HTTPVersions.values()) {
@@ -39,12 +44,31 @@ public enum HTTPVersions implements HTTPVersion {
                 versions.put(v.getName() + "/" + version, v);
             }
         }
+
+        versionBytes = new byte[versions.size()][];
+        versionValues = new HTTPVersions[versions.size()];
+        int i = 0;
+        for (Map.Entry<String, HTTPVersions> entry : versions.entrySet()) {
+            versionBytes[i] = entry.getKey().getBytes(StandardCharsets.US_ASCII);
+            versionValues[i++] = entry.getValue();
+        }
     }
 
     public static HTTPVersion of(@NotNull String version) {
         return versions.get(version);
     }
 
+    /**
+     * Same as {@link #of(String)}, but the version is given as ASCII bytes {@code bytes[offset, offset + length)}.
+     */
+    public static @Nullable HTTPVersion of(byte @NotNull [] bytes, int offset, int length) {
+        for (int i = 0; i < versionBytes.length; i++) {
+            if(Arrays.equals(versionBytes[i], 0, versionBytes[i].length, bytes, offset, offset + length))
+                return versionValues[i];
+        }
+        return null;
+    }
+
     private final @NotNull String @NotNull [] version;
 
     HTTPVersions(@NotNull String @NotNull ... version) {
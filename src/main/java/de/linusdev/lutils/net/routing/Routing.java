@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024-2025 Linus Andera
+ * Copyright (c) 2024-2026 Linus Andera
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,20 +17,26 @@
 package de.linusdev.lutils.net.routing;
 
 import de.linusdev.lutils.net.http.HTTPMessageBuilder;
+import de.linusdev.lutils.net.http.HTTPMessageReader;
 import de.linusdev.lutils.net.http.HTTPRequest;
 import de.linusdev.lutils.net.http.HTTPResponse;
 import de.linusdev.lutils.net.http.body.BodyParsers;
+import de.linusdev.lutils.net.http.body.Compression;
+import de.linusdev.lutils.net.http.body.FileBody;
 import de.linusdev.lutils.net.http.body.UnparsedBody;
+import de.linusdev.lutils.net.http.header.Header;
+import de.linusdev.lutils.net.http.header.HeaderNames;
 import de.linusdev.lutils.net.http.status.StatusCodes;
+import de.linusdev.lutils.net.http.version.HTTPVersions;
 import de.linusdev.lutils.net.routing.builder.RoutingBuilder;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.io.IOException;
-import java.io.InputStream;
-import java.io.OutputStream;
+import java.io.*;
 import java.net.Socket;
 import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.nio.channels.SocketChannel;
 import java.util.HashMap;
 import java.util.function.Function;
 
@@ -52,6 +58,18 @@ public class Routing extends Route {
      * handler/listener for exceptions during routing.
      */
     private final @NotNull Function<@NotNull Throwable, @Nullable HTTPMessageBuilder> exceptionHandler;
+    /**
+     * Maximum amount of requests routed on a single connection. {@code 1} disables persistent connections.
+     */
+    private final int maxRequestsPerConnection;
+    /**
+     * Time in milliseconds a persistent connection may be idle, before it is closed. {@code 0} means no timeout.
+     */
+    private final int idleTimeout;
+    /**
+     * Whether response bodies are {@link Compression compressed}.
+     */
+    private final boolean compression;
 
     /**
      *
@@ -65,29 +83,235 @@ public class Routing extends Route {
             @NotNull Route defaultRoute,
             @NotNull HashMap<String, Route> routes,
             @NotNull Function<@NotNull Throwable, @Nullable HTTPMessageBuilder> exceptionHandler
+    ) {
+        this(prefix, defaultRoute, routes, exceptionHandler, 1, 0, false);
+    }
+
+    /**
+     *
+     * @param prefix see {@link #prefix}
+     * @param defaultRoute fallback {@link Route}, must be present.
+     * @param routes sub {@link Route}s
+     * @param exceptionHandler  see {@link #exceptionHandler}
+     * @param maxRequestsPerConnection see {@link #maxRequestsPerConnection}
+     * @param idleTimeout see {@link #idleTimeout}
+     */
+    public Routing(
+            @NotNull String prefix,
+            @NotNull Route defaultRoute,
+            @NotNull HashMap<String, Route> routes,
+            @NotNull Function<@NotNull Throwable, @Nullable HTTPMessageBuilder> exceptionHandler,
+            int maxRequestsPerConnection,
+            int idleTimeout
+    ) {
+        this(prefix, defaultRoute, routes, exceptionHandler, maxRequestsPerConnection, idleTimeout, false);
+    }
+
+    /**
+     *
+     * @param prefix see {@link #prefix}
+     * @param defaultRoute fallback {@link Route}, must be present.
+     * @param routes sub {@link Route}s
+     * @param exceptionHandler  see {@link #exceptionHandler}
+     * @param maxRequestsPerConnection see {@link #maxRequestsPerConnection}
+     * @param idleTimeout see {@link #idleTimeout}
+     * @param compression see {@link #compression}
+     */
+    public Routing(
+            @NotNull String prefix,
+            @NotNull Route defaultRoute,
+            @NotNull HashMap<String, Route> routes,
+            @NotNull Function<@NotNull Throwable, @Nullable HTTPMessageBuilder> exceptionHandler,
+            int maxRequestsPerConnection,
+            int idleTimeout,
+            boolean compression
     ) {
         super(defaultRoute, routes, new HashMap<>(0), null);
         this.prefix = prefix;
         this.prefixNoEndSlash = prefix.substring(0, prefix.length() - 1);
         this.exceptionHandler = exceptionHandler;
+        this.maxRequestsPerConnection = maxRequestsPerConnection;
+        this.idleTimeout = idleTimeout;
+        this.compression = compression;
     }
 
     /**
      * Parses the input stream of given {@code socket} to a {@link HTTPRequest} and routes it.
      * It will then automatically send the by the routing selected {@link HTTPResponse} to
      * the output stream of given {@code socket}. Also closes the socket if required.
+     * <br><br>
+     * If persistent connections are enabled (see {@link RoutingBuilder#setKeepAlive(int, int)}), further requests
+     * are read from the socket and routed until the client or the response requests to close the connection, the
+     * maximum amount of requests is reached or the connection was idle for too long. Pipelined requests are routed
+     * one after another.
      * @param socket socket to route
      * @throws IOException while writing to or reading from the sockets streams.
      */
     public void route(@NotNull Socket socket) throws IOException {
+        if(maxRequestsPerConnection > 1) {
+            routePersistent(socket);
+            return;
+        }
+
         HTTPMessageBuilder response = route(socket, socket.getInputStream());
         if(response != null) {
-            response.buildResponse(socket.getOutputStream());
+            writeResponse(socket, socket.getOutputStream(), response);
             socket.close();
         }
 
     }
 
+    private void routePersistent(@NotNull Socket socket) throws IOException {
+        HTTPMessageReader reader = new HTTPMessageReader(socket.getInputStream());
+        OutputStream out = new BufferedOutputStream(socket.getOutputStream());
+        InputStream[] body = new InputStream[1];
+
+        for (int count = 1; ; count++) {
+            HTTPRequest<UnparsedBody> request;
+            HTTPMessageBuilder response;
+            try {
+                socket.setSoTimeout(idleTimeout);
+                if(!reader.awaitInput()) {
+                    socket.close();
+                    return;
+                }
+
+                request = HTTPRequest.parse(reader, (headers, in) -> {
+                    body[0] = in;
+                    return new UnparsedBody(headers, in);
+                });
+
+                // The idle timeout does not apply to handlers or connections, which are taken over by a handler
+                socket.setSoTimeout(0);
+            } catch (SocketTimeoutException e) {
+                socket.close();
+                return;
+            } catch (SocketException e) {
+                throw e;
+            } catch (Throwable t) {
+                // Malformed request: We cannot know where the next request starts
+                response = exceptionHandler.apply(t);
+                if(response == null) response = HTTPResponse.builder().setStatusCode(StatusCodes.BAD_REQUEST);
+                response.setHeader(HeaderNames.CONNECTION, "close").buildResponse(out);
+                out.flush();
+                socket.close();
+                return;
+            }
+
+            try {
+                response = route(socket, request);
+            } catch (Throwable t) {
+                response = exceptionHandler.apply(t);
+                if(response == null) response = HTTPResponse.builder().setStatusCode(StatusCodes.INTERNAL_SERVER_ERROR);
+            }
+
+            // The connection has been taken over, for example by a protocol upgrade
+            if(response == null) return;
+
+            boolean keepAlive = count < maxRequestsPerConnection
+                    && isKeepAliveRequested(request)
+                    && (request.getHeaders().isChunked()
+                        || !request.getHeaders().containsKey(HeaderNames.TRANSFER_ENCODING.getName()))
+                    && delimitBody(response);
+
+            if(!keepAlive) {
+                response.setHeader(HeaderNames.CONNECTION, "close");
+            } else {
+                if(request.getVersion() != HTTPVersions.HTTP_1_1)
+                    response.setHeader(HeaderNames.CONNECTION, "keep-alive");
+                response.setHeader(HeaderNames.KEEP_ALIVE, keepAliveHeader(count));
+            }
+
+            writeResponse(socket, out, response);
+
+            if(!keepAlive) {
+                socket.close();
+                return;
+            }
+
+            // Skip the part of the body, which has not been read by the handler
+            body[0].transferTo(OutputStream.nullOutputStream());
+        }
+    }
+
+    /**
+     * Value of the {@code Keep-Alive} header for the response to the {@code count}-th request of a connection. The
+     * timeout is rounded up to whole seconds, so that it is never {@code 0}, and omitted if there is no
+     * {@link #idleTimeout}.
+     */
+    private @NotNull String keepAliveHeader(int count) {
+        String max = "max=" + (maxRequestsPerConnection - count);
+        if(idleTimeout == 0) return max;
+        return "timeout=" + (idleTimeout + 999) / 1000 + ", " + max;
+    }
+
+    /**
+     * Writes given {@code response} to {@code out} and flushes it. If the body is a {@link FileBody} and the socket
+     * has a blocking {@link SocketChannel}, the response is written to the channel instead, so that the file can be
+     * transferred without copying it into the heap.
+     */
+    private static void writeResponse(
+            @NotNull Socket socket, @NotNull OutputStream out, @NotNull HTTPMessageBuilder response
+    ) throws IOException {
+        SocketChannel channel = socket.getChannel();
+        if(channel != null && channel.isBlocking() && response.getBody() instanceof FileBody) {
+            out.flush();
+            response.buildResponse(channel, 2048);
+            return;
+        }
+
+        response.buildResponse(out);
+        out.flush();
+    }
+
+    /**
+     * Whether the client wants to keep the connection open. HTTP/1.1 connections are persistent, unless the
+     * {@code Connection} header contains {@code close}. Older versions require {@code Connection: keep-alive}.
+     */
+    private static boolean isKeepAliveRequested(@NotNull HTTPRequest<?> request) {
+        Header connection = request.getHeaders().get(HeaderNames.CONNECTION);
+        boolean keepAlive = request.getVersion() == HTTPVersions.HTTP_1_1;
+        if(connection == null) return keepAlive;
+
+        for (String option : connection.getValue().split(",")) {
+            option = option.trim();
+            if(option.equalsIgnoreCase("close")) return false;
+            if(option.equalsIgnoreCase("keep-alive")) keepAlive = true;
+        }
+
+        return keepAlive;
+    }
+
+    /**
+     * Makes sure the end of the body of given {@code response} can be detected by the client without closing the
+     * connection.
+     * @return {@code false} if the body of the response is not delimited.
+     */
+    private static boolean delimitBody(@NotNull HTTPMessageBuilder response) {
+        if(response.getHeaders().containsKey(HeaderNames.CONTENT_LENGTH.getName()))
+            return true;
+        if(response.getHeaders().isChunked())
+            return true;
+        if(response.getBody() != null)
+            return false;
+
+        int status = response.getStatusCode().getStatusCode();
+        if(status >= 200 && status != 204 && status != 304)
+            response.setHeader(HeaderNames.CONTENT_LENGTH, "0");
+        return true;
+    }
+
+    /**
+     * HTTP/1.0 clients do not understand the {@code chunked} transfer coding. The body of responses to them is
+     * delimited by closing the connection instead.
+     */
+    private static void removeChunkedCoding(@NotNull HTTPRequest<?> request, @NotNull HTTPMessageBuilder response) {
+        if(request.getVersion() == HTTPVersions.HTTP_1_1 || !response.getHeaders().isChunked())
+            return;
+
+        response.setHeader(HeaderNames.TRANSFER_ENCODING, (String) null);
+    }
+
     /**
      * Starts routing for given {@code request}.
      * @param request incoming {@link HTTPRequest}
@@ -145,6 +369,11 @@ public class Routing extends Route {
             return HTTPResponse.builder().setStatusCode(StatusCodes.INTERNAL_SERVER_ERROR);
         }
 
+        if(compression && response != null)
+            Compression.apply(request, response);
+        if(response != null)
+            removeChunkedCoding(request, response);
+
         return response;
     }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024-2025 Linus Andera
+ * Copyright (c) 2024-2026 Linus Andera
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,6 +18,7 @@ package de.linusdev.lutils.net.routing.builder;
 
 import de.linusdev.lutils.net.http.HTTPMessageBuilder;
 import de.linusdev.lutils.net.http.HTTPResponse;
+import de.linusdev.lutils.net.http.body.Compression;
 import de.linusdev.lutils.net.http.status.StatusCodes;
 import de.linusdev.lutils.net.routing.Route;
 import de.linusdev.lutils.net.routing.Routing;
@@ -35,6 +36,9 @@ public class RoutingBuilder {
     private @NotNull RouteBuilder<RoutingBuilder> defaultRoute;
     private @NotNull String prefix = "/";
     private @NotNull Function<@NotNull Throwable, @Nullable HTTPMessageBuilder> exceptionHandler = t -> null;
+    private int maxRequestsPerConnection = 1;
+    private int idleTimeout = 0;
+    private boolean compression = false;
 
     public RoutingBuilder() {
         defaultRoute = defaultRoute().defaultHandler(request ->
@@ -81,6 +85,42 @@ public class RoutingBuilder {
         return this;
     }
 
+    /**
+     * Enables persistent connections (HTTP keep-alive) for {@link Routing#route(java.net.Socket)}. The socket is
+     * kept open after a response has been sent and further requests are routed on the same connection. Since a
+     * persistent connection occupies the thread routing it until it is closed, the server should route each
+     * connection on its own thread (see {@link de.linusdev.lutils.net.server.SimpleHttpServer#SimpleHttpServer(int,
+     * int, int, Routing, de.linusdev.lutils.interfaces.ExceptionHandler) SimpleHttpServer}).<br>
+     * Default: {@code 1} request per connection (disabled)
+     * @param maxRequestsPerConnection maximum amount of requests routed on a single connection
+     * @param idleTimeout time in milliseconds a connection may be idle before it is closed or {@code 0} for no timeout
+     * @throws IllegalArgumentException if {@code maxRequestsPerConnection} is smaller than 1 or {@code idleTimeout} is
+     * negative.
+     */
+    public RoutingBuilder setKeepAlive(int maxRequestsPerConnection, int idleTimeout) {
+        if(maxRequestsPerConnection < 1)
+            throw new IllegalArgumentException("maxRequestsPerConnection must be at least 1, but was " + maxRequestsPerConnection + ".");
+        if(idleTimeout < 0)
+            throw new IllegalArgumentException("idleTimeout cannot be negative, but was " + idleTimeout + ".");
+
+        this.maxRequestsPerConnection = maxRequestsPerConnection;
+        this.idleTimeout = idleTimeout;
+        return this;
+    }
+
+    /**
+     * Enables {@link Compression compression} of response bodies, if the client accepts it (see
+     * {@code Accept-Encoding}). Bodies, which are sent multiple times, should be
+     * {@link de.linusdev.lutils.net.http.body.Bodies#precompressed(de.linusdev.lutils.net.http.body.Body)
+     * precompressed}.<br>
+     * Default: {@code false}
+     * @param compression whether to compress response bodies
+     */
+    public RoutingBuilder setCompression(boolean compression) {
+        this.compression = compression;
+        return this;
+    }
+
     /**
      * Build the {@link Routing}.
      */
@@ -90,7 +130,7 @@ public class RoutingBuilder {
             routes.put(route.getKey(), route.getValue().getRoute());
         }
 
-        return new Routing(prefix, defaultRoute.getRoute(), routes, exceptionHandler);
+        return new Routing(prefix, defaultRoute.getRoute(), routes, exceptionHandler, maxRequestsPerConnection, idleTimeout, compression);
     }
 
 }
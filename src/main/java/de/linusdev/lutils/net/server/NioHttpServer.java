@@ -0,0 +1,578 @@
+/*
+ * Copyright (c) 2026 Linus Andera
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.linusdev.lutils.net.server;
+
+import de.linusdev.lutils.async.Future;
+import de.linusdev.lutils.async.Nothing;
+import de.linusdev.lutils.async.Task;
+import de.linusdev.lutils.async.completeable.CompletableFuture;
+import de.linusdev.lutils.async.completeable.CompletableTask;
+import de.linusdev.lutils.async.exception.NonBlockingThreadException;
+import de.linusdev.lutils.async.manager.AsyncManager;
+import de.linusdev.lutils.interfaces.ExceptionHandler;
+import de.linusdev.lutils.net.http.HTTPMessageBuilder;
+import de.linusdev.lutils.net.http.HTTPRequest;
+import de.linusdev.lutils.net.http.HTTPResponse;
+import de.linusdev.lutils.net.http.body.BodyParsers;
+import de.linusdev.lutils.net.http.body.FileBody;
+import de.linusdev.lutils.net.http.body.UnparsedBody;
+import de.linusdev.lutils.net.http.header.HeaderNames;
+import de.linusdev.lutils.net.http.status.ResponseStatusCode;
+import de.linusdev.lutils.net.http.status.StatusCodes;
+import de.linusdev.lutils.net.routing.Routing;
+import de.linusdev.lutils.net.routing.RoutingState;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Http server based on a {@link Selector}. All connections are accepted, read and written by a single selector thread
+ * without blocking. As soon as a request has been read completely, it is parsed and {@link Routing#route(HTTPRequest)
+ * routed} on a worker pool. Thus, a slow client does not block any other client and a large amount of concurrent
+ * connections only require a small amount of threads.
+ * <br><br>
+ * Other than the {@link SimpleHttpServer}, this server reads the complete request (headers and body) before routing
+ * it. Requests larger than {@code maxRequestSize} are answered with {@link StatusCodes#CONTENT_TOO_LARGE}. Request
+ * bodies must have a {@code Content-Length}. Since the {@link RoutingState#getSocket() socket} is not available to
+ * request handlers, protocol upgrades (for example to a {@link de.linusdev.lutils.net.ws.WebSocket WebSocket}) are
+ * not supported.
+ * <br><br>
+ * The connection is always closed after the response has been sent, independent of
+ * {@link de.linusdev.lutils.net.routing.builder.RoutingBuilder#setKeepAlive(int, int) RoutingBuilder#setKeepAlive}.
+ * Every response contains the header {@code Connection: close}.
+ * <br><br>
+ * Responses are built into a buffer, which is then written by the selector thread. Only the head of responses with a
+ * {@link FileBody} is buffered. The file is transferred to the socket using
+ * {@link FileChannel#transferTo(long, long, WritableByteChannel)} whenever the socket is writable.
+ * <br><br>
+ * Connections, which are neither read from nor written to for {@code idleTimeout} milliseconds, are closed. This
+ * prevents slow clients, which never complete their request, from keeping connections open forever. Connections,
+ * whose request is currently routed by a worker, are never closed this way.
+ */
+public class NioHttpServer implements AsyncManager {
+
+    public static final int DEFAULT_BACKLOG = 1024;
+    public static final int DEFAULT_MAX_REQUEST_SIZE = 8 * 1024 * 1024;
+    public static final int DEFAULT_IDLE_TIMEOUT = 30_000;
+
+    private static final int READ_BUFFER_SIZE = 4096;
+    private static final byte[] CONTENT_LENGTH = "content-length:".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] TRANSFER_ENCODING = "transfer-encoding:".getBytes(StandardCharsets.US_ASCII);
+
+    private final @NotNull ServerSocketChannel serverChannel;
+    private final @NotNull Selector selector;
+    private final @NotNull Routing routing;
+    private final @NotNull ExceptionHandler exceptionHandler;
+    private final @NotNull ExecutorService workers;
+    private final boolean shutdownWorkers;
+    private final int maxRequestSize;
+    private final int idleTimeout;
+
+    /**
+     * Connections, whose response is ready to be written. Filled by the workers and drained by the selector thread.
+     */
+    private final @NotNull Queue<Connection> pendingWrites = new ConcurrentLinkedQueue<>();
+
+    /**
+     * This future will be completed after the server is closed.
+     */
+    private final @NotNull CompletableFuture<Nothing, NioHttpServer, CompletableTask<Nothing, NioHttpServer>> closeFuture;
+
+    private volatile boolean keepAlive = true;
+
+    /**
+     * Creates a server with a backlog of {@value DEFAULT_BACKLOG}, a maximum request size of
+     * {@value DEFAULT_MAX_REQUEST_SIZE} bytes, an idle timeout of {@value DEFAULT_IDLE_TIMEOUT} milliseconds and a
+     * worker pool with one thread per available processor.
+     */
+    public NioHttpServer(
+            int port,
+            @NotNull Routing routing,
+            @NotNull ExceptionHandler exceptionHandler
+    ) throws IOException {
+        this(port, DEFAULT_BACKLOG, DEFAULT_MAX_REQUEST_SIZE, DEFAULT_IDLE_TIMEOUT, routing, exceptionHandler, Executors.newFixedThreadPool(
+                Runtime.getRuntime().availableProcessors(),
+                r -> {
+                    Thread thread = new Thread(r, "nio-http-server-worker");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+        ), true);
+    }
+
+    /**
+     * Creates a server with an idle timeout of {@value DEFAULT_IDLE_TIMEOUT} milliseconds.
+     * @see #NioHttpServer(int, int, int, int, Routing, ExceptionHandler, ExecutorService)
+     */
+    public NioHttpServer(
+            int port,
+            int backlog,
+            int maxRequestSize,
+            @NotNull Routing routing,
+            @NotNull ExceptionHandler exceptionHandler,
+            @NotNull ExecutorService workers
+    ) throws IOException {
+        this(port, backlog, maxRequestSize, DEFAULT_IDLE_TIMEOUT, routing, exceptionHandler, workers, false);
+    }
+
+    /**
+     * @param port port to listen on or {@code 0} to choose any free port
+     * @param backlog maximum amount of pending connections, which have not yet been accepted
+     * @param maxRequestSize maximum size of a request (headers and body) in bytes
+     * @param idleTimeout time in milliseconds a connection may be idle before it is closed or {@code 0} for no timeout
+     * @param routing {@link Routing} to route the requests with
+     * @param exceptionHandler handles exceptions of the server. Exceptions during routing are handled by the
+     *                         {@link Routing}.
+     * @param workers executor to route the requests on. It will not be shut down by this server.
+     * @throws IllegalArgumentException if {@code idleTimeout} is negative
+     */
+    public NioHttpServer(
+            int port,
+            int backlog,
+            int maxRequestSize,
+            int idleTimeout,
+            @NotNull Routing routing,
+            @NotNull ExceptionHandler exceptionHandler,
+            @NotNull ExecutorService workers
+    ) throws IOException {
+        this(port, backlog, maxRequestSize, idleTimeout, routing, exceptionHandler, workers, false);
+    }
+
+    private NioHttpServer(
+            int port,
+            int backlog,
+            int maxRequestSize,
+            int idleTimeout,
+            @NotNull Routing routing,
+            @NotNull ExceptionHandler exceptionHandler,
+            @NotNull ExecutorService workers,
+            boolean shutdownWorkers
+    ) throws IOException {
+        if(idleTimeout < 0)
+            throw new IllegalArgumentException("idleTimeout cannot be negative, but was " + idleTimeout + ".");
+
+        this.routing = routing;
+        this.exceptionHandler = exceptionHandler;
+        this.workers = workers;
+        this.shutdownWorkers = shutdownWorkers;
+        this.maxRequestSize = maxRequestSize;
+        this.idleTimeout = idleTimeout;
+        this.closeFuture = CompletableFuture.create(this, false);
+
+        this.selector = Selector.open();
+        this.serverChannel = ServerSocketChannel.open();
+        try {
+            serverChannel.bind(new InetSocketAddress(port), backlog);
+            serverChannel.configureBlocking(false);
+            serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+        } catch (IOException e) {
+            serverChannel.close();
+            selector.close();
+            throw e;
+        }
+
+        Thread thread = new Thread(this::run, "nio-http-server");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void run() {
+        // Idle connections are searched a few times per timeout, so that they are closed soon after it expired
+        long sweepInterval = Math.max(1, idleTimeout / 4);
+        long lastSweep = System.currentTimeMillis();
+
+        while (keepAlive) {
+            try {
+                if(idleTimeout > 0) selector.select(sweepInterval);
+                else selector.select();
+
+                Connection pending;
+                while ((pending = pendingWrites.poll()) != null)
+                    pending.startWriting();
+
+                Iterator<SelectionKey> it = selector.selectedKeys().iterator();
+                while (it.hasNext()) {
+                    SelectionKey key = it.next();
+                    it.remove();
+                    if(!key.isValid()) continue;
+
+                    if(key.isAcceptable()) {
+                        accept();
+                        continue;
+                    }
+
+                    Connection connection = (Connection) key.attachment();
+                    try {
+                        if(key.isReadable()) connection.read();
+                        else if(key.isWritable()) connection.write();
+                    } catch (IOException e) {
+                        // Connection aborted by client
+                        connection.close();
+                    } catch (Throwable e) {
+                        connection.close();
+                        exceptionHandler.accept(e);
+                    }
+                }
+
+                long now = System.currentTimeMillis();
+                if(idleTimeout > 0 && now - lastSweep >= sweepInterval) {
+                    lastSweep = now;
+                    closeIdleConnections(now);
+                }
+            } catch (ClosedSelectorException e) {
+                break;
+            } catch (Throwable e) {
+                if(!keepAlive) break;
+                exceptionHandler.accept(e);
+            }
+        }
+
+        if(selector.isOpen()) {
+            for (SelectionKey key : selector.keys())
+                closeQuietly(key.channel());
+            closeQuietly(selector);
+        }
+        if(shutdownWorkers)
+            workers.shutdown();
+
+        closeFuture.complete(Nothing.INSTANCE, this, null);
+    }
+
+    /**
+     * Closes all connections, which have been idle for at least {@link #idleTimeout} milliseconds. Connections, whose
+     * request is currently handled by a worker, are skipped.
+     */
+    private void closeIdleConnections(long now) {
+        for (SelectionKey key : selector.keys()) {
+            if(!key.isValid() || !(key.attachment() instanceof Connection connection)) continue;
+            if(key.interestOps() == 0) continue;
+            if(now - connection.lastActivity >= idleTimeout)
+                connection.close();
+        }
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel;
+        while ((channel = serverChannel.accept()) != null) {
+            channel.configureBlocking(false);
+            new Connection(channel);
+        }
+    }
+
+    @SuppressWarnings("unused")
+    public @NotNull Future<Nothing, NioHttpServer> getCloseFuture() {
+        return closeFuture;
+    }
+
+    public void shutdown() {
+        try {
+            keepAlive = false;
+            serverChannel.close();
+            selector.wakeup();
+        } catch (Throwable e) {
+            exceptionHandler.accept(e);
+        }
+    }
+
+    /**
+     * The port this server is listening on.
+     */
+    public int getPort() {
+        return serverChannel.socket().getLocalPort();
+    }
+
+    /**
+     * @return http://localhost:port
+     */
+    @SuppressWarnings({"unused", "JavadocLinkAsPlainText"})
+    public @NotNull String getUrl() {
+        return "http://localhost:" + getPort();
+    }
+
+    /**
+     * @return http://localhost:port/path
+     */
+    @SuppressWarnings({"unused", "JavadocLinkAsPlainText"})
+    public @NotNull String getUrl(@NotNull String path) {
+        return getUrl() + "/" + path;
+    }
+
+    @Override
+    public void checkThread() throws NonBlockingThreadException {
+
+    }
+
+    @Override
+    public void onExceptionInListener(@NotNull Future<?, ?> future, @Nullable Task<?, ?> task, @NotNull Throwable throwable) {
+        exceptionHandler.accept(throwable);
+    }
+
+    private static void closeQuietly(@NotNull AutoCloseable closeable) {
+        try {
+            closeable.close();
+        } catch (Exception ignored) {
+        }
+    }
+
+    /**
+     * State of a single connection. {@link #read()} and {@link #write()} are only called by the selector thread, while
+     * {@link #handle()} is called by a worker. The selector does not read from the connection while a worker handles it.
+     */
+    private class Connection {
+
+        private final @NotNull SocketChannel channel;
+        private final @NotNull SelectionKey key;
+
+        private @NotNull ByteBuffer in = ByteBuffer.allocate(READ_BUFFER_SIZE);
+        /**
+         * Index up to which {@link #in} has been searched for the end of the head.
+         */
+        private int scanned = 0;
+        /**
+         * Size of the head including the empty line or {@code -1} if the head has not been read completely yet.
+         */
+        private int headSize = -1;
+        /**
+         * Size of the complete request or {@code -1} if the head has not been read completely yet.
+         */
+        private int requestSize = -1;
+
+        private @Nullable ByteBuffer out;
+
+        /**
+         * File, which is transferred after {@link #out} has been written or {@code null}.
+         */
+        private @Nullable FileChannel file;
+        private long filePosition = 0;
+        private long fileEnd = 0;
+
+        /**
+         * {@link System#currentTimeMillis()} of the last read or write progress. Only accessed by the selector thread.
+         */
+        private long lastActivity = System.currentTimeMillis();
+
+        Connection(@NotNull SocketChannel channel) throws IOException {
+            this.channel = channel;
+            this.key = channel.register(selector, SelectionKey.OP_READ, this);
+        }
+
+        void read() throws IOException {
+            if(!in.hasRemaining()) {
+                int needed = requestSize == -1 ? in.capacity() * 2 : requestSize;
+                ByteBuffer grown = ByteBuffer.allocate(Math.min(needed, maxRequestSize));
+                in.flip();
+                in = grown.put(in);
+            }
+
+            int read = channel.read(in);
+            if(read == -1) {
+                close();
+                return;
+            }
+            if(read > 0) lastActivity = System.currentTimeMillis();
+
+            if(headSize == -1) {
+                headSize = findHeadEnd();
+                if(headSize == -1) {
+                    if(in.position() >= maxRequestSize) respond(StatusCodes.CONTENT_TOO_LARGE);
+                    return;
+                }
+
+                long contentLength = contentLength();
+                if(contentLength < 0) {
+                    respond(contentLength == -1 ? StatusCodes.BAD_REQUEST : StatusCodes.NOT_IMPLEMENTED);
+                    return;
+                }
+                if(headSize + contentLength > maxRequestSize) {
+                    respond(StatusCodes.CONTENT_TOO_LARGE);
+                    return;
+                }
+                requestSize = headSize + (int) contentLength;
+            }
+
+            if(in.position() >= requestSize) {
+                key.interestOps(0);
+                try {
+                    workers.execute(this::handle);
+                } catch (RejectedExecutionException e) {
+                    close();
+                }
+            }
+        }
+
+        /**
+         * Parses and routes the request. Called on a worker thread.
+         */
+        void handle() {
+            HTTPMessageBuilder response;
+            try {
+                HTTPRequest<UnparsedBody> request = HTTPRequest.parse(
+                        new ByteArrayInputStream(in.array(), 0, requestSize),
+                        BodyParsers.newUnparsedBodyParser()
+                );
+                response = routing.route(request);
+            } catch (Throwable e) {
+                // Malformed request. Exceptions during routing are handled by the routing
+                response = HTTPResponse.builder().setStatusCode(StatusCodes.BAD_REQUEST);
+            }
+
+            if(response == null) {
+                close();
+                return;
+            }
+
+            try {
+                ByteArrayOutputStream stream = new ByteArrayOutputStream();
+                response.setHeader(HeaderNames.CONNECTION, "close");
+                if(response.getBody() instanceof FileBody body && !response.getHeaders().isChunked()) {
+                    response.buildResponseHead(stream);
+                    file = body.openChannel();
+                    fileEnd = body.length();
+                } else {
+                    response.buildResponse(stream);
+                }
+                send(ByteBuffer.wrap(stream.toByteArray()));
+            } catch (Throwable e) {
+                close();
+                exceptionHandler.accept(e);
+            }
+        }
+
+        /**
+         * Sends a response with given {@code status} and no body. Called on the selector thread.
+         */
+        private void respond(@NotNull ResponseStatusCode status) throws IOException {
+            ByteArrayOutputStream stream = new ByteArrayOutputStream();
+            HTTPResponse.builder()
+                    .setStatusCode(status)
+                    .setHeader(HeaderNames.CONNECTION, "close")
+                    .buildResponse(stream);
+            out = ByteBuffer.wrap(stream.toByteArray());
+            key.interestOps(SelectionKey.OP_WRITE);
+        }
+
+        private void send(@NotNull ByteBuffer response) {
+            out = response;
+            pendingWrites.add(this);
+            selector.wakeup();
+        }
+
+        void startWriting() {
+            lastActivity = System.currentTimeMillis();
+            if(key.isValid())
+                key.interestOps(SelectionKey.OP_WRITE);
+        }
+
+        void write() throws IOException {
+            assert out != null;
+            if(out.hasRemaining()) {
+                if(channel.write(out) > 0) lastActivity = System.currentTimeMillis();
+                if(out.hasRemaining()) return;
+            }
+
+            if(file != null && filePosition < fileEnd) {
+                long transferred = file.transferTo(filePosition, fileEnd - filePosition, channel);
+                if(transferred == 0 && filePosition >= file.size())
+                    throw new IOException("File has been truncated while sending it.");
+                filePosition += transferred;
+                if(transferred > 0) lastActivity = System.currentTimeMillis();
+                if(filePosition < fileEnd) return;
+            }
+
+            close();
+        }
+
+        void close() {
+            key.cancel();
+            closeQuietly(channel);
+            if(file != null) closeQuietly(file);
+        }
+
+        /**
+         * Searches {@link #in} for the empty line terminating the head.
+         * @return size of the head or {@code -1} if the head is not complete yet.
+         */
+        private int findHeadEnd() {
+            byte[] bytes = in.array();
+            int end = in.position();
+
+            for (int i = Math.max(scanned, 1); i < end; i++) {
+                if(bytes[i] != '\n') continue;
+                if(bytes[i - 1] == '\n') return i + 1;
+                if(i >= 3 && bytes[i - 1] == '\r' && bytes[i - 2] == '\n' && bytes[i - 3] == '\r') return i + 1;
+            }
+
+            scanned = end;
+            return -1;
+        }
+
+        /**
+         * Reads the {@code Content-Length} header from the head.
+         * @return the content length, {@code 0} if there is no body, {@code -1} if the header is malformed or
+         * {@code -2} if the body uses a transfer encoding.
+         */
+        private long contentLength() {
+            byte[] bytes = in.array();
+            long length = 0;
+
+            for (int i = 0; i < headSize; i++) {
+                // Find start of the next line
+                if(i != 0 && bytes[i - 1] != '\n') continue;
+
+                if(startsWithIgnoreCase(bytes, i, TRANSFER_ENCODING)) return -2;
+                if(!startsWithIgnoreCase(bytes, i, CONTENT_LENGTH)) continue;
+
+                int pos = i + CONTENT_LENGTH.length;
+                while (pos < headSize && bytes[pos] == ' ') pos++;
+
+                length = 0;
+                int digits = 0;
+                while (pos < headSize && bytes[pos] >= '0' && bytes[pos] <= '9' && digits < 18) {
+                    length = length * 10 + (bytes[pos++] - '0');
+                    digits++;
+                }
+
+                if(digits == 0 || (bytes[pos] != '\r' && bytes[pos] != '\n' && bytes[pos] != ' ')) return -1;
+            }
+
+            return length;
+        }
+
+        private boolean startsWithIgnoreCase(byte @NotNull [] bytes, int offset, byte @NotNull [] lowerCasePrefix) {
+            if(offset + lowerCasePrefix.length > headSize) return false;
+            for (int i = 0; i < lowerCasePrefix.length; i++) {
+                byte b = bytes[offset + i];
+                if(b >= 'A' && b <= 'Z') b += 'a' - 'A';
+                if(b != lowerCasePrefix[i]) return false;
+            }
+            return true;
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024-2025 Linus Andera
+ * Copyright (c) 2024-2026 Linus Andera
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -31,11 +31,35 @@ import org.jetbrains.annotations.Nullable;
 import java.awt.*;
 import java.io.IOException;
 import java.net.*;
+import java.nio.channels.ServerSocketChannel;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
 
+/**
+ * Simple blocking http server. By default, all connections are {@link Routing#route(Socket) routed} one after another
+ * on a single thread. Using {@link #SimpleHttpServer(int, int, int, Routing, ExceptionHandler)}, each connection is
+ * routed on its own virtual thread instead, so that blocking request handlers do not block the whole server.
+ * <br><br>
+ * Connections are accepted using a {@link ServerSocketChannel}, so that responses with a
+ * {@link de.linusdev.lutils.net.http.body.FileBody FileBody} can be transferred directly to the socket channel.
+ */
 public class SimpleHttpServer implements AsyncManager {
 
+    public static final int DEFAULT_BACKLOG = 3;
+
     private final @NotNull ServerSocket serverSocket;
+    private final @NotNull Routing routing;
     private final ExceptionHandler exceptionHandler;
+
+    /**
+     * Creates the threads connections are routed on or {@code null} if connections are routed on the accepting thread.
+     */
+    private final @Nullable ThreadFactory connectionThreads;
+    /**
+     * Limits the amount of connections routed at the same time, if {@link #connectionThreads} is not {@code null}.
+     */
+    private final @Nullable Semaphore connectionPermits;
+    private final @NotNull Thread acceptThread;
     /**
      * This future will be completed after the server is closed.
      */
@@ -44,58 +68,141 @@ public class SimpleHttpServer implements AsyncManager {
     private volatile boolean keepAlive = true;
 
 
+    /**
+     * Creates a server, which routes all connections on a single thread.
+     */
     public SimpleHttpServer(
             int port,
             @NotNull Routing routing,
             @NotNull ExceptionHandler exceptionHandler
     ) throws IOException {
-        this.serverSocket = new ServerSocket(port, 3);
+        this(port, DEFAULT_BACKLOG, null, routing, exceptionHandler);
+    }
+
+    /**
+     * Creates a server, which routes each connection on its own virtual thread. If {@code maxConnections} are
+     * currently routed, further connections are not accepted until one of them is finished. These connections
+     * wait in the backlog.
+     * @param port port to listen on or {@code 0} to choose any free port
+     * @param backlog maximum amount of pending connections, which have not yet been accepted
+     * @param maxConnections maximum amount of connections routed at the same time
+     * @param routing {@link Routing} to route the connections with
+     * @param exceptionHandler handles exceptions of the server and during routing
+     * @throws IllegalArgumentException if {@code maxConnections} is smaller than 1
+     */
+    public SimpleHttpServer(
+            int port,
+            int backlog,
+            int maxConnections,
+            @NotNull Routing routing,
+            @NotNull ExceptionHandler exceptionHandler
+    ) throws IOException {
+        this(port, backlog, connectionPermits(maxConnections), routing, exceptionHandler);
+    }
+
+    private static @NotNull Semaphore connectionPermits(int maxConnections) {
+        if(maxConnections < 1)
+            throw new IllegalArgumentException("maxConnections must be at least 1, but was " + maxConnections + ".");
+        return new Semaphore(maxConnections);
+    }
+
+    private SimpleHttpServer(
+            int port,
+            int backlog,
+            @Nullable Semaphore connectionPermits,
+            @NotNull Routing routing,
+            @NotNull ExceptionHandler exceptionHandler
+    ) throws IOException {
+        ServerSocketChannel serverChannel = ServerSocketChannel.open();
+        try {
+            serverChannel.bind(new InetSocketAddress(port), backlog);
+        } catch (IOException e) {
+            serverChannel.close();
+            throw e;
+        }
+        this.serverSocket = serverChannel.socket();
+        this.routing = routing;
         this.exceptionHandler = exceptionHandler;
+        this.connectionPermits = connectionPermits;
+        this.connectionThreads = connectionPermits == null ? null
+                : Thread.ofVirtual().name("simple-http-server-connection-", 0).factory();
         this.closeFuture = CompletableFuture.create(this, false);
 
-        Thread thread = new Thread(() -> {
-            while (keepAlive) {
-                Socket socket;
+        this.acceptThread = new Thread(this::run, "simple-http-server");
+        acceptThread.setDaemon(true);
+        acceptThread.start();
+    }
+
+    private void run() {
+        while (keepAlive) {
+            if(connectionPermits != null) {
                 try {
-                    socket = serverSocket.accept();
-                } catch (IOException e) {
-                    if(serverSocket.isClosed())
-                        break;
-                    exceptionHandler.accept(e);
-                    continue;
-                } catch (Throwable e) {
-                    exceptionHandler.accept(e);
-                    continue;
+                    connectionPermits.acquire();
+                } catch (InterruptedException e) {
+                    break;
                 }
+            }
+
+            Socket socket;
+            try {
+                socket = serverSocket.accept();
+            } catch (IOException e) {
+                if(connectionPermits != null) connectionPermits.release();
+                if(serverSocket.isClosed())
+                    break;
+                exceptionHandler.accept(e);
+                continue;
+            } catch (Throwable e) {
+                if(connectionPermits != null) connectionPermits.release();
+                exceptionHandler.accept(e);
+                continue;
+            }
+
+            if(connectionThreads == null) {
+                route(socket);
+                continue;
+            }
+
+            assert connectionPermits != null;
+            Thread connectionThread = connectionThreads.newThread(() -> {
+                try {
+                    route(socket);
+                } finally {
+                    connectionPermits.release();
+                }
+            });
+            connectionThread.start();
+        }
 
+        closeFuture.complete(Nothing.INSTANCE, this, null);
+    }
+
+    /**
+     * {@link Routing#route(Socket) Routes} given {@code socket} and handles any exceptions.
+     */
+    private void route(@NotNull Socket socket) {
+        try {
+            routing.route(socket);
+        } catch (SocketException se) {
+            if(socket.isClosed())
+                return;
+
+            if (se.getMessage().equals("An established connection was aborted by the software in your host machine")
+                            || se.getMessage().equals("Connection reset")
+                            || se.getMessage().equals("Broken pipe")
+            ) {
+                // Connection aborted by client
                 try {
-                    routing.route(socket);
-                } catch (SocketException se) {
-                    if(socket.isClosed())
-                        continue;
-
-                    if (se.getMessage().equals("An established connection was aborted by the software in your host machine")
-                                    || se.getMessage().equals("Connection reset")
-                                    || se.getMessage().equals("Broken pipe")
-                    ) {
-                        // Connection aborted by client
-                        try {
-                            socket.close();
-                        } catch (IOException ignored) {
-                        }
-                        continue;
-                    }
-
-                    exceptionHandler.accept(se);
-                } catch (Throwable e) {
-                    exceptionHandler.accept(e);
+                    socket.close();
+                } catch (IOException ignored) {
                 }
+                return;
             }
 
-            closeFuture.complete(Nothing.INSTANCE, this, null);
-        },"simple-http-server");
-        thread.setDaemon(true);
-        thread.start();
+            exceptionHandler.accept(se);
+        } catch (Throwable e) {
+            exceptionHandler.accept(e);
+        }
     }
 
     @SuppressWarnings("unused")
@@ -107,6 +214,8 @@ public class SimpleHttpServer implements AsyncManager {
         try {
             keepAlive = false;
             serverSocket.close();
+            // Wakes up the accept thread, if it is waiting for a connection permit
+            acceptThread.interrupt();
         } catch (Throwable e) {
             exceptionHandler.accept(e);
         }
@@ -117,6 +226,13 @@ public class SimpleHttpServer implements AsyncManager {
         System.out.println("SimpleHttpServer running on: http://localhost:" + serverSocket.getLocalPort());
     }
 
+    /**
+     * The port this server is listening on.
+     */
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
     /**
      * @return http://localhost:port
      */
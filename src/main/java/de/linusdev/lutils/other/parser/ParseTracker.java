@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2025 Linus Andera
+ * Copyright (c) 2025-2026 Linus Andera
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -23,6 +23,14 @@ public class ParseTracker {
 
     }
 
+    /**
+     * Creates a tracker starting at given {@code line}.
+     * @param line the current line (starting at 1)
+     */
+    public ParseTracker(int line) {
+        this.line = line;
+    }
+
     public void nextLine(){
         line++;
     }
@@ -57,7 +57,7 @@ public abstract class AbstractPack implements InventoriedPack {
 
     public void load() throws PackLoadingException {
         try(InputStream infoIn = resolve(infoFileName())) {
-            Json packInfo = JSON_PARSER.parseStream(infoIn);
+            Json packInfo = JSON_PARSER.parseBytes(infoIn.readAllBytes());
 
             this.name = packInfo.grab("name").requireNotNull().getAs();
             this.id = PackIdUtils.ofJson(packInfo, PackIdType.TYPE);
@@ -148,7 +148,7 @@ public abstract class AbstractPack implements InventoriedPack {
             @NotNull ResourceCollection<?> col
     ) throws PackContentException {
         try(var inGroup = resolve(groupLocation)) {
-            Json groupData = JSON_PARSER.parseStream(inGroup);
+            Json groupData = JSON_PARSER.parseBytes(inGroup.readAllBytes());
 
             @Nullable Json defaultItemData = groupData.grab("common").getAs();
 
@@ -172,7 +172,7 @@ public abstract class AbstractPack implements InventoriedPack {
                     // Another location
                     Json jItem = null;
                     try(var inItem = this.resolve(itemLocation)) {
-                        jItem = JSON_PARSER.parseStream(inItem);
+                        jItem = JSON_PARSER.parseBytes(inItem.readAllBytes());
 
                         if(defaultItemData != null) {
                             // We can safely cast to JsonMapImpl since we defined the used implementation in JSON_PARSER.
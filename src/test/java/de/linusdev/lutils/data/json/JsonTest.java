@@ -18,11 +18,13 @@ package de.linusdev.lutils.data.json;
 
 import de.linusdev.lutils.data.DataBuilder;
 import de.linusdev.lutils.data.json.parser.JsonParser;
+import de.linusdev.lutils.data.json.parser.JsonPullParser;
 import de.linusdev.lutils.other.parser.ParseException;
 import org.jetbrains.annotations.Nullable;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.util.List;
 import java.util.Locale;
 import java.util.NoSuchElementException;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -244,4 +246,71 @@ class JsonTest {
         assertInstanceOf(Json.class, json.get("data"));
         assertEquals("test", json.<Json>getAs("data").get("test"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void flatMapImpl() throws IOException, ParseException {
+        for (int size : new int[]{0, 3, 8, 9, 100}) {
+            JsonFlatMapImpl builder = new JsonFlatMapImpl();
+            for (int i = 0; i < size; i++)
+                builder.add("key" + i, i % 5 == 0 ? null : (long) i);
+            // replacing keeps the position
+            if(size > 0) builder.add("key0", "replaced");
+
+            Json json = builder.build();
+            assertEquals(size, json.size());
+            assertFalse(json.exists("missing"));
+
+            int i = 0;
+            for (var entry : json) {
+                assertEquals("key" + i, entry.getKey());
+                Object expected = i == 0 ? "replaced" : i % 5 == 0 ? null : (long) i;
+                assertEquals(expected, entry.getValue());
+                assertEquals(expected, json.get("key" + i));
+                assertTrue(json.exists("key" + i));
+                i++;
+            }
+            assertEquals(size, i);
+        }
+
+        // The parser keeps the order of the keys
+        String string = "{\"z\": 1, \"a\": 2, \"m\": null}";
+        assertEquals("{\"z\":1,\"a\":2,\"m\":null}", new JsonParser().setCompact(true).writeDataToString(JsonParser.DEFAULT_INSTANCE.parseString(string)));
+    }
+
+    @Test
+    void query() throws IOException, ParseException {
+        String string = "{\"entries\": [{\"name\": \"a\", \"n\": null}, {\"name\": \"b\", \"x\": {\"name\": 1}}, 5], \"a/b~\": {\"0\": true}}";
+        Json json = JsonParser.DEFAULT_INSTANCE.parseString(string);
+
+        for (String q : List.of("$.entries[*].name", "$['entries'].*.name")) {
+            JsonQuery query = JsonQuery.compile(q);
+            assertEquals(List.of("a", "b"), query.findAll(json));
+            try (JsonPullParser pull = JsonParser.DEFAULT_INSTANCE.pullParser(string)) {
+                assertEquals(List.of("a", "b"), query.findAll(pull));
+            }
+        }
+
+        JsonQuery pointer = JsonQuery.compile("/a~1b~0/0");
+        assertEquals(true, pointer.find(json).get());
+        try (JsonPullParser pull = JsonParser.DEFAULT_INSTANCE.pullParser(string)) {
+            assertEquals(true, pointer.find(pull).get());
+        }
+
+        JsonQuery nullValue = JsonQuery.compile("/entries/0/n");
+        assertTrue(nullValue.find(json).exists());
+        assertNull(nullValue.find(json).get());
+        assertFalse(JsonQuery.compile("/entries/3").find(json).exists());
+        assertFalse(JsonQuery.compile("$.entries.name").find(json).exists());
+        assertEquals(5L, JsonQuery.compile("$.entries[2]").find(json).get());
+        assertSame(json, JsonQuery.compile("").find(json).get());
+
+        // Stop reading after the first match
+        try (JsonPullParser pull = JsonParser.DEFAULT_INSTANCE.pullParser(string)) {
+            assertEquals("a", JsonQuery.compile("$.entries[0].name").find(pull).get());
+            assertEquals("n", pull.readKey());
+        }
+
+        for (String invalid : List.of("entries", "/a~2", "$.", "$[", "$['a'", "$[01]", "$x"))
+            assertThrows(IllegalArgumentException.class, () -> JsonQuery.compile(invalid));
+    }
+}
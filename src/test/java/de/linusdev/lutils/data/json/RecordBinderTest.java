@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026 Linus Andera
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.linusdev.lutils.data.json;
+
+import de.linusdev.lutils.data.Data;
+import de.linusdev.lutils.data.json.parser.JsonParser;
+import de.linusdev.lutils.data.json.parser.JsonPullParser;
+import de.linusdev.lutils.other.parser.ParseException;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecordBinderTest {
+
+    record Point(int x, int y) {}
+    record Shape(String name, boolean closed, double scale, Integer layer, Point origin, List<Point> points, List<Object> tags) {}
+    record Letter(char value, Character boxed) {}
+
+    private static final Shape SHAPE = new Shape(
+            "triangle", true, 1.5, null, new Point(1, 2),
+            List.of(new Point(0, 0), new Point(4, 0), new Point(0, 3)),
+            List.of("a", 1L)
+    );
+
+    @Test
+    void read() throws IOException, ParseException {
+        String json = JsonParser.DEFAULT_INSTANCE.writeDataToString(RecordBinder.of(Shape.class).toData(SHAPE));
+
+        try (JsonPullParser pull = JsonParser.DEFAULT_INSTANCE.pullParser(json)) {
+            assertEquals(SHAPE, pull.readRecord(Shape.class));
+        }
+    }
+
+    @Test
+    void readMissingAndUnknown() throws IOException, ParseException {
+        try (JsonPullParser pull = JsonParser.DEFAULT_INSTANCE.pullParser("{\"unknown\": {\"x\": [1]}, \"name\": \"n\", \"origin\": {\"x\": 5}}")) {
+            Shape shape = pull.readRecord(Shape.class);
+            assertEquals("n", shape.name());
+            assertFalse(shape.closed());
+            assertEquals(0.0, shape.scale());
+            assertNull(shape.layer());
+            assertEquals(new Point(5, 0), shape.origin());
+            assertNull(shape.points());
+        }
+    }
+
+    @Test
+    void fromJson() throws IOException, ParseException {
+        Json json = JsonParser.DEFAULT_INSTANCE.parseString(JsonParser.DEFAULT_INSTANCE.writeDataToString(RecordBinder.dataOf(SHAPE)));
+        assertEquals(SHAPE, json.toRecord(Shape.class));
+    }
+
+    @Test
+    void toData() {
+        Data data = RecordBinder.of(Shape.class).toData(SHAPE);
+        assertEquals(7, data.size());
+
+        JsonParser parser = new JsonParser().setJsonBuilderSupplier(() -> new JsonMapImpl(new LinkedHashMap<>()));
+        Json json = parser.convertDataToJson(data);
+        assertNotNull(json);
+        assertEquals("triangle", json.get("name"));
+        assertEquals(2L, json.<Json>getAs("origin").get("y"));
+        assertEquals(3, json.<List<Object>>getAs("points").size());
+
+        // Records are written as json-objects, when nested in other data
+        assertEquals(parser.writeDataToString(json), parser.writeDataToString(RecordBinder.dataOf(SHAPE)));
+    }
+
+    @Test
+    void chars() throws IOException, ParseException {
+        assertEquals(new Letter('a', 'b'), JsonParser.DEFAULT_INSTANCE.parseString("{\"value\": \"a\", \"boxed\": \"b\"}").toRecord(Letter.class));
+
+        for (String value : new String[]{"\"\"", "\"ab\""}) {
+            String json = "{\"value\": " + value + "}";
+            assertThrows(ClassCastException.class, () -> JsonParser.DEFAULT_INSTANCE.parseString(json).toRecord(Letter.class));
+            try (JsonPullParser pull = JsonParser.DEFAULT_INSTANCE.pullParser(json)) {
+                assertThrows(ClassCastException.class, () -> pull.readRecord(Letter.class));
+            }
+        }
+    }
+
+    @Test
+    void notARecord() {
+        //noinspection unchecked,rawtypes
+        assertThrows(IllegalArgumentException.class, () -> RecordBinder.of((Class) String.class));
+    }
+}
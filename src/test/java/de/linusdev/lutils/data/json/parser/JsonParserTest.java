@@ -0,0 +1,414 @@
+/*
+ * Copyright (c) 2026 Linus Andera
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.linusdev.lutils.data.json.parser;
+
+import de.linusdev.lutils.data.DataBuilder;
+import de.linusdev.lutils.data.json.DoubleArrayList;
+import de.linusdev.lutils.data.json.Json;
+import de.linusdev.lutils.data.json.JsonMapImpl;
+import de.linusdev.lutils.data.json.LongArrayList;
+import de.linusdev.lutils.other.parser.ParseException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonParserTest {
+
+    private static final String JSON = """
+                {
+                    // comment with ümlaut
+                    "ascii": "simple string",
+                    "unicode": "äöü € 𝄞",
+                    "escaped": "line\\nbreak \\"quoted\\" \\u00e4 \\/",
+                    /* multi
+                       line */
+                    "number": 12,
+                    "decimal": -1.5,
+                    "list": [true, false, null, "ü"],
+                    "object": { "ключ": "значение" }
+                }
+                """;
+
+    @Test
+    void parseBytes() throws IOException, ParseException {
+        JsonParser parser = new JsonParser().setAllowComments(true, null);
+
+        Json expected = parser.parseString(JSON);
+        Json fromBytes = parser.parseBytes(JSON.getBytes(StandardCharsets.UTF_8));
+
+        assertEquals("simple string", fromBytes.get("ascii"));
+        assertEquals("äöü € 𝄞", fromBytes.get("unicode"));
+        assertEquals("line\nbreak \"quoted\" ä /", fromBytes.get("escaped"));
+        assertEquals(12L, fromBytes.get("number"));
+        assertEquals(-1.5, fromBytes.get("decimal"));
+        assertEquals(expected.get("list"), fromBytes.get("list"));
+        assertEquals("значение", fromBytes.<Json>getAs("object").get("ключ"));
+        assertEquals(expected.toJsonString(), fromBytes.toJsonString());
+    }
+
+    @Test
+    void parseByteBuffer() throws ParseException {
+        byte[] bytes = "  [1, \"€\"]  ".getBytes(StandardCharsets.UTF_8);
+
+        ByteBuffer heap = ByteBuffer.allocate(bytes.length + 4);
+        heap.position(2);
+        heap.put(bytes);
+        heap.position(2);
+        heap.limit(2 + bytes.length);
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+        direct.put(bytes).flip();
+
+        assertEquals(List.of(1L, "€"), JsonParser.DEFAULT_INSTANCE.parseByteBuffer(heap).get(JsonParser.DEFAULT_ARRAY_WRAPPER_KEY));
+        assertEquals(2, heap.position());
+        assertEquals(List.of(1L, "€"), JsonParser.DEFAULT_INSTANCE.parseByteBuffer(direct).get(JsonParser.DEFAULT_ARRAY_WRAPPER_KEY));
+    }
+
+    @Test
+    void parseNumbers() throws IOException, ParseException {
+        String json = "[0, -12, 9223372036854775807, -9223372036854775808, 9223372036854775808, 5.0, 1E3, 2.5e-3, " +
+                "-0.0, 0.1, 3.141592653589793, 1.7976931348623157E308, 4.9E-324, 123456789012345678901234567890.5, NaN]";
+
+        for (Json parsed : List.of(JsonParser.DEFAULT_INSTANCE.parseString(json), JsonParser.DEFAULT_INSTANCE.parseBytes(json.getBytes(StandardCharsets.UTF_8)))) {
+            assertEquals(List.of(
+                    0L, -12L, Long.MAX_VALUE, Long.MIN_VALUE, 9223372036854775808.0, 5L, 1000L, 0.0025,
+                    -0.0, 0.1, Math.PI, Double.MAX_VALUE, Double.MIN_VALUE, 123456789012345678901234567890.5, Double.NaN
+            ), parsed.get(JsonParser.DEFAULT_ARRAY_WRAPPER_KEY));
+        }
+
+        JsonParser tokenParser = new JsonParser().setIdentifyNumberValues(true);
+        assertEquals(
+                List.of((byte) -5, (short) 300, 70000, 12L, 0.1f, 2.5, 3L),
+                tokenParser.parseString("[-5B, 300S, 70000I, 12L, 0.1F, 2.5D, 3]").get(JsonParser.DEFAULT_ARRAY_WRAPPER_KEY)
+        );
+
+        assertThrows(ParseException.class, () -> tokenParser.parseString("[300B]"));
+        assertThrows(ParseException.class, () -> tokenParser.parseString("[1.5L]"));
+        assertThrows(ParseException.class, () -> JsonParser.DEFAULT_INSTANCE.parseString("[12abc]"));
+        assertThrows(ParseException.class, () -> JsonParser.DEFAULT_INSTANCE.parseString("[1e]"));
+        assertThrows(ParseException.class, () -> JsonParser.DEFAULT_INSTANCE.parseString("[-]"));
+    }
+
+    @Test
+    void writeCompact() {
+        DataBuilder data = DataBuilder.orderedDynamicSize()
+                .add("a", "ä 𝄞")
+                .add("b", List.of(1, 2))
+                .add("c", Map.of("d", new int[0]))
+                .add("e", DataBuilder.empty());
+
+        JsonParser compact = new JsonParser().setCompact(true);
+        assertEquals("{\"a\":\"ä 𝄞\",\"b\":[1,2],\"c\":{\"d\":[]},\"e\":{}}", compact.writeDataToString(data));
+    }
+
+    @Test
+    void writeBytes() throws IOException {
+        DataBuilder data = DataBuilder.orderedDynamicSize()
+                .add("a", "ä € 𝄞 \uD800")
+                .add("b", List.of(1.5, true))
+                .add("c", "x".repeat(10_000));
+
+        for (JsonParser parser : List.of(new JsonParser(), new JsonParser().setCompact(true).setIndent("  "))) {
+            byte[] expected = parser.writeDataToString(data).getBytes(StandardCharsets.UTF_8);
+            assertArrayEquals(expected, parser.writeDataToBytes(data));
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            parser.writeData(out, data);
+            assertArrayEquals(expected, out.toByteArray());
+        }
+    }
+
+    @Test
+    void parseBytesMalformed() throws ParseException {
+        assertThrows(ParseException.class, () -> JsonParser.DEFAULT_INSTANCE.parseBytes("{\"a\": \"b}".getBytes(StandardCharsets.UTF_8)));
+        assertThrows(ParseException.class, () -> JsonParser.DEFAULT_INSTANCE.parseBytes("{\"a\" \"b\"}".getBytes(StandardCharsets.UTF_8)));
+        assertTrue(JsonParser.DEFAULT_INSTANCE.parseBytes(new byte[]{(byte) 0xEF, (byte) 0xBB, (byte) 0xBF, ' '}).isEmpty());
+    }
+
+    @Test
+    void parseLazy() throws IOException, ParseException {
+        JsonParser parser = new JsonParser().setAllowComments(true, null)
+                .setJsonBuilderSupplier(() -> new JsonMapImpl(new LinkedHashMap<>()));
+        byte[] bytes = JSON.getBytes(StandardCharsets.UTF_8);
+
+        Json expected = parser.parseString(JSON);
+        Json lazy = parser.parseLazy(bytes);
+
+        assertEquals(7, lazy.size());
+        assertEquals("line\nbreak \"quoted\" ä /", lazy.get("escaped"));
+        assertEquals(-1.5, lazy.get("decimal"));
+        assertEquals(expected.get("list"), lazy.get("list"));
+        assertEquals("значение", lazy.<Json>getAs("object").get("ключ"));
+        assertTrue(lazy.exists("unicode"));
+        assertFalse(lazy.exists("missing"));
+        assertNull(lazy.get("missing"));
+        assertEquals(expected.toJsonString(), lazy.toJsonString());
+
+        // Escaped and duplicate keys
+        Json keys = parser.parseLazy("{\"a\\u00e4\": 1, \"b\": null, \"a\": 2, \"a\": 3}".getBytes(StandardCharsets.UTF_8));
+        assertEquals(1L, keys.get("aä"));
+        assertEquals(3L, keys.get("a"));
+        assertTrue(keys.exists("b"));
+        assertNull(keys.get("b"));
+        assertEquals(3, keys.size());
+        List<String> visibleKeys = new ArrayList<>();
+        for (var entry : keys) visibleKeys.add(entry.getKey());
+        assertEquals(List.of("aä", "b", "a"), visibleKeys);
+        assertEquals(expected.size(), lazy.size());
+
+        // Arrays are wrapped
+        Json array = parser.parseLazy("[{\"a\": [1]}, 2]".getBytes(StandardCharsets.UTF_8));
+        List<Object> list = array.getAs(JsonParser.DEFAULT_ARRAY_WRAPPER_KEY);
+        assertEquals(List.of(1L), ((Json) list.get(0)).get("a"));
+        assertEquals(2L, list.get(1));
+
+        assertTrue(parser.parseLazy(new byte[]{' '}).isEmpty());
+    }
+
+    @Test
+    void parseLazyMalformed() throws ParseException {
+        assertThrows(ParseException.class, () -> JsonParser.DEFAULT_INSTANCE.parseLazy("{\"a\": [1}".getBytes(StandardCharsets.UTF_8)));
+        assertThrows(ParseException.class, () -> JsonParser.DEFAULT_INSTANCE.parseLazy("{\"a\" 1}".getBytes(StandardCharsets.UTF_8)));
+
+        // Values are only validated when accessed
+        Json json = JsonParser.DEFAULT_INSTANCE.parseLazy("{\"a\": 1, \"b\": 12abc}".getBytes(StandardCharsets.UTF_8));
+        assertEquals(1L, json.get("a"));
+        assertThrows(IllegalStateException.class, () -> json.get("b"));
+    }
+
+    @Test
+    void keyCache() throws IOException, ParseException {
+        JsonParser parser = new JsonParser().setKeyCache(new JsonKeyCache(64));
+        String json = "{\"name\": 1, \"n\\u00e4me\": 2, \"ключ\": 3}";
+
+        List<Json> parsed = List.of(
+                parser.parseString(json),
+                parser.parseBytes(json.getBytes(StandardCharsets.UTF_8)),
+                parser.parseLazy(json.getBytes(StandardCharsets.UTF_8))
+        );
+
+        for (String key : List.of("name", "näme", "ключ")) {
+            String first = keyInstance(parsed.get(0), key);
+            for (Json other : parsed)
+                assertSame(first, keyInstance(other, key));
+        }
+
+        String longKey = "k".repeat(JsonKeyCache.MAX_KEY_LENGTH + 1);
+        Json a = parser.parseString("{\"" + longKey + "\": 1}");
+        Json b = parser.parseString("{\"" + longKey + "\": 1}");
+        assertEquals(keyInstance(a, longKey), keyInstance(b, longKey));
+        assertNotSame(keyInstance(a, longKey), keyInstance(b, longKey));
+    }
+
+    private static String keyInstance(Json json, String key) {
+        for (var entry : json)
+            if(entry.getKey().equals(key)) return entry.getKey();
+        throw new AssertionError("Missing key " + key);
+    }
+
+    @Test
+    void primitiveArrays() throws IOException, ParseException {
+        JsonParser parser = new JsonParser().setPrimitiveArrays(true);
+        String json = "{\"longs\": [1, -2, 3], \"doubles\": [0.5, 1.5], \"mixed\": [1, 2.5, \"a\"], \"empty\": []}";
+
+        for (Json parsed : List.of(parser.parseString(json), parser.parseLazy(json.getBytes(StandardCharsets.UTF_8)))) {
+            LongArrayList longs = assertInstanceOf(LongArrayList.class, parsed.get("longs"));
+            assertArrayEquals(new long[]{1, -2, 3}, longs.toLongArray());
+            assertEquals(List.of(1L, -2L, 3L), longs);
+
+            DoubleArrayList doubles = assertInstanceOf(DoubleArrayList.class, parsed.get("doubles"));
+            assertEquals(1.5, doubles.getDouble(1));
+
+            assertEquals(List.of(1L, 2.5, "a"), parsed.get("mixed"));
+            assertFalse(parsed.get("mixed") instanceof LongArrayList);
+            assertEquals(List.of(), parsed.get("empty"));
+
+            assertEquals(json.replace(" ", ""), new JsonParser().setCompact(true).writeDataToString(parsed));
+        }
+
+        // Converting and writing primitive arrays
+        DataBuilder data = DataBuilder.orderedKnownSize(4)
+                .add("ints", new int[]{1, 2})
+                .add("floats", new float[]{0.5f})
+                .add("bytes", new byte[]{-1});
+        assertEquals("{\"ints\":[1,2],\"floats\":[0.5],\"bytes\":[-1]}", new JsonParser().setCompact(true).writeDataToString(data));
+
+        Json converted = parser.convertDataToJson(data);
+        assertNotNull(converted);
+        assertInstanceOf(LongArrayList.class, converted.get("ints"));
+        assertEquals(List.of(0.5), converted.get("floats"));
+
+        Json boxed = JsonParser.DEFAULT_INSTANCE.convertDataToJson(data);
+        assertNotNull(boxed);
+        assertEquals(List.of(1L, 2L), boxed.get("ints"));
+        assertEquals(List.of(-1L), boxed.get("bytes"));
+
+        // Arrays without a primitive list are converted element by element
+        assertEquals(List.of(true, false), parser.convertObjectToJsonValidObject(new boolean[]{true, false}));
+        assertEquals(List.of("a", "b"), parser.convertObjectToJsonValidObject(new char[]{'a', 'b'}));
+        assertEquals(
+                "{\"booleans\":[true,false],\"chars\":[\"a\",\"b\"]}",
+                new JsonParser().setCompact(true).setPrimitiveArrays(true).writeDataToString(
+                        DataBuilder.orderedKnownSize(2).add("booleans", new boolean[]{true, false}).add("chars", new char[]{'a', 'b'})
+                )
+        );
+    }
+
+    @Test
+    void primitiveArrayLists() {
+        LongArrayList longs = new LongArrayList(1);
+        longs.addLong(1);
+        longs.add(3L);
+        longs.add(1, 2L);
+        assertEquals(List.of(1L, 2L, 3L), longs);
+
+        assertEquals(Long.valueOf(2), longs.remove(1));
+        assertEquals(Long.valueOf(1), longs.set(0, 5L));
+        assertArrayEquals(new long[]{5, 3}, longs.toLongArray());
+
+        // Elements of the wrong type do not change the list
+        assertThrows(ClassCastException.class, () -> longs.add(0, 1.5));
+        assertEquals(List.of(5L, 3L), longs);
+
+        DoubleArrayList doubles = new DoubleArrayList(new double[]{0.5, 1.5});
+        doubles.add(0, 0.25);
+        doubles.trimToSize();
+        assertArrayEquals(new double[]{0.25, 0.5, 1.5}, doubles.toDoubleArray());
+        assertThrows(IndexOutOfBoundsException.class, () -> doubles.getDouble(3));
+    }
+
+    @Test
+    void parallelArrays() throws ParseException {
+        List<Object> elements = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            if(i % 3 == 0) elements.add(DataBuilder.orderedKnownSize(2).add("i", i).add("s", "]}\"," + i));
+            else if(i % 3 == 1) elements.add(List.of(i, List.of()));
+            else elements.add(i % 2 == 0 ? "text " + i : i);
+        }
+        byte[] bytes = JsonParser.DEFAULT_INSTANCE.writeDataToBytes(DataBuilder.wrap(elements));
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            JsonParser parallel = new JsonParser().setParallelArrayParsing(pool, 0);
+            assertEquals(JsonParser.DEFAULT_INSTANCE.parseBytes(bytes).toJsonString(), parallel.parseBytes(bytes).toJsonString());
+
+            // Same list types as sequential parsing
+            byte[] longs = "[1, 2, 3,]".getBytes(StandardCharsets.UTF_8);
+            assertInstanceOf(LongArrayList.class, new JsonParser().setPrimitiveArrays(true).setParallelArrayParsing(pool, 0)
+                    .parseBytes(longs).get(JsonParser.DEFAULT_ARRAY_WRAPPER_KEY));
+            assertEquals(List.of(), parallel.parseBytes("[ ]".getBytes(StandardCharsets.UTF_8)).get(JsonParser.DEFAULT_ARRAY_WRAPPER_KEY));
+
+            // Not an array or smaller than the minimum size
+            assertEquals(1L, parallel.parseBytes("{\"a\": 1}".getBytes(StandardCharsets.UTF_8)).get("a"));
+            assertEquals(List.of(1L), new JsonParser().setParallelArrayParsing(pool, 1024)
+                    .parseBytes("[1]".getBytes(StandardCharsets.UTF_8)).get(JsonParser.DEFAULT_ARRAY_WRAPPER_KEY));
+
+            // Same exception as sequential parsing
+            byte[] malformed = "[\n{\"a\": 1},\n{\"a\": 1,},\n{\"a\": x}\n]".getBytes(StandardCharsets.UTF_8);
+            ParseException expected = assertThrows(ParseException.class, () -> JsonParser.DEFAULT_INSTANCE.parseBytes(malformed));
+            ParseException actual = assertThrows(ParseException.class, () -> parallel.parseBytes(malformed));
+            assertEquals(expected.getMessage(), actual.getMessage());
+            assertThrows(ParseException.class, () -> parallel.parseBytes("[1, 2".getBytes(StandardCharsets.UTF_8)));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void schema() throws ParseException, IOException {
+        JsonSchema schema = JsonSchema.object()
+                .required("id", JsonSchema.integer().range(1, 100))
+                .required("name", JsonSchema.string().size(1, 8))
+                .optional("ratio", JsonSchema.number().range(0.0, 1.0))
+                .optional("tags", JsonSchema.array(JsonSchema.string()).size(0, 2))
+                .optional("parent", JsonSchema.object().required("id", JsonSchema.integer()).nullable())
+                .unknownKeys(JsonSchema.UnknownKeys.SKIP);
+
+        String valid = "{\"id\": 5, \"extra\": {\"a\": [1, \"]}\", {}]}, \"name\": \"test\", \"ratio\": 0.5, "
+                + "\"tags\": [\"a\"], \"parent\": null, \"other\": \"x\"}";
+        Json json = new JsonParser().parseBytes(valid.getBytes(StandardCharsets.UTF_8), schema);
+        assertEquals(5L, json.get("id"));
+        assertEquals("test", json.get("name"));
+        assertEquals(List.of("a"), json.get("tags"));
+        assertNull(json.get("parent"));
+        // Unknown keys are skipped
+        assertNull(json.get("extra"));
+        assertNull(json.get("other"));
+        assertEquals(json.toJsonString(), new JsonParser().parseString(valid, schema).toJsonString());
+
+        String[] invalid = {
+                "{\"name\": \"test\"}",                                     // missing required key
+                "{\"id\": \"5\", \"name\": \"test\"}",                      // wrong type
+                "{\"id\": 5.5, \"name\": \"test\"}",                        // not an integer
+                "{\"id\": 101, \"name\": \"test\"}",                        // out of range
+                "{\"id\": 5, \"name\": \"too long name\"}",                  // string too long
+                "{\"id\": 5, \"name\": \"test\", \"ratio\": 2}",              // out of range
+                "{\"id\": 5, \"name\": \"test\", \"tags\": [\"a\", \"b\", \"c\"]}", // too many elements
+                "{\"id\": 5, \"name\": \"test\", \"tags\": [1]}",             // wrong element type
+                "{\"id\": 5, \"name\": \"test\", \"parent\": {}}",            // missing nested required key
+                "{\"id\": 5, \"name\": null}",                                // not nullable
+                "[1, 2]",                                                     // not an object
+        };
+        for (String s : invalid) {
+            ParseException e = assertThrows(ParseException.class, () -> new JsonParser().parseBytes(s.getBytes(StandardCharsets.UTF_8), schema));
+            assertTrue(e.getMessage().startsWith("Schema violation"), e.getMessage());
+        }
+
+        // Fails at the first violation
+        ParseException e = assertThrows(ParseException.class, () -> new JsonParser().parseString("{\n\"id\": true,\n\"name\": ", schema));
+        assertTrue(e.getMessage().contains("line 2"), e.getMessage());
+
+        JsonSchema strict = JsonSchema.object()
+                .optional("a", JsonSchema.any())
+                .unknownKeys(JsonSchema.UnknownKeys.REJECT);
+        assertEquals(List.of(1L, "x"), new JsonParser().parseString("{\"a\": [1, \"x\"]}", strict).get("a"));
+        assertThrows(ParseException.class, () -> new JsonParser().parseString("{\"b\": 1}", strict));
+        assertThrows(ParseException.class, () -> new JsonParser().parseString("", JsonSchema.object().required("a", JsonSchema.any())));
+
+        // json-arrays at the top level
+        assertEquals(List.of(1L, 2L), new JsonParser().parseString("[1, 2]", JsonSchema.array(JsonSchema.integer()))
+                .get(JsonParser.DEFAULT_ARRAY_WRAPPER_KEY));
+
+        assertThrows(IllegalStateException.class, () -> JsonSchema.string().range(0, 1));
+        assertThrows(IllegalStateException.class, () -> JsonSchema.integer().required("a", JsonSchema.any()));
+    }
+
+    @Test
+    void schemaIntegralDecimals() throws ParseException, IOException {
+        JsonSchema schema = JsonSchema.object().required("id", JsonSchema.integer());
+
+        // Integral decimals without type token are parsed as integers
+        assertEquals(5L, new JsonParser().parseString("{\"id\": 5.0}", schema).get("id"));
+        JsonParser identifying = new JsonParser().setIdentifyNumberValues(true);
+        assertEquals(5L, identifying.parseString("{\"id\": 5.0}", schema).get("id"));
+        assertEquals(5, identifying.parseString("{\"id\": 5I}", schema).get("id"));
+
+        // A floating point type token marks the value as decimal
+        assertThrows(ParseException.class, () -> identifying.parseString("{\"id\": 5.0D}", schema));
+        assertThrows(ParseException.class, () -> identifying.parseString("{\"id\": 5F}", schema));
+    }
+}
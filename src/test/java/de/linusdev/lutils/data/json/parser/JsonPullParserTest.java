@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2026 Linus Andera
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.linusdev.lutils.data.json.parser;
+
+import de.linusdev.lutils.data.json.Json;
+import de.linusdev.lutils.other.parser.ParseException;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonPullParserTest {
+
+    private static final String JSON = """
+                {
+                    "name": "test \\"name\\"",
+                    "skip": { "a": [1, 2, {"b": "}]"}], "c": null },
+                    "count": 12,
+                    "ratio": 0.5,
+                    "enabled": true,
+                    "nothing": null,
+                    "entries": [
+                        { "id": 1, "value": "a" },
+                        { "id": 2, "value": "b" }
+                    ]
+                }
+                """;
+
+    @Test
+    void tokens() throws IOException, ParseException {
+        try (JsonPullParser pull = JsonParser.DEFAULT_INSTANCE.pullParser(JSON)) {
+            assertEquals(JsonToken.BEGIN_OBJECT, pull.peek());
+            pull.beginObject();
+
+            assertEquals(JsonToken.KEY, pull.peek());
+            assertEquals("name", pull.readKey());
+            assertEquals(JsonToken.STRING, pull.peek());
+            assertEquals("test \"name\"", pull.readString());
+
+            assertEquals("skip", pull.readKey());
+            assertEquals(JsonToken.BEGIN_OBJECT, pull.peek());
+            pull.skipValue();
+
+            assertEquals("count", pull.readKey());
+            assertEquals(JsonToken.NUMBER, pull.peek());
+            assertEquals(12L, pull.readNumber());
+
+            assertEquals("ratio", pull.readKey());
+            assertEquals(0.5, pull.readNumber());
+
+            assertEquals("enabled", pull.readKey());
+            assertEquals(JsonToken.BOOLEAN, pull.peek());
+            assertTrue(pull.readBoolean());
+
+            assertEquals("nothing", pull.readKey());
+            assertEquals(JsonToken.NULL, pull.peek());
+            pull.readNull();
+
+            assertEquals("entries", pull.readKey());
+            pull.beginArray();
+
+            List<Json> entries = new ArrayList<>();
+            while (pull.hasNext())
+                entries.add(pull.readJson());
+
+            pull.endArray();
+            assertEquals(JsonToken.END_OBJECT, pull.peek());
+            pull.endObject();
+            assertEquals(JsonToken.END_DOCUMENT, pull.peek());
+
+            assertEquals(2, entries.size());
+            assertEquals(1L, entries.get(0).get("id"));
+            assertEquals("b", entries.get(1).get("value"));
+        }
+    }
+
+    @Test
+    void skipKey() throws IOException, ParseException {
+        try (JsonPullParser pull = JsonParser.DEFAULT_INSTANCE.pullParser(JSON)) {
+            pull.beginObject();
+
+            List<String> keys = new ArrayList<>();
+            while (pull.hasNext()) {
+                if(pull.peek() == JsonToken.KEY && keys.size() % 2 == 0) {
+                    keys.add(pull.readKey());
+                    pull.skipValue();
+                } else {
+                    keys.add(null);
+                    // skips key and value
+                    pull.skipValue();
+                }
+            }
+
+            pull.endObject();
+            assertEquals(7, keys.size());
+            assertEquals("name", keys.get(0));
+            assertEquals("count", keys.get(2));
+            assertEquals("entries", keys.get(6));
+        }
+    }
+
+    @Test
+    void readValue() throws IOException, ParseException {
+        try (JsonPullParser pull = JsonParser.DEFAULT_INSTANCE.pullParser("[1, \"a\", [true, false], {\"b\": null},]")) {
+            pull.beginArray();
+            assertEquals(1L, pull.readValue());
+            assertEquals("a", pull.readValue());
+            assertEquals(List.of(true, false), pull.readValue());
+            Json json = (Json) pull.readValue();
+            assertNotNull(json);
+            assertTrue(json.isNull("b"));
+            assertFalse(pull.hasNext());
+            pull.endArray();
+            assertFalse(pull.hasNext());
+        }
+    }
+
+    @Test
+    void malformed() {
+        assertThrows(ParseException.class, () -> {
+            try (JsonPullParser pull = JsonParser.DEFAULT_INSTANCE.pullParser("{\"a\" 1}")) {
+                pull.beginObject();
+                pull.readKey();
+                pull.readNumber();
+            }
+        });
+
+        assertThrows(IllegalStateException.class, () -> {
+            try (JsonPullParser pull = JsonParser.DEFAULT_INSTANCE.pullParser("{\"a\": 1}")) {
+                pull.beginArray();
+            }
+        });
+
+        assertThrows(ParseException.class, () -> {
+            try (JsonPullParser pull = JsonParser.DEFAULT_INSTANCE.pullParser("{\"a\": [1, 2")) {
+                pull.beginObject();
+                pull.readKey();
+                pull.skipValue();
+            }
+        });
+    }
+}
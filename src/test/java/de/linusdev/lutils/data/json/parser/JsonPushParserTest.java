@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026 Linus Andera
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.linusdev.lutils.data.json.parser;
+
+import de.linusdev.lutils.data.json.Json;
+import de.linusdev.lutils.other.parser.ParseException;
+import de.linusdev.lutils.other.parser.UnexpectedEndException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonPushParserTest {
+
+    private static final String JSON = "\uFEFF{\"a\": \"}\\\"{ €\", \"b\": [1, {\"c\": null}]}\n  [1, 2]{\"d\": \"\\u20AC\"}";
+
+    @Test
+    void chunks() throws ParseException {
+        byte[] bytes = JSON.getBytes(StandardCharsets.UTF_8);
+
+        // Every possible chunk size, so that each token is split at every position
+        for (int chunkSize = 1; chunkSize <= bytes.length; chunkSize++) {
+            JsonPushParser parser = JsonParser.DEFAULT_INSTANCE.pushParser();
+            List<Json> jsons = new ArrayList<>();
+
+            for (int i = 0; i < bytes.length; i += chunkSize) {
+                ByteBuffer chunk = ByteBuffer.allocateDirect(Math.min(chunkSize, bytes.length - i));
+                chunk.put(bytes, i, chunk.capacity()).flip();
+                parser.push(chunk);
+                assertFalse(chunk.hasRemaining());
+
+                Json json;
+                while ((json = parser.poll()) != null) jsons.add(json);
+            }
+            parser.endOfInput();
+
+            assertTrue(parser.isIdle());
+            assertEquals(3, jsons.size());
+            assertEquals("}\"{ €", jsons.get(0).get("a"));
+            assertEquals(List.of(1L, 2L), jsons.get(1).get(JsonParser.DEFAULT_ARRAY_WRAPPER_KEY));
+            assertEquals("€", jsons.get(2).get("d"));
+        }
+    }
+
+    @Test
+    void comments() throws ParseException {
+        JsonParser jsonParser = new JsonParser().setAllowComments(true, null);
+        JsonPushParser parser = jsonParser.pushParser();
+
+        byte[] bytes = "// {\n{\"a\": /* } */ 1}/**/{\"b\": 2 // }\n}".getBytes(StandardCharsets.UTF_8);
+        assertEquals(0, parser.push(bytes, 0, 20));
+        assertEquals(2, parser.push(bytes, 20, bytes.length - 20));
+        parser.endOfInput();
+
+        assertEquals(1L, parser.poll().get("a"));
+        assertEquals(2L, parser.poll().get("b"));
+        assertNull(parser.poll());
+    }
+
+    @Test
+    void errors() throws ParseException {
+        JsonPushParser parser = JsonParser.DEFAULT_INSTANCE.pushParser();
+        byte[] bytes = "{\"a\": 1}\n{\"a\": }".getBytes(StandardCharsets.UTF_8);
+
+        ParseException e = assertThrows(ParseException.class, () -> parser.push(bytes, 0, bytes.length));
+        assertTrue(e.getMessage().contains("line 2"), e.getMessage());
+        assertEquals(1L, parser.poll().get("a"));
+        assertSame(e, assertThrows(ParseException.class, () -> parser.push(bytes, 0, 1)));
+
+        parser.reset();
+        parser.push(bytes, 0, 3);
+        assertFalse(parser.isIdle());
+        assertThrows(UnexpectedEndException.class, parser::endOfInput);
+
+        parser.reset();
+        assertThrows(ParseException.class, () -> parser.push("1".getBytes(StandardCharsets.UTF_8), 0, 1));
+
+        JsonPushParser limited = JsonParser.DEFAULT_INSTANCE.pushParser().setMaxValueSize(8);
+        limited.push(bytes, 0, 8);
+        byte[] large = "{\"a\": 123}".getBytes(StandardCharsets.UTF_8);
+        limited.push(large, 0, 4);
+        assertThrows(ParseException.class, () -> limited.push(large, 4, large.length - 4));
+    }
+
+    @Test
+    void partialBom() throws ParseException {
+        byte[] bytes = {(byte) 0xEF, '{', '}'};
+
+        // Partial BOM followed by other bytes in the same chunk and in the next chunk
+        JsonPushParser parser = JsonParser.DEFAULT_INSTANCE.pushParser();
+        assertThrows(ParseException.class, () -> parser.push(bytes, 0, bytes.length));
+        parser.reset();
+        parser.push(bytes, 0, 1);
+        assertThrows(ParseException.class, () -> parser.push(bytes, 1, 2));
+
+        // Partial BOM at the end of the input
+        parser.reset();
+        parser.push(new byte[]{(byte) 0xEF, (byte) 0xBB}, 0, 2);
+        assertThrows(ParseException.class, parser::endOfInput);
+
+        // Complete BOM split across chunks
+        parser.reset();
+        parser.push(new byte[]{(byte) 0xEF, (byte) 0xBB}, 0, 2);
+        assertEquals(1, parser.push(new byte[]{(byte) 0xBF, '{', '}'}, 0, 3));
+        parser.endOfInput();
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026 Linus Andera
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.linusdev.lutils.data.json.parser;
+
+import de.linusdev.lutils.data.DataBuilder;
+import de.linusdev.lutils.data.json.Json;
+import de.linusdev.lutils.other.parser.ParseException;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NdJsonTest {
+
+    @Test
+    void writeAndRead() throws IOException, ParseException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (NdJsonWriter writer = JsonParser.DEFAULT_INSTANCE.ndJsonWriter(out)) {
+            for (int i = 0; i < 10_000; i++)
+                writer.write(DataBuilder.orderedKnownSize(2).add("index", i).add("text", "line\n€ " + i));
+        }
+
+        byte[] bytes = out.toByteArray();
+        assertTrue(bytes.length > 64 * 1024, "must be larger than the read buffer");
+        assertTrue(new String(bytes, StandardCharsets.UTF_8).startsWith("{\"index\":0,\"text\":\"line\\n€ 0\"}\n{\"index\":1,"));
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            for (NdJsonReader reader : List.of(
+                    JsonParser.DEFAULT_INSTANCE.ndJsonReader(new ByteArrayInputStream(bytes)),
+                    JsonParser.DEFAULT_INSTANCE.ndJsonReader(new ByteArrayInputStream(bytes)).setExecutor(executor).setBatchSize(7)
+            )) {
+                List<Json> read = new ArrayList<>();
+                try (reader) {
+                    reader.forEach(read::add);
+                }
+
+                assertEquals(10_000, read.size());
+                for (int i = 0; i < read.size(); i++) {
+                    assertEquals((long) i, read.get(i).get("index"));
+                    assertEquals("line\n€ " + i, read.get(i).get("text"));
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void blankLinesAndErrors() throws IOException, ParseException {
+        String ndJson = "\n{\"a\": 1}\r\n   \n{\"a\": 2}\n\n{\"a\": 3}";
+
+        try (NdJsonReader reader = JsonParser.DEFAULT_INSTANCE.ndJsonReader(new ByteArrayInputStream(ndJson.getBytes(StandardCharsets.UTF_8)))) {
+            assertEquals(List.of(1L, 2L, 3L), reader.stream().map(json -> json.get("a")).toList());
+        }
+
+        String malformed = "{\"a\": 1}\n\n{\"a\": }\n";
+        try (NdJsonReader reader = JsonParser.DEFAULT_INSTANCE.ndJsonReader(new ByteArrayInputStream(malformed.getBytes(StandardCharsets.UTF_8)))) {
+            assertNotNull(reader.next());
+            ParseException e = assertThrows(ParseException.class, reader::next);
+            assertNotNull(e.getParseTracker());
+            assertEquals(3, e.getParseTracker().getLine());
+        }
+    }
+
+    @Test
+    void longLinesInSmallReads() throws IOException, ParseException {
+        String text = "x".repeat(512 * 1024);
+        String ndJson = "   \n  {\"a\": \"" + text + "\"}\n \n{\"a\": \"b\"}";
+        byte[] bytes = ndJson.getBytes(StandardCharsets.UTF_8);
+
+        // Only returns a few bytes per read, so that lines are split across many refills
+        InputStream in = new ByteArrayInputStream(bytes) {
+            @Override
+            public synchronized int read(byte @NotNull [] b, int off, int len) {
+                return super.read(b, off, Math.min(len, 61));
+            }
+        };
+
+        try (NdJsonReader reader = JsonParser.DEFAULT_INSTANCE.ndJsonReader(in)) {
+            Json first = reader.next();
+            assertNotNull(first);
+            assertEquals(text, first.get("a"));
+            Json second = reader.next();
+            assertNotNull(second);
+            assertEquals("b", second.get("a"));
+            assertNull(reader.next());
+        }
+    }
+}
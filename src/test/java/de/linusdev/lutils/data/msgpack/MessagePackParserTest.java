@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2026 Linus Andera
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.linusdev.lutils.data.msgpack;
+
+import de.linusdev.lutils.data.DataBuilder;
+import de.linusdev.lutils.data.json.Json;
+import de.linusdev.lutils.data.json.parser.JsonParser;
+import de.linusdev.lutils.other.parser.ParseException;
+import de.linusdev.lutils.other.parser.UnexpectedEndException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MessagePackParserTest {
+
+    private static DataBuilder data() {
+        return DataBuilder.orderedKnownSize(14)
+                .add("null", null)
+                .add("bool", true)
+                .add("byte", (byte) -5)
+                .add("short", (short) 1000)
+                .add("int", 100_000)
+                .add("long", 5_000_000_000L)
+                .add("float", 1.5f)
+                .add("double", 0.1)
+                .add("string", "Hällo \"World\" €")
+                .add("bytes", new byte[]{1, 2, 3})
+                .add("array", List.of(1, "two", List.of()))
+                .add("object", DataBuilder.orderedKnownSize(1).add("a", new long[]{-1, 200}))
+                .add("booleans", new boolean[]{true, false})
+                .add("chars", new char[]{'x', 'y'});
+    }
+
+    @Test
+    void roundTrip() throws ParseException {
+        byte[] bytes = MessagePackParser.DEFAULT_INSTANCE.writeDataToBytes(data());
+        Json json = MessagePackParser.DEFAULT_INSTANCE.parseBytes(bytes);
+
+        assertEquals(14, json.size());
+        assertNull(json.get("null"));
+        assertEquals(true, json.get("bool"));
+        assertEquals(-5L, json.get("byte"));
+        assertEquals(1000L, json.get("short"));
+        assertEquals(100_000L, json.get("int"));
+        assertEquals(5_000_000_000L, json.get("long"));
+        assertEquals(1.5, json.get("float"));
+        assertEquals(0.1, json.get("double"));
+        assertEquals("Hällo \"World\" €", json.get("string"));
+        assertArrayEquals(new byte[]{1, 2, 3}, (byte[]) json.get("bytes"));
+        assertEquals(List.of(1L, "two", List.of()), json.get("array"));
+        assertEquals(List.of(-1L, 200L), ((Json) json.get("object")).get("a"));
+        assertEquals(List.of(true, false), json.get("booleans"));
+        assertEquals(List.of("x", "y"), json.get("chars"));
+    }
+
+    @Test
+    void identifyNumberValues() throws ParseException {
+        MessagePackParser parser = new MessagePackParser().setIdentifyNumberValues(true);
+        Json json = parser.parseBytes(parser.writeDataToBytes(data()));
+
+        assertEquals((byte) -5, json.get("byte"));
+        assertEquals((short) 1000, json.get("short"));
+        assertEquals(100_000, json.get("int"));
+        assertEquals(5_000_000_000L, json.get("long"));
+        assertEquals(1.5f, json.get("float"));
+        assertEquals(0.1, json.get("double"));
+        assertEquals(List.of(1, "two", List.of()), json.get("array"));
+    }
+
+    @Test
+    void stream() throws IOException, ParseException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        String large = "x".repeat(100_000);
+        try (MessagePackWriter writer = MessagePackParser.DEFAULT_INSTANCE.writer(out)) {
+            for (int i = 0; i < 1000; i++)
+                writer.write(DataBuilder.orderedKnownSize(2).add("index", i).add("text", i == 500 ? large : "text " + i));
+            writer.write(DataBuilder.wrap(List.of(1, 2)));
+        }
+
+        try (MessagePackReader reader = MessagePackParser.DEFAULT_INSTANCE.reader(new ByteArrayInputStream(out.toByteArray()))) {
+            for (int i = 0; i < 1000; i++) {
+                Json json = reader.read();
+                assertNotNull(json);
+                assertEquals((long) i, json.get("index"));
+                assertEquals(i == 500 ? large : "text " + i, json.get("text"));
+            }
+
+            Json wrapped = reader.read();
+            assertNotNull(wrapped);
+            assertEquals(List.of(1L, 2L), wrapped.get(JsonParser.DEFAULT_ARRAY_WRAPPER_KEY));
+            assertNull(reader.read());
+        }
+    }
+
+    @Test
+    void malformed() {
+        // map with one entry, but only the key is present
+        assertThrows(UnexpectedEndException.class, () -> MessagePackParser.DEFAULT_INSTANCE.parseBytes(new byte[]{(byte) 0x81, (byte) 0xa1, 'a'}));
+        // string with a length of 2^31 - 2^24, but only one byte
+        assertThrows(UnexpectedEndException.class, () -> MessagePackParser.DEFAULT_INSTANCE.parseStream(
+                new ByteArrayInputStream(new byte[]{(byte) 0xdb, 0x7f, 0, 0, 0, 'a'})));
+        // string with a length of 2^32 - 1
+        assertThrows(ParseException.class, () -> MessagePackParser.DEFAULT_INSTANCE.parseBytes(new byte[]{(byte) 0xdb, -1, -1, -1, -1, 'a'}));
+        // integer key
+        assertThrows(ParseException.class, () -> MessagePackParser.DEFAULT_INSTANCE.parseBytes(new byte[]{(byte) 0x81, 1, 1}));
+        // ext type
+        assertThrows(ParseException.class, () -> MessagePackParser.DEFAULT_INSTANCE.parseBytes(new byte[]{(byte) 0xd4, 1, 1}));
+    }
+
+    @Test
+    void floatWidening() throws IOException, ParseException {
+        DataBuilder data = DataBuilder.orderedKnownSize(1).add("float", 0.1f);
+        Object json = JsonParser.DEFAULT_INSTANCE.parseString(JsonParser.DEFAULT_INSTANCE.writeDataToString(data)).get("float");
+
+        // Floats are read as the same double as in json and not as (double) 0.1f
+        assertEquals(0.1, json);
+        assertEquals(json, MessagePackParser.DEFAULT_INSTANCE.parseBytes(MessagePackParser.DEFAULT_INSTANCE.writeDataToBytes(data)).get("float"));
+
+        // Also if written as float32
+        byte[] float32 = new MessagePackParser().setIdentifyNumberValues(true).writeDataToBytes(data);
+        assertEquals(0.1f, new MessagePackParser().setIdentifyNumberValues(true).parseBytes(float32).get("float"));
+        assertEquals(json, MessagePackParser.DEFAULT_INSTANCE.parseBytes(float32).get("float"));
+    }
+}
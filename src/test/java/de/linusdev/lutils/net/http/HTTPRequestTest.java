@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023-2025 Linus Andera
+ * Copyright (c) 2023-2026 Linus Andera
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,12 +16,17 @@
 
 package de.linusdev.lutils.net.http;
 
+import de.linusdev.lutils.net.http.body.BodyParsers;
 import de.linusdev.lutils.net.http.header.Header;
+import de.linusdev.lutils.net.http.header.HeaderNames;
 import de.linusdev.lutils.net.http.method.Methods;
 import de.linusdev.lutils.net.http.method.RequestMethod;
+import de.linusdev.lutils.net.http.version.HTTPVersions;
+import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Test;
 
 import java.io.*;
+import java.nio.charset.StandardCharsets;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -97,4 +102,139 @@ class HTTPRequestTest {
         assertEquals("{}", parsed.getBody());
     }
 
+    @Test
+    public void testPipelined() throws IOException {
+        String requests = "POST /a HTTP/1.1\r\n" +
+                "Content-Length: 5\r\n" +
+                "\r\n" +
+                "héll" +
+                "GET /b HTTP/1.1\r\n" +
+                "\r\n" +
+                "POST /c HTTP/1.1\r\n" +
+                "content-length: 3\r\n" +
+                "\r\n" +
+                "abc";
+
+        HTTPMessageReader reader = new HTTPMessageReader(new ByteArrayInputStream(requests.getBytes(StandardCharsets.UTF_8)));
+
+        assertTrue(reader.awaitInput());
+        HTTPRequest<InputStream> a = HTTPRequest.parse(reader, (hs, in) -> in);
+        assertEquals("/a", a.getPathAndQueryAsString());
+        assertNotNull(a.getBody());
+        assertEquals("héll", new String(a.getBody().readAllBytes(), StandardCharsets.UTF_8));
+
+        // No Content-Length: empty body
+        assertTrue(reader.awaitInput());
+        HTTPRequest<InputStream> b = HTTPRequest.parse(reader, (hs, in) -> in);
+        assertEquals("/b", b.getPathAndQueryAsString());
+        assertNotNull(b.getBody());
+        assertEquals(-1, b.getBody().read());
+
+        assertTrue(reader.awaitInput());
+        HTTPRequest<InputStream> c = HTTPRequest.parse(reader, (hs, in) -> in);
+        assertEquals("/c", c.getPathAndQueryAsString());
+        assertNotNull(c.getBody());
+        assertEquals("abc", new String(c.getBody().readAllBytes(), StandardCharsets.UTF_8));
+
+        assertFalse(reader.awaitInput());
+
+        assertThrows(IllegalArgumentException.class, () -> HTTPRequest.parse(
+                new HTTPMessageReader(new ByteArrayInputStream("GET / HTTP/1.1\r\nContent-Length: x\r\n\r\n".getBytes())),
+                (hs, in) -> in
+        ));
+
+        // End of stream before the start line
+        assertThrows(EOFException.class, () -> HTTPRequest.parse(new ByteArrayInputStream(new byte[0])));
+        assertThrows(EOFException.class, () -> HTTPResponse.parse(new ByteArrayInputStream(new byte[0])));
+    }
+
+    @Test
+    public void testHead() throws IOException {
+        String longValue = "a".repeat(HTTPMessageReader.BUFFER_SIZE * 2 + 7);
+        String requests = "PATCH /a HTTP/1.0\r\n" +
+                "content-TYPE:\ttext/plain \r\n" +
+                "X-Long: " + longValue + "\r\n" +
+                "X-Custom:value\r\n" +
+                "\r\n" +
+                "GET /b HTTP/1.1\r\n" +
+                "\r\n";
+
+        // Lines are split across multiple reads
+        InputStream in = new InputStream() {
+            private final ByteArrayInputStream delegate = new ByteArrayInputStream(requests.getBytes(StandardCharsets.UTF_8));
+
+            @Override
+            public int read() {
+                return delegate.read();
+            }
+
+            @Override
+            public int read(byte @NotNull [] b, int off, int len) {
+                return delegate.read(b, off, Math.min(len, 19));
+            }
+        };
+        HTTPMessageReader reader = new HTTPMessageReader(in);
+
+        HTTPRequest<InputStream> a = HTTPRequest.parse(reader, (hs, body) -> body);
+        assertEquals("PATCH", a.getMethod().getName());
+        assertEquals("/a", a.getPathAndQueryAsString());
+        assertEquals(HTTPVersions.HTTP_1_0, a.getVersion());
+        assertEquals(3, a.getHeaders().size());
+
+        // Well-known headers use the name of HeaderNames
+        Header contentType = a.getHeaders().get(HeaderNames.CONTENT_TYPE);
+        assertEquals("Content-Type", contentType.getKey());
+        assertEquals("text/plain", contentType.getValue());
+        assertEquals(longValue, a.getHeaders().get("x-long").getValue());
+        assertEquals("X-Custom", a.getHeaders().get("x-custom").getKey());
+        assertEquals("value", a.getHeaders().get("x-custom").getValue());
+
+        HTTPRequest<InputStream> b = HTTPRequest.parse(reader, (hs, body) -> body);
+        assertSame(Methods.GET, b.getMethod());
+        assertEquals("/b", b.getPathAndQueryAsString());
+        assertEquals(HTTPVersions.HTTP_1_1, b.getVersion());
+        assertTrue(b.getHeaders().isEmpty());
+
+        assertFalse(reader.awaitInput());
+    }
+
+    @Test
+    public void testChunked() throws IOException {
+        String requests = "POST /a HTTP/1.1\r\n" +
+                "Transfer-Encoding: chunked\r\n" +
+                "\r\n" +
+                "5;ext=1\r\nhello\r\n" +
+                "7\r\n world!\r\n" +
+                "0\r\n" +
+                "Trailer: value\r\n" +
+                "\r\n" +
+                "POST /b HTTP/1.1\r\n" +
+                "Transfer-Encoding: chunked\r\n" +
+                "\r\n" +
+                "A\r\n0123456789\r\n" +
+                "0\r\n\r\n";
+
+        HTTPMessageReader reader = new HTTPMessageReader(new ByteArrayInputStream(requests.getBytes(StandardCharsets.UTF_8)));
+
+        assertTrue(reader.awaitInput());
+        HTTPRequest<InputStream> a = HTTPRequest.parse(reader, (hs, in) -> in);
+        assertEquals("/a", a.getPathAndQueryAsString());
+        assertNotNull(a.getBody());
+        assertEquals("hello world!", new String(a.getBody().readAllBytes(), StandardCharsets.UTF_8));
+
+        assertTrue(reader.awaitInput());
+        HTTPRequest<InputStream> b = HTTPRequest.parse(reader, (hs, in) -> in);
+        assertEquals("/b", b.getPathAndQueryAsString());
+        assertNotNull(b.getBody());
+        assertEquals("0123456789", new String(b.getBody().readAllBytes(), StandardCharsets.UTF_8));
+
+        assertFalse(reader.awaitInput());
+
+        HTTPRequest<InputStream> malformed = HTTPRequest.parse(new ByteArrayInputStream(
+                "POST / HTTP/1.1\r\nTransfer-Encoding: chunked\r\n\r\nx\r\n".getBytes(StandardCharsets.UTF_8)
+        ), BodyParsers.dechunking((hs, in) -> in));
+        assertNotNull(malformed.getBody());
+        assertThrows(IOException.class, () -> malformed.getBody().readAllBytes());
+    }
+
 }
\ No newline at end of file
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2025 Linus Andera
+ * Copyright (c) 2025-2026 Linus Andera
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,13 +19,17 @@ package de.linusdev.lutils.net.http.body;
 import de.linusdev.lutils.net.http.HTTPResponse;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 
 class BodiesTest {
 
@@ -61,4 +65,48 @@ class BodiesTest {
                 response
         );
     }
-}
\ No newline at end of file
+
+    @Test
+    void streamingWritable() throws IOException {
+        String content = "0123456789".repeat(500);
+        Body body = Bodies.textUtf8().ofStreamingWritable(out -> {
+            for (int i = 0; i < content.length(); i += 100)
+                out.write(content.substring(i, i + 100).getBytes(StandardCharsets.UTF_8));
+        });
+
+        String response = HTTPResponse.builder()
+                .setBody(body)
+                .buildResponse();
+
+        assertTrue(response.contains("Transfer-Encoding: chunked\r\n"), response);
+        assertFalse(response.contains("Content-Length"), response);
+        assertTrue(response.contains("\r\n\r\n7d0\r\n"), response);
+        assertTrue(response.endsWith("\r\n0\r\n\r\n"), response);
+
+        HTTPResponse<InputStream> parsed = HTTPResponse.parse(
+                new ByteArrayInputStream(response.getBytes(StandardCharsets.UTF_8)),
+                BodyParsers.dechunking((headers, in) -> in)
+        );
+        assertNotNull(parsed.getBody());
+        assertEquals(content, new String(parsed.getBody().readAllBytes(), StandardCharsets.UTF_8));
+        assertEquals(content, new String(body.stream().readAllBytes(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void regularFileToChannel() throws IOException {
+        Path res = Paths.get("src/test/resources/de/linusdev/lutils/net/http/body/index.css");
+        String content = Files.readString(res, StandardCharsets.UTF_8);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        HTTPResponse.builder()
+                .setBody(Bodies.css().ofRegularFile(res))
+                .buildResponse(Channels.newChannel(out), 2048);
+
+        assertEquals("HTTP/1.1 200 OK\r\n" +
+                        "Content-Length: " + content.getBytes(StandardCharsets.UTF_8).length + "\r\n" +
+                        "Content-Type: text/css\r\n" +
+                        "\r\n" + content,
+                out.toString(StandardCharsets.UTF_8)
+        );
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2026 Linus Andera
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.linusdev.lutils.net.http.body;
+
+import de.linusdev.lutils.net.http.HTTPMessageBuilder;
+import de.linusdev.lutils.net.http.HTTPRequest;
+import de.linusdev.lutils.net.http.HTTPResponse;
+import de.linusdev.lutils.net.http.header.Header;
+import de.linusdev.lutils.net.http.header.HeaderMap;
+import de.linusdev.lutils.net.http.header.HeaderNames;
+import de.linusdev.lutils.net.http.header.contenttype.ContentTypes;
+import de.linusdev.lutils.net.http.method.Methods;
+import de.linusdev.lutils.net.http.status.StatusCodes;
+import de.linusdev.lutils.net.http.version.HTTPVersions;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompressionTest {
+
+    private static final @NotNull String CONTENT = "{\"message\": \"Hello World!\"}\n".repeat(500);
+
+    private static @NotNull HTTPRequest<Void> request(@Nullable String acceptEncoding, @Nullable String ifNoneMatch) {
+        HeaderMap headers = new HeaderMap();
+        if(acceptEncoding != null) headers.put(HeaderNames.ACCEPT_ENCODING.with(acceptEncoding));
+        if(ifNoneMatch != null) headers.put(HeaderNames.IF_NONE_MATCH.with(ifNoneMatch));
+        return new HTTPRequest<>(Methods.GET, "/", HTTPVersions.HTTP_1_1, headers, null);
+    }
+
+    private static @NotNull HTTPResponse<InputStream> build(@NotNull HTTPMessageBuilder response) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.buildResponse(out);
+        return HTTPResponse.parse(
+                new ByteArrayInputStream(out.toByteArray()),
+                BodyParsers.dechunking((headers, in) -> in)
+        );
+    }
+
+    @Test
+    void negotiate() {
+        assertNull(ContentEncoding.negotiate(null));
+        assertEquals(ContentEncoding.GZIP, ContentEncoding.negotiate(HeaderNames.ACCEPT_ENCODING.with("gzip, deflate, br")));
+        assertEquals(ContentEncoding.DEFLATE, ContentEncoding.negotiate(HeaderNames.ACCEPT_ENCODING.with("deflate, gzip;q=0.5")));
+        assertEquals(ContentEncoding.GZIP, ContentEncoding.negotiate(HeaderNames.ACCEPT_ENCODING.with("*")));
+        assertEquals(ContentEncoding.DEFLATE, ContentEncoding.negotiate(HeaderNames.ACCEPT_ENCODING.with("*;q=0.5, GZIP;q=0")));
+        assertNull(ContentEncoding.negotiate(HeaderNames.ACCEPT_ENCODING.with("gzip;q=0, identity")));
+        assertNull(ContentEncoding.negotiate(HeaderNames.ACCEPT_ENCODING.with("br")));
+    }
+
+    @Test
+    void streaming() throws IOException {
+        HTTPMessageBuilder response = HTTPResponse.builder().setBody(Bodies.json().ofStringUtf8(CONTENT));
+        Compression.apply(request("gzip", null), response);
+
+        HTTPResponse<InputStream> parsed = build(response);
+        HeaderMap headers = parsed.getHeaders();
+        assertEquals("gzip", headers.get(HeaderNames.CONTENT_ENCODING).getValue());
+        assertEquals("Accept-Encoding", headers.get(HeaderNames.VARY).getValue());
+        assertTrue(headers.isChunked());
+        assertFalse(headers.containsKey(HeaderNames.CONTENT_LENGTH.getName()));
+
+        assertNotNull(parsed.getBody());
+        byte[] compressed = parsed.getBody().readAllBytes();
+        assertTrue(compressed.length < CONTENT.length() / 10);
+        assertEquals(CONTENT, new String(new GZIPInputStream(new ByteArrayInputStream(compressed)).readAllBytes(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void precompressed() throws IOException {
+        PrecompressedBody body = Bodies.precompressed(Bodies.html().ofStringUtf8(CONTENT));
+        assertSame(body.getVariant(ContentEncoding.DEFLATE), body.getVariant(ContentEncoding.DEFLATE));
+
+        HTTPMessageBuilder response = HTTPResponse.builder().setBody(body);
+        Compression.apply(request("deflate", null), response);
+        assertSame(body.getVariant(ContentEncoding.DEFLATE), response.getBody());
+
+        HTTPResponse<InputStream> parsed = build(response);
+        HeaderMap headers = parsed.getHeaders();
+        assertEquals("deflate", headers.get(HeaderNames.CONTENT_ENCODING).getValue());
+        assertFalse(headers.isChunked());
+
+        assertNotNull(parsed.getBody());
+        byte[] compressed = parsed.getBody().readAllBytes();
+        assertEquals(compressed.length, Integer.parseInt(headers.get(HeaderNames.CONTENT_LENGTH).getValue()));
+        assertEquals(CONTENT, new String(new InflaterInputStream(new ByteArrayInputStream(compressed)).readAllBytes(), StandardCharsets.UTF_8));
+
+        // Uncompressed, the body is sent as is
+        response = HTTPResponse.builder().setBody(body);
+        Compression.apply(request(null, null), response);
+        assertSame(body, response.getBody());
+        assertEquals("Accept-Encoding", response.getHeaders().get(HeaderNames.VARY).getValue());
+    }
+
+    @Test
+    void notCompressed() throws IOException {
+        // Too small
+        HTTPMessageBuilder response = HTTPResponse.builder().setBody(Bodies.textUtf8().ofStringUtf8("Hello!"));
+        Compression.apply(request("gzip", null), response);
+        assertFalse(response.getHeaders().containsKey(HeaderNames.CONTENT_ENCODING.getName()));
+
+        // Not compressible
+        response = HTTPResponse.builder().setBody(Bodies.png().ofStringUtf8(CONTENT));
+        Compression.apply(request("gzip", null), response);
+        assertFalse(response.getHeaders().containsKey(HeaderNames.CONTENT_ENCODING.getName()));
+        assertFalse(response.getHeaders().containsKey(HeaderNames.VARY.getName()));
+
+        // Compressed variant is not smaller
+        byte[] random = new byte[1024];
+        new Random(42).nextBytes(random);
+        PrecompressedBody body = Bodies.precompressed(new Bodies.Creator(ContentTypes.Text.plain()).ofBytes(random));
+        response = HTTPResponse.builder().setBody(body);
+        Compression.apply(request("gzip", null), response);
+        assertSame(body, response.getBody());
+    }
+
+    @Test
+    void staticAssetCache() throws IOException {
+        Path file = Files.createTempFile("compression-test", ".json");
+        file.toFile().deleteOnExit();
+        Files.writeString(file, CONTENT);
+        StaticAssetCache cache = new StaticAssetCache(1024 * 1024);
+
+        HTTPMessageBuilder response = cache.respond(request("gzip", null), file, ContentTypes.Application.json());
+        Compression.apply(request("gzip", null), response);
+        Body compressed = response.getBody();
+        Header eTag = response.getHeaders().get(HeaderNames.ETAG);
+        assertTrue(eTag.getValue().startsWith("W/\""), eTag.getValue());
+        assertEquals("gzip", response.getHeaders().get(HeaderNames.CONTENT_ENCODING).getValue());
+
+        // The compressed variant is cached
+        response = cache.respond(request("gzip", null), file, ContentTypes.Application.json());
+        Compression.apply(request("gzip", null), response);
+        assertSame(compressed, response.getBody());
+
+        // Weak comparison
+        response = cache.respond(request("gzip", eTag.getValue()), file, ContentTypes.Application.json());
+        Compression.apply(request("gzip", eTag.getValue()), response);
+        assertEquals(StatusCodes.NOT_MODIFIED, response.getStatusCode());
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2026 Linus Andera
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.linusdev.lutils.net.http.body;
+
+import de.linusdev.lutils.net.http.HTTPMessageBuilder;
+import de.linusdev.lutils.net.http.HTTPRequest;
+import de.linusdev.lutils.net.http.header.HeaderMap;
+import de.linusdev.lutils.net.http.header.HeaderNames;
+import de.linusdev.lutils.net.http.header.contenttype.ContentTypes;
+import de.linusdev.lutils.net.http.method.Methods;
+import de.linusdev.lutils.net.http.status.StatusCodes;
+import de.linusdev.lutils.net.http.version.HTTPVersions;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StaticAssetCacheTest {
+
+    private static @NotNull HTTPRequest<Void> request(@Nullable String header, @Nullable String value) {
+        HeaderMap headers = new HeaderMap();
+        if(header != null && value != null) headers.put(header, value);
+        return new HTTPRequest<>(Methods.GET, "/asset", HTTPVersions.HTTP_1_1, headers, null);
+    }
+
+    private static @NotNull String body(@NotNull HTTPMessageBuilder response) throws IOException {
+        assertNotNull(response.getBody());
+        return new String(response.getBody().stream().readAllBytes(), StandardCharsets.UTF_8);
+    }
+
+    private static @NotNull Path tempFile(@NotNull String content) throws IOException {
+        Path file = Files.createTempFile("static-asset-cache-test", ".txt");
+        Files.writeString(file, content);
+        file.toFile().deleteOnExit();
+        return file;
+    }
+
+    @Test
+    void conditionalGet() throws IOException {
+        Path file = tempFile("body { }");
+        Files.setLastModifiedTime(file, FileTime.from(Instant.parse("2026-01-02T03:04:05Z")));
+        StaticAssetCache cache = new StaticAssetCache(1024, 60_000);
+
+        HTTPMessageBuilder response = cache.respond(request(null, null), file, ContentTypes.Text.css());
+        assertEquals(StatusCodes.OK, response.getStatusCode());
+        assertEquals("body { }", body(response));
+        assertEquals("Fri, 02 Jan 2026 03:04:05 GMT", response.getHeaders().get(HeaderNames.LAST_MODIFIED).getValue());
+        String eTag = response.getHeaders().get(HeaderNames.ETAG).getValue();
+        assertTrue(eTag.startsWith("\"") && eTag.endsWith("\""), eTag);
+
+        // If-None-Match
+        response = cache.respond(request("If-None-Match", "\"other\", " + eTag), file, ContentTypes.Text.css());
+        assertEquals(StatusCodes.NOT_MODIFIED, response.getStatusCode());
+        assertNull(response.getBody());
+        assertEquals(eTag, response.getHeaders().get(HeaderNames.ETAG).getValue());
+        assertEquals(StatusCodes.OK, cache.respond(request("If-None-Match", "\"other\""), file, ContentTypes.Text.css()).getStatusCode());
+
+        // If-Modified-Since
+        assertEquals(StatusCodes.NOT_MODIFIED, cache.respond(
+                request("If-Modified-Since", "Fri, 02 Jan 2026 03:04:05 GMT"), file, ContentTypes.Text.css()
+        ).getStatusCode());
+        assertEquals(StatusCodes.OK, cache.respond(
+                request("If-Modified-Since", "Fri, 02 Jan 2026 03:04:04 GMT"), file, ContentTypes.Text.css()
+        ).getStatusCode());
+        assertEquals(StatusCodes.OK, cache.respond(
+                request("If-Modified-Since", "invalid"), file, ContentTypes.Text.css()
+        ).getStatusCode());
+
+        // Cached assets are not read again until they are revalidated
+        Files.delete(file);
+        assertEquals("body { }", body(cache.respond(request(null, null), file, ContentTypes.Text.css())));
+        assertEquals(StatusCodes.NOT_MODIFIED, cache.respond(request("If-None-Match", eTag), file, ContentTypes.Text.css()).getStatusCode());
+    }
+
+    @Test
+    void invalidation() throws IOException {
+        Path file = tempFile("first");
+        Files.setLastModifiedTime(file, FileTime.from(Instant.parse("2026-01-01T00:00:00Z")));
+        StaticAssetCache cache = new StaticAssetCache(1024, 0);
+
+        HTTPMessageBuilder response = cache.respond(request(null, null), file, ContentTypes.Text.plain());
+        assertEquals("first", body(response));
+        String eTag = response.getHeaders().get(HeaderNames.ETAG).getValue();
+
+        Files.writeString(file, "second");
+        Files.setLastModifiedTime(file, FileTime.from(Instant.parse("2026-01-01T00:00:01Z")));
+
+        response = cache.respond(request("If-None-Match", eTag), file, ContentTypes.Text.plain());
+        assertEquals(StatusCodes.OK, response.getStatusCode());
+        assertEquals("second", body(response));
+        assertNotEquals(eTag, response.getHeaders().get(HeaderNames.ETAG).getValue());
+        assertEquals(6, cache.size());
+    }
+
+    @Test
+    void eviction() throws IOException {
+        Path a = tempFile("aaaa");
+        Path b = tempFile("bbbb");
+        Path c = tempFile("cccc");
+        Path large = tempFile("large content");
+        StaticAssetCache cache = new StaticAssetCache(10, 60_000);
+
+        cache.respond(request(null, null), a, ContentTypes.Text.plain());
+        cache.respond(request(null, null), b, ContentTypes.Text.plain());
+        cache.respond(request(null, null), a, ContentTypes.Text.plain());
+        cache.respond(request(null, null), c, ContentTypes.Text.plain());
+        assertEquals(8, cache.size());
+
+        // Assets larger than the cache are served from disk
+        HTTPMessageBuilder response = cache.respond(request(null, null), large, ContentTypes.Text.plain());
+        assertInstanceOf(FileBody.class, response.getBody());
+        assertEquals("large content", body(response));
+        assertEquals(8, cache.size());
+
+        // b has been evicted as least recently used asset
+        Files.delete(a);
+        Files.delete(b);
+        Files.delete(c);
+        assertEquals("aaaa", body(cache.respond(request(null, null), a, ContentTypes.Text.plain())));
+        assertEquals("cccc", body(cache.respond(request(null, null), c, ContentTypes.Text.plain())));
+        assertThrows(NoSuchFileException.class, () -> cache.respond(request(null, null), b, ContentTypes.Text.plain()));
+    }
+
+    @Test
+    void resource() throws IOException {
+        StaticAssetCache cache = new StaticAssetCache(1024 * 1024);
+        HTTPMessageBuilder response = cache.respond(request(null, null), BodiesTest.class, "index.css", ContentTypes.Text.css());
+
+        assertEquals(StatusCodes.OK, response.getStatusCode());
+        assertEquals(
+                Files.readString(Path.of("src/test/resources/de/linusdev/lutils/net/http/body/index.css")),
+                body(response)
+        );
+
+        String eTag = response.getHeaders().get(HeaderNames.ETAG).getValue();
+        assertEquals(StatusCodes.NOT_MODIFIED, cache.respond(
+                request("If-None-Match", eTag), BodiesTest.class, "index.css", ContentTypes.Text.css()
+        ).getStatusCode());
+    }
+
+    @Test
+    void resourceLimits() throws IOException {
+        String content = Files.readString(Path.of("src/test/resources/de/linusdev/lutils/net/http/body/index.css"));
+
+        // Resources larger than the cache are not cached
+        StaticAssetCache small = new StaticAssetCache(4, 0);
+        assertEquals(content, body(small.respond(request(null, null), BodiesTest.class, "index.css", ContentTypes.Text.css())));
+        assertEquals(0, small.size());
+
+        // Revalidating unchanged resources does not leak file descriptors (only checked on linux)
+        Path fds = Path.of("/proc/self/fd");
+        if(!Files.isDirectory(fds)) return;
+        StaticAssetCache cache = new StaticAssetCache(1024 * 1024, 0);
+        cache.respond(request(null, null), BodiesTest.class, "index.css", ContentTypes.Text.css());
+
+        long before;
+        try (var list = Files.list(fds)) { before = list.count(); }
+        for (int i = 0; i < 100; i++)
+            cache.respond(request(null, null), BodiesTest.class, "index.css", ContentTypes.Text.css());
+        long after;
+        try (var list = Files.list(fds)) { after = list.count(); }
+        assertTrue(after < before + 10, before + " -> " + after);
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026 Linus Andera
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.linusdev.lutils.net.http.header;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HeaderMapTest {
+
+    @Test
+    void headerNames() {
+        for (HeaderNames name : HeaderNames.values()) {
+            assertSame(name, HeaderNames.of(name.getName()));
+            assertSame(name, HeaderNames.of(name.getName().toUpperCase(Locale.ROOT)));
+            assertSame(name, HeaderNames.of(name.getLowerCaseName()));
+
+            byte[] bytes = ("x" + name.getName() + "x").getBytes(StandardCharsets.US_ASCII);
+            assertSame(name, HeaderNames.of(bytes, 1, bytes.length - 2));
+        }
+
+        assertNull(HeaderNames.of("X-Custom"));
+        assertNull(HeaderNames.of("Content-Lengt"));
+        assertNull(HeaderNames.of(""));
+        assertNull(HeaderNames.of(new byte[]{'v', 'a', 'r', (byte) 0xF9}, 0, 4));
+    }
+
+    @Test
+    void caseInsensitive() {
+        HeaderMap map = new HeaderMap();
+        map.put("content-type", "text/plain");
+        map.put("X-Custom", "abc");
+
+        assertEquals("text/plain", map.get(HeaderNames.CONTENT_TYPE).getValue());
+        assertEquals("text/plain", map.get("CONTENT-TYPE").getValue());
+        assertEquals("abc", map.get("x-custom").getValue());
+        assertTrue(map.containsKey("x-CUSTOM"));
+        assertEquals(2, map.size());
+
+        // Replaces the previous header
+        map.put(HeaderNames.CONTENT_TYPE.with("text/html"));
+        assertEquals("text/html", map.get("Content-Type").getValue());
+        assertEquals(2, map.size());
+
+        assertEquals("text/html", map.remove("content-TYPE").getValue());
+        assertNull(map.remove(HeaderNames.CONTENT_TYPE));
+        assertEquals("abc", map.remove("X-CUSTOM").getValue());
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    void iteration() {
+        HeaderMap map = new HeaderMap();
+        map.put("X-Custom", "abc");
+        map.put(HeaderNames.CONTENT_TYPE.with("text/plain"));
+        map.put(HeaderNames.CONTENT_LENGTH.with("5"));
+
+        // Well-known headers are iterated first, in the order of HeaderNames
+        assertEquals(List.of("content-length", "content-type", "x-custom"), List.copyOf(map.keySet()));
+        assertEquals("5", map.values().iterator().next().getValue());
+
+        Iterator<Map.Entry<String, Header>> iterator = map.entrySet().iterator();
+        Map.Entry<String, Header> contentLength = iterator.next();
+        contentLength.setValue(HeaderNames.CONTENT_LENGTH.with("6"));
+        assertEquals("6", map.get(HeaderNames.CONTENT_LENGTH).getValue());
+
+        iterator.remove();
+        assertThrows(IllegalStateException.class, iterator::remove);
+        assertEquals(2, map.size());
+        assertFalse(map.containsKey(HeaderNames.CONTENT_LENGTH.getName()));
+
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertFalse(map.entrySet().iterator().hasNext());
+    }
+}
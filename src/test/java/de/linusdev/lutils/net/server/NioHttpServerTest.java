@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2026 Linus Andera
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.linusdev.lutils.net.server;
+
+import de.linusdev.lutils.net.http.HTTPMessageBuilder;
+import de.linusdev.lutils.net.http.HTTPRequest;
+import de.linusdev.lutils.net.http.HTTPResponse;
+import de.linusdev.lutils.net.http.body.Bodies;
+import de.linusdev.lutils.net.http.body.BodyParsers;
+import de.linusdev.lutils.net.http.body.UnparsedBody;
+import de.linusdev.lutils.net.routing.RequestHandler;
+import de.linusdev.lutils.net.routing.Routing;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NioHttpServerTest {
+
+    private static final @NotNull Routing routing = Routing.builder()
+            .route("hello")
+                .GET(request -> HTTPResponse.builder().setBody(Bodies.textUtf8().ofStringUtf8("Hello!")))
+                .buildRoute()
+            .route("stream")
+                .GET(request -> HTTPResponse.builder().setBody(Bodies.textUtf8().ofStreamingWritable(
+                        out -> out.write("Streamed!".getBytes(StandardCharsets.UTF_8))
+                )))
+                .buildRoute()
+            .route("echo")
+                .defaultHandler(new RequestHandler() {
+                    @Override
+                    public @Nullable HTTPMessageBuilder handle(@NotNull HTTPRequest<UnparsedBody> request) {
+                        try {
+                            assert request.getBody() != null;
+                            String body = request.getBody().parseTo(BodyParsers.newStringBodyParser());
+                            return HTTPResponse.builder().setBody(Bodies.textUtf8().ofStringUtf8(body));
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    }
+                })
+                .buildRoute()
+            .build();
+
+    private static @NotNull String rawRequest(@NotNull NioHttpServer server, @NotNull String... parts) throws IOException, InterruptedException {
+        try (Socket socket = new Socket("localhost", server.getPort())) {
+            OutputStream out = socket.getOutputStream();
+            for (String part : parts) {
+                out.write(part.getBytes(StandardCharsets.UTF_8));
+                out.flush();
+                Thread.sleep(10);
+            }
+            return new String(socket.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    @Test
+    void concurrentRequests() throws IOException, ExecutionException, InterruptedException {
+        NioHttpServer server = new NioHttpServer(0, routing, Throwable::printStackTrace);
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+        try {
+            List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                HttpRequest request = i % 2 == 0
+                        ? HttpRequest.newBuilder(URI.create(server.getUrl("hello"))).GET().build()
+                        : HttpRequest.newBuilder(URI.create(server.getUrl("echo")))
+                        .header("Content-Type", "text/plain; charset=utf-8")
+                        .POST(HttpRequest.BodyPublishers.ofString("Echo " + i)).build();
+                responses.add(client.sendAsync(request, HttpResponse.BodyHandlers.ofString()));
+            }
+
+            for (int i = 0; i < responses.size(); i++) {
+                HttpResponse<String> response = responses.get(i).get();
+                assertEquals(200, response.statusCode());
+                assertEquals(i % 2 == 0 ? "Hello!" : "Echo " + i, response.body());
+            }
+
+            HttpResponse<String> notFound = client.send(
+                    HttpRequest.newBuilder(URI.create(server.getUrl("missing"))).build(),
+                    HttpResponse.BodyHandlers.ofString()
+            );
+            assertEquals(404, notFound.statusCode());
+        } finally {
+            server.shutdown();
+            server.getCloseFuture().get();
+        }
+    }
+
+    @Test
+    void fileBody() throws IOException, InterruptedException, ExecutionException {
+        byte[] content = new byte[4 * 1024 * 1024 + 17];
+        new Random(42).nextBytes(content);
+        Path file = Files.createTempFile("nio-http-server-test", ".bin");
+        Files.write(file, content);
+
+        Routing fileRouting = Routing.builder()
+                .route("file")
+                    .GET(request -> HTTPResponse.builder().setBody(Bodies.png().ofRegularFile(file)))
+                    .buildRoute()
+                .build();
+
+        NioHttpServer server = new NioHttpServer(0, fileRouting, Throwable::printStackTrace);
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        try {
+            List<CompletableFuture<HttpResponse<byte[]>>> responses = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                responses.add(client.sendAsync(
+                        HttpRequest.newBuilder(URI.create(server.getUrl("file"))).build(),
+                        HttpResponse.BodyHandlers.ofByteArray()
+                ));
+            }
+
+            for (CompletableFuture<HttpResponse<byte[]>> response : responses) {
+                assertEquals(200, response.get().statusCode());
+                assertArrayEquals(content, response.get().body());
+            }
+        } finally {
+            server.shutdown();
+            server.getCloseFuture().get();
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void slowClient() throws IOException, InterruptedException, ExecutionException {
+        ExecutorService workers = Executors.newFixedThreadPool(2);
+        NioHttpServer server = new NioHttpServer(0, 16, 1024, routing, Throwable::printStackTrace, workers);
+
+        try (Socket slow = new Socket("localhost", server.getPort())) {
+            // An incomplete request does not block other clients
+            slow.getOutputStream().write("GET /hello HTTP/1.1\r\nHost: local".getBytes(StandardCharsets.UTF_8));
+            slow.getOutputStream().flush();
+
+            String response = rawRequest(server, "GET /he", "llo HTTP/1.1\r\n", "Host: localhost\r\n", "\r\n");
+            assertTrue(response.startsWith("HTTP/1.1 200 OK"), response);
+            assertTrue(response.endsWith("Hello!"), response);
+
+            slow.getOutputStream().write("host\r\n\r\n".getBytes(StandardCharsets.UTF_8));
+            response = new String(slow.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+            assertTrue(response.startsWith("HTTP/1.1 200 OK"), response);
+
+            // Body split into multiple packets
+            response = rawRequest(server,
+                    "POST /echo HTTP/1.1\r\nContent-Type: text/plain\r\ncontent-length: 10\r\n\r\n01234", "56789"
+            );
+            assertTrue(response.endsWith("0123456789"), response);
+
+            // Limits
+            assertTrue(rawRequest(server, "POST /echo HTTP/1.1\r\nContent-Length: 4096\r\n\r\n")
+                    .startsWith("HTTP/1.1 413 Content Too Large"));
+            assertTrue(rawRequest(server, "GET /hello HTTP/1.1\r\nHost: " + "a".repeat(2048))
+                    .startsWith("HTTP/1.1 413 Content Too Large"));
+            assertTrue(rawRequest(server, "POST /echo HTTP/1.1\r\nContent-Length: abc\r\n\r\n")
+                    .startsWith("HTTP/1.1 400 Bad Request"));
+            assertTrue(rawRequest(server, "POST /echo HTTP/1.1\r\nTransfer-Encoding: chunked\r\n\r\n")
+                    .startsWith("HTTP/1.1 501 Not Implemented"));
+
+            // HTTP/1.0 clients do not support chunked bodies
+            response = rawRequest(server, "GET /stream HTTP/1.1\r\n\r\n");
+            assertTrue(response.contains("Transfer-Encoding: chunked"), response);
+            response = rawRequest(server, "GET /stream HTTP/1.0\r\n\r\n");
+            assertFalse(response.contains("Transfer-Encoding"), response);
+            assertTrue(response.endsWith("\r\n\r\nStreamed!"), response);
+        } finally {
+            server.shutdown();
+            server.getCloseFuture().get();
+            workers.shutdown();
+        }
+    }
+
+    @Test
+    void idleTimeout() throws IOException, InterruptedException, ExecutionException {
+        ExecutorService workers = Executors.newFixedThreadPool(2);
+        NioHttpServer server = new NioHttpServer(0, 16, 1024, 200, routing, Throwable::printStackTrace, workers);
+
+        try (Socket slow = new Socket("localhost", server.getPort())) {
+            slow.setSoTimeout(5000);
+
+            // A connection, which never completes its head, is closed without a response
+            slow.getOutputStream().write("GET /hello HTTP/1.1\r\nHost: local".getBytes(StandardCharsets.UTF_8));
+            slow.getOutputStream().flush();
+            assertEquals(-1, slow.getInputStream().read());
+
+            // Active connections are not affected
+            String response = rawRequest(server, "GET /hello HTTP/1.1\r\nHost: localhost\r\n\r\n");
+            assertTrue(response.startsWith("HTTP/1.1 200 OK"), response);
+        } finally {
+            server.shutdown();
+            server.getCloseFuture().get();
+            workers.shutdown();
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> new NioHttpServer(0, 16, 1024, -1, routing, Throwable::printStackTrace, workers));
+    }
+}
@@ -0,0 +1,317 @@
+/*
+ * Copyright (c) 2026 Linus Andera
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.linusdev.lutils.net.server;
+
+import de.linusdev.lutils.net.http.HTTPResponse;
+import de.linusdev.lutils.net.http.body.Bodies;
+import de.linusdev.lutils.net.http.status.StatusCodes;
+import de.linusdev.lutils.net.routing.Routing;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimpleHttpServerTest {
+
+    private static @NotNull Socket sendRequest(@NotNull SimpleHttpServer server, @NotNull String path) throws IOException {
+        return sendRequest(server, path, "HTTP/1.1\r\nHost: localhost");
+    }
+
+    private static @NotNull Socket sendRequest(@NotNull SimpleHttpServer server, @NotNull String path, @NotNull String versionAndHeaders) throws IOException {
+        Socket socket = new Socket("localhost", server.getPort());
+        socket.getOutputStream().write(("GET /" + path + " " + versionAndHeaders + "\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+        socket.getOutputStream().flush();
+        return socket;
+    }
+
+    private static @NotNull String readResponse(@NotNull Socket socket) throws IOException {
+        try (socket) {
+            return new String(socket.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    @Test
+    void virtualThreads() throws IOException, InterruptedException, ExecutionException {
+        CountDownLatch release = new CountDownLatch(1);
+        Routing routing = Routing.builder()
+                .route("hello")
+                    .GET(request -> HTTPResponse.builder().setBody(Bodies.textUtf8().ofStringUtf8("Hello!")))
+                    .buildRoute()
+                .route("block")
+                    .GET(request -> {
+                        try {
+                            assertTrue(release.await(10, TimeUnit.SECONDS));
+                        } catch (InterruptedException e) {
+                            throw new RuntimeException(e);
+                        }
+                        return HTTPResponse.builder().setBody(Bodies.textUtf8().ofStringUtf8("Released!"));
+                    })
+                    .buildRoute()
+                .build();
+
+        SimpleHttpServer server = new SimpleHttpServer(0, 16, 2, routing, Throwable::printStackTrace);
+        try {
+            // A blocking handler does not block other connections
+            Socket blocked = sendRequest(server, "block");
+            String response = readResponse(sendRequest(server, "hello"));
+            assertTrue(response.startsWith("HTTP/1.1 200 OK"), response);
+            assertTrue(response.endsWith("Hello!"), response);
+
+            // The second blocking connection reaches the limit. Further connections wait until a permit is available.
+            Socket blocked2 = sendRequest(server, "block");
+            Thread.sleep(100);
+            Socket waiting = sendRequest(server, "hello");
+            waiting.setSoTimeout(300);
+            assertThrows(SocketTimeoutException.class, () -> waiting.getInputStream().read());
+            waiting.setSoTimeout(0);
+
+            release.countDown();
+            assertTrue(readResponse(blocked).endsWith("Released!"));
+            assertTrue(readResponse(blocked2).endsWith("Released!"));
+            assertTrue(readResponse(waiting).endsWith("Hello!"));
+        } finally {
+            release.countDown();
+            server.shutdown();
+            server.getCloseFuture().get();
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> new SimpleHttpServer(0, 16, 0, routing, Throwable::printStackTrace));
+    }
+
+    @Test
+    void keepAlive() throws IOException, InterruptedException, ExecutionException {
+        Routing routing = Routing.builder()
+                .setKeepAlive(3, 500)
+                .route("hello")
+                    .GET(request -> HTTPResponse.builder().setBody(Bodies.textUtf8().ofStringUtf8("Hello!")))
+                    .buildRoute()
+                .route("empty")
+                    .GET(request -> HTTPResponse.builder().setStatusCode(StatusCodes.OK))
+                    .buildRoute()
+                .build();
+
+        SimpleHttpServer server = new SimpleHttpServer(0, 16, 16, routing, Throwable::printStackTrace);
+        try {
+            // Pipelined requests. The body of the second request is not read by the handler
+            Socket socket = new Socket("localhost", server.getPort());
+            socket.setSoTimeout(5000);
+            socket.getOutputStream().write((
+                    "GET /hello HTTP/1.1\r\n\r\n" +
+                    "GET /empty HTTP/1.1\r\nContent-Length: 4\r\n\r\nbody" +
+                    "GET /hello HTTP/1.1\r\n\r\n" +
+                    "GET /hello HTTP/1.1\r\n\r\n"
+            ).getBytes(StandardCharsets.UTF_8));
+
+            // Only 3 requests per connection
+            String response = readResponse(socket);
+            assertEquals(3, response.split("HTTP/1.1 200 OK", -1).length - 1, response);
+            assertTrue(response.contains("Content-Length: 0"), response);
+            assertTrue(response.endsWith("Hello!"), response);
+            // 500 ms are rounded up to a second
+            assertTrue(response.contains("Keep-Alive: timeout=1, max=2\r\n"), response);
+            assertTrue(response.substring(response.lastIndexOf("HTTP/1.1")).contains("Connection: close"), response);
+            assertFalse(response.substring(0, response.lastIndexOf("HTTP/1.1")).contains("Connection: close"), response);
+
+            // Connection: close and HTTP/1.0
+            assertTrue(readResponse(sendRequest(server, "hello", "HTTP/1.1\r\nConnection: close")).contains("Connection: close"));
+            assertTrue(readResponse(sendRequest(server, "hello", "HTTP/1.0")).contains("Connection: close"));
+
+            // Idle timeout
+            socket = sendRequest(server, "hello", "HTTP/1.0\r\nConnection: keep-alive");
+            socket.setSoTimeout(5000);
+            long start = System.nanoTime();
+            response = readResponse(socket);
+            assertTrue(response.contains("Connection: keep-alive"), response);
+            assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(400));
+
+            // Malformed request
+            response = readResponse(sendRequest(server, "hello", "HTTP/1.1\r\nContent-Length: x"));
+            assertTrue(response.startsWith("HTTP/1.1 400 Bad Request"), response);
+        } finally {
+            server.shutdown();
+            server.getCloseFuture().get();
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> Routing.builder().setKeepAlive(0, 500));
+        assertThrows(IllegalArgumentException.class, () -> Routing.builder().setKeepAlive(2, -1));
+    }
+
+    @Test
+    void keepAliveWithoutTimeout() throws IOException, InterruptedException, ExecutionException {
+        Routing routing = Routing.builder()
+                .setKeepAlive(2, 0)
+                .route("hello")
+                    .GET(request -> HTTPResponse.builder().setBody(Bodies.textUtf8().ofStringUtf8("Hello!")))
+                    .buildRoute()
+                .build();
+
+        SimpleHttpServer server = new SimpleHttpServer(0, 16, 16, routing, Throwable::printStackTrace);
+        try {
+            Socket socket = new Socket("localhost", server.getPort());
+            socket.setSoTimeout(5000);
+            socket.getOutputStream().write((
+                    "GET /hello HTTP/1.1\r\n\r\n" +
+                    "GET /hello HTTP/1.1\r\n\r\n"
+            ).getBytes(StandardCharsets.UTF_8));
+
+            String response = readResponse(socket);
+            assertTrue(response.contains("Keep-Alive: max=1\r\n"), response);
+            assertFalse(response.contains("timeout="), response);
+        } finally {
+            server.shutdown();
+            server.getCloseFuture().get();
+        }
+    }
+
+    @Test
+    void fileBody() throws IOException, InterruptedException, ExecutionException {
+        byte[] content = new byte[2 * 1024 * 1024 + 5];
+        new Random(42).nextBytes(content);
+        Path file = Files.createTempFile("simple-http-server-test", ".bin");
+        Files.write(file, content);
+
+        Routing routing = Routing.builder()
+                .setKeepAlive(8, 1000)
+                .route("file")
+                    .GET(request -> HTTPResponse.builder().setBody(Bodies.png().ofRegularFile(file)))
+                    .buildRoute()
+                .build();
+
+        SimpleHttpServer server = new SimpleHttpServer(0, 16, 16, routing, Throwable::printStackTrace);
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        try {
+            // Multiple files on the same connection
+            for (int i = 0; i < 3; i++) {
+                HttpResponse<byte[]> response = client.send(
+                        HttpRequest.newBuilder(URI.create(server.getUrl("file"))).build(),
+                        HttpResponse.BodyHandlers.ofByteArray()
+                );
+                assertEquals(200, response.statusCode());
+                assertArrayEquals(content, response.body());
+            }
+        } finally {
+            server.shutdown();
+            server.getCloseFuture().get();
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void chunked() throws IOException, InterruptedException, ExecutionException {
+        Routing routing = Routing.builder()
+                .setKeepAlive(2, 500)
+                .route("stream")
+                    .GET(request -> HTTPResponse.builder().setBody(Bodies.textUtf8().ofStreamingWritable(
+                            out -> out.write("Streamed!".getBytes(StandardCharsets.UTF_8))
+                    )))
+                    .buildRoute()
+                .build();
+
+        SimpleHttpServer server = new SimpleHttpServer(0, 16, 16, routing, Throwable::printStackTrace);
+        try {
+            // The chunked body of the first request is skipped, the connection stays open
+            Socket socket = new Socket("localhost", server.getPort());
+            socket.setSoTimeout(5000);
+            socket.getOutputStream().write((
+                    "GET /stream HTTP/1.1\r\nTransfer-Encoding: chunked\r\n\r\n4\r\nbody\r\n0\r\n\r\n" +
+                    "GET /stream HTTP/1.1\r\n\r\n"
+            ).getBytes(StandardCharsets.UTF_8));
+
+            String response = readResponse(socket);
+            assertEquals(2, response.split("\r\n9\r\nStreamed!\r\n0\r\n\r\n", -1).length - 1, response);
+            assertEquals(2, response.split("Transfer-Encoding: chunked", -1).length - 1, response);
+
+            // HTTP/1.0 clients do not support chunked bodies
+            response = readResponse(sendRequest(server, "stream", "HTTP/1.0\r\nConnection: keep-alive"));
+            assertFalse(response.contains("Transfer-Encoding"), response);
+            assertTrue(response.contains("Connection: close"), response);
+            assertTrue(response.endsWith("\r\n\r\nStreamed!"), response);
+
+            // Also if the HTTP/1.0 client does not request a persistent connection
+            response = readResponse(sendRequest(server, "stream", "HTTP/1.0"));
+            assertFalse(response.contains("Transfer-Encoding"), response);
+            assertTrue(response.contains("Connection: close"), response);
+            assertTrue(response.endsWith("\r\n\r\nStreamed!"), response);
+        } finally {
+            server.shutdown();
+            server.getCloseFuture().get();
+        }
+    }
+
+    @Test
+    void compression() throws IOException, InterruptedException, ExecutionException {
+        String content = "Hello World! ".repeat(1000);
+        Routing routing = Routing.builder()
+                .setKeepAlive(8, 1000)
+                .setCompression(true)
+                .route("text")
+                    .GET(request -> HTTPResponse.builder().setBody(Bodies.textUtf8().ofStringUtf8(content)))
+                    .buildRoute()
+                .build();
+
+        SimpleHttpServer server = new SimpleHttpServer(0, 16, 16, routing, Throwable::printStackTrace);
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        try {
+            HttpResponse<byte[]> response = client.send(
+                    HttpRequest.newBuilder(URI.create(server.getUrl("text"))).header("Accept-Encoding", "gzip").build(),
+                    HttpResponse.BodyHandlers.ofByteArray()
+            );
+            assertEquals(200, response.statusCode());
+            assertEquals("gzip", response.headers().firstValue("Content-Encoding").orElse(null));
+            assertTrue(response.body().length < content.length() / 10);
+            assertEquals(content, new String(
+                    new GZIPInputStream(new ByteArrayInputStream(response.body())).readAllBytes(), StandardCharsets.UTF_8
+            ));
+
+            // Clients not accepting gzip receive the uncompressed body
+            HttpResponse<String> plain = client.send(
+                    HttpRequest.newBuilder(URI.create(server.getUrl("text"))).build(),
+                    HttpResponse.BodyHandlers.ofString()
+            );
+            assertTrue(plain.headers().firstValue("Content-Encoding").isEmpty());
+            assertEquals("Accept-Encoding", plain.headers().firstValue("Vary").orElse(null));
+            assertEquals(content, plain.body());
+
+            // Compressed bodies are not chunked for HTTP/1.0 clients
+            String http10 = readResponse(sendRequest(server, "text", "HTTP/1.0\r\nAccept-Encoding: gzip"));
+            String head = http10.substring(0, http10.indexOf("\r\n\r\n"));
+            assertTrue(head.contains("Content-Encoding: gzip"), head);
+            assertFalse(head.contains("Transfer-Encoding"), head);
+            assertTrue(head.contains("Connection: close"), head);
+        } finally {
+            server.shutdown();
+            server.getCloseFuture().get();
+        }
+    }
+}